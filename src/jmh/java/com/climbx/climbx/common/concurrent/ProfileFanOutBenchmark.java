@@ -0,0 +1,118 @@
+package com.climbx.climbx.common.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * 프로필 조립의 순차 조회와 가상 스레드 fan-out 비교. 실행: {@code ./gradlew jmh}
+ * <p>
+ * 커넥션 풀(10개)을 세마포어로, 쿼리를 고정 지연(통계 3ms, 태그 레이팅 4ms)으로 모델링합니다. 요청은 커넥션 하나를 잡은 채
+ * 통계를 읽고, fork된 태그 조회는 별도 커넥션을 얻어 실행합니다. 스레드 4개는 풀에 여유가 있는 상황, 32개는 풀이 고갈된
+ * 상황입니다. naive는 풀 상태와 상관없이 항상 fork하는 경우로, 고갈 시 두 번째 커넥션을 기다리다 제한 시간에 걸리는 것을
+ * 보여줍니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProfileFanOutBenchmark {
+
+    private static final int POOL_SIZE = 10;
+    private static final long STAT_MILLIS = 3;
+    private static final long TAG_MILLIS = 4;
+    private static final Duration TIMEOUT = Duration.ofMillis(200);
+
+    private final Semaphore pool = new Semaphore(POOL_SIZE);
+    private ExecutorService virtualThreads;
+    private ParallelReadExecutor sequential;
+    private ParallelReadExecutor guarded;
+    private ParallelReadExecutor naive;
+
+    @Setup
+    public void setUp() {
+        virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+        TransactionOperations connection = new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                pool.acquireUninterruptibly();
+                try {
+                    return action.doInTransaction(null);
+                } finally {
+                    pool.release();
+                }
+            }
+        };
+        sequential = ParallelReadExecutor.sequential();
+        guarded = new ParallelReadExecutor(virtualThreads, connection,
+            () -> pool.availablePermits() - pool.getQueueLength(), TIMEOUT);
+        naive = new ParallelReadExecutor(virtualThreads, connection, () -> POOL_SIZE, TIMEOUT);
+    }
+
+    @TearDown
+    public void tearDown() {
+        virtualThreads.shutdownNow();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int sequentialIdlePool() {
+        return buildProfile(sequential);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int fanOutIdlePool() {
+        return buildProfile(guarded);
+    }
+
+    @Benchmark
+    @Threads(32)
+    public int sequentialExhaustedPool() {
+        return buildProfile(sequential);
+    }
+
+    @Benchmark
+    @Threads(32)
+    public int fanOutExhaustedPool() {
+        return buildProfile(guarded);
+    }
+
+    @Benchmark
+    @Threads(32)
+    public int naiveFanOutExhaustedPool() {
+        return buildProfile(naive);
+    }
+
+    private int buildProfile(ParallelReadExecutor executor) {
+        pool.acquireUninterruptibly();
+        try (ParallelRead<Integer> tagRatings = executor.fork("tagRatings",
+            () -> query(TAG_MILLIS))) {
+            int stat = query(STAT_MILLIS);
+            return stat + tagRatings.joinOrDefault(0);
+        } finally {
+            pool.release();
+        }
+    }
+
+    private static int query(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return 1;
+    }
+}
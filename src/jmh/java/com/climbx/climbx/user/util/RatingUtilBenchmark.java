@@ -0,0 +1,135 @@
+package com.climbx.climbx.user.util;
+
+import com.climbx.climbx.problem.enums.ProblemTierType;
+import com.climbx.climbx.user.enums.UserTierType;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 레이팅 유틸(점수 계산, 티어 조회, 태그 레이팅) 회귀 감시용 벤치마크. 실행: {@code ./gradlew jmh}
+ * <p>
+ * legacy* 는 표 도입 전의 {@code Math.pow}/스트림 구현입니다. 입력은 고정 시드로 만든 {@value #BATCH}개의 값이며,
+ * 결과는 값 하나당 시간입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RatingUtilBenchmark {
+
+    private static final int BATCH = 1024;
+
+    private final int[] counts = new int[BATCH];
+    private final int[] userRatings = new int[BATCH];
+    private final int[] problemRatings = new int[BATCH];
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42L);
+        for (int i = 0; i < BATCH; i++) {
+            // 대부분은 포화 전 구간, 일부는 헤비 유저
+            counts[i] = random.nextInt(10) == 0 ? 400 + random.nextInt(2000) : random.nextInt(200);
+            userRatings[i] = random.nextInt(UserTierType.M.exclusiveMaxValue());
+            problemRatings[i] = random.nextInt(ProblemTierType.M.exclusiveMaxValue());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void solvedScore(Blackhole bh) {
+        for (int count : counts) {
+            bh.consume(UserRatingUtil.calculateSolvedScore(count));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void legacySolvedScore(Blackhole bh) {
+        for (int count : counts) {
+            bh.consume(LegacyRatingFormulas.solvedScore(count));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void contributionScore(Blackhole bh) {
+        for (int count : counts) {
+            bh.consume(UserRatingUtil.calculateContributionScore(count));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void legacyContributionScore(Blackhole bh) {
+        for (int count : counts) {
+            bh.consume(LegacyRatingFormulas.contributionScore(count));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void submissionScore(Blackhole bh) {
+        for (int count : counts) {
+            bh.consume(UserRatingUtil.calculateSubmissionScore(count));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void userRating(Blackhole bh) {
+        for (int i = 0; i < BATCH; i++) {
+            bh.consume(UserRatingUtil.calculateUserRating(problemRatings[i] * 50, counts[i],
+                counts[BATCH - 1 - i], counts[i] / 10));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void userTier(Blackhole bh) {
+        for (int rating : userRatings) {
+            bh.consume(UserTierType.fromValue(rating));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void legacyUserTier(Blackhole bh) {
+        for (int rating : userRatings) {
+            bh.consume(LegacyRatingFormulas.userTier(rating));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void problemTier(Blackhole bh) {
+        for (int rating : problemRatings) {
+            bh.consume(ProblemTierType.fromValue(rating));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void legacyProblemTier(Blackhole bh) {
+        for (int rating : problemRatings) {
+            bh.consume(LegacyRatingFormulas.problemTier(rating));
+        }
+    }
+
+    /**
+     * 태그 하나에 해결한 문제 레이팅 BATCH개(상위 50개 선택 포함). 입력을 바꾸므로 매번 복사합니다.
+     */
+    @Benchmark
+    public int tagRating() {
+        int[] ratings = problemRatings.clone();
+        return UserRatingUtil.calculateTagRating(ratings, 0, ratings.length, ratings.length,
+            counts[0]);
+    }
+}
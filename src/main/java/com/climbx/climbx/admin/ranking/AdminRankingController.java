@@ -0,0 +1,178 @@
+package com.climbx.climbx.admin.ranking;
+
+import com.climbx.climbx.admin.ranking.dto.RankingBatchResponseDto;
+import com.climbx.climbx.common.annotation.SuccessStatus;
+import com.climbx.climbx.common.util.KstDateUtil;
+import com.climbx.climbx.gym.service.GymUserScoreRebuildService;
+import com.climbx.climbx.ranking.cache.RankingPageCache;
+import com.climbx.climbx.ranking.dto.RankingCacheStatsResponseDto;
+import com.climbx.climbx.user.service.UserDailyActivityBatchService;
+import com.climbx.climbx.user.service.UserRankingSnapshotService;
+import com.climbx.climbx.user.service.UserStreakBatchService;
+import com.climbx.climbx.user.service.UserTagStatBatchService;
+import com.climbx.climbx.user.service.UserTopProblemBatchService;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/ranking")
+@RequiredArgsConstructor
+@Slf4j
+public class AdminRankingController {
+
+    private final UserRankingSnapshotService userRankingSnapshotService;
+    private final RankingPageCache rankingPageCache;
+    private final GymUserScoreRebuildService gymUserScoreRebuildService;
+    private final UserStreakBatchService userStreakBatchService;
+    private final UserTagStatBatchService userTagStatBatchService;
+    private final UserTopProblemBatchService userTopProblemBatchService;
+    private final UserDailyActivityBatchService userDailyActivityBatchService;
+
+    /**
+     * 랭킹 상위 페이지 캐시의 적중률과 무효화 통계를 조회합니다.
+     */
+    @GetMapping("/cache/stats")
+    @SuccessStatus(value = HttpStatus.OK)
+    public RankingCacheStatsResponseDto getRankingCacheStats() {
+        return rankingPageCache.stats();
+    }
+
+    /**
+     * 일별 랭킹 스냅샷을 수동으로 기록합니다. date 미지정 시 오늘(KST) 기준입니다.
+     */
+    @PostMapping("/daily/snapshot")
+    @SuccessStatus(value = HttpStatus.OK)
+    public RankingBatchResponseDto snapshotDailyRanking(
+        @RequestParam(name = "date", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate date
+    ) {
+        LocalDate snapshotDate = date != null ? date : KstDateUtil.today();
+        log.info("관리자 일별 랭킹 스냅샷 실행: date={}", snapshotDate);
+
+        int affectedRows = userRankingSnapshotService.snapshot(snapshotDate);
+        return RankingBatchResponseDto.builder()
+            .from(snapshotDate)
+            .to(snapshotDate)
+            .affectedRows(affectedRows)
+            .build();
+    }
+
+    /**
+     * 기존 user_ranking_histories로부터 [from, to] 기간의 일별 롤업을 다시 채웁니다.
+     */
+    @PostMapping("/daily/backfill")
+    @SuccessStatus(value = HttpStatus.OK)
+    public RankingBatchResponseDto backfillDailyRanking(
+        @RequestParam(name = "from")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate from,
+
+        @RequestParam(name = "to", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate to
+    ) {
+        LocalDate toDate = to != null ? to : KstDateUtil.today();
+        log.info("관리자 일별 랭킹 롤업 백필 실행: from={}, to={}", from, toDate);
+
+        int affectedRows = userRankingSnapshotService.backfillFromHistory(from, toDate);
+        return RankingBatchResponseDto.builder()
+            .from(from)
+            .to(toDate)
+            .affectedRows(affectedRows)
+            .build();
+    }
+
+    /**
+     * 클라이밍장별 사용자 점수를 제출 기록으로부터 다시 집계합니다.
+     */
+    @PostMapping("/gyms/rebuild")
+    @SuccessStatus(value = HttpStatus.OK)
+    public RankingBatchResponseDto rebuildGymRanking() {
+        log.info("관리자 클라이밍장 점수 재집계 실행");
+
+        LocalDate today = KstDateUtil.today();
+        int affectedRows = gymUserScoreRebuildService.rebuild();
+        return RankingBatchResponseDto.builder()
+            .from(today)
+            .to(today)
+            .affectedRows(affectedRows)
+            .build();
+    }
+
+    /**
+     * 전체 사용자의 연속 출석일을 일별 해결 기록으로부터 다시 계산합니다.
+     */
+    @PostMapping("/streaks/rebuild")
+    @SuccessStatus(value = HttpStatus.OK)
+    public RankingBatchResponseDto rebuildStreaks() {
+        log.info("관리자 연속 출석일 재계산 실행");
+
+        LocalDate today = KstDateUtil.today();
+        int affectedRows = userStreakBatchService.rebuild(today);
+        return RankingBatchResponseDto.builder()
+            .from(today)
+            .to(today)
+            .affectedRows(affectedRows)
+            .build();
+    }
+
+    /**
+     * 전체 사용자의 태그별 카테고리 레이팅 집계를 제출 기록으로부터 다시 계산합니다.
+     */
+    @PostMapping("/tags/rebuild")
+    @SuccessStatus(value = HttpStatus.OK)
+    public RankingBatchResponseDto rebuildTagStats() {
+        log.info("관리자 태그 집계 재계산 실행");
+
+        LocalDate today = KstDateUtil.today();
+        int affectedRows = userTagStatBatchService.rebuildAll();
+        return RankingBatchResponseDto.builder()
+            .from(today)
+            .to(today)
+            .affectedRows(affectedRows)
+            .build();
+    }
+
+    /**
+     * 전체 사용자의 상위 50문제 목록과 레이팅 합을 제출 기록으로부터 다시 계산합니다.
+     */
+    @PostMapping("/top-problems/rebuild")
+    @SuccessStatus(value = HttpStatus.OK)
+    public RankingBatchResponseDto rebuildTopProblems() {
+        log.info("관리자 상위 문제 목록 재계산 실행");
+
+        LocalDate today = KstDateUtil.today();
+        int affectedRows = userTopProblemBatchService.rebuildAll();
+        return RankingBatchResponseDto.builder()
+            .from(today)
+            .to(today)
+            .affectedRows(affectedRows)
+            .build();
+    }
+
+    /**
+     * 전체 사용자의 일별 활동(스트릭/히트맵)을 제출 기록으로부터 다시 집계합니다.
+     */
+    @PostMapping("/activity/rebuild")
+    @SuccessStatus(value = HttpStatus.OK)
+    public RankingBatchResponseDto rebuildDailyActivity() {
+        log.info("관리자 일별 활동 재집계 실행");
+
+        LocalDate today = KstDateUtil.today();
+        int affectedRows = userDailyActivityBatchService.rebuildAll();
+        return RankingBatchResponseDto.builder()
+            .from(today)
+            .to(today)
+            .affectedRows(affectedRows)
+            .build();
+    }
+}
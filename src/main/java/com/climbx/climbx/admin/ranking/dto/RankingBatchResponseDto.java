@@ -0,0 +1,14 @@
+package com.climbx.climbx.admin.ranking.dto;
+
+import java.time.LocalDate;
+import lombok.Builder;
+
+@Builder
+public record RankingBatchResponseDto(
+
+    LocalDate from,
+    LocalDate to,
+    Integer affectedRows
+) {
+
+}
@@ -1,5 +1,7 @@
 package com.climbx.climbx.admin.submission;
 
+import com.climbx.climbx.admin.submission.dto.SubmissionBatchReviewRequestDto;
+import com.climbx.climbx.admin.submission.dto.SubmissionBatchReviewResponseDto;
 import com.climbx.climbx.admin.submission.dto.SubmissionReviewRequestDto;
 import com.climbx.climbx.admin.submission.dto.SubmissionReviewResponseDto;
 import com.climbx.climbx.common.dto.ApiResponseDto;
@@ -22,7 +24,8 @@ public interface AdminSubmissionApiDocumentation {
 
     @Operation(
         summary = "제출물 검토",
-        description = "관리자가 특정 비디오 ID의 제출물을 검토하여 승인(ACCEPTED) 또는 거부(REJECTED) 처리합니다."
+        description = "관리자가 특정 비디오 ID의 제출물을 검토하여 승인(ACCEPTED) 또는 거부(REJECTED) 처리합니다. "
+            + "승인에 따른 레이팅과 통계는 응답 후 백그라운드에서 반영됩니다."
     )
     @SecurityRequirement(name = "Bearer Authentication")
     @ApiResponses(value = {
@@ -205,4 +208,87 @@ public interface AdminSubmissionApiDocumentation {
         )
         @Valid SubmissionReviewRequestDto request
     );
+
+    @Operation(
+        summary = "제출물 일괄 검토",
+        description = """
+            여러 제출물을 한 번에 승인(ACCEPTED) 또는 거부(REJECTED) 처리합니다. 한 요청에 최대 500건까지 보낼 수 있습니다.
+            
+            - 모든 항목의 상태 변경은 한 트랜잭션에서 처리됩니다
+            - 사용자 레이팅, 문제 투표 집계, 태그 통계는 응답 후 백그라운드에서 반영되므로 잠시 뒤에 조회됩니다
+            - PENDING이 아닌 제출물, PENDING으로의 변경, 요청 내 중복 항목은 해당 항목만 실패로 표시되고 나머지는 처리됩니다
+            """
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "일괄 검토 완료 (항목별 결과 포함)",
+            content = @Content(
+                schema = @Schema(implementation = ApiResponseDto.class),
+                examples = @ExampleObject(
+                    name = "일괄 검토 결과",
+                    value = """
+                        {
+                          "httpStatus": 200,
+                          "statusMessage": "SUCCESS",
+                          "timeStamp": "2024-01-01T10:00:00Z",
+                          "responseTimeMs": 312,
+                          "path": "/api/admin/submissions/status",
+                          "data": {
+                            "requestedCount": 2,
+                            "succeededCount": 1,
+                            "failedCount": 1,
+                            "results": [
+                              {
+                                "videoId": "550e8400-e29b-41d4-a716-446655440000",
+                                "status": "ACCEPTED",
+                                "reason": "문제 해결 조건을 충족합니다.",
+                                "success": true,
+                                "errorCode": null,
+                                "errorMessage": null
+                              },
+                              {
+                                "videoId": "550e8400-e29b-41d4-a716-446655440001",
+                                "status": "REJECTED",
+                                "reason": "홀드를 잘못 사용하였습니다.",
+                                "success": false,
+                                "errorCode": "PENDING_SUBMISSION_NOT_FOUND",
+                                "errorMessage": "PENDING 상태인 제출물을 찾을 수 없습니다."
+                              }
+                            ]
+                          }
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "유효하지 않은 요청 데이터 (빈 목록 또는 500건 초과 포함)",
+            content = @Content(
+                schema = @Schema(implementation = ApiResponseDto.class),
+                examples = @ExampleObject(
+                    name = "유효성 검사 실패",
+                    value = """
+                        {
+                          "httpStatus": 400,
+                          "statusMessage": "유효성 검사에 실패했습니다.",
+                          "timeStamp": "2024-01-01T10:00:00Z",
+                          "responseTimeMs": 12,
+                          "path": "/api/admin/submissions/status",
+                          "data": null
+                        }
+                        """
+                )
+            )
+        )
+    })
+    SubmissionBatchReviewResponseDto reviewSubmissions(
+        @Parameter(
+            description = "제출물 일괄 검토 요청 데이터",
+            required = true
+        )
+        @Valid SubmissionBatchReviewRequestDto request
+    );
 }
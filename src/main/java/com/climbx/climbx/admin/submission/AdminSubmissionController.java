@@ -1,5 +1,7 @@
 package com.climbx.climbx.admin.submission;
 
+import com.climbx.climbx.admin.submission.dto.SubmissionBatchReviewRequestDto;
+import com.climbx.climbx.admin.submission.dto.SubmissionBatchReviewResponseDto;
 import com.climbx.climbx.admin.submission.dto.SubmissionReviewRequestDto;
 import com.climbx.climbx.admin.submission.dto.SubmissionReviewResponseDto;
 import com.climbx.climbx.admin.submission.service.AdminSubmissionService;
@@ -45,4 +47,22 @@ public class AdminSubmissionController implements AdminSubmissionApiDocumentatio
 
         return submissionService.reviewSubmission(videoId, request);
     }
+
+    /**
+     * 여러 제출물을 한 번에 검토하여 승인(ACCEPTED) 또는 거부(REJECTED) 처리
+     *
+     * @param request 일괄 검토 요청 DTO (최대 500건)
+     * @return 항목별 검토 결과 DTO
+     */
+    @Override
+    @PutMapping("/status")
+    @SuccessStatus(HttpStatus.OK)
+    public SubmissionBatchReviewResponseDto reviewSubmissions(
+        @RequestBody
+        SubmissionBatchReviewRequestDto request
+    ) {
+        log.info("제출물 일괄 리뷰 count: {}", request.reviews().size());
+
+        return submissionService.reviewSubmissions(request);
+    }
 }
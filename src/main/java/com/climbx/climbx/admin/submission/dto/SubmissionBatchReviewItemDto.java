@@ -0,0 +1,22 @@
+package com.climbx.climbx.admin.submission.dto;
+
+import com.climbx.climbx.common.enums.StatusType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.util.UUID;
+import lombok.Builder;
+
+@Builder
+public record SubmissionBatchReviewItemDto(
+
+    @NotNull
+    UUID videoId,
+
+    @NotNull
+    StatusType status,
+
+    @NotBlank
+    String reason
+) {
+
+}
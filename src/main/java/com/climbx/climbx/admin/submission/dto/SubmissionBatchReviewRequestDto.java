@@ -0,0 +1,18 @@
+package com.climbx.climbx.admin.submission.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Builder;
+
+@Builder
+public record SubmissionBatchReviewRequestDto(
+
+    @NotEmpty
+    @Size(max = 500)
+    List<@Valid @NotNull SubmissionBatchReviewItemDto> reviews
+) {
+
+}
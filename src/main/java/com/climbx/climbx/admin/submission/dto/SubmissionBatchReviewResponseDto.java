@@ -0,0 +1,28 @@
+package com.climbx.climbx.admin.submission.dto;
+
+import java.util.List;
+import lombok.Builder;
+
+@Builder
+public record SubmissionBatchReviewResponseDto(
+
+    int requestedCount,
+    int succeededCount,
+    int failedCount,
+    List<SubmissionBatchReviewResultDto> results
+) {
+
+    public static SubmissionBatchReviewResponseDto from(
+        List<SubmissionBatchReviewResultDto> results
+    ) {
+        int succeeded = (int) results.stream()
+            .filter(SubmissionBatchReviewResultDto::success)
+            .count();
+        return SubmissionBatchReviewResponseDto.builder()
+            .requestedCount(results.size())
+            .succeededCount(succeeded)
+            .failedCount(results.size() - succeeded)
+            .results(results)
+            .build();
+    }
+}
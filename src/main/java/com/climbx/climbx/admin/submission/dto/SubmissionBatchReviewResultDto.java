@@ -0,0 +1,44 @@
+package com.climbx.climbx.admin.submission.dto;
+
+import com.climbx.climbx.common.enums.ErrorCode;
+import com.climbx.climbx.common.enums.StatusType;
+import java.util.UUID;
+import lombok.Builder;
+
+/**
+ * 일괄 리뷰 항목별 결과. 실패한 항목은 errorCode와 사유를 담고 상태는 변경되지 않습니다.
+ */
+@Builder
+public record SubmissionBatchReviewResultDto(
+
+    UUID videoId,
+    StatusType status,
+    String reason,
+    boolean success,
+    ErrorCode errorCode,
+    String errorMessage
+) {
+
+    public static SubmissionBatchReviewResultDto succeeded(SubmissionBatchReviewItemDto item) {
+        return SubmissionBatchReviewResultDto.builder()
+            .videoId(item.videoId())
+            .status(item.status())
+            .reason(item.reason())
+            .success(true)
+            .build();
+    }
+
+    public static SubmissionBatchReviewResultDto failed(
+        SubmissionBatchReviewItemDto item,
+        ErrorCode errorCode
+    ) {
+        return SubmissionBatchReviewResultDto.builder()
+            .videoId(item.videoId())
+            .status(item.status())
+            .reason(item.reason())
+            .success(false)
+            .errorCode(errorCode)
+            .errorMessage(errorCode.message())
+            .build();
+    }
+}
@@ -1,25 +1,46 @@
 package com.climbx.climbx.admin.submission.service;
 
+import com.climbx.climbx.admin.submission.dto.SubmissionBatchReviewItemDto;
+import com.climbx.climbx.admin.submission.dto.SubmissionBatchReviewRequestDto;
+import com.climbx.climbx.admin.submission.dto.SubmissionBatchReviewResponseDto;
+import com.climbx.climbx.admin.submission.dto.SubmissionBatchReviewResultDto;
 import com.climbx.climbx.admin.submission.dto.SubmissionReviewRequestDto;
 import com.climbx.climbx.admin.submission.dto.SubmissionReviewResponseDto;
 import com.climbx.climbx.admin.submission.exception.StatusModifyToPendingException;
+import com.climbx.climbx.common.enums.ErrorCode;
 import com.climbx.climbx.common.enums.StatusType;
-import com.climbx.climbx.problem.repository.ContributionRepository;
-import com.climbx.climbx.problem.service.ProblemService;
+import com.climbx.climbx.common.outbox.OutboxEventPublisher;
+import com.climbx.climbx.common.outbox.OutboxEventType;
+import com.climbx.climbx.common.util.KstDateUtil;
 import com.climbx.climbx.submission.entity.SubmissionEntity;
+import com.climbx.climbx.submission.event.SubmissionAcceptedPayload;
 import com.climbx.climbx.submission.exception.PendingSubmissionNotFoundException;
 import com.climbx.climbx.submission.repository.SubmissionRepository;
-import com.climbx.climbx.user.dto.RatingResponseDto;
-import com.climbx.climbx.user.entity.UserStatEntity;
-import com.climbx.climbx.user.exception.UserNotFoundException;
-import com.climbx.climbx.user.repository.UserStatRepository;
-import com.climbx.climbx.user.util.UserRatingUtil;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 관리자 제출 리뷰.
+ * <p>
+ * 리뷰 트랜잭션은 제출 상태만 바꾸고, 승인된 제출은 SUBMISSION_ACCEPTED 아웃박스 이벤트로 기록합니다. 사용자 레이팅, 문제 투표
+ * 집계, 태그 통계와 캐시 갱신은 커밋 뒤 {@link com.climbx.climbx.submission.service.SubmissionAcceptedOutboxHandler}가
+ * 워커 스레드에서 처리하므로, 리뷰 응답 시간과 잠금 유지 시간은 재계산 비용과 무관합니다. 승인 순서에 따라 달라지는 처음 해결
+ * 여부와 그날 처음 해결 여부는 상태를 바꾸기 전에 여기서 정해 이벤트에 싣습니다.
+ */
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
@@ -27,9 +48,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class AdminSubmissionService {
 
     private final SubmissionRepository submissionRepository;
-    private final UserStatRepository userStatRepository;
-    private final ContributionRepository contributionRepository;
-    private final ProblemService problemService;
+    private final OutboxEventPublisher outboxEventPublisher;
 
     @Transactional
     public SubmissionReviewResponseDto reviewSubmission(
@@ -48,50 +67,25 @@ public class AdminSubmissionService {
             .filter(s -> s.status().equals(StatusType.PENDING))
             .orElseThrow(() -> new PendingSubmissionNotFoundException(videoId));
 
+        Long userId = submission.videoEntity().userId();
+        UUID problemId = submission.problemEntity().problemId();
+
+        // 상태 변경 전에 확인해야 이번 제출이 집계에 포함되지 않음
+        boolean accepted = request.status() == StatusType.ACCEPTED;
+        boolean firstSolve = accepted
+            && !submissionRepository.isAcceptedSubmissionExist(userId, problemId);
+        boolean dailyFirstSolve = firstSolve || (accepted
+            && !isSolvedOnSameDay(submission, userId, problemId));
+
         submission.setStatus(request.status(), request.reason());
 
         log.info("Reviewing succeed: videoId: {}, status: {}, reason: {}",
             submission.videoId(), submission.status(), submission.statusReason());
 
-        Long userId = submission.videoEntity().userId();
-        UUID problemId = submission.problemEntity().problemId();
-
-        UserStatEntity userStat = userStatRepository.findById(userId)
-            .orElseThrow(() -> new UserNotFoundException(userId));
-
-        int prevRating = userStat.rating();
-        log.info("User {} (ID: {}) previous rating: {}", userStat.userAccountEntity().nickname(),
-            userId, prevRating);
-
-        if (submission.status() == StatusType.ACCEPTED) {
-            userStat.incrementSolvedProblemsCount();
-            RatingResponseDto rating = UserRatingUtil.calculateUserRating(
-                userStat.topProblemRating(),
-                userStat.submissionCount(),
-                userStat.solvedCount(),
-                userStat.contributionCount()
-            );
-
-            userStat.setRating(rating.totalRating());
-            userStat.setTopProblemRating(rating.topProblemRating());
-            // Category Rating은 batch에서 처리
-
-            contributionRepository.findByUserIdAndProblemId(
-                userId,
-                problemId
-            ).ifPresent(
-                c -> {
-                    problemService.applyVoteToProblem(
-                        submission.problemEntity(),
-                        c,
-                        c.contributionTags()
-                    );
-                }
-            );
-
-            log.info("User {} (ID: {}) new rating: {}",
-                userStat.userAccountEntity().nickname(),
-                userId, rating.totalRating());
+        if (accepted) {
+            outboxEventPublisher.append(OutboxEventType.SUBMISSION_ACCEPTED, videoId.toString(),
+                new SubmissionAcceptedPayload(videoId, userId, problemId, firstSolve,
+                    dailyFirstSolve));
         }
 
         return SubmissionReviewResponseDto.builder()
@@ -100,4 +94,157 @@ public class AdminSubmissionService {
             .reason(submission.statusReason())
             .build();
     }
+
+    /**
+     * 여러 제출을 한 트랜잭션에서 검토합니다.
+     * <p>
+     * 대상 제출은 한 번에 잠가 조회하고, 이미 해결한 문제와 같은 날 승인된 제출도 각각 한 번씩 모아 읽습니다. 상태 변경은 flush
+     * 시 JDBC 배치로, 승인 이벤트는 아웃박스에 배치 INSERT 한 번으로 기록됩니다. 잘못된 항목은 전체를 실패시키지 않고 항목별
+     * 결과로 돌려줍니다.
+     */
+    @Transactional
+    public SubmissionBatchReviewResponseDto reviewSubmissions(
+        SubmissionBatchReviewRequestDto request
+    ) {
+        List<SubmissionBatchReviewItemDto> items = request.reviews();
+        List<SubmissionBatchReviewResultDto> results = new ArrayList<>(
+            Collections.nCopies(items.size(), null));
+
+        Map<UUID, Integer> indexByVideoId = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            SubmissionBatchReviewItemDto item = items.get(i);
+            if (item.status() == StatusType.PENDING) {
+                results.set(i, SubmissionBatchReviewResultDto.failed(item,
+                    ErrorCode.STATUS_MODIFY_TO_PENDING));
+            } else if (indexByVideoId.putIfAbsent(item.videoId(), i) != null) {
+                results.set(i, SubmissionBatchReviewResultDto.failed(item,
+                    ErrorCode.DUPLICATE_SUBMISSION_REVIEW));
+            }
+        }
+
+        Map<UUID, SubmissionEntity> pending = indexByVideoId.isEmpty()
+            ? Map.of()
+            : submissionRepository.findAllForReview(indexByVideoId.keySet(), StatusType.PENDING)
+                .stream()
+                .collect(Collectors.toMap(SubmissionEntity::videoId, Function.identity()));
+
+        List<ReviewTarget> targets = new ArrayList<>();
+        indexByVideoId.forEach((videoId, index) -> {
+            SubmissionEntity submission = pending.get(videoId);
+            if (submission == null) {
+                results.set(index, SubmissionBatchReviewResultDto.failed(items.get(index),
+                    ErrorCode.PENDING_SUBMISSION_NOT_FOUND));
+            } else {
+                targets.add(new ReviewTarget(index, items.get(index), submission));
+            }
+        });
+
+        List<SubmissionAcceptedPayload> accepted = classifyAccepted(targets);
+        targets.forEach(target -> {
+            target.submission().setStatus(target.item().status(), target.item().reason());
+            results.set(target.index(), SubmissionBatchReviewResultDto.succeeded(target.item()));
+        });
+        outboxEventPublisher.appendAll(OutboxEventType.SUBMISSION_ACCEPTED, accepted,
+            payload -> payload.videoId().toString());
+
+        SubmissionBatchReviewResponseDto response = SubmissionBatchReviewResponseDto.from(results);
+        log.info("일괄 리뷰 완료: requested={}, succeeded={}, failed={}, accepted={}",
+            response.requestedCount(), response.succeededCount(), response.failedCount(),
+            accepted.size());
+        return response;
+    }
+
+    /**
+     * 제출 생성일(KST)에 같은 문제의 다른 승인 제출이 있는지 확인합니다. 일별 해결 수는 하루에 같은 문제를 한 번만 셉니다.
+     */
+    private boolean isSolvedOnSameDay(SubmissionEntity submission, Long userId, UUID problemId) {
+        LocalDate date = KstDateUtil.toDate(submission.createdAt());
+        return submissionRepository.existsOtherSubmissionBetween(
+            userId,
+            problemId,
+            StatusType.ACCEPTED,
+            submission.videoId(),
+            KstDateUtil.startOfDay(date),
+            KstDateUtil.startOfDay(date.plusDays(1))
+        );
+    }
+
+    /**
+     * 상태 변경 전에 이미 해결한 (사용자, 문제)와 같은 날 승인된 (사용자, 문제, 제출일)을 한 번씩 읽어, 배치 안의 순서대로 처음
+     * 해결 여부와 그날 처음 해결 여부를 정합니다.
+     */
+    private List<SubmissionAcceptedPayload> classifyAccepted(List<ReviewTarget> targets) {
+        List<SubmissionEntity> accepted = targets.stream()
+            .filter(ReviewTarget::isAccepted)
+            .map(ReviewTarget::submission)
+            .toList();
+        if (accepted.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> userIds = accepted.stream()
+            .map(SubmissionEntity::userId)
+            .collect(Collectors.toSet());
+        Set<UUID> problemIds = accepted.stream()
+            .map(SubmissionEntity::problemId)
+            .collect(Collectors.toSet());
+        Set<SolvedKey> solved = submissionRepository
+            .findSolvedProblemsAmong(userIds, problemIds, StatusType.ACCEPTED).stream()
+            .map(dto -> new SolvedKey(dto.userId(), dto.problemId(), null))
+            .collect(Collectors.toCollection(HashSet::new));
+
+        // 처음 해결한 문제가 아닌 제출만 그날의 다른 승인 제출을 확인하면 됨
+        List<SubmissionEntity> resolved = accepted.stream()
+            .filter(s -> solved.contains(new SolvedKey(s.userId(), s.problemId(), null)))
+            .toList();
+        Set<SolvedKey> solvedDays = new HashSet<>();
+        if (!resolved.isEmpty()) {
+            LocalDate from = resolved.stream()
+                .map(s -> KstDateUtil.toDate(s.createdAt()))
+                .min(Comparator.naturalOrder())
+                .orElseThrow();
+            LocalDate to = resolved.stream()
+                .map(s -> KstDateUtil.toDate(s.createdAt()))
+                .max(Comparator.naturalOrder())
+                .orElseThrow();
+            submissionRepository.findSolvedAtAmongBetween(userIds, problemIds,
+                    StatusType.ACCEPTED, KstDateUtil.startOfDay(from),
+                    KstDateUtil.startOfDay(to.plusDays(1)))
+                .forEach(dto -> solvedDays.add(new SolvedKey(dto.userId(), dto.problemId(),
+                    KstDateUtil.toDate(dto.createdAt()))));
+        }
+
+        return accepted.stream()
+            .map(submission -> {
+                boolean firstSolve = solved.add(
+                    new SolvedKey(submission.userId(), submission.problemId(), null));
+                boolean dailyFirstSolve = solvedDays.add(new SolvedKey(submission.userId(),
+                    submission.problemId(), KstDateUtil.toDate(submission.createdAt())));
+                return new SubmissionAcceptedPayload(submission.videoId(), submission.userId(),
+                    submission.problemId(), firstSolve, dailyFirstSolve);
+            })
+            .toList();
+    }
+
+    private record ReviewTarget(
+        int index,
+        SubmissionBatchReviewItemDto item,
+        SubmissionEntity submission
+    ) {
+
+        boolean isAccepted() {
+            return item.status() == StatusType.ACCEPTED;
+        }
+    }
+
+    /**
+     * (사용자, 문제) 또는 (사용자, 문제, 제출일) 키. 제출일이 필요 없으면 null입니다.
+     */
+    private record SolvedKey(
+        Long userId,
+        UUID problemId,
+        LocalDate date
+    ) {
+
+    }
 }
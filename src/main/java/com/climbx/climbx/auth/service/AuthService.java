@@ -22,6 +22,7 @@ import com.climbx.climbx.user.entity.UserStatEntity;
 import com.climbx.climbx.user.exception.CannotCreateUserNickname;
 import com.climbx.climbx.user.exception.UserNotFoundException;
 import com.climbx.climbx.user.repository.UserAccountRepository;
+import com.climbx.climbx.user.repository.UserRankingDailyRepository;
 import com.climbx.climbx.user.repository.UserRankingHistoryRepository;
 import com.climbx.climbx.user.repository.UserStatRepository;
 import com.climbx.climbx.video.repository.VideoRepository;
@@ -45,6 +46,7 @@ public class AuthService {
     private final ProviderIdTokenService oauth2IdTokenService;
     private final RefreshTokenBlacklistService refreshTokenBlacklistService;
     private final UserRankingHistoryRepository userRankingHistoryRepository;
+    private final UserRankingDailyRepository userRankingDailyRepository;
     private final VideoRepository videoRepository;
     private final SubmissionRepository submissionRepository;
 
@@ -180,6 +182,7 @@ public class AuthService {
         int deletedVideos = videoRepository.softDeleteAllByUserId(userId);
         int deletedSubmissions = submissionRepository.softDeleteAllByUserId(userId);
         int deletedHistories = userRankingHistoryRepository.softDeleteAllByUserId(userId);
+        int deletedDailyRankings = userRankingDailyRepository.deleteAllByUserId(userId);
 
         // 4. 마지막에 사용자 계정 soft delete
         userAccount.softDelete();
@@ -187,7 +190,7 @@ public class AuthService {
         log.info("회원 탈퇴 처리 완료: userId={}, nickname={}, total deleted resources={}", userId,
             userAccount.nickname(),
             deletedUserStats + deletedUserAuths + deletedVideos + deletedSubmissions
-                + deletedHistories);
+                + deletedHistories + deletedDailyRankings);
     }
 
     /**
@@ -0,0 +1,80 @@
+package com.climbx.climbx.common.concurrent;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link ParallelReadExecutor#fork}로 시작한 읽기 작업. try-with-resources로 감싸면 호출 측이 먼저 실패해도 진행 중인 작업을
+ * 취소합니다.
+ */
+@Slf4j
+public final class ParallelRead<T> implements AutoCloseable {
+
+    private final String name;
+    private final Future<T> future;
+    private final Supplier<T> deferred;
+    private final long deadlineNanos;
+    private boolean degraded = false;
+
+    private ParallelRead(String name, Future<T> future, Supplier<T> deferred, long deadlineNanos) {
+        this.name = name;
+        this.future = future;
+        this.deferred = deferred;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    static <T> ParallelRead<T> forked(String name, Future<T> future, long deadlineNanos) {
+        return new ParallelRead<>(name, future, null, deadlineNanos);
+    }
+
+    static <T> ParallelRead<T> deferred(String name, Supplier<T> read) {
+        return new ParallelRead<>(name, null, read, 0L);
+    }
+
+    public boolean isForked() {
+        return future != null;
+    }
+
+    /**
+     * {@link #joinOrDefault}가 결과 대신 fallback을 반환했는지 여부. 불완전한 결과를 캐시하지 않도록 호출 측이 확인합니다.
+     */
+    public boolean isDegraded() {
+        return degraded;
+    }
+
+    /**
+     * 결과를 기다립니다. 별도 스레드에서 실행한 작업이 실패하거나 fork 시점부터 제한 시간 안에 끝나지 않으면 fallback을 반환합니다.
+     * 호출 스레드에서 실행하는 경우(풀 여유 없음, 병렬 실행 꺼짐)에는 호출 측 트랜잭션에서 바로 실행하며 예외를 그대로 전파합니다.
+     */
+    public T joinOrDefault(T fallback) {
+        if (future == null) {
+            return deferred.get();
+        }
+        try {
+            long remaining = Math.max(0L, deadlineNanos - System.nanoTime());
+            return future.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("병렬 조회 시간 초과, 기본값으로 응답합니다: read={}", name);
+        } catch (ExecutionException e) {
+            log.warn("병렬 조회 실패, 기본값으로 응답합니다: read={}", name, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            log.warn("병렬 조회 대기 중 인터럽트, 기본값으로 응답합니다: read={}", name);
+        }
+        degraded = true;
+        return fallback;
+    }
+
+    @Override
+    public void close() {
+        if (future != null && !future.isDone()) {
+            future.cancel(true);
+        }
+    }
+}
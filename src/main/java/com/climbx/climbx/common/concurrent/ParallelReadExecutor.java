@@ -0,0 +1,112 @@
+package com.climbx.climbx.common.concurrent;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 서로 독립적인 읽기 쿼리를 가상 스레드에서 각자의 읽기 전용 트랜잭션(별도 커넥션)으로 실행합니다.
+ * <p>
+ * 호출 측은 이미 커넥션 하나를 잡고 있으므로, 풀에 여유 커넥션이 없을 때 fork하면 모든 요청이 두 번째 커넥션을 기다리며 서로를
+ * 막을 수 있습니다. 이 경우에는 fork하지 않고 join 시점에 호출 스레드에서 실행해 기존 순차 실행과 같게 동작합니다. 별도
+ * 트랜잭션이므로 호출 측과 같은 스냅샷을 보장하지 않으며, 약간의 시점 차이를 허용하는 조회에만 사용해야 합니다.
+ */
+@Slf4j
+@Component
+public class ParallelReadExecutor implements DisposableBean {
+
+    private final ExecutorService executor;
+    private final TransactionOperations readOnlyTransaction;
+    private final IntSupplier spareConnections;
+    private final Duration timeout;
+
+    @Autowired
+    public ParallelReadExecutor(
+        PlatformTransactionManager transactionManager,
+        DataSource dataSource,
+        @Value("${climbx.parallel-read.timeout:2s}") Duration timeout
+    ) {
+        this(Executors.newVirtualThreadPerTaskExecutor(),
+            readOnlyTransaction(transactionManager, timeout), spareConnections(dataSource), timeout);
+    }
+
+    ParallelReadExecutor(
+        ExecutorService executor,
+        TransactionOperations readOnlyTransaction,
+        IntSupplier spareConnections,
+        Duration timeout
+    ) {
+        this.executor = executor;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.spareConnections = spareConnections;
+        this.timeout = timeout;
+    }
+
+    /**
+     * 항상 호출 스레드에서 순서대로 실행하는 인스턴스. 테스트나 병렬 실행이 필요 없는 곳에서 사용합니다.
+     */
+    public static ParallelReadExecutor sequential() {
+        return new ParallelReadExecutor(null, TransactionOperations.withoutTransaction(), () -> 0,
+            Duration.ZERO);
+    }
+
+    public <T> ParallelRead<T> fork(String name, Supplier<T> read) {
+        if (executor == null || spareConnections.getAsInt() <= 0) {
+            log.debug("커넥션 풀에 여유가 없어 순차 실행합니다: read={}", name);
+            return ParallelRead.deferred(name, read);
+        }
+        long deadlineNanos = System.nanoTime() + timeout.toNanos();
+        return ParallelRead.forked(name,
+            executor.submit(() -> readOnlyTransaction.execute(status -> read.get())),
+            deadlineNanos);
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 제한 시간을 트랜잭션 타임아웃(쿼리 타임아웃)으로도 걸어 취소된 조회가 커넥션을 오래 잡지 않게 합니다.
+     */
+    private static TransactionOperations readOnlyTransaction(
+        PlatformTransactionManager transactionManager,
+        Duration timeout
+    ) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.setTimeout((int) Math.max(1L, (timeout.toMillis() + 999) / 1000));
+        return template;
+    }
+
+    /**
+     * 유휴 커넥션 중 이미 커넥션을 기다리는 요청 몫을 뺀 여유분. 유휴 커넥션이 있어도 대기 중인 요청이 있으면 fork한 조회가 그
+     * 뒤에 줄을 서게 되므로 병렬 실행하지 않습니다. 풀 상태를 알 수 없으면 0을 반환합니다.
+     */
+    private static IntSupplier spareConnections(DataSource dataSource) {
+        if (!(dataSource instanceof HikariDataSource hikari)) {
+            return () -> 0;
+        }
+        return () -> {
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            return pool == null
+                ? 0
+                : pool.getIdleConnections() - pool.getThreadsAwaitingConnection();
+        };
+    }
+}
@@ -1,5 +1,10 @@
 package com.climbx.climbx.common.config;
 
+import com.climbx.climbx.common.enums.RoleType;
+import com.climbx.climbx.ranking.cache.RankingPageKey;
+import com.climbx.climbx.ranking.index.RankingSlice;
+import com.climbx.climbx.submission.cache.SubmissionFilterKey;
+import com.climbx.climbx.user.cache.CachedUserProfile;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import java.time.Duration;
@@ -43,4 +48,65 @@ public class CacheConfig {
             .recordStats()
             .build();
     }
-} 
\ No newline at end of file
+
+    /**
+     * 랭킹 전체 사용자 수 캐시 TTL: 1분 (keyset 조회 시 매 요청 COUNT 쿼리를 피하기 위함) 최대 크기: 권한 종류 수
+     */
+    @Bean
+    public Cache<RoleType, Long> rankingTotalCountCache() {
+        return Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .maximumSize(RoleType.values().length)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * 제출 목록 필터 조합별 전체 개수 캐시 TTL: 1분 (목록 조회 시 매 요청 COUNT 쿼리를 피하기 위함) 최대 크기: 10,000개
+     */
+    @Bean
+    public Cache<SubmissionFilterKey, Long> submissionTotalCountCache() {
+        return Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .maximumSize(10000)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * 랭킹 상위 페이지 캐시 TTL: 5분 (변경 이벤트로 겹치는 페이지는 즉시 무효화되며, TTL은 누락 대비용) 최대 크기: 1,000개
+     */
+    @Bean
+    public Cache<RankingPageKey, RankingSlice> rankingPageSliceCache() {
+        return Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(5))
+            .maximumSize(1000)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * 사용자 프로필 캐시 TTL: 5분 (변경은 버전으로 즉시 무효화되며, TTL은 순위 인덱스가 준비되지 않았을 때의 순위 갱신용) 최대
+     * 크기: 10,000개
+     */
+    @Bean
+    public Cache<Long, CachedUserProfile> userProfileCache() {
+        return Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(5))
+            .maximumSize(10000)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * 닉네임 → userId 캐시 (프로필 캐시 조회 시 DB 접근을 피하기 위함) TTL: 30분 최대 크기: 10,000개
+     */
+    @Bean
+    public Cache<String, Long> userIdByNicknameCache() {
+        return Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(30))
+            .maximumSize(10000)
+            .recordStats()
+            .build();
+    }
+}
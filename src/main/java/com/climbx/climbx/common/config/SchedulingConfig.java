@@ -0,0 +1,13 @@
+package com.climbx.climbx.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 랭킹 스냅샷 등 배치성 작업을 위한 스케줄링 활성화. 크론 식은 모두 KST 기준으로 작성합니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
@@ -41,6 +41,7 @@ public enum ErrorCode {
     USER_STAT_NOT_FOUND(HttpStatus.NOT_FOUND, "사용자 통계 정보를 찾을 수 없습니다."),
     DUPLICATED_NICKNAME(HttpStatus.CONFLICT, "이미 사용 중인 닉네임입니다."),
     NICKNAME_MISMATCH(HttpStatus.FORBIDDEN, "닉네임이 일치하지 않습니다."),
+    INVALID_USER_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 사용자 목록 커서입니다."),
     VIDEO_NOT_FOUND(HttpStatus.NOT_FOUND, "비디오를 찾을 수 없습니다."),
     PROBLEM_NOT_FOUND(HttpStatus.NOT_FOUND, "문제를 찾을 수 없습니다."),
     FORBIDDEN_SUBMISSION(HttpStatus.FORBIDDEN, "제출물에 대한 권한이 없습니다."),
@@ -65,6 +66,7 @@ public enum ErrorCode {
      * Ranking errors
      */
     INVALID_RANKING_CRITERIA(HttpStatus.BAD_REQUEST, "유효하지 않은 랭킹 기준입니다."),
+    INVALID_RANKING_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 랭킹 커서입니다."),
 
     /**
      * Rating Util errors
@@ -76,6 +78,8 @@ public enum ErrorCode {
      */
     PENDING_SUBMISSION_NOT_FOUND(HttpStatus.NOT_FOUND, "PENDING 상태인 제출물을 찾을 수 없습니다."),
     STATUS_MODIFY_TO_PENDING(HttpStatus.BAD_REQUEST, "제출물 상태를 PENDING으로 변경할 수 없습니다."),
+    INVALID_SUBMISSION_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 제출 목록 커서입니다."),
+    DUPLICATE_SUBMISSION_REVIEW(HttpStatus.BAD_REQUEST, "같은 제출물이 요청에 중복되어 있습니다."),
 
     /**
      * Problem errors
@@ -0,0 +1,44 @@
+package com.climbx.climbx.common.enums;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 시즌 랭킹 집계 기간. 주간은 월요일, 월간은 1일에 시작합니다 (KST 날짜 기준).
+ */
+public enum PeriodType {
+
+    WEEKLY {
+        @Override
+        public LocalDate startOf(LocalDate date) {
+            return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+
+        @Override
+        public LocalDate nextStart(LocalDate periodStart) {
+            return periodStart.plusWeeks(1);
+        }
+    },
+    MONTHLY {
+        @Override
+        public LocalDate startOf(LocalDate date) {
+            return date.withDayOfMonth(1);
+        }
+
+        @Override
+        public LocalDate nextStart(LocalDate periodStart) {
+            return periodStart.plusMonths(1);
+        }
+    };
+
+    /**
+     * date가 속한 기간의 시작일
+     */
+    public abstract LocalDate startOf(LocalDate date);
+
+    /**
+     * 다음 기간의 시작일 (현재 기간의 배타적 종료일)
+     */
+    public abstract LocalDate nextStart(LocalDate periodStart);
+}
@@ -0,0 +1,16 @@
+package com.climbx.climbx.common.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.Accessors;
+
+@Getter
+@Accessors(fluent = true)
+@RequiredArgsConstructor
+public enum SeasonCriteriaType {
+
+    SOLVED_COUNT("solvedCount"),
+    RATING_GAINED("ratingGained");
+
+    private final String fieldName;
+}
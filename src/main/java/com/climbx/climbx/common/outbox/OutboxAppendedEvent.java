@@ -0,0 +1,12 @@
+package com.climbx.climbx.common.outbox;
+
+/**
+ * 아웃박스에 이벤트가 기록되었음을 알립니다. 커밋 직후 워커를 깨워 다음 폴링을 기다리지 않게 합니다.
+ */
+public record OutboxAppendedEvent(
+
+    OutboxEventType type,
+    int count
+) {
+
+}
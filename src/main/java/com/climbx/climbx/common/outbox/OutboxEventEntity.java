@@ -0,0 +1,109 @@
+package com.climbx.climbx.common.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+/**
+ * 트랜잭셔널 아웃박스 행. 원본 변경과 같은 트랜잭션에서 기록되고 {@link OutboxWorker}가 별도 트랜잭션에서 처리합니다.
+ * (event_type, idempotency_key)가 유일하므로 같은 이벤트는 한 번만 기록됩니다.
+ */
+@Entity
+@Table(name = "outbox_events")
+@NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
+@AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+@Getter
+@Accessors(fluent = true)
+@Builder
+public class OutboxEventEntity {
+
+    public static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_event_id", updatable = false, nullable = false)
+    private Long outboxEventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", columnDefinition = "varchar(50)", updatable = false, nullable = false)
+    @NotNull
+    private OutboxEventType eventType;
+
+    @Column(name = "idempotency_key", length = 100, updatable = false, nullable = false)
+    @NotNull
+    private String idempotencyKey; // 이벤트 종류 안에서 유일한 키 (예: 제출 videoId)
+
+    @Column(name = "payload", columnDefinition = "text", updatable = false, nullable = false)
+    @NotNull
+    private String payload; // JSON
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", columnDefinition = "varchar(20)", nullable = false)
+    @NotNull
+    private OutboxStatusType status = OutboxStatusType.PENDING;
+
+    @Builder.Default
+    @Column(name = "attempts", nullable = false)
+    @NotNull
+    private Integer attempts = 0; // 실패한 처리 시도 횟수
+
+    @Column(name = "available_at", nullable = false)
+    @NotNull
+    private LocalDateTime availableAt; // 이 시각 이후에 처리 대상이 됨
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "created_at", updatable = false, nullable = false)
+    @NotNull
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    public void markDone(LocalDateTime now) {
+        this.status = OutboxStatusType.DONE;
+        this.processedAt = now;
+        this.lastError = null;
+    }
+
+    /**
+     * 실패를 기록합니다. maxAttempts에 도달하면 FAILED로 남기고, 아니면 backoff를 두 배씩 늘려(최대 maxBackoff) 다시
+     * 대기시킵니다.
+     */
+    public void markFailed(
+        String error,
+        LocalDateTime now,
+        int maxAttempts,
+        Duration backoff,
+        Duration maxBackoff
+    ) {
+        this.attempts++;
+        this.lastError = error == null || error.length() <= MAX_ERROR_LENGTH
+            ? error
+            : error.substring(0, MAX_ERROR_LENGTH);
+
+        if (attempts >= maxAttempts) {
+            this.status = OutboxStatusType.FAILED;
+            this.processedAt = now;
+            return;
+        }
+
+        Duration delay = backoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        this.availableAt = now.plus(delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay);
+    }
+}
@@ -0,0 +1,22 @@
+package com.climbx.climbx.common.outbox;
+
+import java.util.List;
+
+/**
+ * 한 종류의 아웃박스 이벤트를 처리합니다.
+ * <p>
+ * {@link OutboxWorker}는 가져온 이벤트를 모아 한 트랜잭션에서 {@link #handle(List)}를 호출하고, 같은 트랜잭션에서 처리
+ * 완료로 표시합니다. 따라서 처리 결과와 완료 표시가 함께 커밋되거나 함께 롤백되어 이벤트는 정확히 한 번 반영됩니다. 일괄 처리가
+ * 실패하면 이벤트마다 따로 다시 호출하므로, 목록 안의 이벤트가 서로의 결과에 의존하면 안 됩니다.
+ */
+public interface OutboxEventHandler<T> {
+
+    OutboxEventType type();
+
+    Class<T> payloadType();
+
+    /**
+     * @param payloads 기록된 순서대로 정렬된 페이로드
+     */
+    void handle(List<T> payloads);
+}
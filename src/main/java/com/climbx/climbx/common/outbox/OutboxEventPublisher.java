@@ -0,0 +1,72 @@
+package com.climbx.climbx.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 호출자의 트랜잭션 안에서 아웃박스 이벤트를 기록합니다.
+ * <p>
+ * 여러 행을 JDBC 배치 INSERT 한 번으로 기록하며, 이미 같은 (종류, 키)가 있으면 무시해 같은 이벤트가 두 번 처리되지 않게
+ * 합니다. 실제 처리는 커밋 뒤 {@link OutboxWorker}가 맡습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxEventPublisher {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO outbox_events
+                    (event_type, idempotency_key, payload, status, attempts, available_at, created_at)
+             VALUES (?, ?, ?, 'PENDING', 0, ?, ?)
+        ON DUPLICATE KEY UPDATE outbox_event_id = outbox_event_id
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <T> void append(OutboxEventType type, String idempotencyKey, T payload) {
+        appendAll(type, List.of(payload), p -> idempotencyKey);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <T> void appendAll(
+        OutboxEventType type,
+        List<T> payloads,
+        Function<T, String> idempotencyKey
+    ) {
+        if (payloads.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = payloads.stream()
+            .map(payload -> new Object[]{type.name(), idempotencyKey.apply(payload),
+                write(payload), now, now})
+            .toList();
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+
+        log.debug("아웃박스 기록: type={}, count={}", type, rows.size());
+        eventPublisher.publishEvent(new OutboxAppendedEvent(type, rows.size()));
+    }
+
+    private String write(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 페이로드 직렬화 실패: " + payload, e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.climbx.climbx.common.outbox;
+
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    /**
+     * 처리할 수 있는 이벤트를 오래된 순으로 최대 limit개 잠가 가져옵니다. 다른 워커가 잠근 행은 건너뛰므로 워커끼리 기다리지
+     * 않습니다. (status, available_at, outbox_event_id) 인덱스를 사용합니다.
+     */
+    @Query(value = """
+        SELECT *
+          FROM outbox_events
+         WHERE status = 'PENDING'
+           AND available_at <= :now
+         ORDER BY outbox_event_id ASC
+         LIMIT :limit
+           FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<OutboxEventEntity> claimAvailable(
+        @Param("now") LocalDateTime now,
+        @Param("limit") int limit
+    );
+
+    /**
+     * 일괄 처리에 실패한 이벤트를 하나씩 다시 시도할 때 사용합니다. 다른 워커가 이미 가져갔으면 비어 있습니다.
+     */
+    @Query(value = """
+        SELECT *
+          FROM outbox_events
+         WHERE outbox_event_id = :outboxEventId
+           AND status = 'PENDING'
+           FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    Optional<OutboxEventEntity> claimById(@Param("outboxEventId") Long outboxEventId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM OutboxEventEntity e WHERE e.outboxEventId = :outboxEventId")
+    Optional<OutboxEventEntity> findByIdForUpdate(@Param("outboxEventId") Long outboxEventId);
+
+    long countByStatus(OutboxStatusType status);
+
+    /**
+     * 보관 기간이 지난 처리 완료 이벤트를 지웁니다. FAILED는 원인 확인을 위해 남깁니다.
+     */
+    @Modifying
+    @Query("""
+        DELETE FROM OutboxEventEntity e
+         WHERE e.status = com.climbx.climbx.common.outbox.OutboxStatusType.DONE
+           AND e.processedAt < :before
+        """)
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,8 @@
+package com.climbx.climbx.common.outbox;
+
+/**
+ * 아웃박스 이벤트 종류. 종류마다 {@link OutboxEventHandler} 하나가 처리합니다.
+ */
+public enum OutboxEventType {
+    SUBMISSION_ACCEPTED
+}
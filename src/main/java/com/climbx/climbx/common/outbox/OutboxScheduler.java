@@ -0,0 +1,44 @@
+package com.climbx.climbx.common.outbox;
+
+import com.climbx.climbx.common.util.KstDateUtil;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxScheduler {
+
+    private final OutboxWorker outboxWorker;
+
+    @Value("${climbx.outbox.retention:P7D}")
+    private Duration retention;
+
+    /**
+     * 기동 직후와 이후 일정 간격(기본 1초)마다 워커를 깨웁니다. 커밋 직후 알림을 놓친 이벤트, 다른 인스턴스가 기록한 이벤트,
+     * 재시도 시각이 된 이벤트를 처리합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${climbx.outbox.poll-delay:PT1S}")
+    public void poll() {
+        outboxWorker.poll();
+    }
+
+    /**
+     * 매일 03:30(KST)에 보관 기간이 지난 처리 완료 이벤트를 지웁니다.
+     */
+    @Scheduled(cron = "${climbx.outbox.purge-cron:0 30 3 * * *}", zone = KstDateUtil.ZONE_NAME)
+    public void purge() {
+        try {
+            outboxWorker.purgeProcessed(retention);
+        } catch (RuntimeException e) {
+            log.error("아웃박스 정리 실패", e);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.climbx.climbx.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 아웃박스 이벤트를 고정 크기 워커 풀에서 처리합니다.
+ * <p>
+ * 워커는 PENDING 이벤트를 {@code FOR UPDATE SKIP LOCKED}로 최대 batchSize개 가져와 종류별 핸들러에 넘기고, 같은
+ * 트랜잭션에서 처리 완료로 표시합니다. 여러 워커와 여러 인스턴스가 같은 테이블을 읽어도 서로 다른 행을 가져가며, 잠근 채 죽은
+ * 워커의 행은 롤백과 함께 다시 PENDING으로 보입니다. 일괄 처리가 실패하면 이벤트마다 따로 다시 시도해 실패한 이벤트만 재시도
+ * 대기(지수 backoff)로 돌리고, maxAttempts를 넘기면 FAILED로 남깁니다.
+ * <p>
+ * 종료 시에는 새 배치를 가져가지 않고 진행 중인 배치가 끝나기를 기다립니다. 기다리다 끊긴 배치는 커밋되지 않으므로 다음 기동 때
+ * 다시 처리됩니다.
+ */
+@Slf4j
+@Component
+public class OutboxWorker implements DisposableBean {
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final Map<OutboxEventType, OutboxEventHandler<?>> handlers;
+    private final ExecutorService executor;
+    private final TransactionOperations transaction;
+    private final Semaphore idleWorkers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    private volatile boolean running = true;
+
+    @Autowired
+    public OutboxWorker(
+        OutboxEventRepository outboxEventRepository,
+        ObjectMapper objectMapper,
+        List<OutboxEventHandler<?>> handlers,
+        PlatformTransactionManager transactionManager,
+        @Value("${climbx.outbox.workers:4}") int workers,
+        @Value("${climbx.outbox.batch-size:100}") int batchSize,
+        @Value("${climbx.outbox.max-attempts:10}") int maxAttempts,
+        @Value("${climbx.outbox.retry-backoff:PT5S}") Duration retryBackoff,
+        @Value("${climbx.outbox.max-retry-backoff:PT30M}") Duration maxRetryBackoff
+    ) {
+        this(outboxEventRepository, objectMapper, handlers,
+            Executors.newFixedThreadPool(workers, Thread.ofPlatform().name("outbox-", 0).factory()),
+            new TransactionTemplate(transactionManager), workers, batchSize, maxAttempts,
+            retryBackoff, maxRetryBackoff);
+    }
+
+    OutboxWorker(
+        OutboxEventRepository outboxEventRepository,
+        ObjectMapper objectMapper,
+        List<OutboxEventHandler<?>> handlers,
+        ExecutorService executor,
+        TransactionOperations transaction,
+        int workers,
+        int batchSize,
+        int maxAttempts,
+        Duration retryBackoff,
+        Duration maxRetryBackoff
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.handlers = handlers.stream()
+            .collect(Collectors.toMap(OutboxEventHandler::type, Function.identity()));
+        this.executor = executor;
+        this.transaction = transaction;
+        this.idleWorkers = new Semaphore(workers);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+    }
+
+    /**
+     * 쉬고 있는 워커를 모두 깨웁니다. 워커는 가져올 이벤트가 없을 때까지 처리한 뒤 다시 쉽니다. 호출 스레드는 기다리지 않습니다.
+     */
+    public void poll() {
+        while (running && idleWorkers.tryAcquire()) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                idleWorkers.release();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 이벤트를 기록한 트랜잭션이 커밋되면 폴링 주기를 기다리지 않고 바로 처리합니다.
+     */
+    @TransactionalEventListener
+    public void onOutboxAppended(OutboxAppendedEvent event) {
+        poll();
+    }
+
+    private void drain() {
+        try {
+            while (running && processBatch()) {
+                // 가져올 이벤트가 없을 때까지 반복
+            }
+        } catch (RuntimeException e) {
+            log.error("아웃박스 워커 중단", e);
+        } finally {
+            idleWorkers.release();
+        }
+    }
+
+    /**
+     * 이벤트를 한 배치 가져와 처리합니다.
+     *
+     * @return 가져온 이벤트가 있었는지 여부
+     */
+    boolean processBatch() {
+        List<Long> claimedIds = new ArrayList<>();
+        try {
+            transaction.executeWithoutResult(status -> {
+                List<OutboxEventEntity> events = outboxEventRepository.claimAvailable(
+                    LocalDateTime.now(), batchSize);
+                events.forEach(event -> claimedIds.add(event.outboxEventId()));
+                dispatch(events);
+                LocalDateTime now = LocalDateTime.now();
+                events.forEach(event -> event.markDone(now));
+            });
+        } catch (RuntimeException e) {
+            if (claimedIds.isEmpty()) {
+                throw e;
+            }
+            log.warn("아웃박스 일괄 처리 실패, 이벤트별로 다시 시도합니다: count={}",
+                claimedIds.size(), e);
+            claimedIds.forEach(this::processOne);
+        }
+        return !claimedIds.isEmpty();
+    }
+
+    private void processOne(Long outboxEventId) {
+        try {
+            transaction.executeWithoutResult(status -> outboxEventRepository
+                .claimById(outboxEventId)
+                .ifPresent(event -> {
+                    dispatch(List.of(event));
+                    event.markDone(LocalDateTime.now());
+                }));
+        } catch (RuntimeException e) {
+            transaction.executeWithoutResult(status -> outboxEventRepository
+                .findByIdForUpdate(outboxEventId)
+                // 기다리는 사이 다른 워커가 처리했으면 그대로 둠
+                .filter(event -> event.status() == OutboxStatusType.PENDING)
+                .ifPresent(event -> {
+                    event.markFailed(e.toString(), LocalDateTime.now(), maxAttempts,
+                        retryBackoff, maxRetryBackoff);
+                    if (event.status() == OutboxStatusType.FAILED) {
+                        log.error("아웃박스 이벤트 처리 포기: id={}, type={}, key={}, attempts={}",
+                            event.outboxEventId(), event.eventType(), event.idempotencyKey(),
+                            event.attempts(), e);
+                    } else {
+                        log.warn("아웃박스 이벤트 처리 실패: id={}, type={}, key={}, attempts={}, "
+                                + "retryAt={}", event.outboxEventId(), event.eventType(),
+                            event.idempotencyKey(), event.attempts(), event.availableAt(), e);
+                    }
+                }));
+        }
+    }
+
+    private void dispatch(List<OutboxEventEntity> events) {
+        events.stream()
+            .collect(Collectors.groupingBy(OutboxEventEntity::eventType, LinkedHashMap::new,
+                Collectors.toList()))
+            .forEach((type, typed) -> {
+                OutboxEventHandler<?> handler = handlers.get(type);
+                if (handler == null) {
+                    throw new IllegalStateException("아웃박스 핸들러 없음: " + type);
+                }
+                handle(handler, typed);
+            });
+    }
+
+    private <T> void handle(OutboxEventHandler<T> handler, List<OutboxEventEntity> events) {
+        List<T> payloads = events.stream()
+            .map(event -> read(event, handler.payloadType()))
+            .toList();
+        handler.handle(payloads);
+    }
+
+    private <T> T read(OutboxEventEntity event, Class<T> payloadType) {
+        try {
+            return objectMapper.readValue(event.payload(), payloadType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(
+                "아웃박스 페이로드 역직렬화 실패: id=" + event.outboxEventId(), e);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 처리 완료 이벤트를 지웁니다.
+     *
+     * @return 지운 행 수
+     */
+    public int purgeProcessed(Duration retention) {
+        Integer deleted = transaction.execute(status -> outboxEventRepository
+            .deleteProcessedBefore(LocalDateTime.now().minus(retention)));
+        log.info("아웃박스 정리: deleted={}, pending={}, failed={}", deleted,
+            outboxEventRepository.countByStatus(OutboxStatusType.PENDING),
+            outboxEventRepository.countByStatus(OutboxStatusType.FAILED));
+        return deleted == null ? 0 : deleted;
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        executor.shutdown();
+        if (!executor.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("아웃박스 워커가 제한 시간 안에 끝나지 않았습니다. 진행 중인 배치는 다음 기동 때 다시 처리됩니다.");
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.climbx.climbx.common.util;
+
+import java.util.Arrays;
+
+/**
+ * 0-based 인덱스 [0, size) 구간에 대한 누적 합을 O(log n)에 계산하는 Fenwick(Binary Indexed) 트리. 스레드 안전하지
+ * 않으므로 호출자가 동기화해야 합니다.
+ */
+public class FenwickTree {
+
+    private final long[] tree;
+
+    public FenwickTree(int size) {
+        this.tree = new long[size + 1];
+    }
+
+    public int size() {
+        return tree.length - 1;
+    }
+
+    public void clear() {
+        Arrays.fill(tree, 0L);
+    }
+
+    /**
+     * index 위치의 값에 delta를 더합니다.
+     */
+    public void add(int index, long delta) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * [0, endExclusive) 구간의 합을 반환합니다.
+     */
+    public long prefixSum(int endExclusive) {
+        long sum = 0;
+        for (int i = Math.min(endExclusive, size()); i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * [fromInclusive, toExclusive) 구간의 합을 반환합니다.
+     */
+    public long rangeSum(int fromInclusive, int toExclusive) {
+        if (fromInclusive >= toExclusive) {
+            return 0L;
+        }
+        return prefixSum(toExclusive) - prefixSum(fromInclusive);
+    }
+}
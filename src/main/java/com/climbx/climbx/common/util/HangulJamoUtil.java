@@ -0,0 +1,74 @@
+package com.climbx.climbx.common.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 한글 음절을 자모 단위로 분해하는 유틸. 입력 중인 글자("클ㄹ", "클라임")도 완성된 닉네임("클라이머")의 접두사로 비교할 수 있도록
+ * 겹모음/겹받침까지 기본 자모로 풀어 씁니다.
+ */
+public final class HangulJamoUtil {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    // 인덱스 0은 받침 없음
+    private static final String JONG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+        Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"),
+        Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"),
+        Map.entry('ㅢ', "ㅡㅣ"),
+        Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"),
+        Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"),
+        Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"),
+        Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ")
+    );
+
+    private HangulJamoUtil() {
+    }
+
+    /**
+     * 검색 비교용 정규화. NFD로 들어온 한글(macOS/iOS 입력)을 NFC로 합치고 영문은 소문자로 맞춥니다.
+     */
+    public static String normalize(String value) {
+        return Normalizer.normalize(value, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 정규화한 문자열의 한글 음절과 겹자모를 기본 자모로 분해합니다. 한글이 아닌 문자는 그대로 둡니다.
+     */
+    public static String decompose(String value) {
+        String normalized = normalize(value);
+        StringBuilder sb = new StringBuilder(normalized.length() * 3);
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c < SYLLABLE_BEGIN || c > SYLLABLE_END) {
+                appendJamo(sb, c);
+                continue;
+            }
+            int index = c - SYLLABLE_BEGIN;
+            int jong = index % JONG_COUNT;
+            sb.append(CHO.charAt(index / (JUNG_COUNT * JONG_COUNT)));
+            appendJamo(sb, JUNG.charAt(index / JONG_COUNT % JUNG_COUNT));
+            if (jong != 0) {
+                appendJamo(sb, JONG.charAt(jong));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void appendJamo(StringBuilder sb, char jamo) {
+        String parts = COMPOUND_JAMO.get(jamo);
+        if (parts != null) {
+            sb.append(parts);
+        } else {
+            sb.append(jamo);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.climbx.climbx.common.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 서비스 기준 날짜(KST) 계산 유틸. 엔티티의 LocalDateTime은 JVM 기본 시간대로 기록되므로 KST로 변환해 날짜를 구합니다.
+ */
+public final class KstDateUtil {
+
+    public static final String ZONE_NAME = "Asia/Seoul";
+    public static final ZoneId ZONE = ZoneId.of(ZONE_NAME);
+
+    private KstDateUtil() {
+    }
+
+    public static LocalDate today() {
+        return LocalDate.now(ZONE);
+    }
+
+    public static LocalDate toDate(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault())
+            .withZoneSameInstant(ZONE)
+            .toLocalDate();
+    }
+
+    /**
+     * KST 기준 date의 0시를 엔티티 LocalDateTime과 같은 JVM 기본 시간대로 변환합니다.
+     */
+    public static LocalDateTime startOfDay(LocalDate date) {
+        return date.atStartOfDay(ZONE)
+            .withZoneSameInstant(ZoneId.systemDefault())
+            .toLocalDateTime();
+    }
+}
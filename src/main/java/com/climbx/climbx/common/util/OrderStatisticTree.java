@@ -0,0 +1,194 @@
+package com.climbx.climbx.common.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 서브트리 크기를 유지하는 Treap 기반 순서 통계 트리. 삽입/삭제/순위 조회는 O(log n), k개 구간 조회는 O(log n + k)
+ * 이며 comparator 기준으로 동일한 원소는 하나만 보관합니다. 스레드 안전하지 않으므로 호출자가 동기화해야 합니다.
+ */
+public class OrderStatisticTree<T> {
+
+    private final Comparator<? super T> comparator;
+    private Node<T> root;
+
+    public OrderStatisticTree(Comparator<? super T> comparator) {
+        this.comparator = comparator;
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    public void clear() {
+        root = null;
+    }
+
+    /**
+     * 원소를 추가합니다. comparator 기준으로 동일한 원소가 이미 있으면 추가하지 않고 false를 반환합니다.
+     */
+    public boolean add(T value) {
+        if (contains(value)) {
+            return false;
+        }
+        Node<T>[] parts = split(root, value, false);
+        root = merge(merge(parts[0], new Node<>(value)), parts[1]);
+        return true;
+    }
+
+    /**
+     * comparator 기준으로 동일한 원소를 제거합니다.
+     */
+    public boolean remove(T value) {
+        Node<T>[] lower = split(root, value, false);
+        Node<T>[] upper = split(lower[1], value, true);
+        root = merge(lower[0], upper[1]);
+        return upper[0] != null;
+    }
+
+    public boolean contains(T value) {
+        Node<T> node = root;
+        while (node != null) {
+            int cmp = comparator.compare(value, node.value);
+            if (cmp == 0) {
+                return true;
+            }
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    /**
+     * value보다 앞에 오는 원소의 개수(0-based 순위)를 반환합니다. value가 트리에 없어도 삽입될 위치를 반환합니다.
+     */
+    public int countLessThan(T value) {
+        int count = 0;
+        Node<T> node = root;
+        while (node != null) {
+            if (comparator.compare(value, node.value) <= 0) {
+                node = node.left;
+            } else {
+                count += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * index(0-based) 위치의 원소를 반환합니다.
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        Node<T> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.value;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * fromIndex(0-based)부터 최대 count개의 원소를 순서대로 반환합니다.
+     */
+    public List<T> range(int fromIndex, int count) {
+        List<T> result = new ArrayList<>(Math.max(0, Math.min(count, size() - fromIndex)));
+        if (fromIndex < 0 || count <= 0) {
+            return result;
+        }
+        collect(root, fromIndex, count, result);
+        return result;
+    }
+
+    private void collect(Node<T> node, int fromIndex, int count, List<T> out) {
+        if (node == null || out.size() >= count) {
+            return;
+        }
+        int leftSize = size(node.left);
+        if (fromIndex < leftSize) {
+            collect(node.left, fromIndex, count, out);
+        }
+        if (out.size() >= count) {
+            return;
+        }
+        if (fromIndex <= leftSize) {
+            out.add(node.value);
+        }
+        collect(node.right, Math.max(0, fromIndex - leftSize - 1), count, out);
+    }
+
+    /**
+     * node를 두 트리로 나눕니다. inclusive가 false이면 [value 미만, value 이상], true이면 [value 이하, value 초과]로
+     * 나눕니다.
+     */
+    @SuppressWarnings("unchecked")
+    private Node<T>[] split(Node<T> node, T value, boolean inclusive) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        int cmp = comparator.compare(node.value, value);
+        boolean goesLeft = inclusive ? cmp <= 0 : cmp < 0;
+        if (goesLeft) {
+            Node<T>[] parts = split(node.right, value, inclusive);
+            node.right = parts[0];
+            node.update();
+            return new Node[]{node, parts[1]};
+        }
+        Node<T>[] parts = split(node.left, value, inclusive);
+        node.left = parts[1];
+        node.update();
+        return new Node[]{parts[0], node};
+    }
+
+    private Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node<T> {
+
+        private final T value;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private int size = 1;
+        private Node<T> left;
+        private Node<T> right;
+
+        private Node(T value) {
+            this.value = value;
+        }
+
+        private void update() {
+            size = 1 + OrderStatisticTree.size(left) + OrderStatisticTree.size(right);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.climbx.climbx.gym;
 
 import com.climbx.climbx.common.dto.ApiResponseDto;
 import com.climbx.climbx.gym.dto.GymInfoResponseDto;
+import com.climbx.climbx.gym.dto.GymRankingResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,6 +13,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.util.List;
@@ -320,4 +322,110 @@ public interface GymApiDocumentation {
         )
         String keyword
     );
-} 
\ No newline at end of file
+
+    @Operation(
+        operationId = "getGymRanking",
+        summary = "클라이밍장 리더보드 조회",
+        description = """
+            특정 클라이밍장에서 해결한 문제 기준 사용자 랭킹을 조회합니다.
+            
+            - 점수는 해당 클라이밍장에서 해결한 서로 다른 문제 중 상위 50개의 레이팅 합입니다
+            - 정렬: 점수 내림차순, 마지막 해결 시각 오름차순, 사용자 ID 오름차순
+            - 첫 페이지는 `cursor` 없이 요청하고, 이후에는 응답의 `nextCursor`를 그대로 넘깁니다
+            - 관리자 계정은 제외됩니다
+            """
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "클라이밍장 리더보드 조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiResponseDto.class),
+                examples = @ExampleObject(
+                    name = "성공 응답",
+                    value = """
+                        {
+                          "httpStatus": 200,
+                          "statusMessage": "SUCCESS",
+                          "timeStamp": "2024-01-01T10:00:00Z",
+                          "responseTimeMs": 15,
+                          "path": "/api/gyms/1/ranking?size=2",
+                          "data": {
+                            "gymId": 1,
+                            "rankings": [
+                              {
+                                "nickname": "alice",
+                                "profileImageCdnUrl": null,
+                                "ranking": 1,
+                                "score": 412,
+                                "solvedCount": 37
+                              },
+                              {
+                                "nickname": "bob",
+                                "profileImageCdnUrl": "https://example.com/profile/bob.jpg",
+                                "ranking": 2,
+                                "score": 388,
+                                "solvedCount": 41
+                              }
+                            ],
+                            "totalCount": 57,
+                            "hasNext": true,
+                            "nextCursor": "Mzg4fDIwMjQtMDEtMDFUMTA6MDB8MnwyfA"
+                          }
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "클라이밍장을 찾을 수 없음",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiResponseDto.class),
+                examples = @ExampleObject(
+                    name = "클라이밍장 없음",
+                    value = """
+                        {
+                          "httpStatus": 404,
+                          "statusMessage": "클라이밍장을 찾을 수 없습니다.",
+                          "timeStamp": "2024-01-01T10:00:00Z",
+                          "responseTimeMs": 9,
+                          "path": "/api/gyms/999/ranking",
+                          "data": null
+                        }
+                        """
+                )
+            )
+        )
+    })
+    GymRankingResponseDto getGymRanking(
+        @Parameter(
+            name = "gymId",
+            description = "클라이밍장 ID",
+            required = true,
+            example = "1"
+        )
+        @NotNull
+        @Min(1L)
+        Long gymId,
+
+        @Parameter(
+            name = "cursor",
+            description = "이전 응답의 nextCursor (첫 페이지는 생략)",
+            required = false
+        )
+        String cursor,
+
+        @Parameter(
+            name = "size",
+            description = "페이지 크기 (1-100)",
+            required = false,
+            example = "20"
+        )
+        @Min(1)
+        @Max(100)
+        Integer size
+    );
+}
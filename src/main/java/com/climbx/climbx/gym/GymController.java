@@ -2,6 +2,8 @@ package com.climbx.climbx.gym;
 
 import com.climbx.climbx.common.annotation.SuccessStatus;
 import com.climbx.climbx.gym.dto.GymInfoResponseDto;
+import com.climbx.climbx.gym.dto.GymRankingResponseDto;
+import com.climbx.climbx.gym.service.GymLeaderboardService;
 import com.climbx.climbx.gym.service.GymService;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +22,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class GymController implements GymApiDocumentation {
 
     private final GymService gymService;
+    private final GymLeaderboardService gymLeaderboardService;
 
     @Override
     @GetMapping("/{gymId}")
@@ -54,4 +57,21 @@ public class GymController implements GymApiDocumentation {
             latitude, longitude, keyword);
         return gymService.getGymListByDistance(latitude, longitude, keyword);
     }
+
+    @Override
+    @GetMapping("/{gymId}/ranking")
+    @SuccessStatus(value = HttpStatus.OK)
+    public GymRankingResponseDto getGymRanking(
+        @PathVariable
+        Long gymId,
+
+        @RequestParam(name = "cursor", required = false)
+        String cursor,
+
+        @RequestParam(name = "size", required = false, defaultValue = "20")
+        Integer size
+    ) {
+        log.info("클라이밍장 리더보드 조회: gymId={}, cursor={}, size={}", gymId, cursor, size);
+        return gymLeaderboardService.getGymRanking(gymId, cursor, size);
+    }
 }
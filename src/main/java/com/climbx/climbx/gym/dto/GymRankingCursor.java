@@ -0,0 +1,74 @@
+package com.climbx.climbx.gym.dto;
+
+import com.climbx.climbx.gym.index.GymScoreSnapshot;
+import com.climbx.climbx.ranking.exception.InvalidRankingCursorException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.Builder;
+
+/**
+ * 클라이밍장 리더보드 keyset 커서. 직전 페이지 마지막 행의 정렬 키(score, updatedAt, userId)와 순위를
+ * {@code score|updatedAt|userId|rank} 형식으로 URL-safe Base64 인코딩합니다.
+ */
+@Builder
+public record GymRankingCursor(
+
+    Integer score,
+    LocalDateTime updatedAt,
+    Long userId,
+    Long rank
+) {
+
+    private static final String DELIMITER = "|";
+
+    public static GymRankingCursor of(GymScoreSnapshot last, Long rank) {
+        return GymRankingCursor.builder()
+            .score(last.score())
+            .updatedAt(last.updatedAt())
+            .userId(last.userId())
+            .rank(rank)
+            .build();
+    }
+
+    public static GymRankingCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4) {
+                throw new InvalidRankingCursorException(cursor);
+            }
+            return GymRankingCursor.builder()
+                .score(Integer.parseInt(parts[0]))
+                .updatedAt(LocalDateTime.parse(parts[1]))
+                .userId(Long.parseLong(parts[2]))
+                .rank(Long.parseLong(parts[3]))
+                .build();
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidRankingCursorException(cursor);
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER,
+            String.valueOf(score),
+            updatedAt.toString(),
+            String.valueOf(userId),
+            String.valueOf(rank));
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 인메모리 리더보드에서 커서 위치를 찾기 위한 비교용 스냅샷.
+     */
+    public GymScoreSnapshot toSnapshotKey(Long gymId) {
+        return GymScoreSnapshot.builder()
+            .gymId(gymId)
+            .userId(userId)
+            .score(score)
+            .updatedAt(updatedAt)
+            .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.climbx.climbx.gym.dto;
+
+import java.util.List;
+import lombok.Builder;
+
+@Builder
+public record GymRankingResponseDto(
+
+    Long gymId,
+    List<GymUserRankingResponseDto> rankings,
+    Long totalCount,
+    Boolean hasNext,
+    String nextCursor
+) {
+
+}
@@ -0,0 +1,25 @@
+package com.climbx.climbx.gym.dto;
+
+import com.climbx.climbx.gym.index.GymScoreSnapshot;
+import lombok.Builder;
+
+@Builder
+public record GymUserRankingResponseDto(
+
+    String nickname,
+    String profileImageCdnUrl, // null 허용
+    Long ranking,
+    Integer score, // 클라이밍장에서 해결한 상위 문제 레이팅 합
+    Integer solvedCount // 클라이밍장에서 해결한 문제 수
+) {
+
+    public static GymUserRankingResponseDto from(GymScoreSnapshot snapshot, Long ranking) {
+        return GymUserRankingResponseDto.builder()
+            .nickname(snapshot.nickname())
+            .profileImageCdnUrl(snapshot.profileImageCdnUrl())
+            .ranking(ranking)
+            .score(snapshot.score())
+            .solvedCount(snapshot.solvedCount())
+            .build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.climbx.climbx.gym.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.Min;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+/**
+ * 클라이밍장별 사용자 점수 집계. score는 해당 클라이밍장에서 해결한 서로 다른 문제 중 상위
+ * {@link #TOP_PROBLEM_LIMIT}개의 레이팅 합이며, 제출 승인 시 증분 갱신되고 재집계 배치가 주기적으로 다시 계산합니다.
+ */
+@Entity
+@Table(name = "gym_user_scores")
+@IdClass(GymUserScoreId.class)
+@NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
+@AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+@Getter
+@Accessors(fluent = true)
+@Builder
+public class GymUserScoreEntity {
+
+    public static final int TOP_PROBLEM_LIMIT = 50;
+
+    @Id
+    @Column(name = "gym_id", updatable = false, nullable = false)
+    private Long gymId; // 클라이밍장 ID
+
+    @Id
+    @Column(name = "user_id", updatable = false, nullable = false)
+    private Long userId; // 사용자 ID
+
+    @Builder.Default
+    @Column(name = "score", nullable = false)
+    @Min(0)
+    private Integer score = 0; // 상위 문제 레이팅 합
+
+    @Builder.Default
+    @Column(name = "solved_count", nullable = false)
+    @Min(0)
+    private Integer solvedCount = 0; // 해결한 서로 다른 문제 수
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt; // 마지막으로 새 문제를 해결한 시각 (동점자 정렬 기준)
+
+    public boolean isTopProblemsFull() {
+        return solvedCount >= TOP_PROBLEM_LIMIT;
+    }
+
+    /**
+     * 새로 해결한 문제의 레이팅을 더합니다. 상위 문제가 아직 한도 미만일 때만 사용합니다.
+     */
+    public void addSolvedProblem(int problemRating, LocalDateTime solvedAt) {
+        this.score = score + problemRating;
+        this.solvedCount = solvedCount + 1;
+        this.updatedAt = solvedAt;
+    }
+
+    /**
+     * 상위 문제가 이미 한도만큼 있을 때 새로 해결한 문제를 반영합니다. topProblemScore는 새 문제를 포함해 다시 계산한 상위 문제
+     * 레이팅 합입니다.
+     */
+    public void addSolvedProblemWithScore(int topProblemScore, LocalDateTime solvedAt) {
+        this.score = topProblemScore;
+        this.solvedCount = solvedCount + 1;
+        this.updatedAt = solvedAt;
+    }
+}
@@ -0,0 +1,22 @@
+package com.climbx.climbx.gym.entity;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+@NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
+@AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+@Getter
+@Accessors(fluent = true)
+@Builder
+@EqualsAndHashCode
+public class GymUserScoreId implements Serializable {
+
+    private Long gymId;
+
+    private Long userId;
+}
@@ -0,0 +1,33 @@
+package com.climbx.climbx.gym.event;
+
+import com.climbx.climbx.gym.entity.GymUserScoreEntity;
+import com.climbx.climbx.user.entity.UserAccountEntity;
+import java.time.LocalDateTime;
+
+/**
+ * 클라이밍장별 사용자 점수가 갱신되었음을 알리는 이벤트. 리더보드 인덱스가 커밋 이후에 반영합니다.
+ */
+public record GymUserScoreChangedEvent(
+
+    Long gymId,
+    Long userId,
+    String nickname,
+    String profileImageCdnUrl,
+    Integer score,
+    Integer solvedCount,
+    LocalDateTime updatedAt
+) {
+
+    public static GymUserScoreChangedEvent of(GymUserScoreEntity score,
+        UserAccountEntity account) {
+        return new GymUserScoreChangedEvent(
+            score.gymId(),
+            score.userId(),
+            account.nickname(),
+            account.profileImageCdnUrl(),
+            score.score(),
+            score.solvedCount(),
+            score.updatedAt()
+        );
+    }
+}
@@ -0,0 +1,161 @@
+package com.climbx.climbx.gym.index;
+
+import com.climbx.climbx.common.enums.RoleType;
+import com.climbx.climbx.common.util.OrderStatisticTree;
+import com.climbx.climbx.gym.event.GymUserScoreChangedEvent;
+import com.climbx.climbx.gym.repository.GymUserScoreRepository;
+import com.climbx.climbx.user.event.UserAccountChangedEvent;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 클라이밍장별 리더보드를 순서 통계 트리로 메모리에 유지하는 인덱스.
+ * <p>
+ * 기동 시 gym_user_scores 전체를 한 번 적재하고, 이후에는 점수 갱신 이벤트를 커밋 이후에 반영합니다. 페이지 조회는 O(log n +
+ * k)이며, 적재 전이거나 적재에 실패한 경우 {@link #isReady()}가 false이므로 호출 측은 DB 조회로 대체해야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GymLeaderboardIndex {
+
+    private final GymUserScoreRepository gymUserScoreRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, OrderStatisticTree<GymScoreSnapshot>> trees = new HashMap<>();
+    private final Map<Long, Map<Long, GymScoreSnapshot>> snapshots = new HashMap<>();
+    private volatile boolean ready = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    /**
+     * DB에서 전체 점수를 다시 읽어 인덱스를 재구성합니다. 재집계 배치 이후에도 호출되며, 재구성 중에는 쓰기 락을 잡으므로 동시에
+     * 들어온 변경 이벤트는 재구성 완료 후 반영됩니다.
+     */
+    public void reload() {
+        lock.writeLock().lock();
+        try {
+            long startedAt = System.currentTimeMillis();
+            List<GymScoreSnapshot> rows =
+                gymUserScoreRepository.findAllGymScoreSnapshotsByUserRole(RoleType.USER);
+
+            trees.clear();
+            snapshots.clear();
+            rows.forEach(this::insert);
+            ready = true;
+
+            log.info("클라이밍장 리더보드 인덱스 적재 완료: gyms={}, entries={}, elapsed={}ms",
+                trees.size(), rows.size(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            ready = false;
+            log.error("클라이밍장 리더보드 인덱스 적재 실패, DB 조회로 대체합니다.", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 클라이밍장 리더보드에서 offset(0-based)부터 최대 limit명을 순위 순서대로 반환합니다.
+     */
+    public GymRankingSlice getRange(Long gymId, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            OrderStatisticTree<GymScoreSnapshot> tree = trees.get(gymId);
+            if (tree == null || offset > Integer.MAX_VALUE) {
+                return new GymRankingSlice(offset, List.of(), tree == null ? 0 : tree.size());
+            }
+            return new GymRankingSlice(offset, tree.range((int) offset, limit), tree.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 정렬 키 after 바로 다음 위치부터 최대 limit명을 반환합니다.
+     */
+    public GymRankingSlice getRangeAfter(Long gymId, GymScoreSnapshot after, int limit) {
+        lock.readLock().lock();
+        try {
+            OrderStatisticTree<GymScoreSnapshot> tree = trees.get(gymId);
+            if (tree == null) {
+                return new GymRankingSlice(0, List.of(), 0);
+            }
+            int offset = tree.countLessThan(after) + (tree.contains(after) ? 1 : 0);
+            return new GymRankingSlice(offset, tree.range(offset, limit), tree.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGymUserScoreChanged(GymUserScoreChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            GymScoreSnapshot current = snapshots.getOrDefault(event.gymId(), Map.of())
+                .get(event.userId());
+            if (current != null) {
+                remove(current);
+            }
+            insert(GymScoreSnapshot.from(event));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 탈퇴하거나 일반 사용자가 아니게 된 계정은 모든 리더보드에서 제외하고, 그 외에는 표시 정보를 갱신합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        boolean visible = !event.deleted() && event.role() == RoleType.USER;
+        lock.writeLock().lock();
+        try {
+            List<GymScoreSnapshot> entries = snapshots.values().stream()
+                .map(users -> users.get(event.userId()))
+                .filter(snapshot -> snapshot != null)
+                .toList();
+            for (GymScoreSnapshot current : entries) {
+                remove(current);
+                if (visible) {
+                    insert(current.withAccount(event));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void insert(GymScoreSnapshot snapshot) {
+        snapshots.computeIfAbsent(snapshot.gymId(), gymId -> new HashMap<>())
+            .put(snapshot.userId(), snapshot);
+        trees.computeIfAbsent(snapshot.gymId(),
+                gymId -> new OrderStatisticTree<>(GymScoreSnapshot.RANKING_ORDER))
+            .add(snapshot);
+    }
+
+    private void remove(GymScoreSnapshot snapshot) {
+        Map<Long, GymScoreSnapshot> users = snapshots.get(snapshot.gymId());
+        if (users != null) {
+            users.remove(snapshot.userId());
+        }
+        OrderStatisticTree<GymScoreSnapshot> tree = trees.get(snapshot.gymId());
+        if (tree != null) {
+            tree.remove(snapshot);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.climbx.climbx.gym.index;
+
+import java.util.List;
+
+/**
+ * 클라이밍장 리더보드의 연속 구간. offset은 0-based 시작 위치, total은 해당 클라이밍장의 전체 인원입니다.
+ */
+public record GymRankingSlice(
+
+    long offset,
+    List<GymScoreSnapshot> snapshots,
+    long total
+) {
+
+    public boolean hasNext() {
+        return offset + snapshots.size() < total;
+    }
+}
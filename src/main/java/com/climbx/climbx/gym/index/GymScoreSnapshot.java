@@ -0,0 +1,50 @@
+package com.climbx.climbx.gym.index;
+
+import com.climbx.climbx.gym.event.GymUserScoreChangedEvent;
+import com.climbx.climbx.user.event.UserAccountChangedEvent;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import lombok.Builder;
+
+/**
+ * 클라이밍장 리더보드 인덱스가 보관하는 사용자 점수 스냅샷.
+ */
+@Builder(toBuilder = true)
+public record GymScoreSnapshot(
+
+    Long gymId,
+    Long userId,
+    String nickname,
+    String profileImageCdnUrl,
+    Integer score,
+    Integer solvedCount,
+    LocalDateTime updatedAt
+) {
+
+    /**
+     * score DESC, updatedAt ASC, userId ASC. DB 조회 정렬과 동일합니다.
+     */
+    public static final Comparator<GymScoreSnapshot> RANKING_ORDER =
+        Comparator.comparing(GymScoreSnapshot::score, Comparator.reverseOrder())
+            .thenComparing(GymScoreSnapshot::updatedAt)
+            .thenComparing(GymScoreSnapshot::userId);
+
+    public static GymScoreSnapshot from(GymUserScoreChangedEvent event) {
+        return GymScoreSnapshot.builder()
+            .gymId(event.gymId())
+            .userId(event.userId())
+            .nickname(event.nickname())
+            .profileImageCdnUrl(event.profileImageCdnUrl())
+            .score(event.score())
+            .solvedCount(event.solvedCount())
+            .updatedAt(event.updatedAt())
+            .build();
+    }
+
+    public GymScoreSnapshot withAccount(UserAccountChangedEvent event) {
+        return toBuilder()
+            .nickname(event.nickname())
+            .profileImageCdnUrl(event.profileImageCdnUrl())
+            .build();
+    }
+}
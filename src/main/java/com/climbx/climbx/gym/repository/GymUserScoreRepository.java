@@ -0,0 +1,77 @@
+package com.climbx.climbx.gym.repository;
+
+import com.climbx.climbx.common.enums.RoleType;
+import com.climbx.climbx.gym.entity.GymUserScoreEntity;
+import com.climbx.climbx.gym.entity.GymUserScoreId;
+import com.climbx.climbx.gym.index.GymScoreSnapshot;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface GymUserScoreRepository extends JpaRepository<GymUserScoreEntity, GymUserScoreId> {
+
+    @Query("""
+        SELECT new com.climbx.climbx.gym.index.GymScoreSnapshot(
+                    g.gymId, g.userId, ua.nickname, ua.profileImageCdnUrl,
+                    g.score, g.solvedCount, g.updatedAt)
+                FROM GymUserScoreEntity g
+                JOIN UserAccountEntity ua ON ua.userId = g.userId
+                WHERE ua.role = :role
+        """)
+    List<GymScoreSnapshot> findAllGymScoreSnapshotsByUserRole(@Param("role") RoleType role);
+
+    /**
+     * 클라이밍장 리더보드 첫 페이지 (score DESC, updatedAt ASC, userId ASC)
+     */
+    @Query("""
+        SELECT new com.climbx.climbx.gym.index.GymScoreSnapshot(
+                    g.gymId, g.userId, ua.nickname, ua.profileImageCdnUrl,
+                    g.score, g.solvedCount, g.updatedAt)
+                FROM GymUserScoreEntity g
+                JOIN UserAccountEntity ua ON ua.userId = g.userId
+                WHERE g.gymId = :gymId
+                  AND ua.role = :role
+                ORDER BY g.score DESC, g.updatedAt ASC, g.userId ASC
+        """)
+    List<GymScoreSnapshot> findGymRanking(
+        @Param("gymId") Long gymId,
+        @Param("role") RoleType role,
+        Pageable pageable
+    );
+
+    /**
+     * 커서(score, updatedAt, userId) 바로 다음 행부터 조회하는 seek 쿼리
+     */
+    @Query("""
+        SELECT new com.climbx.climbx.gym.index.GymScoreSnapshot(
+                    g.gymId, g.userId, ua.nickname, ua.profileImageCdnUrl,
+                    g.score, g.solvedCount, g.updatedAt)
+                FROM GymUserScoreEntity g
+                JOIN UserAccountEntity ua ON ua.userId = g.userId
+                WHERE g.gymId = :gymId
+                  AND ua.role = :role
+                  AND (g.score < :score
+                       OR (g.score = :score AND g.updatedAt > :updatedAt)
+                       OR (g.score = :score AND g.updatedAt = :updatedAt AND g.userId > :userId))
+                ORDER BY g.score DESC, g.updatedAt ASC, g.userId ASC
+        """)
+    List<GymScoreSnapshot> findGymRankingAfter(
+        @Param("gymId") Long gymId,
+        @Param("role") RoleType role,
+        @Param("score") Integer score,
+        @Param("updatedAt") LocalDateTime updatedAt,
+        @Param("userId") Long userId,
+        Pageable pageable
+    );
+
+    @Query("""
+        SELECT COUNT(g) FROM GymUserScoreEntity g
+                JOIN UserAccountEntity ua ON ua.userId = g.userId
+                WHERE g.gymId = :gymId
+                  AND ua.role = :role
+        """)
+    long countByGymIdAndUserRole(@Param("gymId") Long gymId, @Param("role") RoleType role);
+}
@@ -0,0 +1,28 @@
+package com.climbx.climbx.gym.scheduler;
+
+import com.climbx.climbx.common.util.KstDateUtil;
+import com.climbx.climbx.gym.service.GymUserScoreRebuildService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GymUserScoreRebuildScheduler {
+
+    private final GymUserScoreRebuildService gymUserScoreRebuildService;
+
+    /**
+     * 매일 04:30(KST)에 클라이밍장 점수를 다시 집계해 증분 갱신과의 차이를 바로잡습니다.
+     */
+    @Scheduled(cron = "${climbx.gym-ranking.rebuild-cron:0 30 4 * * *}", zone = KstDateUtil.ZONE_NAME)
+    public void rebuild() {
+        try {
+            gymUserScoreRebuildService.rebuild();
+        } catch (RuntimeException e) {
+            log.error("클라이밍장 점수 재집계 실패", e);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.climbx.climbx.gym.service;
+
+import com.climbx.climbx.common.enums.RoleType;
+import com.climbx.climbx.common.enums.StatusType;
+import com.climbx.climbx.gym.dto.GymRankingCursor;
+import com.climbx.climbx.gym.dto.GymRankingResponseDto;
+import com.climbx.climbx.gym.dto.GymUserRankingResponseDto;
+import com.climbx.climbx.gym.entity.GymUserScoreEntity;
+import com.climbx.climbx.gym.entity.GymUserScoreId;
+import com.climbx.climbx.gym.event.GymUserScoreChangedEvent;
+import com.climbx.climbx.gym.exception.GymNotFoundException;
+import com.climbx.climbx.gym.index.GymLeaderboardIndex;
+import com.climbx.climbx.gym.index.GymRankingSlice;
+import com.climbx.climbx.gym.index.GymScoreSnapshot;
+import com.climbx.climbx.gym.repository.GymRepository;
+import com.climbx.climbx.gym.repository.GymUserScoreRepository;
+import com.climbx.climbx.problem.entity.ProblemEntity;
+import com.climbx.climbx.problem.repository.ProblemRepository;
+import com.climbx.climbx.submission.event.SubmissionAcceptedEvent;
+import com.climbx.climbx.submission.repository.SubmissionRepository;
+import com.climbx.climbx.user.entity.UserAccountEntity;
+import com.climbx.climbx.user.repository.UserAccountRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class GymLeaderboardService {
+
+    private final GymRepository gymRepository;
+    private final GymUserScoreRepository gymUserScoreRepository;
+    private final SubmissionRepository submissionRepository;
+    private final ProblemRepository problemRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final GymLeaderboardIndex gymLeaderboardIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 클라이밍장 리더보드를 조회합니다. cursor가 없으면 첫 페이지를, 있으면 커서 다음 위치부터 조회합니다.
+     */
+    public GymRankingResponseDto getGymRanking(Long gymId, String cursor, int size) {
+        if (!gymRepository.existsById(gymId)) {
+            throw new GymNotFoundException(gymId);
+        }
+        GymRankingCursor after = cursor == null || cursor.isBlank()
+            ? null
+            : GymRankingCursor.decode(cursor);
+
+        // 인메모리 리더보드 인덱스가 준비되어 있으면 DB 조회 없이 반환
+        if (gymLeaderboardIndex.isReady()) {
+            GymRankingSlice slice = after == null
+                ? gymLeaderboardIndex.getRange(gymId, 0, size)
+                : gymLeaderboardIndex.getRangeAfter(gymId, after.toSnapshotKey(gymId), size);
+            return toResponse(gymId, slice.snapshots(), slice.offset() + 1, slice.hasNext(),
+                slice.total());
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1개 조회
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<GymScoreSnapshot> rows = after == null
+            ? gymUserScoreRepository.findGymRanking(gymId, RoleType.USER, limit)
+            : gymUserScoreRepository.findGymRankingAfter(gymId, RoleType.USER, after.score(),
+                after.updatedAt(), after.userId(), limit);
+
+        boolean hasNext = rows.size() > size;
+        long totalCount = gymUserScoreRepository.countByGymIdAndUserRole(gymId, RoleType.USER);
+        return toResponse(gymId, rows.stream().limit(size).toList(),
+            after == null ? 1 : after.rank() + 1, hasNext, totalCount);
+    }
+
+    /**
+     * 제출 승인 시 해당 클라이밍장 점수를 증분 갱신합니다. 리뷰 트랜잭션 안에서 실행되므로 승인과 점수 갱신이 함께 커밋됩니다.
+     * <p>
+     * 상위 문제가 아직 {@link GymUserScoreEntity#TOP_PROBLEM_LIMIT}개 미만이면 문제 레이팅을 더하기만 하고, 그 이상일 때만 해당
+     * 사용자의 그 클라이밍장 해결 문제에서 상위 레이팅 합을 다시 계산합니다.
+     */
+    @Transactional
+    @EventListener
+    public void onSubmissionAccepted(SubmissionAcceptedEvent event) {
+        if (!event.firstSolve()) {
+            return;
+        }
+
+        // 어드민/탈퇴 계정은 조회되지 않으므로 리더보드에서 제외됨
+        Optional<UserAccountEntity> account = userAccountRepository.findByUserId(event.userId());
+        Optional<ProblemEntity> problem = problemRepository.findById(event.problemId());
+        if (account.isEmpty() || problem.isEmpty()) {
+            return;
+        }
+
+        Long gymId = problem.get().gymEntity().gymId();
+        LocalDateTime now = LocalDateTime.now();
+        GymUserScoreEntity score = gymUserScoreRepository.findById(GymUserScoreId.builder()
+                .gymId(gymId)
+                .userId(event.userId())
+                .build())
+            .orElseGet(() -> GymUserScoreEntity.builder()
+                .gymId(gymId)
+                .userId(event.userId())
+                .updatedAt(now)
+                .build());
+
+        if (score.isTopProblemsFull()) {
+            int topProblemScore = submissionRepository.findSolvedProblemRatingsAtGym(
+                    event.userId(), gymId, StatusType.ACCEPTED,
+                    PageRequest.of(0, GymUserScoreEntity.TOP_PROBLEM_LIMIT))
+                .stream()
+                .mapToInt(Integer::intValue)
+                .sum();
+            score.addSolvedProblemWithScore(topProblemScore, now);
+        } else {
+            score.addSolvedProblem(problem.get().rating(), now);
+        }
+        gymUserScoreRepository.save(score);
+
+        log.info("클라이밍장 점수 갱신: gymId={}, userId={}, score={}, solvedCount={}",
+            gymId, event.userId(), score.score(), score.solvedCount());
+
+        eventPublisher.publishEvent(GymUserScoreChangedEvent.of(score, account.get()));
+    }
+
+    private GymRankingResponseDto toResponse(
+        Long gymId,
+        List<GymScoreSnapshot> snapshots,
+        long startRank,
+        boolean hasNext,
+        long totalCount
+    ) {
+        List<GymUserRankingResponseDto> rankingList = IntStream.range(0, snapshots.size())
+            .mapToObj(i -> GymUserRankingResponseDto.from(snapshots.get(i), startRank + i))
+            .toList();
+
+        String nextCursor = hasNext
+            ? GymRankingCursor.of(snapshots.getLast(), startRank + snapshots.size() - 1).encode()
+            : null;
+
+        return GymRankingResponseDto.builder()
+            .gymId(gymId)
+            .rankings(rankingList)
+            .totalCount(totalCount)
+            .hasNext(hasNext)
+            .nextCursor(nextCursor)
+            .build();
+    }
+}
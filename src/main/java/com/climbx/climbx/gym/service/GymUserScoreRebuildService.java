@@ -0,0 +1,90 @@
+package com.climbx.climbx.gym.service;
+
+import com.climbx.climbx.common.enums.RoleType;
+import com.climbx.climbx.common.enums.StatusType;
+import com.climbx.climbx.gym.entity.GymUserScoreEntity;
+import com.climbx.climbx.gym.index.GymLeaderboardIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * gym_user_scores를 제출 기록으로부터 다시 계산합니다.
+ * <p>
+ * 제출 승인 시의 증분 갱신은 제출 삭제, 문제 레이팅 변경, 문제의 클라이밍장 이동 등을 반영하지 않으므로 주기적으로 전체를 다시
+ * 집계해 맞춥니다. 삭제와 재삽입을 한 트랜잭션에서 수행하므로 조회 측은 재집계 전후 중 하나의 상태만 봅니다.
+ */
+@Slf4j
+@Service
+public class GymUserScoreRebuildService {
+
+    private static final String DELETE_ALL_SQL = "DELETE FROM gym_user_scores";
+
+    /*
+     * (클라이밍장, 사용자)별로 해결한 서로 다른 문제를 레이팅 순으로 번호 매긴 뒤 상위 N개의 합을 점수로 기록합니다.
+     * updated_at은 각 문제를 처음 해결한 시각 중 가장 늦은 값입니다.
+     */
+    private static final String INSERT_FROM_SUBMISSIONS_SQL = """
+        INSERT INTO gym_user_scores (gym_id, user_id, score, solved_count, updated_at)
+        SELECT ranked.gym_id,
+               ranked.user_id,
+               SUM(CASE WHEN ranked.rn <= ? THEN ranked.problem_rating ELSE 0 END),
+               COUNT(*),
+               COALESCE(MAX(ranked.solved_at), NOW(6))
+          FROM (SELECT solved.gym_id, solved.user_id, solved.problem_rating, solved.solved_at,
+                       ROW_NUMBER() OVER (PARTITION BY solved.gym_id, solved.user_id
+                                          ORDER BY solved.problem_rating DESC) AS rn
+                  FROM (SELECT s.gym_id, s.user_id, s.problem_id, s.problem_rating,
+                               MIN(COALESCE(s.updated_at, s.created_at)) AS solved_at
+                          FROM submissions s
+                          JOIN problems p ON p.problem_id = s.problem_id
+                          JOIN user_accounts ua ON ua.user_id = s.user_id
+                         WHERE s.status = ?
+                           AND s.deleted_at IS NULL
+                           AND p.deleted_at IS NULL
+                           AND ua.deleted_at IS NULL
+                           AND ua.role = ?
+                         GROUP BY s.gym_id, s.user_id, s.problem_id, s.problem_rating) solved
+               ) ranked
+         GROUP BY ranked.gym_id, ranked.user_id
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final GymLeaderboardIndex gymLeaderboardIndex;
+
+    public GymUserScoreRebuildService(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        GymLeaderboardIndex gymLeaderboardIndex
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.gymLeaderboardIndex = gymLeaderboardIndex;
+    }
+
+    /**
+     * 전체 클라이밍장 점수를 다시 집계하고 리더보드 인덱스를 재구성합니다.
+     *
+     * @return 기록한 (클라이밍장, 사용자) 행 수
+     */
+    public int rebuild() {
+        long startedAt = System.currentTimeMillis();
+        Integer inserted = transactionTemplate.execute(status -> {
+            jdbcTemplate.update(DELETE_ALL_SQL);
+            return jdbcTemplate.update(
+                INSERT_FROM_SUBMISSIONS_SQL,
+                GymUserScoreEntity.TOP_PROBLEM_LIMIT,
+                StatusType.ACCEPTED.name(),
+                RoleType.USER.name()
+            );
+        });
+        gymLeaderboardIndex.reload();
+
+        log.info("클라이밍장 점수 재집계 완료: rows={}, elapsed={}ms",
+            inserted, System.currentTimeMillis() - startedAt);
+        return inserted == null ? 0 : inserted;
+    }
+}
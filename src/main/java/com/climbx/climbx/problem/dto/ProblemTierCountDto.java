@@ -0,0 +1,11 @@
+package com.climbx.climbx.problem.dto;
+
+import com.climbx.climbx.problem.enums.ProblemTierType;
+
+public record ProblemTierCountDto(
+
+    ProblemTierType tier,
+    Long count
+) {
+
+}
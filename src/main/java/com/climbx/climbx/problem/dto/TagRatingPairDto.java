@@ -1,11 +0,0 @@
-package com.climbx.climbx.problem.dto;
-
-import com.climbx.climbx.problem.enums.ProblemTagType;
-
-public record TagRatingPairDto(
-
-    ProblemTagType tag,
-    Integer rating
-) {
-
-}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.climbx.climbx.problem.event;
+
+import java.util.UUID;
+
+/**
+ * 난이도 투표 반영으로 문제 레이팅이 바뀌었음을 알리는 이벤트. 레이팅이 그대로면 발행하지 않습니다.
+ */
+public record ProblemRatingChangedEvent(
+
+    UUID problemId,
+    int previousRating,
+    int rating
+) {
+
+}
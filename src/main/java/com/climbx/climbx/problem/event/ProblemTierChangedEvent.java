@@ -0,0 +1,16 @@
+package com.climbx.climbx.problem.event;
+
+import com.climbx.climbx.problem.enums.ProblemTierType;
+import java.util.UUID;
+
+/**
+ * 문제 티어가 바뀌었음을 알리는 이벤트. 새로 등록된 문제는 previousTier가 null입니다.
+ */
+public record ProblemTierChangedEvent(
+
+    UUID problemId,
+    ProblemTierType previousTier,
+    ProblemTierType tier
+) {
+
+}
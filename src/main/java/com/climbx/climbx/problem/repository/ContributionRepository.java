@@ -1,12 +1,15 @@
 package com.climbx.climbx.problem.repository;
 
 import com.climbx.climbx.problem.entity.ContributionEntity;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ContributionRepository extends JpaRepository<ContributionEntity, Long> {
 
@@ -37,4 +40,18 @@ public interface ContributionRepository extends JpaRepository<ContributionEntity
     default Optional<ContributionEntity> findByUserIdAndProblemId(Long userId, UUID problemId) {
         return findByUserAccountEntity_UserIdAndProblemEntity_ProblemId(userId, problemId);
     }
+
+    /**
+     * 사용자들과 문제들의 조합에 해당하는 투표. 두 IN 조건의 교차로 생기는 조합은 호출자가 걸러냅니다.
+     */
+    @EntityGraph(attributePaths = {"contributionTags"})
+    @Query("""
+        SELECT c FROM ContributionEntity c
+        WHERE c.userAccountEntity.userId IN :userIds
+          AND c.problemEntity.problemId IN :problemIds
+        """)
+    List<ContributionEntity> findAllByUserIdInAndProblemIdIn(
+        @Param("userIds") Collection<Long> userIds,
+        @Param("problemIds") Collection<UUID> problemIds
+    );
 }
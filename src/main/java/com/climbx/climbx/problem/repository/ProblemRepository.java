@@ -3,6 +3,7 @@ package com.climbx.climbx.problem.repository;
 import com.climbx.climbx.common.enums.ActiveStatusType;
 import com.climbx.climbx.gym.enums.GymTierType;
 import com.climbx.climbx.problem.dto.ProblemInfoResponseDto;
+import com.climbx.climbx.problem.dto.ProblemTierCountDto;
 import com.climbx.climbx.problem.entity.ProblemEntity;
 import com.climbx.climbx.problem.enums.HoldColorType;
 import com.climbx.climbx.problem.enums.ProblemTierType;
@@ -52,6 +53,13 @@ public interface ProblemRepository extends JpaRepository<ProblemEntity, UUID> {
         @Param("activeStatus") ActiveStatusType activeStatus
     );
 
+    @Query("""
+        SELECT new com.climbx.climbx.problem.dto.ProblemTierCountDto(p.tier, COUNT(p))
+                FROM ProblemEntity p
+                GROUP BY p.tier
+        """)
+    List<ProblemTierCountDto> countGroupByTier();
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT p FROM ProblemEntity p WHERE p.problemId = :problemId")
     Optional<ProblemEntity> findByIdForUpdate(@Param("problemId") UUID problemId);
@@ -20,6 +20,8 @@ import com.climbx.climbx.problem.entity.ProblemTagEntity;
 import com.climbx.climbx.problem.enums.HoldColorType;
 import com.climbx.climbx.problem.enums.ProblemTagType;
 import com.climbx.climbx.problem.enums.ProblemTierType;
+import com.climbx.climbx.problem.event.ProblemRatingChangedEvent;
+import com.climbx.climbx.problem.event.ProblemTierChangedEvent;
 import com.climbx.climbx.problem.exception.GymAreaNotFoundException;
 import com.climbx.climbx.problem.exception.ProblemAlreadyDeletedException;
 import com.climbx.climbx.problem.exception.ProblemNotFoundException;
@@ -30,15 +32,15 @@ import com.climbx.climbx.problem.repository.ProblemTagRepository;
 import com.climbx.climbx.problem.util.ProblemRatingUtil;
 import com.climbx.climbx.submission.repository.SubmissionRepository;
 import com.climbx.climbx.user.entity.UserAccountEntity;
-import com.climbx.climbx.user.entity.UserStatEntity;
 import com.climbx.climbx.user.exception.UserNotFoundException;
 import com.climbx.climbx.user.repository.UserAccountRepository;
-import com.climbx.climbx.user.util.UserRatingUtil;
+import com.climbx.climbx.user.service.UserStatCounterService;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -59,6 +61,8 @@ public class ProblemService {
     private final ProblemTagRepository problemTagRepository;
     private final ProblemRatingUtil problemRatingUtil;
     private final S3Service s3Service;
+    private final UserStatCounterService userStatCounterService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<ProblemInfoResponseDto> getProblemsWithFilters(
         Long gymId,
@@ -131,6 +135,9 @@ public class ProblemService {
 
         contributionRepository.saveAll(defaultVotes);
 
+        eventPublisher.publishEvent(
+            new ProblemTierChangedEvent(savedProblem.problemId(), null, problemTier));
+
         return ProblemCreateResponseDto.from(savedProblem);
     }
 
@@ -139,6 +146,28 @@ public class ProblemService {
         ProblemEntity problem,
         ContributionEntity contribution,
         List<ContributionTagEntity> votedTags
+    ) {
+        acceptVote(problem, contribution, votedTags);
+        recalculateProblemRating(problem);
+    }
+
+    /**
+     * 한 문제에 대한 여러 투표를 반영한 뒤 레이팅/티어/태그를 한 번만 다시 계산합니다. 일괄 리뷰에서 같은 문제의 투표를 모아
+     * 호출합니다.
+     */
+    @Transactional
+    public void applyVotesToProblem(ProblemEntity problem, List<ContributionEntity> contributions) {
+        if (contributions.isEmpty()) {
+            return;
+        }
+        contributions.forEach(c -> acceptVote(problem, c, c.contributionTags()));
+        recalculateProblemRating(problem);
+    }
+
+    private void acceptVote(
+        ProblemEntity problem,
+        ContributionEntity contribution,
+        List<ContributionTagEntity> votedTags
     ) {
         contribution.accept();
 
@@ -155,7 +184,9 @@ public class ProblemService {
 
             problemTag.addPriority(1); // TODO: 추후 유저 레이팅에 따른 영향력 설계 필요
         });
+    }
 
+    private void recalculateProblemRating(ProblemEntity problem) {
         // Recalculate problem rating and tier from all contributions
         Integer newProblemRating = problemRatingUtil.calculateProblemTier(
             contributionRepository.findAllByProblemEntity_ProblemId(problem.problemId())
@@ -174,11 +205,23 @@ public class ProblemService {
             .map(ProblemTagEntity::tag)
             .toList();
 
+        ProblemTierType previousTier = problem.tier();
+        int previousRating = problem.rating();
         problem.updateRatingAndTierAndTags(
             newProblemRating,
             newProblemTier,
             primary2tags
         );
+
+        if (previousTier != newProblemTier) {
+            eventPublisher.publishEvent(
+                new ProblemTierChangedEvent(problem.problemId(), previousTier, newProblemTier));
+        }
+        if (previousRating != newProblemRating) {
+            eventPublisher.publishEvent(
+                new ProblemRatingChangedEvent(problem.problemId(), previousRating,
+                    newProblemRating));
+        }
     }
 
     @Transactional
@@ -230,17 +273,8 @@ public class ProblemService {
             applyVoteToProblem(problem, contribution, votedTags);
         }
 
-        UserStatEntity userStat = user.userStatEntity();
-
-        // 기여 개수 증가 및 기여 점수 증분값 계산
-        int prevContributionRating = UserRatingUtil.calculateContributionScore(
-            userStat.contributionCount());
-        userStat.incrementContributionCount();
-        int newContributionRating = UserRatingUtil.calculateContributionScore(
-            userStat.contributionCount());
-
-        // 기여에 따른 유저 레이팅 증분 반영
-        userStat.incrementRatingByContribution(newContributionRating - prevContributionRating);
+        // 기여 개수와 기여 점수 증분을 원자적으로 반영
+        userStatCounterService.addContribution(userId);
 
         return ProblemInfoResponseDto.from(problem, problem.gymEntity(), problem.gymArea());
     }
@@ -268,6 +302,7 @@ public class ProblemService {
                 ErrorCode.PROBLEM_ALREADY_DELETED, "Problem has already been soft deleted");
         }
         problem.softDelete();
+        eventPublisher.publishEvent(new ProblemTierChangedEvent(problemId, problem.tier(), null));
 
         log.info("Problem soft deleted successfully: problemId={}", problemId);
     }
@@ -2,7 +2,13 @@ package com.climbx.climbx.ranking;
 
 import com.climbx.climbx.common.dto.ApiResponseDto;
 import com.climbx.climbx.common.enums.CriteriaType;
+import com.climbx.climbx.common.enums.PeriodType;
+import com.climbx.climbx.common.enums.SeasonCriteriaType;
+import com.climbx.climbx.ranking.dto.RankingAroundResponseDto;
 import com.climbx.climbx.ranking.dto.RankingResponseDto;
+import com.climbx.climbx.ranking.dto.RatingPercentileResponseDto;
+import com.climbx.climbx.ranking.dto.SeasonRankingResponseDto;
+import com.climbx.climbx.ranking.dto.TierDistributionResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,7 +17,11 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
 import org.springframework.data.domain.Pageable;
 import org.springframework.validation.annotation.Validated;
 
@@ -35,6 +45,13 @@ public interface RankingApiDocumentation {
             - `desc`: 내림차순 (기본값)
             - `asc`: 오름차순
             
+            **페이지네이션**:
+            - `cursor` 미지정: 기존 방식대로 `page`, `size`로 조회하며 `nextCursor`는 다음 페이지 번호입니다
+            - `cursor` 지정: keyset 방식으로 조회하며 `nextCursor`를 그대로 다음 요청의 `cursor`로 넘깁니다
+              (첫 페이지는 `cursor=` 빈 값으로 요청)
+            - 숫자로만 된 `cursor`는 이전 클라이언트 호환을 위해 페이지 번호로 해석합니다
+            - `includeTotalCount=false`이면 `totalCount`를 계산하지 않습니다 (keyset 조회 시 전체 수는 1분간 캐시됩니다)
+            
             **주의사항**:
             - 관리자 계정은 랭킹에서 제외됩니다
             - 페이지 번호는 0부터 시작합니다
@@ -130,6 +147,353 @@ public interface RankingApiDocumentation {
             required = true,
             example = "page=0&size=20"
         )
-        Pageable pageable
+        Pageable pageable,
+
+        @Parameter(
+            name = "cursor",
+            description = "keyset 커서 (이전 응답의 nextCursor, 첫 페이지는 빈 값)",
+            required = false
+        )
+        String cursor,
+
+        @Parameter(
+            name = "includeTotalCount",
+            description = "전체 사용자 수 포함 여부",
+            required = false,
+            example = "true"
+        )
+        boolean includeTotalCount
+    );
+
+    @Operation(
+        operationId = "getRankingAround",
+        summary = "사용자 주변 랭킹 조회",
+        description = """
+            특정 사용자를 기준으로 위아래 `size`명씩의 랭킹을 조회합니다.
+            
+            - 정렬 순서는 `/api/ranking/users`와 동일합니다 (기준값 내림차순, 갱신 시각, 사용자 ID)
+            - 응답의 `rankings`에는 기준 사용자 본인이 포함됩니다
+            - 상위권/하위권 사용자는 한쪽 방향의 결과가 `size`명보다 적을 수 있습니다
+            - 관리자 계정은 랭킹에서 제외되므로 조회할 수 없습니다
+            """
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "주변 랭킹 조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiResponseDto.class),
+                examples = @ExampleObject(
+                    name = "레이팅 기준 주변 랭킹 조회 성공",
+                    value = """
+                        {
+                          "httpStatus": 200,
+                          "statusMessage": "SUCCESS",
+                          "timeStamp": "2024-01-01T10:00:00Z",
+                          "responseTimeMs": 12,
+                          "path": "/api/ranking/users/bob/around?criteria=rating&size=1",
+                          "data": {
+                            "myRanking": 42,
+                            "totalCount": 150,
+                            "rankings": [
+                              {
+                                "nickname": "alice",
+                                "statusMessage": "오늘도 완등!",
+                                "profileImageCdnUrl": null,
+                                "rating": 1660,
+                                "ranking": 41,
+                                "currentStreak": 3,
+                                "longestStreak": 10,
+                                "solvedCount": 90
+                              },
+                              {
+                                "nickname": "bob",
+                                "statusMessage": "클라이밍 마스터가 되겠다!",
+                                "profileImageCdnUrl": "https://example.com/profile/bob.jpg",
+                                "rating": 1650,
+                                "ranking": 42,
+                                "currentStreak": 12,
+                                "longestStreak": 30,
+                                "solvedCount": 85
+                              },
+                              {
+                                "nickname": "carol",
+                                "statusMessage": "",
+                                "profileImageCdnUrl": null,
+                                "rating": 1650,
+                                "ranking": 43,
+                                "currentStreak": 0,
+                                "longestStreak": 7,
+                                "solvedCount": 80
+                              }
+                            ]
+                          }
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "사용자를 찾을 수 없음",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiResponseDto.class),
+                examples = @ExampleObject(
+                    name = "존재하지 않는 사용자",
+                    value = """
+                        {
+                          "httpStatus": 404,
+                          "statusMessage": "사용자를 찾을 수 없습니다.",
+                          "timeStamp": "2024-01-01T10:00:00Z",
+                          "responseTimeMs": 8,
+                          "path": "/api/ranking/users/unknown/around",
+                          "data": null,
+                          "errors": {
+                            "nickname": "unknown"
+                          }
+                        }
+                        """
+                )
+            )
+        )
+    })
+    RankingAroundResponseDto getRankingAround(
+        @Parameter(
+            name = "nickname",
+            description = "기준 사용자 닉네임",
+            required = true,
+            example = "bob"
+        )
+        @NotBlank
+        String nickname,
+
+        @Parameter(
+            name = "criteria",
+            description = "랭킹 기준 (rating, streak, longestStreak, solvedCount)",
+            required = true,
+            example = "rating"
+        )
+        @NotNull(message = "랭킹 기준은 필수입니다")
+        CriteriaType criteria,
+
+        @Parameter(
+            name = "size",
+            description = "기준 사용자 위아래로 조회할 사용자 수 (1-50)",
+            required = false,
+            example = "5"
+        )
+        @Min(1)
+        @Max(50)
+        Integer size
+    );
+
+    @Operation(
+        operationId = "getSeasonRanking",
+        summary = "시즌(주간/월간) 랭킹 조회",
+        description = """
+            주간 또는 월간 기간 동안의 사용자 랭킹을 조회합니다.
+            
+            - `period`: `weekly`(월요일 시작) 또는 `monthly`(1일 시작), 날짜는 KST 기준입니다
+            - `date`: 조회할 기간에 속한 아무 날짜 (미지정 시 오늘이 속한 현재 기간)
+            - `criteria`: `solved_count`(기간 중 처음 해결한 문제 수) 또는 `rating_gained`(기간 중 오른 레이팅)
+            - 동점이면 먼저 달성한 사용자가 앞에 옵니다
+            - 다음 페이지는 응답의 `nextCursor`를 `cursor`로 넘겨 조회합니다 (`/api/ranking/users`의 keyset 커서와 동일한 방식)
+            """
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "시즌 랭킹 조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiResponseDto.class),
+                examples = @ExampleObject(
+                    name = "월간 해결 수 랭킹 조회 성공",
+                    value = """
+                        {
+                          "httpStatus": 200,
+                          "statusMessage": "SUCCESS",
+                          "timeStamp": "2026-10-18T10:00:00Z",
+                          "responseTimeMs": 9,
+                          "path": "/api/ranking/seasons?period=monthly&criteria=solved_count&size=2",
+                          "data": {
+                            "periodType": "MONTHLY",
+                            "periodStart": "2026-10-01",
+                            "periodEnd": "2026-10-31",
+                            "rankings": [
+                              {
+                                "nickname": "alice",
+                                "profileImageCdnUrl": null,
+                                "solvedCount": 24,
+                                "ratingGained": 130,
+                                "ranking": 1
+                              },
+                              {
+                                "nickname": "bob",
+                                "profileImageCdnUrl": "https://example.com/profile/bob.jpg",
+                                "solvedCount": 20,
+                                "ratingGained": 152,
+                                "ranking": 2
+                              }
+                            ],
+                            "totalCount": 87,
+                            "hasNext": true,
+                            "nextCursor": "TU9OVEhMWXwyMDI2LTEwLTAxfFNPTFZFRF9DT1VOVHwyMHwyMDI2LTEwLTE3VDIxOjEwOjAwfDd8Mg"
+                          }
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "잘못된 커서",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiResponseDto.class)
+            )
+        )
+    })
+    SeasonRankingResponseDto getSeasonRanking(
+        @Parameter(
+            name = "period",
+            description = "집계 기간 (weekly, monthly)",
+            required = true,
+            example = "monthly"
+        )
+        @NotNull(message = "집계 기간은 필수입니다")
+        PeriodType period,
+
+        @Parameter(
+            name = "date",
+            description = "조회할 기간에 속한 날짜 (yyyy-MM-dd, 미지정 시 오늘)",
+            required = false,
+            example = "2026-10-18"
+        )
+        LocalDate date,
+
+        @Parameter(
+            name = "criteria",
+            description = "랭킹 기준 (solved_count, rating_gained)",
+            required = false,
+            example = "solved_count"
+        )
+        SeasonCriteriaType criteria,
+
+        @Parameter(
+            name = "cursor",
+            description = "keyset 커서 (이전 응답의 nextCursor)",
+            required = false
+        )
+        String cursor,
+
+        @Parameter(
+            name = "size",
+            description = "페이지 크기 (1-100)",
+            required = false,
+            example = "20"
+        )
+        @Min(1)
+        @Max(100)
+        Integer size
+    );
+
+    @Operation(
+        operationId = "getTierDistribution",
+        summary = "티어 분포 조회",
+        description = """
+            사용자 티어와 문제 티어별 인원(개수)과 해당 티어 이상 비율을 조회합니다.
+            
+            - 높은 티어부터 정렬되며 `topPercent`는 해당 티어 이상의 누적 비율(%)입니다
+            - 메모리 카운터에서 조회하므로 최근 변경이 주기적인 DB 보정 전까지 약간 다를 수 있습니다
+            """
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "티어 분포 조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiResponseDto.class),
+                examples = @ExampleObject(
+                    name = "티어 분포 조회 성공",
+                    value = """
+                        {
+                          "httpStatus": 200,
+                          "statusMessage": "SUCCESS",
+                          "timeStamp": "2024-01-01T10:00:00Z",
+                          "responseTimeMs": 3,
+                          "path": "/api/ranking/tiers",
+                          "data": {
+                            "totalUserCount": 150,
+                            "userTiers": [
+                              { "tier": "M", "count": 1, "topPercent": 0.67 },
+                              { "tier": "D1", "count": 2, "topPercent": 2.0 }
+                            ],
+                            "totalProblemCount": 320,
+                            "problemTiers": [
+                              { "tier": "M", "count": 0, "topPercent": 0.0 },
+                              { "tier": "D1", "count": 4, "topPercent": 1.25 }
+                            ]
+                          }
+                        }
+                        """
+                )
+            )
+        )
+    })
+    TierDistributionResponseDto getTierDistribution();
+
+    @Operation(
+        operationId = "getRatingPercentile",
+        summary = "레이팅 백분위 조회",
+        description = """
+            주어진 레이팅이 전체 사용자 중 상위 몇 %인지 조회합니다.
+            
+            - 같은 레이팅의 사용자는 모두 같은 순위로 계산합니다
+            - `higherCount`는 주어진 레이팅보다 높은 사용자 수입니다
+            """
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "레이팅 백분위 조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiResponseDto.class),
+                examples = @ExampleObject(
+                    name = "레이팅 백분위 조회 성공",
+                    value = """
+                        {
+                          "httpStatus": 200,
+                          "statusMessage": "SUCCESS",
+                          "timeStamp": "2024-01-01T10:00:00Z",
+                          "responseTimeMs": 2,
+                          "path": "/api/ranking/tiers/percentile?rating=1650",
+                          "data": {
+                            "rating": 1650,
+                            "tier": "P1",
+                            "higherCount": 41,
+                            "totalCount": 150,
+                            "topPercent": 28.0
+                          }
+                        }
+                        """
+                )
+            )
+        )
+    })
+    RatingPercentileResponseDto getRatingPercentile(
+        @Parameter(
+            name = "rating",
+            description = "조회할 레이팅",
+            required = true,
+            example = "1650"
+        )
+        @NotNull(message = "레이팅은 필수입니다")
+        @Min(0)
+        Integer rating
     );
-} 
\ No newline at end of file
+}
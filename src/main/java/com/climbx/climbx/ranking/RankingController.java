@@ -2,15 +2,26 @@ package com.climbx.climbx.ranking;
 
 import com.climbx.climbx.common.annotation.SuccessStatus;
 import com.climbx.climbx.common.enums.CriteriaType;
+import com.climbx.climbx.common.enums.PeriodType;
+import com.climbx.climbx.common.enums.SeasonCriteriaType;
+import com.climbx.climbx.ranking.dto.RankingAroundResponseDto;
 import com.climbx.climbx.ranking.dto.RankingResponseDto;
+import com.climbx.climbx.ranking.dto.RatingPercentileResponseDto;
+import com.climbx.climbx.ranking.dto.SeasonRankingResponseDto;
+import com.climbx.climbx.ranking.dto.TierDistributionResponseDto;
 import com.climbx.climbx.ranking.service.RankingService;
+import com.climbx.climbx.ranking.service.SeasonRankingService;
+import com.climbx.climbx.ranking.service.TierDistributionService;
+import java.time.LocalDate;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -22,6 +33,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class RankingController implements RankingApiDocumentation {
 
     private final RankingService rankingService;
+    private final TierDistributionService tierDistributionService;
+    private final SeasonRankingService seasonRankingService;
 
     @Override
     @GetMapping("/users")
@@ -31,12 +44,79 @@ public class RankingController implements RankingApiDocumentation {
         CriteriaType criteria,
 
         @PageableDefault(page = 0, size = 20)
-        Pageable pageable
+        Pageable pageable,
+
+        @RequestParam(name = "cursor", required = false)
+        String cursor,
+
+        @RequestParam(name = "includeTotalCount", required = false, defaultValue = "true")
+        boolean includeTotalCount
     ) {
-        log.info("랭킹 조회: criteria={}, page={}, size={}",
-            criteria, pageable.getPageNumber(), pageable.getPageSize());
+        log.info("랭킹 조회: criteria={}, page={}, size={}, cursor={}",
+            criteria, pageable.getPageNumber(), pageable.getPageSize(), cursor);
+
+        return rankingService.getRankingPage(criteria, pageable, cursor, includeTotalCount);
+    }
 
-        return rankingService.getRankingPage(criteria, pageable);
+    @Override
+    @GetMapping("/users/{nickname}/around")
+    @SuccessStatus(value = HttpStatus.OK)
+    public RankingAroundResponseDto getRankingAround(
+        @PathVariable
+        String nickname,
+
+        @RequestParam(name = "criteria", required = true)
+        CriteriaType criteria,
+
+        @RequestParam(name = "size", required = false, defaultValue = "5")
+        Integer size
+    ) {
+        log.info("랭킹 주변 조회: nickname={}, criteria={}, size={}", nickname, criteria, size);
+        return rankingService.getRankingAround(criteria, nickname, size);
+    }
+
+    @Override
+    @GetMapping("/seasons")
+    @SuccessStatus(value = HttpStatus.OK)
+    public SeasonRankingResponseDto getSeasonRanking(
+        @RequestParam(name = "period", required = true)
+        PeriodType period,
+
+        @RequestParam(name = "date", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate date,
+
+        @RequestParam(name = "criteria", required = false, defaultValue = "solved_count")
+        SeasonCriteriaType criteria,
+
+        @RequestParam(name = "cursor", required = false)
+        String cursor,
+
+        @RequestParam(name = "size", required = false, defaultValue = "20")
+        Integer size
+    ) {
+        log.info("시즌 랭킹 조회: period={}, date={}, criteria={}, cursor={}, size={}",
+            period, date, criteria, cursor, size);
+        return seasonRankingService.getSeasonRanking(period, date, criteria, cursor, size);
+    }
+
+    @Override
+    @GetMapping("/tiers")
+    @SuccessStatus(value = HttpStatus.OK)
+    public TierDistributionResponseDto getTierDistribution() {
+        log.info("티어 분포 조회");
+        return tierDistributionService.getTierDistribution();
+    }
+
+    @Override
+    @GetMapping("/tiers/percentile")
+    @SuccessStatus(value = HttpStatus.OK)
+    public RatingPercentileResponseDto getRatingPercentile(
+        @RequestParam(name = "rating", required = true)
+        Integer rating
+    ) {
+        log.info("레이팅 백분위 조회: rating={}", rating);
+        return tierDistributionService.getRatingPercentile(rating);
     }
 
     @GetMapping("/criteria")
@@ -0,0 +1,101 @@
+package com.climbx.climbx.ranking.cache;
+
+import com.climbx.climbx.common.enums.CriteriaType;
+import com.climbx.climbx.ranking.dto.RankingCacheStatsResponseDto;
+import com.climbx.climbx.ranking.index.RankingRangeChangedEvent;
+import com.climbx.climbx.ranking.index.RankingSlice;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 랭킹 상위 페이지 캐시. 상위 {@link #MAX_CACHED_RANK}위 안에 완전히 포함되는 페이지만 (기준, offset, size) 단위로
+ * 보관합니다.
+ * <p>
+ * 랭킹 인덱스가 발행하는 {@link RankingRangeChangedEvent}의 위치 구간과 겹치는 페이지만 무효화하므로, 하위권 사용자의 변경은
+ * 상위 페이지 캐시에 영향을 주지 않습니다. 로드 중인 페이지는 아직 키 목록에 없으므로, 기준별 세대 값을 두고 로드 도중 상위
+ * 구간 변경이 있었으면 로드가 끝난 뒤 저장된 페이지를 버립니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RankingPageCache {
+
+    public static final int MAX_CACHED_RANK = 200;
+
+    private final Cache<RankingPageKey, RankingSlice> rankingPageSliceCache;
+    private final LongAdder invalidationCount = new LongAdder();
+    private final Map<CriteriaType, AtomicLong> generations = createGenerations();
+
+    private static Map<CriteriaType, AtomicLong> createGenerations() {
+        Map<CriteriaType, AtomicLong> generations = new EnumMap<>(CriteriaType.class);
+        for (CriteriaType criteria : CriteriaType.values()) {
+            generations.put(criteria, new AtomicLong());
+        }
+        return generations;
+    }
+
+    public boolean isCacheable(Pageable pageable) {
+        return pageable.getOffset() + pageable.getPageSize() <= MAX_CACHED_RANK;
+    }
+
+    public RankingSlice get(CriteriaType criteria, Pageable pageable,
+        Supplier<RankingSlice> loader) {
+        RankingPageKey key = new RankingPageKey(criteria, pageable.getOffset(),
+            pageable.getPageSize());
+        AtomicLong generation = generations.get(criteria);
+        long loadedAt = generation.get();
+        RankingSlice slice = rankingPageSliceCache.get(key, k -> loader.get());
+        if (generation.get() != loadedAt) {
+            // 로드 도중 무효화가 지나갔으면 변경 전 인덱스로 만든 페이지일 수 있음
+            rankingPageSliceCache.invalidate(key);
+        }
+        return slice;
+    }
+
+    @EventListener
+    public void onRankingRangeChanged(RankingRangeChangedEvent event) {
+        if (!event.overlaps(0L, MAX_CACHED_RANK)) {
+            return;
+        }
+        // 키 목록을 읽기 전에 올려야, 그 뒤에 저장되는 로드 결과를 get이 버림
+        generations.get(event.criteria()).incrementAndGet();
+
+        List<RankingPageKey> staleKeys = rankingPageSliceCache.asMap().keySet().stream()
+            .filter(key -> key.criteria() == event.criteria())
+            .filter(key -> event.overlaps(key.offset(), key.size()))
+            .toList();
+        if (staleKeys.isEmpty()) {
+            return;
+        }
+
+        rankingPageSliceCache.invalidateAll(staleKeys);
+        invalidationCount.add(staleKeys.size());
+        log.debug("랭킹 페이지 캐시 무효화: criteria={}, range=[{}, {}], pages={}",
+            event.criteria(), event.fromPosition(), event.toPosition(), staleKeys.size());
+    }
+
+    public RankingCacheStatsResponseDto stats() {
+        CacheStats stats = rankingPageSliceCache.stats();
+        return RankingCacheStatsResponseDto.builder()
+            .hitCount(stats.hitCount())
+            .missCount(stats.missCount())
+            .hitRate(stats.hitRate())
+            .missRate(stats.missRate())
+            .evictionCount(stats.evictionCount())
+            .invalidationCount(invalidationCount.sum())
+            .estimatedSize(rankingPageSliceCache.estimatedSize())
+            .maxCachedRank(MAX_CACHED_RANK)
+            .build();
+    }
+}
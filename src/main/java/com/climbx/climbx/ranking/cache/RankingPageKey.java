@@ -0,0 +1,12 @@
+package com.climbx.climbx.ranking.cache;
+
+import com.climbx.climbx.common.enums.CriteriaType;
+
+public record RankingPageKey(
+
+    CriteriaType criteria,
+    long offset,
+    int size
+) {
+
+}
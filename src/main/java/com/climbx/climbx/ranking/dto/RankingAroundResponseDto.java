@@ -0,0 +1,14 @@
+package com.climbx.climbx.ranking.dto;
+
+import java.util.List;
+import lombok.Builder;
+
+@Builder
+public record RankingAroundResponseDto(
+
+    Long myRanking, // 기준 사용자의 순위
+    Long totalCount,
+    List<UserRankingResponseDto> rankings // 기준 사용자 위아래 구간 (기준 사용자 포함)
+) {
+
+}
@@ -0,0 +1,18 @@
+package com.climbx.climbx.ranking.dto;
+
+import lombok.Builder;
+
+@Builder
+public record RankingCacheStatsResponseDto(
+
+    Long hitCount,
+    Long missCount,
+    Double hitRate,
+    Double missRate,
+    Long evictionCount,
+    Long invalidationCount, // 랭킹 변경으로 무효화된 페이지 수
+    Long estimatedSize,
+    Integer maxCachedRank
+) {
+
+}
@@ -0,0 +1,103 @@
+package com.climbx.climbx.ranking.dto;
+
+import com.climbx.climbx.common.enums.CriteriaType;
+import com.climbx.climbx.ranking.exception.InvalidRankingCursorException;
+import com.climbx.climbx.ranking.index.RankingSnapshot;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.Builder;
+
+/**
+ * 랭킹 keyset 페이지네이션 커서. 직전 페이지 마지막 행의 정렬 키(기준값, updatedAt, userId)와 순위를 담아, 다음 페이지를
+ * OFFSET 없이 seek 조건으로 조회할 수 있게 합니다.
+ * <p>
+ * 직렬화 형식은 {@code criteria|value|updatedAt|userId|rank}를 URL-safe Base64로 인코딩한 문자열입니다.
+ */
+@Builder
+public record RankingCursor(
+
+    CriteriaType criteria,
+    Integer value,
+    LocalDateTime updatedAt, // null 허용 (MySQL 정렬상 가장 앞)
+    Long userId,
+    Long rank
+) {
+
+    private static final String DELIMITER = "|";
+
+    public static RankingCursor of(CriteriaType criteria, RankingSnapshot last, Long rank) {
+        return RankingCursor.builder()
+            .criteria(criteria)
+            .value(last.valueOf(criteria))
+            .updatedAt(last.updatedAt())
+            .userId(last.userId())
+            .rank(rank)
+            .build();
+    }
+
+    /**
+     * 이전 버전 클라이언트가 nextCursor로 받은 페이지 번호를 그대로 넘기는 경우를 판별합니다.
+     */
+    public static boolean isPageNumber(String cursor) {
+        return cursor != null && !cursor.isEmpty() && cursor.chars().allMatch(Character::isDigit);
+    }
+
+    /**
+     * 페이지 번호 커서를 해석합니다. int 범위를 넘는 숫자는 잘못된 커서로 처리합니다.
+     */
+    public static int decodePageNumber(String cursor) {
+        try {
+            return Integer.parseInt(cursor);
+        } catch (NumberFormatException e) {
+            throw new InvalidRankingCursorException(cursor);
+        }
+    }
+
+    public static RankingCursor decode(String cursor, CriteriaType criteria) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 5 || !criteria.name().equals(parts[0])) {
+                throw new InvalidRankingCursorException(cursor);
+            }
+            return RankingCursor.builder()
+                .criteria(criteria)
+                .value(Integer.parseInt(parts[1]))
+                .updatedAt(parts[2].isEmpty() ? null : LocalDateTime.parse(parts[2]))
+                .userId(Long.parseLong(parts[3]))
+                .rank(Long.parseLong(parts[4]))
+                .build();
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidRankingCursorException(cursor);
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER,
+            criteria.name(),
+            String.valueOf(value),
+            updatedAt == null ? "" : updatedAt.toString(),
+            String.valueOf(userId),
+            String.valueOf(rank));
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 인메모리 랭킹 인덱스에서 커서 위치를 찾기 위한 비교용 스냅샷. 해당 criteria 값과 tie-break 키만 채웁니다.
+     */
+    public RankingSnapshot toSnapshotKey() {
+        RankingSnapshot.RankingSnapshotBuilder builder = RankingSnapshot.builder()
+            .userId(userId)
+            .updatedAt(updatedAt);
+        switch (criteria) {
+            case RATING -> builder.rating(value);
+            case CURRENT_STREAK -> builder.currentStreak(value);
+            case LONGEST_STREAK -> builder.longestStreak(value);
+            case SOLVED_COUNT -> builder.solvedCount(value);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,9 @@
+package com.climbx.climbx.ranking.dto;
+
+public record RatingCountDto(
+
+    Integer rating,
+    Long count
+) {
+
+}
@@ -0,0 +1,15 @@
+package com.climbx.climbx.ranking.dto;
+
+import lombok.Builder;
+
+@Builder
+public record RatingPercentileResponseDto(
+
+    Integer rating,
+    String tier,
+    Long higherCount, // rating보다 높은 레이팅의 사용자 수
+    Long totalCount,
+    Double topPercent // 상위 비율 (%)
+) {
+
+}
@@ -0,0 +1,93 @@
+package com.climbx.climbx.ranking.dto;
+
+import com.climbx.climbx.common.enums.PeriodType;
+import com.climbx.climbx.common.enums.SeasonCriteriaType;
+import com.climbx.climbx.ranking.exception.InvalidRankingCursorException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.Builder;
+
+/**
+ * 시즌 랭킹 keyset 커서. 기간과 기준, 직전 페이지 마지막 행의 정렬 키(기준값, updatedAt, userId)와 순위를
+ * {@code periodType|periodStart|criteria|value|updatedAt|userId|rank} 형식으로 URL-safe Base64 인코딩합니다.
+ */
+@Builder
+public record SeasonRankingCursor(
+
+    PeriodType periodType,
+    LocalDate periodStart,
+    SeasonCriteriaType criteria,
+    Integer value,
+    LocalDateTime updatedAt,
+    Long userId,
+    Long rank
+) {
+
+    private static final String DELIMITER = "|";
+
+    public static SeasonRankingCursor of(
+        PeriodType periodType,
+        LocalDate periodStart,
+        SeasonCriteriaType criteria,
+        SeasonRankingRowDto last,
+        Long rank
+    ) {
+        return SeasonRankingCursor.builder()
+            .periodType(periodType)
+            .periodStart(periodStart)
+            .criteria(criteria)
+            .value(last.valueOf(criteria))
+            .updatedAt(last.updatedAt())
+            .userId(last.userId())
+            .rank(rank)
+            .build();
+    }
+
+    /**
+     * 커서를 해석합니다. 다른 기간이나 기준으로 발급된 커서는 거부합니다.
+     */
+    public static SeasonRankingCursor decode(
+        String cursor,
+        PeriodType periodType,
+        LocalDate periodStart,
+        SeasonCriteriaType criteria
+    ) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 7
+                || !periodType.name().equals(parts[0])
+                || !periodStart.toString().equals(parts[1])
+                || !criteria.name().equals(parts[2])) {
+                throw new InvalidRankingCursorException(cursor);
+            }
+            return SeasonRankingCursor.builder()
+                .periodType(periodType)
+                .periodStart(periodStart)
+                .criteria(criteria)
+                .value(Integer.parseInt(parts[3]))
+                .updatedAt(LocalDateTime.parse(parts[4]))
+                .userId(Long.parseLong(parts[5]))
+                .rank(Long.parseLong(parts[6]))
+                .build();
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidRankingCursorException(cursor);
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER,
+            periodType.name(),
+            periodStart.toString(),
+            criteria.name(),
+            String.valueOf(value),
+            updatedAt.toString(),
+            String.valueOf(userId),
+            String.valueOf(rank));
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
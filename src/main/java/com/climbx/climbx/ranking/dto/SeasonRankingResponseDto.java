@@ -0,0 +1,20 @@
+package com.climbx.climbx.ranking.dto;
+
+import com.climbx.climbx.common.enums.PeriodType;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.Builder;
+
+@Builder
+public record SeasonRankingResponseDto(
+
+    PeriodType periodType,
+    LocalDate periodStart,
+    LocalDate periodEnd, // 기간 마지막 날 (포함)
+    List<SeasonUserRankingResponseDto> rankings,
+    Long totalCount,
+    Boolean hasNext,
+    String nextCursor
+) {
+
+}
@@ -0,0 +1,25 @@
+package com.climbx.climbx.ranking.dto;
+
+import com.climbx.climbx.common.enums.SeasonCriteriaType;
+import java.time.LocalDateTime;
+
+/**
+ * 시즌 랭킹 조회 행. user_period_stats와 사용자 계정을 조인한 결과입니다.
+ */
+public record SeasonRankingRowDto(
+
+    Long userId,
+    String nickname,
+    String profileImageCdnUrl,
+    Integer solvedCount,
+    Integer ratingGained,
+    LocalDateTime updatedAt
+) {
+
+    public Integer valueOf(SeasonCriteriaType criteria) {
+        return switch (criteria) {
+            case SOLVED_COUNT -> solvedCount;
+            case RATING_GAINED -> ratingGained;
+        };
+    }
+}
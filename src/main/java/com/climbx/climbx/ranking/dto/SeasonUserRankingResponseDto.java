@@ -0,0 +1,24 @@
+package com.climbx.climbx.ranking.dto;
+
+import lombok.Builder;
+
+@Builder
+public record SeasonUserRankingResponseDto(
+
+    String nickname,
+    String profileImageCdnUrl, // null 허용
+    Integer solvedCount, // 기간 중 처음 해결한 문제 수
+    Integer ratingGained, // 기간 중 오른 레이팅
+    Long ranking
+) {
+
+    public static SeasonUserRankingResponseDto from(SeasonRankingRowDto row, Long ranking) {
+        return SeasonUserRankingResponseDto.builder()
+            .nickname(row.nickname())
+            .profileImageCdnUrl(row.profileImageCdnUrl())
+            .solvedCount(row.solvedCount())
+            .ratingGained(row.ratingGained())
+            .ranking(ranking)
+            .build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.climbx.climbx.ranking.dto;
+
+import lombok.Builder;
+
+@Builder
+public record TierCountResponseDto(
+
+    String tier,
+    Long count,
+    Double topPercent // 해당 티어 이상 비율 (%)
+) {
+
+}
@@ -0,0 +1,15 @@
+package com.climbx.climbx.ranking.dto;
+
+import java.util.List;
+import lombok.Builder;
+
+@Builder
+public record TierDistributionResponseDto(
+
+    Long totalUserCount,
+    List<TierCountResponseDto> userTiers, // 높은 티어부터
+    Long totalProblemCount,
+    List<TierCountResponseDto> problemTiers // 높은 티어부터
+) {
+
+}
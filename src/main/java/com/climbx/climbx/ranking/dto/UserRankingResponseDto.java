@@ -1,5 +1,6 @@
 package com.climbx.climbx.ranking.dto;
 
+import com.climbx.climbx.ranking.index.RankingSnapshot;
 import com.climbx.climbx.user.entity.UserStatEntity;
 import lombok.Builder;
 
@@ -28,4 +29,17 @@ public record UserRankingResponseDto(
             .solvedCount(user.solvedCount())
             .build();
     }
+
+    public static UserRankingResponseDto from(RankingSnapshot snapshot, Long ranking) {
+        return UserRankingResponseDto.builder()
+            .nickname(snapshot.nickname())
+            .statusMessage(snapshot.statusMessage())
+            .profileImageCdnUrl(snapshot.profileImageCdnUrl())
+            .ranking(ranking)
+            .rating(snapshot.rating())
+            .currentStreak(snapshot.currentStreak())
+            .longestStreak(snapshot.longestStreak())
+            .solvedCount(snapshot.solvedCount())
+            .build();
+    }
 }
@@ -0,0 +1,12 @@
+package com.climbx.climbx.ranking.exception;
+
+import com.climbx.climbx.common.enums.ErrorCode;
+import com.climbx.climbx.common.exception.BusinessException;
+
+public class InvalidRankingCursorException extends BusinessException {
+
+    public InvalidRankingCursorException(String cursor) {
+        super(ErrorCode.INVALID_RANKING_CURSOR);
+        addContext("cursor", cursor);
+    }
+}
@@ -0,0 +1,265 @@
+package com.climbx.climbx.ranking.index;
+
+import com.climbx.climbx.common.enums.CriteriaType;
+import com.climbx.climbx.common.enums.RoleType;
+import com.climbx.climbx.common.util.OrderStatisticTree;
+import com.climbx.climbx.ranking.repository.RankingRepository;
+import com.climbx.climbx.user.event.UserAccountChangedEvent;
+import com.climbx.climbx.user.event.UserStatChangedEvent;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * CriteriaType별 순서 통계 트리로 일반 사용자 랭킹을 메모리에 유지합니다.
+ * <p>
+ * 애플리케이션 기동 시 DB에서 한 번 적재하고, 이후에는 UserStatEntity/UserAccountEntity 변경 이벤트를 커밋 이후에 반영합니다.
+ * 순위 구간 조회는 O(log n + k), 단일 사용자 순위 조회는 O(log n)이며 DB 왕복이 없습니다. 적재 전이거나 적재에 실패한 경우
+ * {@link #isReady()}가 false이므로 호출 측은 DB 조회로 대체해야 합니다.
+ * <p>
+ * 변경이 반영될 때마다 기준별로 내용이 바뀐 위치 구간을 {@link RankingRangeChangedEvent}로 발행해 상위 페이지 캐시가 겹치는
+ * 페이지만 무효화할 수 있게 합니다. 스냅샷을 넣고 뺄 때 {@link TierDistribution}의 레이팅 카운터도 함께 증감합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RankingIndex {
+
+    private final RankingRepository rankingRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TierDistribution tierDistribution;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<CriteriaType, OrderStatisticTree<RankingSnapshot>> trees = createTrees();
+    private final Map<Long, RankingSnapshot> snapshots = new HashMap<>();
+    private volatile boolean ready = false;
+
+    private static Map<CriteriaType, OrderStatisticTree<RankingSnapshot>> createTrees() {
+        Map<CriteriaType, OrderStatisticTree<RankingSnapshot>> trees =
+            new EnumMap<>(CriteriaType.class);
+        for (CriteriaType criteria : CriteriaType.values()) {
+            trees.put(criteria, new OrderStatisticTree<>(RankingSnapshot.comparator(criteria)));
+        }
+        return trees;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    /**
+     * DB에서 전체 일반 사용자 스냅샷을 다시 읽어 인덱스를 재구성합니다. 재구성 중에는 쓰기 락을 잡으므로 동시에 들어온 변경 이벤트는
+     * 재구성 완료 후 반영됩니다.
+     */
+    public void reload() {
+        lock.writeLock().lock();
+        try {
+            long startedAt = System.currentTimeMillis();
+            List<RankingSnapshot> rows = rankingRepository.findAllRankingSnapshotsByUserRole(
+                RoleType.USER);
+
+            trees.values().forEach(OrderStatisticTree::clear);
+            snapshots.clear();
+            tierDistribution.clearUsers();
+            rows.forEach(this::insert);
+            ready = true;
+
+            log.info("랭킹 인덱스 적재 완료: users={}, elapsed={}ms",
+                rows.size(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            ready = false;
+            log.error("랭킹 인덱스 적재 실패, DB 조회로 대체합니다.", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        publishAll();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return snapshots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * offset(0-based)부터 최대 limit명의 스냅샷을 순위 순서대로 반환합니다.
+     */
+    public RankingSlice getRange(CriteriaType criteria, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            OrderStatisticTree<RankingSnapshot> tree = trees.get(criteria);
+            List<RankingSnapshot> snapshots = offset > Integer.MAX_VALUE
+                ? List.of()
+                : tree.range((int) offset, limit);
+            return new RankingSlice(offset, snapshots, tree.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 정렬 키 after 바로 다음 위치부터 최대 limit명의 스냅샷을 반환합니다. after에 해당하는 사용자가 그 사이 순위가 바뀌었거나
+     * 삭제되었더라도 정렬 키 기준으로 이어서 조회합니다.
+     */
+    public RankingSlice getRangeAfter(CriteriaType criteria, RankingSnapshot after, int limit) {
+        lock.readLock().lock();
+        try {
+            OrderStatisticTree<RankingSnapshot> tree = trees.get(criteria);
+            int offset = tree.countLessThan(after) + (tree.contains(after) ? 1 : 0);
+            return new RankingSlice(offset, tree.range(offset, limit), tree.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자를 기준으로 위아래 최대 size명씩을 포함한 구간을 반환합니다. 사용자의 위치 탐색과 구간 조회를 같은 읽기 잠금 안에서
+     * 수행하므로 두 결과가 어긋나지 않습니다. 인덱스에 없는 사용자는 빈 값을 반환합니다.
+     */
+    public Optional<RankingSlice> getRangeAround(CriteriaType criteria, Long userId, int size) {
+        lock.readLock().lock();
+        try {
+            RankingSnapshot snapshot = snapshots.get(userId);
+            if (snapshot == null) {
+                return Optional.empty();
+            }
+            OrderStatisticTree<RankingSnapshot> tree = trees.get(criteria);
+            int position = tree.countLessThan(snapshot);
+            int offset = Math.max(0, position - size);
+            return Optional.of(new RankingSlice(offset,
+                tree.range(offset, position - offset + 1 + size), tree.size()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자의 1-based 순위를 반환합니다. 인덱스에 없는 사용자(어드민, 탈퇴 사용자 등)는 빈 값을 반환합니다.
+     */
+    public Optional<Long> getRank(CriteriaType criteria, Long userId) {
+        lock.readLock().lock();
+        try {
+            RankingSnapshot snapshot = snapshots.get(userId);
+            if (snapshot == null) {
+                return Optional.empty();
+            }
+            return Optional.of(trees.get(criteria).countLessThan(snapshot) + 1L);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<RankingSnapshot> getSnapshot(Long userId) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(snapshots.get(userId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserStatChanged(UserStatChangedEvent event) {
+        List<RankingRangeChangedEvent> changes;
+        lock.writeLock().lock();
+        try {
+            RankingSnapshot current = snapshots.get(event.userId());
+            if (current == null) {
+                // 어드민 계정이거나 계정 이벤트가 아직 반영되지 않은 사용자
+                changes = ready ? List.of() : allRanges();
+            } else if (event.deleted()) {
+                remove(current);
+                changes = allRanges();
+            } else {
+                changes = replace(current, current.withStat(event));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        changes.forEach(eventPublisher::publishEvent);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        List<RankingRangeChangedEvent> changes;
+        lock.writeLock().lock();
+        try {
+            RankingSnapshot current = snapshots.get(event.userId());
+            boolean visible = !event.deleted() && event.role() == RoleType.USER;
+            if (current == null && !visible) {
+                changes = List.of();
+            } else if (current == null) {
+                insert(RankingSnapshot.from(event));
+                changes = allRanges();
+            } else if (!visible) {
+                remove(current);
+                changes = allRanges();
+            } else {
+                changes = replace(current, current.withAccount(event));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        changes.forEach(eventPublisher::publishEvent);
+    }
+
+    /**
+     * 기준별로 이전 위치와 새 위치를 구해, 그 사이(양 끝 포함)만 변경 구간으로 반환합니다. 그 밖의 위치는 순서와 내용이 그대로입니다.
+     */
+    private List<RankingRangeChangedEvent> replace(RankingSnapshot current,
+        RankingSnapshot updated) {
+        List<RankingRangeChangedEvent> changes = new ArrayList<>(trees.size());
+        snapshots.put(updated.userId(), updated);
+        tierDistribution.changeUserRating(current.rating(), updated.rating());
+        trees.forEach((criteria, tree) -> {
+            int oldPosition = tree.countLessThan(current);
+            tree.remove(current);
+            tree.add(updated);
+            int newPosition = tree.countLessThan(updated);
+            changes.add(new RankingRangeChangedEvent(criteria,
+                Math.min(oldPosition, newPosition), Math.max(oldPosition, newPosition)));
+        });
+        return changes;
+    }
+
+    private List<RankingRangeChangedEvent> allRanges() {
+        return trees.keySet().stream()
+            .map(RankingRangeChangedEvent::all)
+            .toList();
+    }
+
+    private void publishAll() {
+        allRanges().forEach(eventPublisher::publishEvent);
+    }
+
+    private void insert(RankingSnapshot snapshot) {
+        snapshots.put(snapshot.userId(), snapshot);
+        tierDistribution.changeUserRating(null, snapshot.rating());
+        trees.values().forEach(tree -> tree.add(snapshot));
+    }
+
+    private void remove(RankingSnapshot snapshot) {
+        snapshots.remove(snapshot.userId());
+        tierDistribution.changeUserRating(snapshot.rating(), null);
+        trees.values().forEach(tree -> tree.remove(snapshot));
+    }
+}
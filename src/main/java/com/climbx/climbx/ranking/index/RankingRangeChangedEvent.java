@@ -0,0 +1,23 @@
+package com.climbx.climbx.ranking.index;
+
+import com.climbx.climbx.common.enums.CriteriaType;
+
+/**
+ * 랭킹 인덱스에서 특정 기준의 0-based 위치 [fromPosition, toPosition] 구간 내용이 바뀌었음을 알리는 이벤트. 사용자 수 변화처럼
+ * 전체에 영향을 주는 경우 {@link #all(CriteriaType)}을 사용합니다.
+ */
+public record RankingRangeChangedEvent(
+
+    CriteriaType criteria,
+    long fromPosition,
+    long toPosition
+) {
+
+    public static RankingRangeChangedEvent all(CriteriaType criteria) {
+        return new RankingRangeChangedEvent(criteria, 0L, Long.MAX_VALUE);
+    }
+
+    public boolean overlaps(long offset, int size) {
+        return offset <= toPosition && fromPosition < offset + size;
+    }
+}
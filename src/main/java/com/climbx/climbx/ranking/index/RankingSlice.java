@@ -0,0 +1,18 @@
+package com.climbx.climbx.ranking.index;
+
+import java.util.List;
+
+/**
+ * 랭킹 인덱스의 구간 조회 결과. offset은 첫 원소의 0-based 위치이며, total은 조회 시점의 전체 사용자 수입니다.
+ */
+public record RankingSlice(
+
+    long offset,
+    List<RankingSnapshot> snapshots,
+    long total
+) {
+
+    public boolean hasNext() {
+        return offset + snapshots.size() < total;
+    }
+}
@@ -0,0 +1,95 @@
+package com.climbx.climbx.ranking.index;
+
+import com.climbx.climbx.common.enums.CriteriaType;
+import com.climbx.climbx.user.entity.UserStatEntity;
+import com.climbx.climbx.user.event.UserAccountChangedEvent;
+import com.climbx.climbx.user.event.UserStatChangedEvent;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import lombok.Builder;
+
+/**
+ * 랭킹 인덱스가 보관하는 사용자 단위 스냅샷. 정렬 키(기준값, updatedAt, userId)와 랭킹 응답에 필요한 프로필 정보를 함께 담아
+ * 조회 시 DB 왕복이 필요 없도록 합니다.
+ */
+@Builder(toBuilder = true)
+public record RankingSnapshot(
+
+    Long userId,
+    String nickname,
+    String statusMessage,
+    String profileImageCdnUrl,
+    Integer rating,
+    Integer currentStreak,
+    Integer longestStreak,
+    Integer solvedCount,
+    LocalDateTime updatedAt
+) {
+
+    public int valueOf(CriteriaType criteria) {
+        Integer value = switch (criteria) {
+            case RATING -> rating;
+            case CURRENT_STREAK -> currentStreak;
+            case LONGEST_STREAK -> longestStreak;
+            case SOLVED_COUNT -> solvedCount;
+        };
+        return value == null ? 0 : value;
+    }
+
+    /**
+     * RankingService의 DB 정렬(기준값 DESC, updatedAt ASC, userId ASC)과 동일한 순서. MySQL은 ASC 정렬에서 NULL을
+     * 먼저 두므로 updatedAt도 nullsFirst로 맞춥니다.
+     */
+    public static Comparator<RankingSnapshot> comparator(CriteriaType criteria) {
+        return Comparator
+            .comparingInt((RankingSnapshot s) -> s.valueOf(criteria)).reversed()
+            .thenComparing(RankingSnapshot::updatedAt,
+                Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(RankingSnapshot::userId);
+    }
+
+    public RankingSnapshot withStat(UserStatChangedEvent event) {
+        return toBuilder()
+            .rating(event.rating())
+            .currentStreak(event.currentStreak())
+            .longestStreak(event.longestStreak())
+            .solvedCount(event.solvedCount())
+            .updatedAt(event.updatedAt())
+            .build();
+    }
+
+    public RankingSnapshot withAccount(UserAccountChangedEvent event) {
+        return toBuilder()
+            .nickname(event.nickname())
+            .statusMessage(event.statusMessage())
+            .profileImageCdnUrl(event.profileImageCdnUrl())
+            .build();
+    }
+
+    public static RankingSnapshot from(UserStatEntity stat) {
+        return RankingSnapshot.builder()
+            .userId(stat.userId())
+            .nickname(stat.userAccountEntity().nickname())
+            .statusMessage(stat.userAccountEntity().statusMessage())
+            .profileImageCdnUrl(stat.userAccountEntity().profileImageCdnUrl())
+            .rating(stat.rating())
+            .currentStreak(stat.currentStreak())
+            .longestStreak(stat.longestStreak())
+            .solvedCount(stat.solvedCount())
+            .updatedAt(stat.updatedAt())
+            .build();
+    }
+
+    public static RankingSnapshot from(UserAccountChangedEvent event) {
+        return RankingSnapshot.builder()
+            .userId(event.userId())
+            .nickname(event.nickname())
+            .statusMessage(event.statusMessage())
+            .profileImageCdnUrl(event.profileImageCdnUrl())
+            .rating(0)
+            .currentStreak(0)
+            .longestStreak(0)
+            .solvedCount(0)
+            .build();
+    }
+}
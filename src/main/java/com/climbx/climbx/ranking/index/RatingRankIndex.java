@@ -0,0 +1,175 @@
+package com.climbx.climbx.ranking.index;
+
+import com.climbx.climbx.common.util.FenwickTree;
+import com.climbx.climbx.common.util.OrderStatisticTree;
+import com.climbx.climbx.ranking.repository.RankingRepository;
+import com.climbx.climbx.user.event.UserAccountChangedEvent;
+import com.climbx.climbx.user.event.UserStatChangedEvent;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 프로필의 레이팅 순위를 O(log n)에 계산하는 인덱스.
+ * <p>
+ * 레이팅 0..3100 구간의 사용자 수를 Fenwick 트리로 유지해 "나보다 레이팅이 높은 사용자 수"를 구하고, 같은 레이팅 안의
+ * tie-break(updatedAt, userId)는 레이팅별 순서 통계 트리로 계산합니다. 집계 대상은 기존
+ * {@code UserStatRepository.findRankByRatingAndUpdatedAtAndUserId}와 동일하게 삭제되지 않은 전체 user_stats 입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RatingRankIndex {
+
+    public static final int MAX_RATING = 3100;
+
+    private final RankingRepository rankingRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 인덱스 i는 레이팅 (MAX_RATING - i) 의 사용자 수. 높은 레이팅이 앞에 오도록 뒤집어 저장합니다.
+    private final FenwickTree ratingCounts = new FenwickTree(MAX_RATING + 1);
+    private final Map<Integer, OrderStatisticTree<RatingRankKey>> buckets = new HashMap<>();
+    private final Map<Long, RatingRankKey> keys = new HashMap<>();
+    private volatile boolean ready = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    public void reload() {
+        lock.writeLock().lock();
+        try {
+            long startedAt = System.currentTimeMillis();
+            List<RatingRankKey> rows = rankingRepository.findAllRatingRankKeys();
+
+            ratingCounts.clear();
+            buckets.clear();
+            keys.clear();
+            rows.forEach(this::insert);
+            ready = true;
+
+            log.info("레이팅 순위 인덱스 적재 완료: users={}, elapsed={}ms",
+                rows.size(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            ready = false;
+            log.error("레이팅 순위 인덱스 적재 실패, DB 조회로 대체합니다.", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 사용자의 1-based 레이팅 순위를 반환합니다. 인덱스에 없는 사용자는 빈 값을 반환합니다.
+     */
+    public Optional<Integer> getRank(Long userId) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(keys.get(userId)).map(this::rankOf);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 여러 사용자의 1-based 레이팅 순위를 한 번에 계산합니다. 인덱스에 없는 사용자는 결과에서 제외됩니다.
+     */
+    public Map<Long, Integer> getRanks(Collection<Long> userIds) {
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> ranks = new HashMap<>();
+            for (Long userId : userIds) {
+                RatingRankKey key = keys.get(userId);
+                if (key != null) {
+                    ranks.put(userId, rankOf(key));
+                }
+            }
+            return ranks;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserStatChanged(UserStatChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            RatingRankKey current = keys.get(event.userId());
+            if (current != null) {
+                remove(current);
+            }
+            if (!event.deleted()) {
+                insert(new RatingRankKey(event.userId(), event.rating(), event.updatedAt()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 회원 탈퇴 시 user_stats는 벌크 쿼리로 soft delete 되어 엔티티 이벤트가 발생하지 않으므로 계정 삭제 이벤트로 제거합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        if (!event.deleted()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            RatingRankKey current = keys.get(event.userId());
+            if (current != null) {
+                remove(current);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int rankOf(RatingRankKey key) {
+        int rating = clamp(key.rating());
+        long higher = ratingCounts.prefixSum(MAX_RATING - rating);
+        int ahead = buckets.get(rating).countLessThan(key);
+        return (int) (higher + ahead + 1);
+    }
+
+    private void insert(RatingRankKey key) {
+        int rating = clamp(key.rating());
+        keys.put(key.userId(), key);
+        buckets.computeIfAbsent(rating,
+                r -> new OrderStatisticTree<>(RatingRankKey.TIE_BREAK_ORDER))
+            .add(key);
+        ratingCounts.add(MAX_RATING - rating, 1);
+    }
+
+    private void remove(RatingRankKey key) {
+        int rating = clamp(key.rating());
+        keys.remove(key.userId());
+        OrderStatisticTree<RatingRankKey> bucket = buckets.get(rating);
+        if (bucket != null && bucket.remove(key)) {
+            ratingCounts.add(MAX_RATING - rating, -1);
+            if (bucket.isEmpty()) {
+                buckets.remove(rating);
+            }
+        }
+    }
+
+    private int clamp(Integer rating) {
+        if (rating == null || rating < 0) {
+            return 0;
+        }
+        return Math.min(rating, MAX_RATING);
+    }
+}
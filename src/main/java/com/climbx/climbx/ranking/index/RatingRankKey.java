@@ -0,0 +1,19 @@
+package com.climbx.climbx.ranking.index;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * 레이팅 순위 계산용 정렬 키. 같은 레이팅 안에서는 updatedAt ASC(NULL 우선), userId ASC 순으로 순위를 매깁니다.
+ */
+public record RatingRankKey(
+
+    Long userId,
+    Integer rating,
+    LocalDateTime updatedAt
+) {
+
+    public static final Comparator<RatingRankKey> TIE_BREAK_ORDER = Comparator
+        .comparing(RatingRankKey::updatedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+        .thenComparing(RatingRankKey::userId);
+}
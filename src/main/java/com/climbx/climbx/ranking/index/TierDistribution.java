@@ -0,0 +1,162 @@
+package com.climbx.climbx.ranking.index;
+
+import com.climbx.climbx.problem.enums.ProblemTierType;
+import com.climbx.climbx.problem.event.ProblemTierChangedEvent;
+import com.climbx.climbx.user.enums.UserTierType;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사용자 레이팅/티어와 문제 티어 분포를 메모리 카운터로 유지합니다.
+ * <p>
+ * 사용자 카운터는 {@link RankingIndex}가 스냅샷을 넣고 뺄 때 함께 증감하고, 문제 카운터는 문제 티어 변경 이벤트로 증감합니다.
+ * 레이팅 이상 인원 수는 누적 배열에서 O(1)로 조회하며, 누적 배열은 카운터가 바뀐 뒤 처음 조회할 때 한 번만 다시 계산합니다.
+ * 놓친 변경으로 인한 오차는 {@code TierDistributionReconciler}가 주기적으로 DB 집계와 맞춥니다.
+ */
+@Component
+public class TierDistribution {
+
+    public static final int MAX_RATING = UserTierType.M.exclusiveMaxValue() - 1;
+
+    private final AtomicLongArray userRatingCounts = new AtomicLongArray(MAX_RATING + 1);
+    private final AtomicLongArray userTierCounts = new AtomicLongArray(
+        UserTierType.values().length);
+    private final AtomicLongArray problemTierCounts = new AtomicLongArray(
+        ProblemTierType.values().length);
+    private final AtomicLong userVersion = new AtomicLong();
+    private volatile Cumulative cumulative = new Cumulative(-1L, new long[MAX_RATING + 2]);
+
+    public static UserTierType userTierOf(int rating) {
+        return UserTierType.fromValue(clamp(rating));
+    }
+
+    /**
+     * 사용자 레이팅 변경을 반영합니다. 새로 추가되면 previousRating이, 제외되면 rating이 null입니다.
+     */
+    public void changeUserRating(Integer previousRating, Integer rating) {
+        if (previousRating != null && previousRating.equals(rating)) {
+            return;
+        }
+        if (previousRating != null) {
+            adjustUser(clamp(previousRating), -1);
+        }
+        if (rating != null) {
+            adjustUser(clamp(rating), 1);
+        }
+        userVersion.incrementAndGet();
+    }
+
+    public void clearUsers() {
+        for (int rating = 0; rating <= MAX_RATING; rating++) {
+            userRatingCounts.set(rating, 0);
+        }
+        for (int tier = 0; tier < userTierCounts.length(); tier++) {
+            userTierCounts.set(tier, 0);
+        }
+        userVersion.incrementAndGet();
+    }
+
+    /**
+     * 문제 티어 변경을 반영합니다. 새로 등록되면 previousTier가, 삭제되면 tier가 null입니다.
+     */
+    public void changeProblemTier(ProblemTierType previousTier, ProblemTierType tier) {
+        if (previousTier == tier) {
+            return;
+        }
+        if (previousTier != null) {
+            problemTierCounts.decrementAndGet(previousTier.ordinal());
+        }
+        if (tier != null) {
+            problemTierCounts.incrementAndGet(tier.ordinal());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProblemTierChanged(ProblemTierChangedEvent event) {
+        changeProblemTier(event.previousTier(), event.tier());
+    }
+
+    /**
+     * DB에서 집계한 레이팅별 사용자 수로 카운터를 교체하고, 기존 카운터와의 차이(절댓값 합)를 반환합니다.
+     */
+    public long reconcileUsers(long[] ratingCounts) {
+        long drift = 0;
+        long[] tierCounts = new long[userTierCounts.length()];
+        for (int rating = 0; rating <= MAX_RATING; rating++) {
+            long count = rating < ratingCounts.length ? ratingCounts[rating] : 0;
+            drift += Math.abs(userRatingCounts.getAndSet(rating, count) - count);
+            tierCounts[UserTierType.fromValue(rating).ordinal()] += count;
+        }
+        for (int tier = 0; tier < tierCounts.length; tier++) {
+            userTierCounts.set(tier, tierCounts[tier]);
+        }
+        userVersion.incrementAndGet();
+        return drift;
+    }
+
+    /**
+     * DB에서 집계한 티어별 문제 수로 카운터를 교체하고, 기존 카운터와의 차이(절댓값 합)를 반환합니다.
+     */
+    public long reconcileProblems(long[] tierCounts) {
+        long drift = 0;
+        for (int tier = 0; tier < problemTierCounts.length(); tier++) {
+            drift += Math.abs(problemTierCounts.getAndSet(tier, tierCounts[tier]) - tierCounts[tier]);
+        }
+        return drift;
+    }
+
+    public long userTierCount(UserTierType tier) {
+        return userTierCounts.get(tier.ordinal());
+    }
+
+    public long problemTierCount(ProblemTierType tier) {
+        return problemTierCounts.get(tier.ordinal());
+    }
+
+    public long totalUsers() {
+        return cumulative()[0];
+    }
+
+    /**
+     * rating 이상인 사용자 수. O(1)
+     */
+    public long countUsersAtOrAbove(int rating) {
+        if (rating > MAX_RATING) {
+            return 0;
+        }
+        return cumulative()[Math.max(rating, 0)];
+    }
+
+    private void adjustUser(int rating, int delta) {
+        userRatingCounts.addAndGet(rating, delta);
+        userTierCounts.addAndGet(UserTierType.fromValue(rating).ordinal(), delta);
+    }
+
+    /**
+     * 레이팅 이상 인원 누적 배열. 계산 시작 전에 버전을 읽으므로 계산 도중 바뀐 값은 다음 조회 때 다시 반영됩니다.
+     */
+    private long[] cumulative() {
+        long version = userVersion.get();
+        Cumulative current = cumulative;
+        if (current.version() == version) {
+            return current.atOrAbove();
+        }
+
+        long[] atOrAbove = new long[MAX_RATING + 2];
+        for (int rating = MAX_RATING; rating >= 0; rating--) {
+            atOrAbove[rating] = atOrAbove[rating + 1] + userRatingCounts.get(rating);
+        }
+        cumulative = new Cumulative(version, atOrAbove);
+        return atOrAbove;
+    }
+
+    private static int clamp(int rating) {
+        return Math.min(Math.max(rating, 0), MAX_RATING);
+    }
+
+    private record Cumulative(long version, long[] atOrAbove) {
+
+    }
+}
@@ -1,14 +1,20 @@
 package com.climbx.climbx.ranking.repository;
 
 import com.climbx.climbx.common.enums.RoleType;
+import com.climbx.climbx.ranking.dto.RatingCountDto;
+import com.climbx.climbx.ranking.index.RankingSnapshot;
+import com.climbx.climbx.ranking.index.RatingRankKey;
 import com.climbx.climbx.user.entity.UserStatEntity;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface RankingRepository extends JpaRepository<UserStatEntity, Long> {
+public interface RankingRepository extends JpaRepository<UserStatEntity, Long>,
+    JpaSpecificationExecutor<UserStatEntity> {
 
     @Query("""
         SELECT u FROM UserStatEntity u
@@ -16,4 +22,36 @@ public interface RankingRepository extends JpaRepository<UserStatEntity, Long> {
                 WHERE ua.role = :role
         """)
     Page<UserStatEntity> findAllByUserRole(Pageable pageable, @Param("role") RoleType role);
+
+    @Query("""
+        SELECT COUNT(u) FROM UserStatEntity u
+                JOIN u.userAccountEntity ua
+                WHERE ua.role = :role
+        """)
+    long countByUserRole(@Param("role") RoleType role);
+
+    @Query("""
+        SELECT new com.climbx.climbx.ranking.index.RankingSnapshot(
+                    u.userId, ua.nickname, ua.statusMessage, ua.profileImageCdnUrl,
+                    u.rating, u.currentStreak, u.longestStreak, u.solvedCount, u.updatedAt)
+                FROM UserStatEntity u
+                JOIN u.userAccountEntity ua
+                WHERE ua.role = :role
+        """)
+    List<RankingSnapshot> findAllRankingSnapshotsByUserRole(@Param("role") RoleType role);
+
+    @Query("""
+        SELECT new com.climbx.climbx.ranking.index.RatingRankKey(u.userId, u.rating, u.updatedAt)
+                FROM UserStatEntity u
+        """)
+    List<RatingRankKey> findAllRatingRankKeys();
+
+    @Query("""
+        SELECT new com.climbx.climbx.ranking.dto.RatingCountDto(u.rating, COUNT(u))
+                FROM UserStatEntity u
+                JOIN u.userAccountEntity ua
+                WHERE ua.role = :role
+                GROUP BY u.rating
+        """)
+    List<RatingCountDto> countByRatingAndUserRole(@Param("role") RoleType role);
 }
@@ -0,0 +1,90 @@
+package com.climbx.climbx.ranking.repository;
+
+import com.climbx.climbx.common.enums.CriteriaType;
+import com.climbx.climbx.common.enums.RoleType;
+import com.climbx.climbx.ranking.dto.RankingCursor;
+import com.climbx.climbx.user.entity.UserAccountEntity;
+import com.climbx.climbx.user.entity.UserStatEntity;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 랭킹 keyset 조회용 Specification. 정렬 기준 컬럼이 CriteriaType마다 달라 JPQL 하나로 표현할 수 없으므로 조건을 동적으로
+ * 구성합니다.
+ */
+public final class RankingSpecifications {
+
+    private RankingSpecifications() {
+    }
+
+    /**
+     * 주어진 권한의 사용자만 조회하며, 목록 조회 시에는 계정을 fetch join 합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public static Specification<UserStatEntity> userRole(RoleType role) {
+        return (root, query, cb) -> {
+            Join<UserStatEntity, UserAccountEntity> account =
+                Long.class == query.getResultType()
+                    ? root.join("userAccountEntity", JoinType.INNER)
+                    : (Join<UserStatEntity, UserAccountEntity>) root.fetch("userAccountEntity",
+                        JoinType.INNER);
+            return cb.equal(account.get("role"), role);
+        };
+    }
+
+    /**
+     * (기준값 DESC, updatedAt ASC, userId ASC) 정렬에서 커서 위치보다 뒤에 오는 행만 남기는 seek 조건. updatedAt은 MySQL
+     * ASC 정렬과 동일하게 NULL을 가장 앞으로 취급합니다.
+     */
+    public static Specification<UserStatEntity> after(CriteriaType criteria,
+        RankingCursor cursor) {
+        return (root, query, cb) -> {
+            Path<Integer> value = root.get(criteria.fieldName());
+            Path<LocalDateTime> updatedAt = root.get("updatedAt");
+            Path<Long> userId = root.get("userId");
+
+            Predicate laterUserId = cb.greaterThan(userId, cursor.userId());
+            Predicate sameValueLater = cursor.updatedAt() == null
+                ? cb.or(cb.isNotNull(updatedAt), cb.and(cb.isNull(updatedAt), laterUserId))
+                : cb.or(
+                    cb.greaterThan(updatedAt, cursor.updatedAt()),
+                    cb.and(cb.equal(updatedAt, cursor.updatedAt()), laterUserId)
+                );
+
+            return cb.or(
+                cb.lessThan(value, cursor.value()),
+                cb.and(cb.equal(value, cursor.value()), sameValueLater)
+            );
+        };
+    }
+
+    /**
+     * {@link #after(CriteriaType, RankingCursor)}의 반대 방향 seek 조건으로, 커서 위치보다 앞에 오는 행만 남깁니다.
+     */
+    public static Specification<UserStatEntity> before(CriteriaType criteria,
+        RankingCursor cursor) {
+        return (root, query, cb) -> {
+            Path<Integer> value = root.get(criteria.fieldName());
+            Path<LocalDateTime> updatedAt = root.get("updatedAt");
+            Path<Long> userId = root.get("userId");
+
+            Predicate earlierUserId = cb.lessThan(userId, cursor.userId());
+            Predicate sameValueEarlier = cursor.updatedAt() == null
+                ? cb.and(cb.isNull(updatedAt), earlierUserId)
+                : cb.or(
+                    cb.isNull(updatedAt),
+                    cb.lessThan(updatedAt, cursor.updatedAt()),
+                    cb.and(cb.equal(updatedAt, cursor.updatedAt()), earlierUserId)
+                );
+
+            return cb.or(
+                cb.greaterThan(value, cursor.value()),
+                cb.and(cb.equal(value, cursor.value()), sameValueEarlier)
+            );
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package com.climbx.climbx.ranking.scheduler;
+
+import com.climbx.climbx.ranking.service.TierDistributionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TierDistributionReconcileScheduler {
+
+    private final TierDistributionService tierDistributionService;
+
+    /**
+     * 기동 직후와 이후 일정 간격(기본 30분)마다 티어 분포 카운터를 DB 집계와 맞춥니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+        fixedDelayString = "${climbx.ranking.tier-reconcile-delay:PT30M}",
+        initialDelayString = "${climbx.ranking.tier-reconcile-delay:PT30M}"
+    )
+    public void reconcile() {
+        try {
+            tierDistributionService.reconcile();
+        } catch (RuntimeException e) {
+            log.error("티어 분포 카운터 보정 실패", e);
+        }
+    }
+}
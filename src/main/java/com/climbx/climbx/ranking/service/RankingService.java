@@ -2,11 +2,23 @@ package com.climbx.climbx.ranking.service;
 
 import com.climbx.climbx.common.enums.CriteriaType;
 import com.climbx.climbx.common.enums.RoleType;
+import com.climbx.climbx.ranking.cache.RankingPageCache;
+import com.climbx.climbx.ranking.dto.RankingAroundResponseDto;
+import com.climbx.climbx.ranking.dto.RankingCursor;
 import com.climbx.climbx.ranking.dto.RankingResponseDto;
 import com.climbx.climbx.ranking.dto.UserRankingResponseDto;
+import com.climbx.climbx.ranking.index.RankingIndex;
+import com.climbx.climbx.ranking.index.RankingSlice;
+import com.climbx.climbx.ranking.index.RankingSnapshot;
 import com.climbx.climbx.ranking.repository.RankingRepository;
+import com.climbx.climbx.ranking.repository.RankingSpecifications;
+import com.climbx.climbx.user.entity.UserAccountEntity;
 import com.climbx.climbx.user.entity.UserStatEntity;
+import com.climbx.climbx.user.exception.UserNotFoundException;
+import com.climbx.climbx.user.repository.UserAccountRepository;
+import com.github.benmanes.caffeine.cache.Cache;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +27,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,46 +38,224 @@ import org.springframework.transaction.annotation.Transactional;
 public class RankingService {
 
     private final RankingRepository rankingRepository;
+    private final RankingIndex rankingIndex;
+    private final Cache<RoleType, Long> rankingTotalCountCache;
+    private final RankingPageCache rankingPageCache;
+    private final UserAccountRepository userAccountRepository;
 
     public RankingResponseDto getRankingPage(
         CriteriaType criteria,
         Pageable pageable
     ) {
-        Sort sort = Sort.by(
-            Sort.Order.desc(criteria.fieldName()),
-            Sort.Order.asc("updatedAt"),
-            Sort.Order.asc("userId")
-        );
+        return getRankingPage(criteria, pageable, null, true);
+    }
+
+    /**
+     * 랭킹 페이지를 조회합니다.
+     * <p>
+     * cursor가 없으면 기존과 같이 page 파라미터로 조회하고 nextCursor에 다음 페이지 번호를 반환합니다. cursor가 있으면(빈 문자열
+     * 포함) keyset 모드로 동작하여 nextCursor에 마지막 행의 정렬 키를 인코딩한 커서를 반환합니다. 숫자로만 된 cursor는 이전
+     * 클라이언트와의 호환을 위해 페이지 번호로 해석합니다.
+     */
+    public RankingResponseDto getRankingPage(
+        CriteriaType criteria,
+        Pageable pageable,
+        String cursor,
+        boolean includeTotalCount
+    ) {
+        boolean keysetMode = cursor != null;
+        RankingCursor after = keysetMode && !cursor.isBlank() && !RankingCursor.isPageNumber(cursor)
+            ? RankingCursor.decode(cursor, criteria)
+            : null;
+        Pageable page = RankingCursor.isPageNumber(cursor)
+            ? PageRequest.of(RankingCursor.decodePageNumber(cursor), pageable.getPageSize())
+            : pageable;
+
+        if (after != null) {
+            // 인메모리 랭킹 인덱스가 준비되어 있으면 DB 정렬/COUNT 없이 조회
+            if (rankingIndex.isReady()) {
+                RankingSlice slice = rankingIndex.getRangeAfter(criteria, after.toSnapshotKey(),
+                    page.getPageSize());
+                return toResponse(criteria, slice.snapshots(), slice.offset() + 1,
+                    slice.hasNext(), includeTotalCount ? slice.total() : null, null);
+            }
+            return getRankingPageBySeek(criteria, after, page.getPageSize(), includeTotalCount);
+        }
+
+        // 상위 페이지는 캐시에서 조회 (랭킹 변경 시 겹치는 페이지만 무효화됨)
+        RankingSlice slice = rankingPageCache.isCacheable(page)
+            ? rankingPageCache.get(criteria, page, () -> loadRankingSlice(criteria, page))
+            : loadRankingSlice(criteria, page);
+
+        log.debug("랭킹 조회: criteria={}, page={}, size={}, totalElements={}, startRank={}",
+            criteria, page.getPageNumber(), page.getPageSize(), slice.total(),
+            slice.offset() + 1);
+
+        return toResponse(criteria, slice.snapshots(), slice.offset() + 1, slice.hasNext(),
+            includeTotalCount ? slice.total() : null,
+            keysetMode ? null : page.getPageNumber() + 1 + "");
+    }
+
+    /**
+     * offset 기반 랭킹 구간 조회. 인메모리 랭킹 인덱스가 준비되어 있으면 DB 정렬/COUNT 없이 조회합니다.
+     */
+    private RankingSlice loadRankingSlice(CriteriaType criteria, Pageable pageable) {
+        if (rankingIndex.isReady()) {
+            return rankingIndex.getRange(criteria, pageable.getOffset(), pageable.getPageSize());
+        }
 
         Pageable sortedPageable = PageRequest.of(
             pageable.getPageNumber(),
             pageable.getPageSize(),
-            sort
+            rankingSort(criteria)
         );
 
         // 어드민 계정 제외하고 일반 사용자만 조회
         Page<UserStatEntity> rankingPage = rankingRepository.findAllByUserRole(sortedPageable,
             RoleType.USER);
 
-        List<UserStatEntity> userStats = rankingPage.getContent();
+        List<RankingSnapshot> snapshots = rankingPage.getContent().stream()
+            .map(RankingSnapshot::from)
+            .toList();
 
-        Long startRank = pageable.getOffset() + 1;
+        return new RankingSlice(pageable.getOffset(), snapshots, rankingPage.getTotalElements());
+    }
 
-        log.debug("랭킹 조회: criteria={}, page={}, size={}, totalElements={}, startRank={}",
-            criteria, pageable.getPageNumber(), pageable.getPageSize(),
-            rankingPage.getTotalElements(), startRank);
+    private RankingResponseDto getRankingPageBySeek(
+        CriteriaType criteria,
+        RankingCursor after,
+        int size,
+        boolean includeTotalCount
+    ) {
+        // 다음 페이지 존재 여부 확인을 위해 size + 1개 조회
+        List<UserStatEntity> rows = rankingRepository.findBy(
+            RankingSpecifications.userRole(RoleType.USER)
+                .and(RankingSpecifications.after(criteria, after)),
+            query -> query.sortBy(rankingSort(criteria)).limit(size + 1).all()
+        );
 
-        List<UserRankingResponseDto> rankingList = IntStream.range(0, userStats.size())
-            .mapToObj(i -> UserRankingResponseDto.from(userStats.get(i), startRank + i))
+        boolean hasNext = rows.size() > size;
+        List<RankingSnapshot> snapshots = rows.stream()
+            .limit(size)
+            .map(RankingSnapshot::from)
             .toList();
 
-        // 페이징 정보 계산
-        Long totalCount = rankingPage.getTotalElements();
-        Boolean hasNext = rankingPage.hasNext();
-        String nextCursor = hasNext
-            ? rankingPage.nextPageable().getPageNumber() + ""
+        Long totalCount = includeTotalCount
+            ? rankingTotalCountCache.get(RoleType.USER, rankingRepository::countByUserRole)
             : null;
 
+        log.debug("랭킹 조회(seek): criteria={}, afterRank={}, size={}, hasNext={}",
+            criteria, after.rank(), size, hasNext);
+
+        return toResponse(criteria, snapshots, after.rank() + 1, hasNext, totalCount, null);
+    }
+
+    /**
+     * 사용자를 기준으로 위아래 최대 size명씩의 랭킹 구간을 조회합니다.
+     * <p>
+     * 인메모리 랭킹 인덱스가 준비되어 있지 않으면 사용자의 정렬 키를 커서로 삼아 위/아래 방향으로 한 번씩 seek 조회하고,
+     * 순위는 앞에 오는 사용자 수를 세어 구합니다.
+     */
+    public RankingAroundResponseDto getRankingAround(
+        CriteriaType criteria,
+        String nickname,
+        int size
+    ) {
+        UserAccountEntity account = userAccountRepository.findByNickname(nickname)
+            .orElseThrow(() -> new UserNotFoundException(nickname));
+
+        if (rankingIndex.isReady()) {
+            RankingSlice slice = rankingIndex.getRangeAround(criteria, account.userId(), size)
+                .orElseThrow(() -> new UserNotFoundException(nickname));
+            long myRanking = slice.offset() + 1 + slice.snapshots().stream()
+                .map(RankingSnapshot::userId)
+                .toList()
+                .indexOf(account.userId());
+            return toAroundResponse(slice.snapshots(), slice.offset() + 1, myRanking,
+                slice.total());
+        }
+
+        return getRankingAroundBySeek(criteria, account, size);
+    }
+
+    private RankingAroundResponseDto getRankingAroundBySeek(
+        CriteriaType criteria,
+        UserAccountEntity account,
+        int size
+    ) {
+        UserStatEntity userStat = rankingRepository.findById(account.userId())
+            .orElseThrow(() -> new UserNotFoundException(account.userId()));
+        RankingSnapshot me = RankingSnapshot.from(userStat);
+        RankingCursor cursor = RankingCursor.of(criteria, me, null);
+
+        Specification<UserStatEntity> users = RankingSpecifications.userRole(RoleType.USER);
+        Specification<UserStatEntity> above = users.and(
+            RankingSpecifications.before(criteria, cursor));
+
+        // 위쪽은 역순으로 가까운 size명을 읽은 뒤 다시 뒤집음
+        List<UserStatEntity> aboveRows = rankingRepository.findBy(above,
+            query -> query.sortBy(rankingSort(criteria).reverse()).limit(size).all());
+        List<UserStatEntity> belowRows = rankingRepository.findBy(
+            users.and(RankingSpecifications.after(criteria, cursor)),
+            query -> query.sortBy(rankingSort(criteria)).limit(size).all());
+
+        long myRanking = rankingRepository.count(above) + 1;
+        long totalCount = rankingTotalCountCache.get(RoleType.USER,
+            rankingRepository::countByUserRole);
+
+        List<RankingSnapshot> snapshots = Stream.of(
+                aboveRows.reversed().stream().map(RankingSnapshot::from),
+                Stream.of(me),
+                belowRows.stream().map(RankingSnapshot::from))
+            .flatMap(Function.identity())
+            .toList();
+
+        log.debug("랭킹 주변 조회(seek): criteria={}, userId={}, myRanking={}, size={}",
+            criteria, account.userId(), myRanking, size);
+
+        return toAroundResponse(snapshots, myRanking - aboveRows.size(), myRanking, totalCount);
+    }
+
+    private RankingAroundResponseDto toAroundResponse(
+        List<RankingSnapshot> snapshots,
+        long startRank,
+        long myRanking,
+        long totalCount
+    ) {
+        List<UserRankingResponseDto> rankingList = IntStream.range(0, snapshots.size())
+            .mapToObj(i -> UserRankingResponseDto.from(snapshots.get(i), startRank + i))
+            .toList();
+
+        return RankingAroundResponseDto.builder()
+            .myRanking(myRanking)
+            .totalCount(totalCount)
+            .rankings(rankingList)
+            .build();
+    }
+
+    /**
+     * pageCursor가 null이면 마지막 행 기준 keyset 커서를 nextCursor로 사용합니다.
+     */
+    private RankingResponseDto toResponse(
+        CriteriaType criteria,
+        List<RankingSnapshot> snapshots,
+        long startRank,
+        boolean hasNext,
+        Long totalCount,
+        String pageCursor
+    ) {
+        List<UserRankingResponseDto> rankingList = IntStream.range(0, snapshots.size())
+            .mapToObj(i -> UserRankingResponseDto.from(snapshots.get(i), startRank + i))
+            .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            nextCursor = pageCursor != null
+                ? pageCursor
+                : RankingCursor.of(criteria, snapshots.getLast(),
+                    startRank + snapshots.size() - 1).encode();
+        }
+
         return RankingResponseDto.builder()
             .rankings(rankingList)
             .totalCount(totalCount)
@@ -73,6 +264,14 @@ public class RankingService {
             .build();
     }
 
+    private Sort rankingSort(CriteriaType criteria) {
+        return Sort.by(
+            Sort.Order.desc(criteria.fieldName()),
+            Sort.Order.asc("updatedAt"),
+            Sort.Order.asc("userId")
+        );
+    }
+
     public List<String> getCriteriaTypeNames() {
         return Stream.of(CriteriaType.values())
             .map(CriteriaType::name)
@@ -0,0 +1,126 @@
+package com.climbx.climbx.ranking.service;
+
+import com.climbx.climbx.common.enums.PeriodType;
+import com.climbx.climbx.common.enums.RoleType;
+import com.climbx.climbx.common.enums.SeasonCriteriaType;
+import com.climbx.climbx.common.util.KstDateUtil;
+import com.climbx.climbx.ranking.dto.SeasonRankingCursor;
+import com.climbx.climbx.ranking.dto.SeasonRankingResponseDto;
+import com.climbx.climbx.ranking.dto.SeasonRankingRowDto;
+import com.climbx.climbx.ranking.dto.SeasonUserRankingResponseDto;
+import com.climbx.climbx.submission.event.SubmissionAcceptedEvent;
+import com.climbx.climbx.user.repository.UserPeriodStatRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 주간/월간 시즌 랭킹. 제출 승인 시 기간별 집계 행(user_period_stats)에 누적하고, 조회는 집계 행만 정렬해 읽습니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class SeasonRankingService {
+
+    private final UserPeriodStatRepository userPeriodStatRepository;
+
+    /**
+     * date가 속한 기간의 시즌 랭킹을 조회합니다. cursor가 없으면 첫 페이지를, 있으면 커서 다음 위치부터 조회합니다.
+     */
+    public SeasonRankingResponseDto getSeasonRanking(
+        PeriodType periodType,
+        LocalDate date,
+        SeasonCriteriaType criteria,
+        String cursor,
+        int size
+    ) {
+        LocalDate periodStart = periodType.startOf(date != null ? date : KstDateUtil.today());
+        SeasonRankingCursor after = cursor == null || cursor.isBlank()
+            ? null
+            : SeasonRankingCursor.decode(cursor, periodType, periodStart, criteria);
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1개 조회
+        List<SeasonRankingRowDto> rows = findRanking(periodType, periodStart, criteria, after,
+            PageRequest.of(0, size + 1));
+        long total = userPeriodStatRepository.countByPeriodAndUserRole(periodType, periodStart,
+            RoleType.USER);
+
+        boolean hasNext = rows.size() > size;
+        List<SeasonRankingRowDto> page = rows.stream().limit(size).toList();
+        long startRank = after == null ? 1 : after.rank() + 1;
+
+        log.debug("시즌 랭킹 조회: periodType={}, periodStart={}, criteria={}, startRank={}, size={}",
+            periodType, periodStart, criteria, startRank, size);
+
+        List<SeasonUserRankingResponseDto> rankingList = IntStream.range(0, page.size())
+            .mapToObj(i -> SeasonUserRankingResponseDto.from(page.get(i), startRank + i))
+            .toList();
+
+        String nextCursor = hasNext
+            ? SeasonRankingCursor.of(periodType, periodStart, criteria, page.getLast(),
+                startRank + page.size() - 1).encode()
+            : null;
+
+        return SeasonRankingResponseDto.builder()
+            .periodType(periodType)
+            .periodStart(periodStart)
+            .periodEnd(periodType.nextStart(periodStart).minusDays(1))
+            .rankings(rankingList)
+            .totalCount(total)
+            .hasNext(hasNext)
+            .nextCursor(nextCursor)
+            .build();
+    }
+
+    private List<SeasonRankingRowDto> findRanking(
+        PeriodType periodType,
+        LocalDate periodStart,
+        SeasonCriteriaType criteria,
+        SeasonRankingCursor after,
+        Pageable pageable
+    ) {
+        return switch (criteria) {
+            case SOLVED_COUNT -> after == null
+                ? userPeriodStatRepository.findSolvedCountRanking(periodType, periodStart,
+                RoleType.USER, pageable)
+                : userPeriodStatRepository.findSolvedCountRankingAfter(periodType, periodStart,
+                    RoleType.USER, after.value(), after.updatedAt(), after.userId(), pageable);
+            case RATING_GAINED -> after == null
+                ? userPeriodStatRepository.findRatingGainedRanking(periodType, periodStart,
+                RoleType.USER, pageable)
+                : userPeriodStatRepository.findRatingGainedRankingAfter(periodType, periodStart,
+                    RoleType.USER, after.value(), after.updatedAt(), after.userId(), pageable);
+        };
+    }
+
+    /**
+     * 승인 시점(KST)이 속한 주간/월간 집계 행에 해결 수(처음 해결한 경우만)와 레이팅 변화량을 더합니다.
+     */
+    @Transactional
+    @EventListener
+    public void onSubmissionAccepted(SubmissionAcceptedEvent event) {
+        int solved = event.firstSolve() ? 1 : 0;
+        if (solved == 0 && event.ratingDelta() == 0) {
+            return;
+        }
+
+        LocalDate today = KstDateUtil.today();
+        LocalDateTime now = LocalDateTime.now();
+        for (PeriodType periodType : PeriodType.values()) {
+            userPeriodStatRepository.accumulate(periodType.name(), periodType.startOf(today),
+                event.userId(), solved, event.ratingDelta(), now);
+        }
+
+        log.info("시즌 집계 갱신: userId={}, solved={}, ratingDelta={}",
+            event.userId(), solved, event.ratingDelta());
+    }
+}
@@ -0,0 +1,120 @@
+package com.climbx.climbx.ranking.service;
+
+import com.climbx.climbx.common.enums.RoleType;
+import com.climbx.climbx.problem.dto.ProblemTierCountDto;
+import com.climbx.climbx.problem.enums.ProblemTierType;
+import com.climbx.climbx.problem.repository.ProblemRepository;
+import com.climbx.climbx.ranking.dto.RatingCountDto;
+import com.climbx.climbx.ranking.dto.RatingPercentileResponseDto;
+import com.climbx.climbx.ranking.dto.TierCountResponseDto;
+import com.climbx.climbx.ranking.dto.TierDistributionResponseDto;
+import com.climbx.climbx.ranking.index.TierDistribution;
+import com.climbx.climbx.ranking.repository.RankingRepository;
+import com.climbx.climbx.user.enums.UserTierType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class TierDistributionService {
+
+    private final TierDistribution tierDistribution;
+    private final RankingRepository rankingRepository;
+    private final ProblemRepository problemRepository;
+
+    /**
+     * 사용자/문제 티어별 인원 수와 해당 티어 이상 비율을 메모리 카운터에서 조회합니다.
+     */
+    public TierDistributionResponseDto getTierDistribution() {
+        long totalUsers = tierDistribution.totalUsers();
+        List<Long> userCounts = Stream.of(UserTierType.values())
+            .map(tierDistribution::userTierCount)
+            .toList();
+        List<Long> problemCounts = Stream.of(ProblemTierType.values())
+            .map(tierDistribution::problemTierCount)
+            .toList();
+        long totalProblems = problemCounts.stream().mapToLong(Long::longValue).sum();
+
+        return TierDistributionResponseDto.builder()
+            .totalUserCount(totalUsers)
+            .userTiers(toTierCounts(Stream.of(UserTierType.values()).map(Enum::name).toList(),
+                userCounts, totalUsers))
+            .totalProblemCount(totalProblems)
+            .problemTiers(toTierCounts(
+                Stream.of(ProblemTierType.values()).map(Enum::name).toList(),
+                problemCounts, totalProblems))
+            .build();
+    }
+
+    /**
+     * rating이 전체 사용자 중 상위 몇 %인지 조회합니다. 같은 레이팅의 사용자는 모두 같은 순위로 봅니다.
+     */
+    public RatingPercentileResponseDto getRatingPercentile(int rating) {
+        long total = tierDistribution.totalUsers();
+        long higher = tierDistribution.countUsersAtOrAbove(rating + 1);
+
+        return RatingPercentileResponseDto.builder()
+            .rating(rating)
+            .tier(TierDistribution.userTierOf(rating).name())
+            .higherCount(higher)
+            .totalCount(total)
+            .topPercent(total == 0 ? 0.0 : percent(Math.min(higher + 1, total), total))
+            .build();
+    }
+
+    /**
+     * DB 집계로 메모리 카운터를 바로잡고 증분 갱신과의 차이를 로그로 남깁니다.
+     */
+    public void reconcile() {
+        long[] ratingCounts = new long[TierDistribution.MAX_RATING + 1];
+        for (RatingCountDto row : rankingRepository.countByRatingAndUserRole(RoleType.USER)) {
+            int rating = Math.min(Math.max(row.rating(), 0), TierDistribution.MAX_RATING);
+            ratingCounts[rating] += row.count();
+        }
+
+        long[] tierCounts = new long[ProblemTierType.values().length];
+        for (ProblemTierCountDto row : problemRepository.countGroupByTier()) {
+            if (row.tier() != null) {
+                tierCounts[row.tier().ordinal()] += row.count();
+            }
+        }
+
+        long userDrift = tierDistribution.reconcileUsers(ratingCounts);
+        long problemDrift = tierDistribution.reconcileProblems(tierCounts);
+
+        if (userDrift > 0 || problemDrift > 0) {
+            log.warn("티어 분포 카운터 보정: userDrift={}, problemDrift={}", userDrift, problemDrift);
+        } else {
+            log.debug("티어 분포 카운터 보정: 차이 없음");
+        }
+    }
+
+    private List<TierCountResponseDto> toTierCounts(
+        List<String> tiers,
+        List<Long> counts,
+        long total
+    ) {
+        List<TierCountResponseDto> result = new ArrayList<>(tiers.size());
+        long atOrAbove = 0;
+        for (int i = 0; i < tiers.size(); i++) {
+            atOrAbove += counts.get(i);
+            result.add(TierCountResponseDto.builder()
+                .tier(tiers.get(i))
+                .count(counts.get(i))
+                .topPercent(total == 0 ? 0.0 : percent(atOrAbove, total))
+                .build());
+        }
+        return result;
+    }
+
+    private static double percent(long count, long total) {
+        return Math.round(count * 10000.0 / total) / 100.0;
+    }
+}
@@ -1,6 +1,7 @@
 package com.climbx.climbx.submission;
 
 import com.climbx.climbx.common.dto.ApiResponseDto;
+import com.climbx.climbx.problem.enums.HoldColorType;
 import com.climbx.climbx.submission.dto.SubmissionAppealRequestDto;
 import com.climbx.climbx.submission.dto.SubmissionAppealResponseDto;
 import com.climbx.climbx.submission.dto.SubmissionCancelResponseDto;
@@ -27,7 +28,16 @@ public interface SubmissionApiDocumentation {
 
     @Operation(
         summary = "제출물 목록 조회",
-        description = "다양한 필터 조건으로 제출물 목록을 조회합니다."
+        description = """
+            다양한 필터 조건으로 제출물 목록을 조회합니다.
+            
+            **페이지네이션**:
+            - `cursor` 미지정: 기존 방식대로 `page`, `size`로 조회하며 `nextCursor`는 다음 페이지 번호입니다
+            - `cursor` 지정: 최신 제출 순(createdAt, videoId) keyset 방식으로 조회하며 `nextCursor`를 그대로 다음 요청의
+              `cursor`로 넘깁니다 (첫 페이지는 `cursor=` 빈 값으로 요청)
+            - 숫자로만 된 `cursor`는 이전 클라이언트 호환을 위해 페이지 번호로 해석합니다
+            - `totalCount`는 `includeTotalCount=true`일 때만 계산하며, 필터 조합별로 1분간 캐시됩니다
+            """
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -57,9 +67,9 @@ public interface SubmissionApiDocumentation {
                                 "submittedAt": "2024-01-01T09:00:00Z"
                               }
                             ],
-                            "totalCount": 1,
-                            "page": 0,
-                            "perPage": 20
+                            "totalCount": null,
+                            "hasNext": true,
+                            "nextCursor": "c3wyMDI0LTAxLTAxVDA5OjAwfDU1MGU4NDAwLWUyOWItNDFkNC1hNzE2LTQ0NjY1NTQ0MDAwMA"
                           }
                         }
                         """
@@ -98,16 +108,16 @@ public interface SubmissionApiDocumentation {
         @Parameter(
             name = "problemId",
             description = "문제 ID로 필터링",
-            example = "456"
+            example = "550e8400-e29b-41d4-a716-446655440001"
         )
-        Long problemId,
+        UUID problemId,
 
         @Parameter(
             name = "holdColor",
             description = "홀드 색상으로 필터링",
             example = "RED"
         )
-        String holdColor,
+        HoldColorType holdColor,
 
         @Parameter(
             name = "ratingFrom",
@@ -128,7 +138,22 @@ public interface SubmissionApiDocumentation {
             description = "페이징 정보 (페이지 번호, 페이지 크기 등)",
             required = false
         )
-        Pageable pageable
+        Pageable pageable,
+
+        @Parameter(
+            name = "cursor",
+            description = "keyset 커서 (이전 응답의 nextCursor, 첫 페이지는 빈 값)",
+            required = false
+        )
+        String cursor,
+
+        @Parameter(
+            name = "includeTotalCount",
+            description = "전체 제출 수 포함 여부",
+            required = false,
+            example = "false"
+        )
+        boolean includeTotalCount
     );
 
     @Operation(
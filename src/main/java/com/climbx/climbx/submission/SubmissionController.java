@@ -1,6 +1,7 @@
 package com.climbx.climbx.submission;
 
 import com.climbx.climbx.common.annotation.SuccessStatus;
+import com.climbx.climbx.problem.enums.HoldColorType;
 import com.climbx.climbx.submission.dto.SubmissionAppealRequestDto;
 import com.climbx.climbx.submission.dto.SubmissionAppealResponseDto;
 import com.climbx.climbx.submission.dto.SubmissionCancelResponseDto;
@@ -42,10 +43,10 @@ public class SubmissionController implements SubmissionApiDocumentation {
         String nickname,
 
         @RequestParam(name = "problemId", required = false)
-        Long problemId,
+        UUID problemId,
 
         @RequestParam(name = "holdColor", required = false)
-        String holdColor,
+        HoldColorType holdColor,
 
         @RequestParam(name = "ratingFrom", required = false)
         Integer ratingFrom,
@@ -57,7 +58,13 @@ public class SubmissionController implements SubmissionApiDocumentation {
         @SortDefaults(
             @SortDefault(sort = "createdAt", direction = Direction.DESC)
         )
-        Pageable pageable
+        Pageable pageable,
+
+        @RequestParam(name = "cursor", required = false)
+        String cursor,
+
+        @RequestParam(name = "includeTotalCount", required = false, defaultValue = "false")
+        boolean includeTotalCount
     ) {
         return submissionService.getSubmissions(
             nickname,
@@ -65,7 +72,9 @@ public class SubmissionController implements SubmissionApiDocumentation {
             holdColor,
             ratingFrom,
             ratingTo,
-            pageable
+            pageable,
+            cursor,
+            includeTotalCount
         );
     }
 
@@ -0,0 +1,18 @@
+package com.climbx.climbx.submission.cache;
+
+import com.climbx.climbx.problem.enums.HoldColorType;
+import java.util.UUID;
+
+/**
+ * 제출 목록 전체 개수 캐시 키. 필터 조합마다 COUNT 결과를 따로 캐시합니다.
+ */
+public record SubmissionFilterKey(
+
+    Long userId,
+    UUID problemId,
+    HoldColorType holdColor,
+    Integer ratingFrom,
+    Integer ratingTo
+) {
+
+}
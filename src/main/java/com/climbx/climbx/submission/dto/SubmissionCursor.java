@@ -0,0 +1,77 @@
+package com.climbx.climbx.submission.dto;
+
+import com.climbx.climbx.submission.entity.SubmissionEntity;
+import com.climbx.climbx.submission.exception.InvalidSubmissionCursorException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+import lombok.Builder;
+
+/**
+ * 제출 목록 keyset 페이지네이션 커서. 직전 페이지 마지막 행의 정렬 키(createdAt, videoId)를 담아 다음 페이지를 OFFSET 없이
+ * seek 조건으로 조회할 수 있게 합니다.
+ * <p>
+ * 직렬화 형식은 {@code s|createdAt|videoId}를 URL-safe Base64로 인코딩한 문자열입니다.
+ */
+@Builder
+public record SubmissionCursor(
+
+    LocalDateTime createdAt,
+    UUID videoId
+) {
+
+    private static final String PREFIX = "s";
+    private static final String DELIMITER = "|";
+
+    public static SubmissionCursor of(SubmissionEntity last) {
+        return SubmissionCursor.builder()
+            .createdAt(last.createdAt())
+            .videoId(last.videoId())
+            .build();
+    }
+
+    /**
+     * 이전 버전 클라이언트가 nextCursor로 받은 페이지 번호를 그대로 넘기는 경우를 판별합니다.
+     */
+    public static boolean isPageNumber(String cursor) {
+        return cursor != null && !cursor.isEmpty() && cursor.chars().allMatch(Character::isDigit);
+    }
+
+    /**
+     * 페이지 번호 커서를 해석합니다. int 범위를 넘는 숫자는 잘못된 커서로 처리합니다.
+     */
+    public static int decodePageNumber(String cursor) {
+        try {
+            return Integer.parseInt(cursor);
+        } catch (NumberFormatException e) {
+            throw new InvalidSubmissionCursorException(cursor);
+        }
+    }
+
+    public static SubmissionCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3 || !PREFIX.equals(parts[0])) {
+                throw new InvalidSubmissionCursorException(cursor);
+            }
+            return SubmissionCursor.builder()
+                .createdAt(LocalDateTime.parse(parts[1]))
+                .videoId(UUID.fromString(parts[2]))
+                .build();
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidSubmissionCursorException(cursor);
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER,
+            PREFIX,
+            createdAt.toString(),
+            videoId.toString());
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,16 @@
+package com.climbx.climbx.submission.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 승인된 제출의 (사용자, 문제)와 제출 생성 시각.
+ */
+public record SubmissionSolvedAtDto(
+
+    Long userId,
+    UUID problemId,
+    LocalDateTime createdAt
+) {
+
+}
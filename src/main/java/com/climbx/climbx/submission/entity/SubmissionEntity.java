@@ -49,6 +49,15 @@ public class SubmissionEntity extends BaseTimeEntity {
     @JoinColumn(name = "problem_id", columnDefinition = "BINARY(16)")
     private ProblemEntity problemEntity; // 문제 엔티티
 
+    @Column(name = "user_id", updatable = false, nullable = false)
+    private Long userId; // 제출자 ID, VideoEntity.userId 비정규화 (videos 조인 없이 사용자 범위 조회)
+
+    @Column(name = "gym_id", updatable = false, nullable = false)
+    private Long gymId; // 클라이밍장 ID, ProblemEntity.gymEntity 비정규화
+
+    @Column(name = "problem_rating", updatable = false, nullable = false)
+    private Integer problemRating; // 문제 레이팅 비정규화, 문제 재평가 시 벌크 UPDATE로만 갱신
+
     @Column(name = "status", columnDefinition = "varchar(32)", nullable = false)
     @Enumerated(EnumType.STRING)
     private StatusType status; // 제출 상태, 예: PENDING, ACCEPTED, REJECTED 등
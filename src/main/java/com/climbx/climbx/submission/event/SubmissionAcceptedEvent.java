@@ -0,0 +1,23 @@
+package com.climbx.climbx.submission.event;
+
+import java.util.UUID;
+
+/**
+ * 승인된 제출의 후속 집계를 반영할 때 발행되는 이벤트. 리뷰 트랜잭션이 기록한 아웃박스 이벤트를 처리하는 워커 트랜잭션 안에서
+ * 동기적으로 전달됩니다 ({@link SubmissionAcceptedPayload}).
+ *
+ * @param firstSolve      해당 사용자가 이 문제를 처음 해결했는지 여부 (리뷰 시점에 승인된 제출이 없었는지)
+ * @param dailyFirstSolve 제출 생성일(KST)에 같은 문제의 다른 승인 제출이 리뷰 시점에 없었는지 여부
+ * @param ratingDelta     이번 승인으로 변한 사용자 레이팅 (새 레이팅 - 이전 레이팅)
+ */
+public record SubmissionAcceptedEvent(
+
+    UUID videoId,
+    Long userId,
+    UUID problemId,
+    boolean firstSolve,
+    boolean dailyFirstSolve,
+    int ratingDelta
+) {
+
+}
@@ -0,0 +1,21 @@
+package com.climbx.climbx.submission.event;
+
+import java.util.UUID;
+
+/**
+ * 제출 승인 아웃박스 이벤트(SUBMISSION_ACCEPTED)의 페이로드. 승인 순서에 따라 달라지는 값은 상태를 바꾸기 전 리뷰
+ * 트랜잭션에서 정해 두므로, 워커가 어떤 순서로 처리해도 결과가 같습니다.
+ *
+ * @param firstSolve      해당 사용자가 이 문제를 처음 해결했는지 여부
+ * @param dailyFirstSolve 제출 생성일(KST)에 같은 문제를 처음 해결했는지 여부
+ */
+public record SubmissionAcceptedPayload(
+
+    UUID videoId,
+    Long userId,
+    UUID problemId,
+    boolean firstSolve,
+    boolean dailyFirstSolve
+) {
+
+}
@@ -0,0 +1,15 @@
+package com.climbx.climbx.submission.event;
+
+import java.util.UUID;
+
+/**
+ * 사용자가 문제에 영상을 제출했을 때 발행되는 이벤트. 제출 트랜잭션 안에서 동기적으로 전달됩니다.
+ */
+public record SubmissionCreatedEvent(
+
+    UUID videoId,
+    Long userId,
+    UUID problemId
+) {
+
+}
@@ -0,0 +1,12 @@
+package com.climbx.climbx.submission.exception;
+
+import com.climbx.climbx.common.enums.ErrorCode;
+import com.climbx.climbx.common.exception.BusinessException;
+
+public class InvalidSubmissionCursorException extends BusinessException {
+
+    public InvalidSubmissionCursorException(String cursor) {
+        super(ErrorCode.INVALID_SUBMISSION_CURSOR);
+        addContext("cursor", cursor);
+    }
+}
@@ -2,19 +2,26 @@ package com.climbx.climbx.submission.repository;
 
 import com.climbx.climbx.common.enums.StatusType;
 import com.climbx.climbx.problem.dto.ProblemInfoResponseDto;
-import com.climbx.climbx.problem.dto.TagRatingPairDto;
+import com.climbx.climbx.problem.enums.HoldColorType;
+import com.climbx.climbx.problem.enums.ProblemTagType;
+import com.climbx.climbx.submission.dto.SubmissionSolvedAtDto;
 import com.climbx.climbx.submission.entity.SubmissionEntity;
-import com.climbx.climbx.user.dto.DailyHistoryResponseDto;
-import com.climbx.climbx.user.dto.UserTagRatingDto;
+import com.climbx.climbx.user.dto.UserDailyActivityDto;
+import com.climbx.climbx.user.dto.UserSolvedProblemDto;
+import com.climbx.climbx.user.dto.UserTagSummaryDto;
+import com.climbx.climbx.user.util.UserRatingUtil;
+import jakarta.persistence.LockModeType;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Stream;
 import org.hibernate.annotations.SQLRestriction;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -23,7 +30,7 @@ import org.springframework.data.repository.query.Param;
 public interface SubmissionRepository extends JpaRepository<SubmissionEntity, UUID> {
 
     /**
-     * 사용자가 푼(accepted=true) Submission 에서 video.userAccount.userId = :userId 인 것들만 추린 뒤 gymArea를
+     * 사용자가 푼(accepted=true) Submission 에서 s.userId = :userId 인 것들만 추린 뒤 gymArea를
      * fetch join함. 그 안의 Problem(p) 을 DISTINCT 하여 p.rating DESC 순으로 정렬한 뒤 Pageable 로 페이지(=상위 N개)
      * 리미트
      */
@@ -43,11 +50,10 @@ public interface SubmissionRepository extends JpaRepository<SubmissionEntity, UU
             p.createdAt
         )
         FROM SubmissionEntity s
-        JOIN s.videoEntity v
         JOIN s.problemEntity p
         JOIN p.gymEntity g
         JOIN p.gymArea ga
-        WHERE v.userId = :userId
+        WHERE s.userId = :userId
           AND s.status = :status
         ORDER BY p.rating DESC
         """)
@@ -58,27 +64,201 @@ public interface SubmissionRepository extends JpaRepository<SubmissionEntity, UU
     );
 
     /**
-     * 사용자가 특정 기간 동안 일별로 푼 문제 수를 조회 from, to가 null이면 모든 기간
+     * 사용자가 특정 클라이밍장에서 해결한 서로 다른 문제의 레이팅을 높은 순으로 조회합니다. Pageable로 상위 N개만 가져옵니다.
      */
     @Query("""
-        SELECT new com.climbx.climbx.user.dto.DailyHistoryResponseDto(
-                DATE(s.createdAt),
-                COUNT(DISTINCT s.problemEntity.problemId)
-            )
+        SELECT p.rating
+        FROM ProblemEntity p
+        WHERE p.gymEntity.gymId = :gymId
+          AND EXISTS (
+              SELECT 1 FROM SubmissionEntity s
+              WHERE s.problemId = p.problemId
+                AND s.userId = :userId
+                AND s.status = :status
+          )
+        ORDER BY p.rating DESC
+        """)
+    List<Integer> findSolvedProblemRatingsAtGym(
+        @Param("userId") Long userId,
+        @Param("gymId") Long gymId,
+        @Param("status") StatusType status,
+        Pageable pageable
+    );
+
+    /**
+     * 사용자들이 해결한 서로 다른 문제와 현재 레이팅. 상위 문제 목록(user_top_problems) 재계산에 사용합니다.
+     */
+    @Query("""
+        SELECT DISTINCT new com.climbx.climbx.user.dto.UserSolvedProblemDto(
+            s.userId,
+            p.problemId,
+            p.rating
+        )
+        FROM SubmissionEntity s
+        JOIN s.problemEntity p
+        WHERE s.userId IN :userIds
+          AND s.status = :status
+        """)
+    List<UserSolvedProblemDto> findSolvedProblems(
+        @Param("userIds") Collection<Long> userIds,
+        @Param("status") StatusType status
+    );
+
+    /**
+     * 사용자들과 문제들의 조합 중 이미 해결한 (사용자, 문제). 일괄 리뷰에서 처음 해결 여부를 한 번에 판단할 때 사용하며, 두 IN
+     * 조건의 교차로 생기는 조합은 호출자가 걸러냅니다.
+     */
+    @Query("""
+        SELECT DISTINCT new com.climbx.climbx.user.dto.UserSolvedProblemDto(
+            s.userId,
+            s.problemId,
+            s.problemRating
+        )
+        FROM SubmissionEntity s
+        WHERE s.userId IN :userIds
+          AND s.problemId IN :problemIds
+          AND s.status = :status
+        """)
+    List<UserSolvedProblemDto> findSolvedProblemsAmong(
+        @Param("userIds") Collection<Long> userIds,
+        @Param("problemIds") Collection<UUID> problemIds,
+        @Param("status") StatusType status
+    );
+
+    /**
+     * 사용자들과 문제들의 조합 중 [from, to) 사이에 생성되어 승인된 제출. 일괄 리뷰에서 그날 처음 해결한 제출인지 한 번에 판단할
+     * 때 사용하며, 두 IN 조건의 교차로 생기는 조합은 호출자가 걸러냅니다.
+     */
+    @Query("""
+        SELECT new com.climbx.climbx.submission.dto.SubmissionSolvedAtDto(
+            s.userId,
+            s.problemId,
+            s.createdAt
+        )
+        FROM SubmissionEntity s
+        WHERE s.userId IN :userIds
+          AND s.problemId IN :problemIds
+          AND s.status = :status
+          AND s.createdAt >= :from
+          AND s.createdAt < :to
+        """)
+    List<SubmissionSolvedAtDto> findSolvedAtAmongBetween(
+        @Param("userIds") Collection<Long> userIds,
+        @Param("problemIds") Collection<UUID> problemIds,
+        @Param("status") StatusType status,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+
+    /**
+     * 문제를 해결했지만 상위 문제 목록에 그 문제가 없고, 목록이 덜 찼거나 최솟값이 rating보다 낮은 사용자 ID. 문제 레이팅이
+     * 올랐을 때 목록에 새로 들어갈 사용자만 고릅니다.
+     */
+    @Query("""
+        SELECT DISTINCT s.userId
+        FROM SubmissionEntity s
+        WHERE s.problemId = :problemId
+          AND s.status = :status
+          AND NOT EXISTS (
+              SELECT 1 FROM UserTopProblemEntity t
+              WHERE t.userId = s.userId
+                AND t.problemId = :problemId
+          )
+          AND (
+              (SELECT COUNT(t) FROM UserTopProblemEntity t WHERE t.userId = s.userId) < :limit
+              OR (SELECT MIN(t.rating) FROM UserTopProblemEntity t WHERE t.userId = s.userId)
+                  < :rating
+          )
+        """)
+    List<Long> findTopProblemCandidates(
+        @Param("problemId") UUID problemId,
+        @Param("status") StatusType status,
+        @Param("rating") int rating,
+        @Param("limit") long limit
+    );
+
+    /**
+     * [from, to) 사이에 생성된 같은 사용자/문제의 다른 승인 제출이 있는지 확인합니다. 일별 해결 수는 하루에 같은 문제를 한 번만
+     * 셉니다.
+     */
+    @Query("""
+        SELECT COUNT(s) > 0
           FROM SubmissionEntity s
-          JOIN s.videoEntity v
-         WHERE v.userId = :userId
+         WHERE s.userId = :userId
+           AND s.problemId = :problemId
            AND s.status = :status
-           AND (:from is NUll OR DATE(s.createdAt) >= :from)
-           AND (:to is NULL OR DATE(s.createdAt) <= :to)
-         GROUP BY DATE(s.createdAt)
-         ORDER BY DATE(s.createdAt) ASC
+           AND s.videoId <> :videoId
+           AND s.createdAt >= :from
+           AND s.createdAt < :to
         """)
-    List<DailyHistoryResponseDto> getUserDateSolvedCount(
+    boolean existsOtherSubmissionBetween(
         @Param("userId") Long userId,
+        @Param("problemId") UUID problemId,
         @Param("status") StatusType status,
-        @Param("from") LocalDate from,
-        @Param("to") LocalDate to
+        @Param("videoId") UUID videoId,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+
+    /**
+     * 사용자들의 일별 활동 요약. 제출 생성일마다 전체 제출 수와 승인된 서로 다른 문제 수를 집계합니다. 네이티브 쿼리라 삭제 조건을
+     * 직접 명시합니다.
+     * <p>
+     * 생성일은 증분 갱신({@code KstDateUtil.toDate})과 같이 KST 날짜로 구합니다. created_at은 세션 시간대 기준 값이므로
+     * +09:00으로 변환한 뒤 날짜를 자릅니다.
+     */
+    @Query(value = """
+        SELECT s.user_id                                                   AS userId,
+               DATE(CONVERT_TZ(s.created_at, @@session.time_zone, '+09:00'))
+                                                                           AS activityDate,
+               COUNT(DISTINCT CASE WHEN s.status = 'ACCEPTED' THEN s.problem_id END)
+                                                                           AS solvedCount,
+               COUNT(*)                                                    AS submittedCount
+          FROM submissions s
+         WHERE s.deleted_at IS NULL
+           AND s.user_id IN (:userIds)
+         GROUP BY s.user_id, DATE(CONVERT_TZ(s.created_at, @@session.time_zone, '+09:00'))
+        """, nativeQuery = true)
+    List<DailyActivityRow> summarizeDailyActivityBatch(@Param("userIds") Collection<Long> userIds);
+
+    default List<UserDailyActivityDto> summarizeDailyActivity(Collection<Long> userIds) {
+        return summarizeDailyActivityBatch(userIds).stream()
+            .map(DailyActivityRow::toDto)
+            .toList();
+    }
+
+    interface DailyActivityRow {
+
+        Long getUserId();
+
+        LocalDate getActivityDate();
+
+        Long getSolvedCount();
+
+        Long getSubmittedCount();
+
+        default UserDailyActivityDto toDto() {
+            return new UserDailyActivityDto(
+                getUserId(),
+                getActivityDate(),
+                getSolvedCount().intValue(),
+                getSubmittedCount().intValue()
+            );
+        }
+    }
+
+    /**
+     * 일괄 리뷰 대상 제출을 잠근 채 조회합니다. 동시에 같은 제출을 리뷰하는 요청은 커밋될 때까지 기다린 뒤 상태 조건에서 걸러집니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT s FROM SubmissionEntity s
+        WHERE s.videoId IN :videoIds
+          AND s.status = :status
+        """)
+    List<SubmissionEntity> findAllForReview(
+        @Param("videoIds") Collection<UUID> videoIds,
+        @Param("status") StatusType status
     );
 
     /**
@@ -86,8 +266,7 @@ public interface SubmissionRepository extends JpaRepository<SubmissionEntity, UU
      */
     @Query("""
         SELECT s FROM SubmissionEntity s
-        JOIN s.videoEntity v
-        WHERE v.userId = :userId
+        WHERE s.userId = :userId
         """)
     List<SubmissionEntity> findByUserId(@Param("userId") Long userId);
 
@@ -98,13 +277,26 @@ public interface SubmissionRepository extends JpaRepository<SubmissionEntity, UU
     @Query("""
         UPDATE SubmissionEntity s
         SET s.deletedAt = CURRENT_TIMESTAMP
-        WHERE s.videoEntity.userId = :userId
+        WHERE s.userId = :userId
         AND s.deletedAt IS NULL
         """)
     int softDeleteAllByUserId(@Param("userId") Long userId);
 
     /**
-     * 다양한 필터 조건으로 제출 목록을 조회합니다.
+     * 문제 레이팅이 바뀌면 비정규화한 제출의 문제 레이팅을 함께 갱신합니다. 엔티티에서는 갱신하지 않는 컬럼이라 영속성 컨텍스트의
+     * 제출이 나중에 flush되어도 덮어쓰지 않습니다.
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE submissions
+           SET problem_rating = :rating
+         WHERE problem_id = :problemId
+        """, nativeQuery = true)
+    int updateProblemRating(@Param("problemId") UUID problemId, @Param("rating") int rating);
+
+    /**
+     * 다양한 필터 조건으로 제출 목록을 조회합니다. 전체 개수가 필요하면 {@link #countSubmissionsWithFilters}를 따로
+     * 호출하므로 COUNT 쿼리 없이 size + 1개만 읽어 다음 페이지 여부를 판단합니다.
      */
     @Query("""
         SELECT s FROM SubmissionEntity s
@@ -112,102 +304,178 @@ public interface SubmissionRepository extends JpaRepository<SubmissionEntity, UU
         JOIN FETCH v.userAccountEntity u
         JOIN FETCH s.problemEntity p
         JOIN FETCH p.gymEntity g
-        WHERE (:userId IS NULL OR v.userId = :userId)
+        WHERE (:userId IS NULL OR s.userId = :userId)
           AND (:problemId IS NULL OR p.problemId = :problemId)
           AND (:holdColor IS NULL OR p.holdColor = :holdColor)
           AND (:ratingFrom IS NULL OR p.rating >= :ratingFrom)
           AND (:ratingTo IS NULL OR p.rating <= :ratingTo)
         """)
-    Page<SubmissionEntity> findSubmissionsWithFilters(
+    Slice<SubmissionEntity> findSubmissionsWithFilters(
         @Param("userId") Long userId,
-        @Param("problemId") Long problemId,
-        @Param("holdColor") String holdColor,
+        @Param("problemId") UUID problemId,
+        @Param("holdColor") HoldColorType holdColor,
         @Param("ratingFrom") Integer ratingFrom,
         @Param("ratingTo") Integer ratingTo,
         Pageable pageable
     );
 
-    // 1) Primary 만
-    @Query("""
-          SELECT new com.climbx.climbx.problem.dto.TagRatingPairDto(
-                p.primaryTag, p.rating
-            )
-          FROM SubmissionEntity s
-          JOIN s.videoEntity v
-          JOIN s.problemEntity p
-          WHERE v.userId = :userId
-            AND (:accepted IS NULL OR s.status = :accepted)
-            AND (p.primaryTag IS NOT NULL)
-        """)
-    List<TagRatingPairDto> summarizeByPrimary(@Param("userId") Long userId,
-        @Param("accepted") StatusType accepted);
-
-    // 2) Secondary 만
+    /**
+     * keyset 모드의 첫 페이지. (createdAt DESC, videoId DESC) 순으로 Pageable 크기만큼 조회합니다.
+     */
     @Query("""
-          SELECT new com.climbx.climbx.problem.dto.TagRatingPairDto(
-                p.secondaryTag, p.rating
-            )
-          FROM SubmissionEntity s
-          JOIN s.videoEntity v
-          JOIN s.problemEntity p
-          WHERE v.userId = :userId
-            AND (:accepted IS NULL OR s.status = :accepted)
-            AND (p.secondaryTag IS NOT NULL)
+        SELECT s FROM SubmissionEntity s
+        JOIN FETCH s.videoEntity v
+        JOIN FETCH v.userAccountEntity u
+        JOIN FETCH s.problemEntity p
+        JOIN FETCH p.gymEntity g
+        WHERE (:userId IS NULL OR s.userId = :userId)
+          AND (:problemId IS NULL OR p.problemId = :problemId)
+          AND (:holdColor IS NULL OR p.holdColor = :holdColor)
+          AND (:ratingFrom IS NULL OR p.rating >= :ratingFrom)
+          AND (:ratingTo IS NULL OR p.rating <= :ratingTo)
+        ORDER BY s.createdAt DESC, s.videoId DESC
         """)
-    List<TagRatingPairDto> summarizeBySecondary(@Param("userId") Long userId,
-        @Param("accepted") StatusType accepted);
-
-    default List<TagRatingPairDto> getUserAcceptedSubmissionTagSummary(
-        Long userId,
-        StatusType accepted
-    ) {
-        // accepted 가 null 이면 모든 상태의 Submission 을 대상으로 함
-        List<TagRatingPairDto> primaryTags = summarizeByPrimary(userId, accepted);
-        List<TagRatingPairDto> secondaryTags = summarizeBySecondary(userId, accepted);
-
-        // Primary 와 Secondary 를 합쳐서 반환
-        return Stream.concat(primaryTags.stream(), secondaryTags.stream())
-            .toList();
-    }
+    List<SubmissionEntity> findSubmissionsFirst(
+        @Param("userId") Long userId,
+        @Param("problemId") UUID problemId,
+        @Param("holdColor") HoldColorType holdColor,
+        @Param("ratingFrom") Integer ratingFrom,
+        @Param("ratingTo") Integer ratingTo,
+        Pageable pageable
+    );
 
-    // 배치 조회: 여러 사용자의 Primary 태그 요약
+    /**
+     * keyset 모드의 다음 페이지. 커서의 (createdAt, videoId) 이후 행을 OFFSET 없이 seek 조건으로 조회합니다.
+     */
     @Query("""
-          SELECT new com.climbx.climbx.user.dto.UserTagRatingDto(
-                v.userId, p.primaryTag, p.rating
-            )
-          FROM SubmissionEntity s
-          JOIN s.videoEntity v
-          JOIN s.problemEntity p
-          WHERE v.userId IN :userIds
-            AND (:accepted IS NULL OR s.status = :accepted)
-            AND (p.primaryTag IS NOT NULL)
+        SELECT s FROM SubmissionEntity s
+        JOIN FETCH s.videoEntity v
+        JOIN FETCH v.userAccountEntity u
+        JOIN FETCH s.problemEntity p
+        JOIN FETCH p.gymEntity g
+        WHERE (:userId IS NULL OR s.userId = :userId)
+          AND (:problemId IS NULL OR p.problemId = :problemId)
+          AND (:holdColor IS NULL OR p.holdColor = :holdColor)
+          AND (:ratingFrom IS NULL OR p.rating >= :ratingFrom)
+          AND (:ratingTo IS NULL OR p.rating <= :ratingTo)
+          AND (s.createdAt < :createdAt
+               OR (s.createdAt = :createdAt AND s.videoId < :videoId))
+        ORDER BY s.createdAt DESC, s.videoId DESC
         """)
-    List<UserTagRatingDto> summarizeByPrimaryBatch(@Param("userIds") List<Long> userIds,
-        @Param("accepted") StatusType accepted);
+    List<SubmissionEntity> findSubmissionsAfter(
+        @Param("userId") Long userId,
+        @Param("problemId") UUID problemId,
+        @Param("holdColor") HoldColorType holdColor,
+        @Param("ratingFrom") Integer ratingFrom,
+        @Param("ratingTo") Integer ratingTo,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("videoId") UUID videoId,
+        Pageable pageable
+    );
 
-    // 배치 조회: 여러 사용자의 Secondary 태그 요약
+    /**
+     * 필터 조건에 맞는 제출 수. 목록 조회와 달리 fetch join 없이 필터에 필요한 테이블만 조인합니다.
+     */
     @Query("""
-          SELECT new com.climbx.climbx.user.dto.UserTagRatingDto(
-                v.userId, p.secondaryTag, p.rating
-            )
-          FROM SubmissionEntity s
-          JOIN s.videoEntity v
-          JOIN s.problemEntity p
-          WHERE v.userId IN :userIds
-            AND (:accepted IS NULL OR s.status = :accepted)
-            AND (p.secondaryTag IS NOT NULL)
+        SELECT COUNT(s) FROM SubmissionEntity s
+        JOIN s.problemEntity p
+        WHERE (:userId IS NULL OR s.userId = :userId)
+          AND (:problemId IS NULL OR p.problemId = :problemId)
+          AND (:holdColor IS NULL OR p.holdColor = :holdColor)
+          AND (:ratingFrom IS NULL OR p.rating >= :ratingFrom)
+          AND (:ratingTo IS NULL OR p.rating <= :ratingTo)
         """)
-    List<UserTagRatingDto> summarizeBySecondaryBatch(@Param("userIds") List<Long> userIds,
-        @Param("accepted") StatusType accepted);
+    long countSubmissionsWithFilters(
+        @Param("userId") Long userId,
+        @Param("problemId") UUID problemId,
+        @Param("holdColor") HoldColorType holdColor,
+        @Param("ratingFrom") Integer ratingFrom,
+        @Param("ratingTo") Integer ratingTo
+    );
 
-    // ProblemEntity를 fetch join
-    @EntityGraph(attributePaths = "problemEntity")
-    boolean existsByProblemIdAndVideoEntity_UserIdAndStatus(
-        UUID problemId, Long videoEntity_userId, StatusType status
+    /**
+     * 사용자들의 태그별 제출 요약. 주/보조 태그를 UNION ALL로 펼친 뒤 (사용자, 태그)마다 전체/승인 제출 수를 조건부 집계하고,
+     * 승인된 제출의 문제 레이팅은 윈도 함수로 상위 50개만 골라 내림차순 문자열로 반환합니다.
+     * <p>
+     * 주/보조 태그가 같은 문제는 두 번 집계됩니다. 네이티브 쿼리라 삭제 조건을 직접 명시합니다.
+     */
+    @Query(value = """
+        WITH tagged AS (
+            SELECT s.user_id, p.primary_tag AS tag, s.problem_rating AS rating, s.status
+              FROM submissions s
+              JOIN problems p ON p.problem_id = s.problem_id AND p.deleted_at IS NULL
+             WHERE s.deleted_at IS NULL
+               AND s.user_id IN (:userIds)
+               AND p.primary_tag IS NOT NULL
+            UNION ALL
+            SELECT s.user_id, p.secondary_tag AS tag, s.problem_rating AS rating, s.status
+              FROM submissions s
+              JOIN problems p ON p.problem_id = s.problem_id AND p.deleted_at IS NULL
+             WHERE s.deleted_at IS NULL
+               AND s.user_id IN (:userIds)
+               AND p.secondary_tag IS NOT NULL
+        ),
+        ranked AS (
+            SELECT user_id, tag, rating, status,
+                   ROW_NUMBER() OVER (
+                       PARTITION BY user_id, tag, status
+                       ORDER BY rating DESC
+                   ) AS rating_rank
+              FROM tagged
+        )
+        SELECT user_id                                      AS userId,
+               tag                                          AS tag,
+               COUNT(*)                                     AS submissionCount,
+               CAST(SUM(status = 'ACCEPTED') AS SIGNED)     AS solvedCount,
+               GROUP_CONCAT(
+                   CASE WHEN status = 'ACCEPTED' AND rating_rank <= :topLimit THEN rating END
+                   ORDER BY rating DESC SEPARATOR ','
+               )                                            AS topRatings
+          FROM ranked
+         GROUP BY user_id, tag
+        """, nativeQuery = true)
+    List<TagSummaryRow> summarizeTagsBatch(
+        @Param("userIds") Collection<Long> userIds,
+        @Param("topLimit") int topLimit
     );
 
+    default List<UserTagSummaryDto> summarizeTags(Collection<Long> userIds) {
+        return summarizeTagsBatch(userIds, UserRatingUtil.TOP_PROBLEM_LIMIT).stream()
+            .map(TagSummaryRow::toDto)
+            .toList();
+    }
+
+    interface TagSummaryRow {
+
+        Long getUserId();
+
+        String getTag();
+
+        Long getSubmissionCount();
+
+        Long getSolvedCount();
+
+        String getTopRatings();
+
+        default UserTagSummaryDto toDto() {
+            String topRatings = getTopRatings();
+            List<Integer> ratings = topRatings == null || topRatings.isEmpty()
+                ? List.of()
+                : Arrays.stream(topRatings.split(",")).map(Integer::valueOf).toList();
+            return new UserTagSummaryDto(
+                getUserId(),
+                ProblemTagType.valueOf(getTag()),
+                getSubmissionCount().intValue(),
+                getSolvedCount().intValue(),
+                ratings
+            );
+        }
+    }
+
+    boolean existsByProblemIdAndUserIdAndStatus(UUID problemId, Long userId, StatusType status);
+
     default boolean isAcceptedSubmissionExist(Long userId, UUID problemId) {
-        return existsByProblemIdAndVideoEntity_UserIdAndStatus(
+        return existsByProblemIdAndUserIdAndStatus(
             problemId,
             userId,
             StatusType.ACCEPTED
@@ -0,0 +1,178 @@
+package com.climbx.climbx.submission.service;
+
+import com.climbx.climbx.common.outbox.OutboxEventHandler;
+import com.climbx.climbx.common.outbox.OutboxEventType;
+import com.climbx.climbx.problem.repository.ContributionRepository;
+import com.climbx.climbx.problem.service.ProblemService;
+import com.climbx.climbx.submission.entity.SubmissionEntity;
+import com.climbx.climbx.submission.event.SubmissionAcceptedEvent;
+import com.climbx.climbx.submission.event.SubmissionAcceptedPayload;
+import com.climbx.climbx.submission.repository.SubmissionRepository;
+import com.climbx.climbx.user.dto.RatingResponseDto;
+import com.climbx.climbx.user.dto.UserSolvedProblemDto;
+import com.climbx.climbx.user.entity.UserStatEntity;
+import com.climbx.climbx.user.repository.UserStatRepository;
+import com.climbx.climbx.user.service.UserTopProblemService;
+import com.climbx.climbx.user.util.UserRatingUtil;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 승인된 제출의 후속 집계를 아웃박스 워커에서 반영합니다.
+ * <p>
+ * 사용자 통계는 userId 순서로 잠그고, 사용자마다 해결 수와 상위 문제 목록을 반영한 뒤 레이팅을 한 번만 다시 계산합니다. 문제
+ * 투표 집계는 문제마다 한 번만 다시 합니다. 이후 {@link SubmissionAcceptedEvent}를 발행해 태그 통계, 일별 활동, 연속
+ * 출석일, 시즌/암장 랭킹과 캐시를 같은 트랜잭션에서 갱신합니다. 사용자 레이팅 변화량은 그 사용자의 첫 이벤트에 모두 싣습니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class SubmissionAcceptedOutboxHandler implements
+    OutboxEventHandler<SubmissionAcceptedPayload> {
+
+    private final SubmissionRepository submissionRepository;
+    private final UserStatRepository userStatRepository;
+    private final ContributionRepository contributionRepository;
+    private final ProblemService problemService;
+    private final UserTopProblemService userTopProblemService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public OutboxEventType type() {
+        return OutboxEventType.SUBMISSION_ACCEPTED;
+    }
+
+    @Override
+    public Class<SubmissionAcceptedPayload> payloadType() {
+        return SubmissionAcceptedPayload.class;
+    }
+
+    @Override
+    @Transactional
+    public void handle(List<SubmissionAcceptedPayload> payloads) {
+        Map<UUID, SubmissionEntity> submissions = submissionRepository.findAllById(
+                payloads.stream().map(SubmissionAcceptedPayload::videoId).toList()).stream()
+            .collect(Collectors.toMap(SubmissionEntity::videoId, Function.identity()));
+        Set<Long> userIds = payloads.stream()
+            .map(SubmissionAcceptedPayload::userId)
+            .collect(Collectors.toSet());
+        Map<Long, UserStatEntity> userStats = userStatRepository
+            .findAllByUserIdInForUpdate(userIds).stream()
+            .collect(Collectors.toMap(UserStatEntity::userId, Function.identity()));
+
+        // 처리 전에 영상이 삭제된 제출이나 탈퇴한 사용자는 배치 재계산에 맡김
+        List<SubmissionAcceptedPayload> targets = payloads.stream()
+            .filter(payload -> {
+                boolean present = submissions.containsKey(payload.videoId())
+                    && userStats.containsKey(payload.userId());
+                if (!present) {
+                    log.warn("승인 집계 대상 없음: videoId={}, userId={}",
+                        payload.videoId(), payload.userId());
+                }
+                return present;
+            })
+            .toList();
+
+        Map<Long, Integer> ratingDeltas = updateUserStats(targets, submissions, userStats);
+        applyVotes(targets);
+
+        targets.forEach(payload -> {
+            Integer ratingDelta = ratingDeltas.remove(payload.userId());
+            eventPublisher.publishEvent(new SubmissionAcceptedEvent(payload.videoId(),
+                payload.userId(), payload.problemId(), payload.firstSolve(),
+                payload.dailyFirstSolve(), ratingDelta == null ? 0 : ratingDelta));
+        });
+
+        log.info("승인 집계 반영: submissions={}, users={}", targets.size(), userIds.size());
+    }
+
+    /**
+     * @return 사용자별 레이팅 변화량
+     */
+    private Map<Long, Integer> updateUserStats(
+        List<SubmissionAcceptedPayload> targets,
+        Map<UUID, SubmissionEntity> submissions,
+        Map<Long, UserStatEntity> userStats
+    ) {
+        Map<Long, List<SubmissionAcceptedPayload>> byUser = targets.stream()
+            .collect(Collectors.groupingBy(SubmissionAcceptedPayload::userId,
+                LinkedHashMap::new, Collectors.toList()));
+
+        Map<Long, Integer> ratingDeltas = new HashMap<>();
+        byUser.forEach((userId, userTargets) -> {
+            UserStatEntity userStat = userStats.get(userId);
+            int prevRating = userStat.rating();
+            userTargets.forEach(payload -> userStat.incrementSolvedProblemsCount());
+
+            // 처음 해결한 문제만 상위 50문제 목록에 들어갈 수 있음
+            List<UserSolvedProblemDto> firstSolved = userTargets.stream()
+                .filter(SubmissionAcceptedPayload::firstSolve)
+                .map(payload -> new UserSolvedProblemDto(userId, payload.problemId(),
+                    submissions.get(payload.videoId()).problemRating()))
+                .toList();
+            int topProblemRating = firstSolved.isEmpty()
+                ? userStat.topProblemRating()
+                : userTopProblemService.addSolvedProblems(userId, firstSolved);
+
+            RatingResponseDto rating = UserRatingUtil.calculateUserRating(
+                topProblemRating,
+                userStat.submissionCount(),
+                userStat.solvedCount(),
+                userStat.contributionCount()
+            );
+            userStat.setRating(rating.totalRating());
+            userStat.setTopProblemRating(rating.topProblemRating());
+
+            ratingDeltas.put(userId, userStat.rating() - prevRating);
+            log.info("User {} rating: {} -> {}", userId, prevRating, userStat.rating());
+        });
+        return ratingDeltas;
+    }
+
+    /**
+     * 승인된 (사용자, 문제)의 투표를 한 번에 읽어 문제마다 한 번씩 반영합니다. 문제 레이팅이 바뀌면
+     * ProblemRatingChangedEvent로 상위 문제 합과 제출의 문제 레이팅이 다시 반영됩니다.
+     */
+    private void applyVotes(List<SubmissionAcceptedPayload> targets) {
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        Set<SolvedKey> acceptedPairs = targets.stream()
+            .map(payload -> new SolvedKey(payload.userId(), payload.problemId()))
+            .collect(Collectors.toSet());
+        Set<Long> userIds = acceptedPairs.stream()
+            .map(SolvedKey::userId)
+            .collect(Collectors.toSet());
+        Set<UUID> problemIds = acceptedPairs.stream()
+            .map(SolvedKey::problemId)
+            .collect(Collectors.toSet());
+
+        contributionRepository.findAllByUserIdInAndProblemIdIn(userIds, problemIds).stream()
+            .filter(c -> acceptedPairs.contains(new SolvedKey(c.userAccountEntity().userId(),
+                c.problemEntity().problemId())))
+            .collect(Collectors.groupingBy(c -> c.problemEntity().problemId(),
+                LinkedHashMap::new, Collectors.toList()))
+            .forEach((problemId, contributions) -> problemService.applyVotesToProblem(
+                contributions.getFirst().problemEntity(), contributions));
+    }
+
+    private record SolvedKey(
+        Long userId,
+        UUID problemId
+    ) {
+
+    }
+}
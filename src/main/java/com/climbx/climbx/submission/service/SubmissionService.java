@@ -2,34 +2,41 @@ package com.climbx.climbx.submission.service;
 
 import com.climbx.climbx.common.enums.StatusType;
 import com.climbx.climbx.problem.entity.ProblemEntity;
+import com.climbx.climbx.problem.enums.HoldColorType;
+import com.climbx.climbx.problem.event.ProblemRatingChangedEvent;
 import com.climbx.climbx.problem.exception.ProblemNotFoundException;
 import com.climbx.climbx.problem.repository.ProblemRepository;
+import com.climbx.climbx.submission.cache.SubmissionFilterKey;
 import com.climbx.climbx.submission.dto.SubmissionAppealRequestDto;
 import com.climbx.climbx.submission.dto.SubmissionAppealResponseDto;
 import com.climbx.climbx.submission.dto.SubmissionCancelResponseDto;
 import com.climbx.climbx.submission.dto.SubmissionCreateRequestDto;
+import com.climbx.climbx.submission.dto.SubmissionCursor;
 import com.climbx.climbx.submission.dto.SubmissionListResponseDto;
 import com.climbx.climbx.submission.dto.SubmissionResponseDto;
 import com.climbx.climbx.submission.entity.SubmissionEntity;
+import com.climbx.climbx.submission.event.SubmissionCreatedEvent;
 import com.climbx.climbx.submission.exception.DuplicateAppealException;
 import com.climbx.climbx.submission.exception.DuplicateSubmissionException;
 import com.climbx.climbx.submission.exception.ForbiddenSubmissionException;
 import com.climbx.climbx.submission.repository.SubmissionRepository;
 import com.climbx.climbx.user.entity.UserAccountEntity;
-import com.climbx.climbx.user.entity.UserStatEntity;
-import com.climbx.climbx.user.exception.UserNotFoundException;
 import com.climbx.climbx.user.repository.UserAccountRepository;
-import com.climbx.climbx.user.util.UserRatingUtil;
+import com.climbx.climbx.user.service.UserStatCounterService;
 import com.climbx.climbx.video.entity.VideoEntity;
 import com.climbx.climbx.video.exception.VideoNotFoundException;
 import com.climbx.climbx.video.repository.VideoRepository;
+import com.github.benmanes.caffeine.cache.Cache;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -43,34 +50,77 @@ public class SubmissionService {
     private final VideoRepository videoRepository;
     private final ProblemRepository problemRepository;
     private final UserAccountRepository userAccountRepository;
-
+    private final UserStatCounterService userStatCounterService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Cache<SubmissionFilterKey, Long> submissionTotalCountCache;
+
+    /**
+     * 제출 목록을 조회합니다.
+     * <p>
+     * cursor가 없으면 기존과 같이 page 파라미터로 조회하고 nextCursor에 다음 페이지 번호를 반환합니다. cursor가 있으면(빈 문자열
+     * 포함) (createdAt, videoId) 기준 keyset 모드로 동작하여 nextCursor에 마지막 행의 정렬 키를 인코딩한 커서를 반환합니다.
+     * 숫자로만 된 cursor는 이전 클라이언트와의 호환을 위해 페이지 번호로 해석합니다. 두 모드 모두 size + 1개를 읽어 다음 페이지
+     * 여부를 판단하며, 전체 개수는 includeTotalCount일 때만 필터 조합별 캐시를 거쳐 계산합니다.
+     */
     public SubmissionListResponseDto getSubmissions(
         String nickname,
-        Long problemId,
-        String holdColor,
+        UUID problemId,
+        HoldColorType holdColor,
         Integer ratingFrom,
         Integer ratingTo,
-        Pageable pageable
+        Pageable pageable,
+        String cursor,
+        boolean includeTotalCount
     ) {
         Long userId = userAccountRepository.findByNickname(nickname)
             .map(UserAccountEntity::userId)
             .orElse(null);
 
-        // 제출 목록 조회 (Page 객체로 반환)
-        Page<SubmissionEntity> submissionPage = submissionRepository.findSubmissionsWithFilters(
-            userId, problemId, holdColor, ratingFrom, ratingTo, pageable
-        );
+        boolean keysetMode = cursor != null && !SubmissionCursor.isPageNumber(cursor);
+        Pageable page = SubmissionCursor.isPageNumber(cursor)
+            ? PageRequest.of(SubmissionCursor.decodePageNumber(cursor), pageable.getPageSize(),
+                pageable.getSort())
+            : pageable;
+
+        List<SubmissionEntity> rows;
+        boolean hasNext;
+        String nextCursor = null;
+        if (keysetMode) {
+            SubmissionCursor after = cursor.isBlank() ? null : SubmissionCursor.decode(cursor);
+            // 다음 페이지 존재 여부 확인을 위해 size + 1개 조회
+            Pageable limit = PageRequest.of(0, page.getPageSize() + 1);
+            List<SubmissionEntity> fetched = after == null
+                ? submissionRepository.findSubmissionsFirst(
+                userId, problemId, holdColor, ratingFrom, ratingTo, limit)
+                : submissionRepository.findSubmissionsAfter(
+                    userId, problemId, holdColor, ratingFrom, ratingTo,
+                    after.createdAt(), after.videoId(), limit);
+
+            hasNext = fetched.size() > page.getPageSize();
+            rows = hasNext ? fetched.subList(0, page.getPageSize()) : fetched;
+            if (hasNext) {
+                nextCursor = SubmissionCursor.of(rows.getLast()).encode();
+            }
+        } else {
+            Slice<SubmissionEntity> slice = submissionRepository.findSubmissionsWithFilters(
+                userId, problemId, holdColor, ratingFrom, ratingTo, page
+            );
+            rows = slice.getContent();
+            hasNext = slice.hasNext();
+            if (hasNext) {
+                nextCursor = slice.nextPageable().getPageNumber() + "";
+            }
+        }
 
-        // Page에서 정보 추출
-        List<SubmissionResponseDto> submissions = submissionPage.getContent().stream()
+        List<SubmissionResponseDto> submissions = rows.stream()
             .map(SubmissionResponseDto::from)
             .toList();
 
-        // 페이징 정보 계산
-        Long totalCount = submissionPage.getTotalElements();
-        Boolean hasNext = submissionPage.hasNext();
-        String nextCursor = hasNext
-            ? submissionPage.nextPageable().getPageNumber() + ""
+        Long totalCount = includeTotalCount
+            ? submissionTotalCountCache.get(
+            new SubmissionFilterKey(userId, problemId, holdColor, ratingFrom, ratingTo),
+            key -> submissionRepository.countSubmissionsWithFilters(
+                key.userId(), key.problemId(), key.holdColor(), key.ratingFrom(), key.ratingTo()))
             : null;
 
         return SubmissionListResponseDto.builder()
@@ -106,27 +156,33 @@ public class SubmissionService {
         SubmissionEntity submissionEntity = SubmissionEntity.builder()
             .videoEntity(video)
             .problemEntity(problem)
+            .userId(video.userId())
+            .gymId(problem.gymEntity().gymId())
+            .problemRating(problem.rating())
             .status(StatusType.PENDING)
             .build();
 
         submissionRepository.save(submissionEntity);
 
-        UserAccountEntity user = userAccountRepository.findById(userId)
-            .orElseThrow(() -> new UserNotFoundException(userId));
-
-        UserStatEntity userStat = user.userStatEntity();
-
-        int prevSubmissionRating = UserRatingUtil.calculateSubmissionScore(
-            userStat.submissionCount());
-        userStat.incrementSubmissionCount();
-        int newSubmissionRating = UserRatingUtil.calculateSubmissionScore(
-            userStat.submissionCount());
+        userStatCounterService.addSubmission(userId);
 
-        userStat.incrementRatingBySubmission(newSubmissionRating - prevSubmissionRating);
+        eventPublisher.publishEvent(
+            new SubmissionCreatedEvent(request.videoId(), userId, problem.problemId()));
 
         return SubmissionResponseDto.from(submissionEntity);
     }
 
+    /**
+     * 문제 레이팅이 바뀌면 그 문제 제출에 비정규화한 레이팅을 같은 트랜잭션에서 맞춥니다.
+     */
+    @Transactional
+    @EventListener
+    public void onProblemRatingChanged(ProblemRatingChangedEvent event) {
+        int updated = submissionRepository.updateProblemRating(event.problemId(), event.rating());
+        log.debug("제출 문제 레이팅 동기화: problemId={}, rating={}, submissions={}",
+            event.problemId(), event.rating(), updated);
+    }
+
     public SubmissionResponseDto getSubmissionByVideoId(UUID videoId) {
         SubmissionEntity submissionEntity = submissionRepository.findById(videoId)
             .orElseThrow(() -> new VideoNotFoundException(videoId));
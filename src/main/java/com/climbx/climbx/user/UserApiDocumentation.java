@@ -4,7 +4,10 @@ import com.climbx.climbx.common.dto.ApiResponseDto;
 import com.climbx.climbx.common.enums.CriteriaType;
 import com.climbx.climbx.problem.dto.ProblemInfoResponseDto;
 import com.climbx.climbx.user.dto.DailyHistoryResponseDto;
+import com.climbx.climbx.user.dto.UserActivityHeatmapResponseDto;
+import com.climbx.climbx.user.dto.UserAutocompleteResponseDto;
 import com.climbx.climbx.user.dto.UserProfileInfoModifyRequestDto;
+import com.climbx.climbx.user.dto.UserProfilePageResponseDto;
 import com.climbx.climbx.user.dto.UserProfileResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -21,8 +24,11 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDate;
 import java.util.List;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Validated
 @Tag(name = "User", description = "사용자 관련 API")
@@ -30,7 +36,8 @@ public interface UserApiDocumentation {
 
     @Operation(
         summary = "사용자 목록 조회",
-        description = "검색 키워드를 사용하여 사용자 목록을 조회합니다. 키워드가 없으면 모든 사용자를 반환합니다."
+        description = "검색 키워드를 사용하여 사용자 목록을 userId 순으로 조회합니다. 키워드가 없으면 모든 사용자가 대상입니다. "
+            + "응답의 nextCursor를 cursor로 넘기면 다음 페이지를 조회합니다."
     )
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -47,24 +54,26 @@ public interface UserApiDocumentation {
                           "timeStamp": "2024-01-01T10:00:00Z",
                           "responseTimeMs": 123,
                           "path": "/api/users",
-                          "data": [
-                            {
-                              "id": 1,
-                              "nickname": "클라이머123",
-                              "email": "user1@example.com",
-                              "name": "홍길동",
-                              "profileImageUrl": null,
-                              "createdAt": "2024-01-01T10:00:00Z"
-                            },
-                            {
-                              "id": 2,
-                              "nickname": "클라이머456",
-                              "email": "user2@example.com",
-                              "name": "김철수",
-                              "profileImageUrl": null,
-                              "createdAt": "2024-01-02T10:00:00Z"
-                            }
-                          ]
+                          "data": {
+                            "users": [
+                              {
+                                "nickname": "클라이머123",
+                                "statusMessage": "오늘도 완등!",
+                                "profileImageCdnUrl": null,
+                                "ranking": 12,
+                                "tier": "G1"
+                              },
+                              {
+                                "nickname": "클라이머456",
+                                "statusMessage": null,
+                                "profileImageCdnUrl": null,
+                                "ranking": 57,
+                                "tier": "S2"
+                              }
+                            ],
+                            "hasNext": true,
+                            "nextCursor": "dXwy"
+                          }
                         }
                         """
                 )
@@ -80,7 +89,7 @@ public interface UserApiDocumentation {
                     value = """
                         {
                           "httpStatus": 400,
-                          "statusMessage": "잘못된 검색 파라미터입니다.",
+                          "statusMessage": "유효하지 않은 사용자 목록 커서입니다.",
                           "timeStamp": "2024-01-01T10:00:00Z",
                           "responseTimeMs": 67,
                           "path": "/api/users",
@@ -91,19 +100,125 @@ public interface UserApiDocumentation {
             )
         )
     })
-    List<UserProfileResponseDto> getUsers(
+    UserProfilePageResponseDto getUsers(
         @Parameter(
             name = "search",
             description = "검색 키워드 (닉네임, 이름 등)",
             required = false,
             example = "클라이머"
         )
+        String search,
+
+        @Parameter(
+            name = "cursor",
+            description = "이전 응답의 nextCursor. 없으면 첫 페이지",
+            required = false
+        )
+        String cursor,
+
+        @Parameter(
+            name = "size",
+            description = "페이지 크기 (1~100)",
+            required = false,
+            example = "20"
+        )
+        @Min(1)
+        @Max(100)
+        Integer size
+    );
+
+    @Operation(
+        summary = "사용자 목록 스트리밍 조회",
+        description = "검색 조건에 맞는 모든 사용자 프로필을 NDJSON(한 줄에 프로필 하나)으로 스트리밍합니다. "
+            + "서버는 100명 단위로 프로필을 만들어 바로 전송하며, 응답은 공통 응답 형식으로 감싸지 않습니다."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "스트리밍 시작",
+            content = @Content(
+                mediaType = "application/x-ndjson",
+                examples = @ExampleObject(
+                    name = "NDJSON",
+                    value = """
+                        {"nickname":"클라이머123","ranking":12,"tier":"G1"}
+                        {"nickname":"클라이머456","ranking":57,"tier":"S2"}
+                        """
+                )
+            )
+        )
+    })
+    ResponseEntity<StreamingResponseBody> streamUsers(
+        @Parameter(
+            name = "search",
+            description = "검색 키워드 (닉네임)",
+            required = false,
+            example = "클라이머"
+        )
         String search
     );
 
+    @Operation(
+        summary = "닉네임 자동완성",
+        description = "닉네임이 keyword로 시작하는 사용자를 최대 limit명 반환합니다. 한글은 자모 단위로 비교하므로 "
+            + "입력 중인 글자(예: \"클라임\")도 완성된 닉네임(예: \"클라이머\")과 일치하며, 정확히 일치하는 닉네임이 "
+            + "가장 먼저 옵니다."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "자동완성 조회 성공",
+            content = @Content(
+                schema = @Schema(implementation = ApiResponseDto.class),
+                examples = @ExampleObject(
+                    name = "자동완성 결과",
+                    value = """
+                        {
+                          "httpStatus": 200,
+                          "statusMessage": "SUCCESS",
+                          "timeStamp": "2024-01-01T10:00:00Z",
+                          "responseTimeMs": 3,
+                          "path": "/api/users/search/autocomplete",
+                          "data": [
+                            {
+                              "nickname": "클라이머",
+                              "profileImageCdnUrl": null
+                            },
+                            {
+                              "nickname": "클라이머123",
+                              "profileImageCdnUrl": "https://cdn.example.com/profile/1.png"
+                            }
+                          ]
+                        }
+                        """
+                )
+            )
+        )
+    })
+    List<UserAutocompleteResponseDto> autocompleteNickname(
+        @Parameter(
+            name = "keyword",
+            description = "닉네임 접두사",
+            required = true,
+            example = "클라"
+        )
+        String keyword,
+
+        @Parameter(
+            name = "limit",
+            description = "최대 결과 수 (1~20)",
+            required = false,
+            example = "10"
+        )
+        @Min(1)
+        @Max(20)
+        Integer limit
+    );
+
     @Operation(
         summary = "사용자 프로필 조회",
-        description = "닉네임을 사용하여 특정 사용자의 프로필 정보를 조회합니다."
+        description = "닉네임을 사용하여 특정 사용자의 프로필 정보를 조회합니다. 응답의 ETag를 If-None-Match 헤더로 "
+            + "보내면 프로필이 바뀌지 않은 경우 본문 없이 304를 반환합니다."
     )
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -139,6 +254,11 @@ public interface UserApiDocumentation {
                 )
             )
         ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "304",
+            description = "프로필 변경 없음 (If-None-Match 일치)",
+            content = @Content
+        ),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "400",
             description = "잘못된 닉네임",
@@ -188,7 +308,10 @@ public interface UserApiDocumentation {
             example = "클라이머123"
         )
         @NotBlank
-        String nickname
+        String nickname,
+
+        @Parameter(hidden = true)
+        WebRequest webRequest
     );
 
     @Operation(
@@ -713,6 +836,83 @@ public interface UserApiDocumentation {
         LocalDate to
     );
 
+    @Operation(
+        summary = "사용자 연간 활동 히트맵 조회",
+        description = """
+            특정 사용자의 한 해(KST) 일별 활동을 압축해 조회합니다.
+            activeDays는 startDate부터 하루당 1비트(바이트마다 하위 비트부터)로 활동한 날을 표시한 비트맵의
+            Base64(URL-safe, 패딩 없음) 문자열이며, solvedCounts/submittedCounts는 비트가 켜진 날 순서대로의 값입니다.
+            """
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "활동 히트맵 조회 성공",
+            content = @Content(
+                schema = @Schema(implementation = ApiResponseDto.class),
+                examples = @ExampleObject(
+                    name = "활동 히트맵",
+                    value = """
+                        {
+                          "httpStatus": 200,
+                          "statusMessage": "SUCCESS",
+                          "timeStamp": "2026-01-05T10:00:00Z",
+                          "responseTimeMs": 12,
+                          "path": "/api/users/클라이머123/heatmap",
+                          "data": {
+                            "year": 2026,
+                            "startDate": "2026-01-01",
+                            "days": 365,
+                            "activeDays": "BQAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA",
+                            "solvedCounts": [2, 1],
+                            "submittedCounts": [3, 1]
+                          }
+                        }
+                        """
+                )
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404",
+            description = "사용자를 찾을 수 없음",
+            content = @Content(
+                schema = @Schema(implementation = ApiResponseDto.class),
+                examples = @ExampleObject(
+                    name = "사용자 없음",
+                    value = """
+                        {
+                          "httpStatus": 404,
+                          "statusMessage": "해당 사용자를 찾을 수 없습니다.",
+                          "timeStamp": "2026-01-05T10:00:00Z",
+                          "responseTimeMs": 8,
+                          "path": "/api/users/nonexistent/heatmap",
+                          "data": null
+                        }
+                        """
+                )
+            )
+        )
+    })
+    UserActivityHeatmapResponseDto getUserActivityHeatmap(
+        @Parameter(
+            name = "nickname",
+            description = "사용자 닉네임",
+            required = true,
+            example = "클라이머123"
+        )
+        @NotBlank
+        String nickname,
+        @Parameter(
+            name = "year",
+            description = "조회 연도 (미지정 시 올해, KST)",
+            required = false,
+            example = "2026"
+        )
+        @Min(2000)
+        @Max(9999)
+        Integer year
+    );
+
     @Operation(
         summary = "사용자 일별 기록 조회",
         description = "특정 사용자의 일별 등반 기록을 조건에 따라 조회합니다."
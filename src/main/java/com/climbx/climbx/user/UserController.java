@@ -3,16 +3,26 @@ package com.climbx.climbx.user;
 import com.climbx.climbx.common.annotation.SuccessStatus;
 import com.climbx.climbx.common.enums.CriteriaType;
 import com.climbx.climbx.problem.dto.ProblemInfoResponseDto;
+import com.climbx.climbx.user.cache.CachedUserProfile;
 import com.climbx.climbx.user.dto.DailyHistoryResponseDto;
+import com.climbx.climbx.user.dto.UserActivityHeatmapResponseDto;
+import com.climbx.climbx.user.dto.UserAutocompleteResponseDto;
 import com.climbx.climbx.user.dto.UserProfileInfoModifyRequestDto;
+import com.climbx.climbx.user.dto.UserProfilePageResponseDto;
 import com.climbx.climbx.user.dto.UserProfileResponseDto;
 import com.climbx.climbx.user.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -22,7 +32,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Slf4j
 @RestController
@@ -31,24 +44,85 @@ import org.springframework.web.multipart.MultipartFile;
 class UserController implements UserApiDocumentation {
 
     private final UserService userService;
+    private final ObjectMapper objectMapper;
 
     @Override
     @GetMapping
     @SuccessStatus(value = HttpStatus.OK)
-    public List<UserProfileResponseDto> getUsers(
+    public UserProfilePageResponseDto getUsers(
+        @RequestParam(name = "search", required = false)
+        String search,
+
+        @RequestParam(name = "cursor", required = false)
+        String cursor,
+
+        @RequestParam(name = "size", required = false, defaultValue = "20")
+        Integer size
+    ) {
+        log.info("사용자 목록 조회: search={}, cursor={}, size={}", search, cursor, size);
+        return userService.getUsers(search, cursor, size);
+    }
+
+    @Override
+    @GetMapping(params = "format=ndjson", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamUsers(
         @RequestParam(name = "search", required = false)
         String search
     ) {
-        log.info("사용자 목록 조회: search={}", search);
-        return userService.getUsers(search);
+        log.info("사용자 목록 스트리밍 조회: search={}", search);
+        StreamingResponseBody body = out -> userService.streamUsers(search, profiles -> {
+            try {
+                for (UserProfileResponseDto profile : profiles) {
+                    out.write(objectMapper.writeValueAsBytes(profile));
+                    out.write('\n');
+                }
+                // 청크 단위로 클라이언트에 전송
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+
+    @Override
+    @GetMapping("/search/autocomplete")
+    @SuccessStatus(value = HttpStatus.OK)
+    public List<UserAutocompleteResponseDto> autocompleteNickname(
+        @RequestParam(name = "keyword")
+        String keyword,
+
+        @RequestParam(name = "limit", required = false, defaultValue = "10")
+        Integer limit
+    ) {
+        log.info("닉네임 자동완성: keyword={}, limit={}", keyword, limit);
+        return userService.autocompleteNickname(keyword, limit);
     }
 
     @Override
     @GetMapping("/{nickname}")
     @SuccessStatus(value = HttpStatus.OK)
-    public UserProfileResponseDto getUserByNickname(@PathVariable String nickname) {
+    public UserProfileResponseDto getUserByNickname(
+        @PathVariable String nickname,
+        WebRequest webRequest
+    ) {
         log.info("사용자 프로필 조회: nickname={}", nickname);
-        return userService.getUserByNickname(nickname);
+        CachedUserProfile cached = userService.getCachedUserByNickname(nickname);
+        // 일부 조회가 빠진 프로필은 ETag 없이 저장 금지로 응답해 다음 요청에서 다시 만들게 함
+        if (!cached.cacheable()) {
+            if (webRequest instanceof ServletWebRequest servletWebRequest
+                && servletWebRequest.getResponse() != null) {
+                servletWebRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+            }
+            return cached.profile();
+        }
+        // If-None-Match가 일치하면 304 응답 (본문 없음), 아니면 ETag 헤더를 설정하고 본문 반환
+        if (webRequest.checkNotModified(cached.etag())) {
+            return null;
+        }
+        return cached.profile();
     }
 
     @Override
@@ -122,6 +196,20 @@ class UserController implements UserApiDocumentation {
         return userService.getUserStreak(nickname, from, to);
     }
 
+    @Override
+    @GetMapping("/{nickname}/heatmap")
+    @SuccessStatus(value = HttpStatus.OK)
+    public UserActivityHeatmapResponseDto getUserActivityHeatmap(
+        @PathVariable
+        String nickname,
+
+        @RequestParam(name = "year", required = false)
+        Integer year
+    ) {
+        log.info("사용자 활동 히트맵 조회: nickname={}, year={}", nickname, year);
+        return userService.getUserActivityHeatmap(nickname, year);
+    }
+
     @Override
     @GetMapping("/{nickname}/history")
     @SuccessStatus(value = HttpStatus.OK)
@@ -0,0 +1,30 @@
+package com.climbx.climbx.user.cache;
+
+import com.climbx.climbx.user.dto.UserProfileResponseDto;
+
+/**
+ * 버전이 붙은 프로필 캐시 항목.
+ *
+ * @param version 프로필을 만들기 직전에 읽은 사용자 버전. 현재 버전과 다르면 무효입니다.
+ * @param etag    버전과 순위로 만든 약한 ETag. 캐시하지 않은 불완전한 프로필이면 null
+ */
+public record CachedUserProfile(
+
+    Long userId,
+    long version,
+    String etag,
+    UserProfileResponseDto profile
+) {
+
+    /**
+     * 일부 조회가 빠져 캐시하면 안 되는 프로필. ETag를 붙이지 않아 클라이언트도 재검증에 쓰지 않습니다.
+     */
+    public static CachedUserProfile uncached(Long userId, long version,
+        UserProfileResponseDto profile) {
+        return new CachedUserProfile(userId, version, null, profile);
+    }
+
+    public boolean cacheable() {
+        return etag != null;
+    }
+}
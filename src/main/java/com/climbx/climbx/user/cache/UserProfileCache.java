@@ -0,0 +1,135 @@
+package com.climbx.climbx.user.cache;
+
+import com.climbx.climbx.ranking.index.RatingRankIndex;
+import com.climbx.climbx.submission.event.SubmissionAcceptedEvent;
+import com.climbx.climbx.submission.event.SubmissionCreatedEvent;
+import com.climbx.climbx.user.dto.UserProfileResponseDto;
+import com.climbx.climbx.user.event.UserAccountChangedEvent;
+import com.climbx.climbx.user.event.UserStatChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사용자 프로필 응답 캐시. userId별 버전을 두고, 사용자 통계/계정/제출이 바뀌어 커밋되면 버전을 올려 기존 항목을 무효화합니다.
+ * <p>
+ * 버전은 서버 전체에서 단조 증가하는 값을 사용하므로 캐시에서 밀려난 뒤 다시 만들어져도 이전 ETag와 겹치지 않습니다. 순위는 다른
+ * 사용자의 변경으로도 바뀌므로, 레이팅 순위 인덱스가 준비되어 있으면 조회 시 현재 순위와 비교하고 아니면 TTL로 맞춥니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserProfileCache {
+
+    private final Cache<Long, CachedUserProfile> userProfileCache;
+    private final Cache<String, Long> userIdByNicknameCache;
+    private final RatingRankIndex ratingRankIndex;
+
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+    private final AtomicLong versionSequence = new AtomicLong();
+    // 전체 무효화 시점의 버전. 사용자별 버전보다 크면 이 값이 현재 버전
+    private volatile long globalVersion = 0L;
+    // 재시작 전후나 다른 인스턴스의 ETag와 겹치지 않도록 ETag에 포함
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    /**
+     * 유효한 캐시 항목을 조회합니다. DB에 접근하지 않습니다. 닉네임 매핑이 이름 변경 이전 값으로 남아 있어도 프로필의 닉네임이
+     * 다르면 쓰지 않습니다.
+     */
+    public Optional<CachedUserProfile> find(String nickname) {
+        Long userId = userIdByNicknameCache.getIfPresent(nickname);
+        if (userId == null) {
+            return Optional.empty();
+        }
+        CachedUserProfile cached = userProfileCache.getIfPresent(userId);
+        if (cached == null || cached.version() != currentVersion(userId)
+            || !nickname.equals(cached.profile().nickname()) || !isRankingCurrent(cached)) {
+            return Optional.empty();
+        }
+        return Optional.of(cached);
+    }
+
+    /**
+     * 프로필을 만들기 전에 호출해 버전을 읽습니다. 만드는 도중 변경이 커밋되면 저장한 항목은 다음 조회에서 무효가 됩니다.
+     */
+    public long currentVersion(Long userId) {
+        return Math.max(versions.getOrDefault(userId, 0L), globalVersion);
+    }
+
+    /**
+     * 만드는 도중 변경이 커밋되어 버전이 바뀌었으면 저장하지 않습니다. 이름 변경으로 지운 이전 닉네임 매핑이 다시 생기지 않도록
+     * 합니다.
+     */
+    public CachedUserProfile put(
+        Long userId,
+        String nickname,
+        long version,
+        UserProfileResponseDto profile
+    ) {
+        CachedUserProfile cached = new CachedUserProfile(userId, version,
+            etag(userId, version, profile.ranking()), profile);
+        if (version == currentVersion(userId)) {
+            userProfileCache.put(userId, cached);
+            userIdByNicknameCache.put(nickname, userId);
+        }
+        return cached;
+    }
+
+    public void invalidate(Long userId) {
+        versions.put(userId, versionSequence.incrementAndGet());
+        userProfileCache.invalidate(userId);
+    }
+
+    /**
+     * 엔티티 리스너를 거치지 않는 일괄 갱신(배치 재계산 등) 이후 호출합니다.
+     */
+    public void invalidateAll() {
+        long version = versionSequence.incrementAndGet();
+        globalVersion = version;
+        userProfileCache.invalidateAll();
+        userIdByNicknameCache.invalidateAll();
+        log.debug("프로필 캐시 전체 무효화: version={}", version);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserStatChanged(UserStatChangedEvent event) {
+        invalidate(event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        invalidate(event.userId());
+        // 닉네임이 바뀌었을 수 있으므로 이전 닉네임 매핑도 제거
+        userIdByNicknameCache.asMap().values().removeIf(userId -> userId.equals(event.userId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSubmissionCreated(SubmissionCreatedEvent event) {
+        invalidate(event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSubmissionAccepted(SubmissionAcceptedEvent event) {
+        invalidate(event.userId());
+    }
+
+    private boolean isRankingCurrent(CachedUserProfile cached) {
+        if (!ratingRankIndex.isReady()) {
+            return true;
+        }
+        return ratingRankIndex.getRank(cached.userId())
+            .map(rank -> Objects.equals(rank, cached.profile().ranking()))
+            .orElse(true);
+    }
+
+    private String etag(Long userId, long version, Integer ranking) {
+        return "W/\"" + epoch + "-" + userId + "-" + version + "-" + ranking + "\"";
+    }
+}
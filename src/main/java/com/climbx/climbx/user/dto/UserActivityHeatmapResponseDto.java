@@ -0,0 +1,22 @@
+package com.climbx.climbx.user.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.Builder;
+
+/**
+ * 한 해의 일별 활동 히트맵. activeDays는 startDate부터 하루당 1비트(바이트마다 하위 비트부터)로 활동한 날을 표시한 비트맵을
+ * Base64(URL-safe, 패딩 없음)로 인코딩한 값이며, solvedCounts/submittedCounts는 비트가 켜진 날 순서대로의 값입니다.
+ */
+@Builder
+public record UserActivityHeatmapResponseDto(
+
+    Integer year,
+    LocalDate startDate,
+    Integer days,
+    String activeDays,
+    List<Integer> solvedCounts,
+    List<Integer> submittedCounts
+) {
+
+}
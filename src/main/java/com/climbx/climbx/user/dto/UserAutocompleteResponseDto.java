@@ -0,0 +1,27 @@
+package com.climbx.climbx.user.dto;
+
+import com.climbx.climbx.user.entity.UserAccountEntity;
+import com.climbx.climbx.user.index.NicknameEntry;
+import lombok.Builder;
+
+@Builder
+public record UserAutocompleteResponseDto(
+
+    String nickname,
+    String profileImageCdnUrl
+) {
+
+    public static UserAutocompleteResponseDto from(NicknameEntry entry) {
+        return UserAutocompleteResponseDto.builder()
+            .nickname(entry.nickname())
+            .profileImageCdnUrl(entry.profileImageCdnUrl())
+            .build();
+    }
+
+    public static UserAutocompleteResponseDto from(UserAccountEntity account) {
+        return UserAutocompleteResponseDto.builder()
+            .nickname(account.nickname())
+            .profileImageCdnUrl(account.profileImageCdnUrl())
+            .build();
+    }
+}
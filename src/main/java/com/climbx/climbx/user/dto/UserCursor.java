@@ -0,0 +1,35 @@
+package com.climbx.climbx.user.dto;
+
+import com.climbx.climbx.user.exception.InvalidUserCursorException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 사용자 목록 keyset 페이지네이션 커서. 직전 페이지 마지막 사용자의 userId를 담습니다.
+ * <p>
+ * 직렬화 형식은 {@code u|userId}를 URL-safe Base64로 인코딩한 문자열입니다.
+ */
+public record UserCursor(
+
+    Long userId
+) {
+
+    private static final String PREFIX = "u|";
+
+    public static UserCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new InvalidUserCursorException(cursor);
+            }
+            return new UserCursor(Long.parseLong(raw.substring(PREFIX.length())));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidUserCursorException(cursor);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((PREFIX + userId).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,16 @@
+package com.climbx.climbx.user.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 제출 기록으로부터 다시 집계한 사용자의 하루 활동.
+ */
+public record UserDailyActivityDto(
+
+    Long userId,
+    LocalDate activityDate,
+    Integer solvedCount,
+    Integer submittedCount
+) {
+
+}
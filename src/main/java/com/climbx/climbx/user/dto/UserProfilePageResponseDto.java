@@ -0,0 +1,14 @@
+package com.climbx.climbx.user.dto;
+
+import java.util.List;
+import lombok.Builder;
+
+@Builder
+public record UserProfilePageResponseDto(
+
+    List<UserProfileResponseDto> users,
+    boolean hasNext,
+    String nextCursor // 다음 페이지가 없으면 null
+) {
+
+}
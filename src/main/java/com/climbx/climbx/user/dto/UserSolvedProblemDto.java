@@ -0,0 +1,15 @@
+package com.climbx.climbx.user.dto;
+
+import java.util.UUID;
+
+/**
+ * 사용자가 해결한 서로 다른 문제와 현재 레이팅.
+ */
+public record UserSolvedProblemDto(
+
+    Long userId,
+    UUID problemId,
+    Integer rating
+) {
+
+}
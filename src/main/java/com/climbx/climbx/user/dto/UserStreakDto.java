@@ -0,0 +1,14 @@
+package com.climbx.climbx.user.dto;
+
+import java.time.LocalDate;
+import lombok.Builder;
+
+@Builder
+public record UserStreakDto(
+
+    Integer currentStreak,
+    Integer longestStreak,
+    LocalDate lastActiveDate // 활동 기록이 없으면 null
+) {
+
+}
@@ -0,0 +1,18 @@
+package com.climbx.climbx.user.dto;
+
+import com.climbx.climbx.problem.enums.ProblemTagType;
+import java.util.List;
+
+/**
+ * 사용자/태그별 제출 요약. topRatings는 승인된 제출의 문제 레이팅 상위 목록(내림차순)입니다.
+ */
+public record UserTagSummaryDto(
+
+    Long userId,
+    ProblemTagType tag,
+    int submissionCount,
+    int solvedCount,
+    List<Integer> topRatings
+) {
+
+}
@@ -4,8 +4,10 @@ import com.climbx.climbx.auth.entity.UserAuthEntity;
 import com.climbx.climbx.common.entity.BaseTimeEntity;
 import com.climbx.climbx.common.enums.RoleType;
 import com.climbx.climbx.video.entity.VideoEntity;
+import com.climbx.climbx.user.event.UserAccountEntityListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -28,6 +30,7 @@ import lombok.experimental.Accessors;
 import org.hibernate.annotations.SQLRestriction;
 
 @Entity
+@EntityListeners(UserAccountEntityListener.class)
 @Table(name = "user_accounts")
 @SQLRestriction("deleted_at IS NULL AND role = 'USER'")
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
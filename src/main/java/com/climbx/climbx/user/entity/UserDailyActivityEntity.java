@@ -0,0 +1,46 @@
+package com.climbx.climbx.user.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+/**
+ * 사용자별 일별(KST) 활동 집계. (user_id, activity_date) 당 한 행이며 제출 생성/승인 시 upsert로 누적됩니다.
+ */
+@Entity
+@Table(name = "user_daily_activity")
+@IdClass(UserDailyActivityId.class)
+@NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
+@AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+@Getter
+@Accessors(fluent = true)
+@Builder
+public class UserDailyActivityEntity {
+
+    @Id
+    @Column(name = "user_id", updatable = false, nullable = false)
+    private Long userId; // 사용자 ID
+
+    @Id
+    @Column(name = "activity_date", updatable = false, nullable = false)
+    private LocalDate activityDate; // 제출이 생성된 날짜 (KST)
+
+    @Builder.Default
+    @Column(name = "solved_count", nullable = false)
+    @NotNull
+    private Integer solvedCount = 0; // 그날 제출해 승인된 서로 다른 문제 수
+
+    @Builder.Default
+    @Column(name = "submitted_count", nullable = false)
+    @NotNull
+    private Integer submittedCount = 0; // 그날 생성한 제출 수
+}
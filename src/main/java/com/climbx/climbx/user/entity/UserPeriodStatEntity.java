@@ -0,0 +1,59 @@
+package com.climbx.climbx.user.entity;
+
+import com.climbx.climbx.common.enums.PeriodType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+/**
+ * 기간(주간/월간)별 사용자 집계. (period_type, period_start, user_id) 당 한 행이며 제출 승인 시 upsert로 누적됩니다.
+ */
+@Entity
+@Table(name = "user_period_stats")
+@IdClass(UserPeriodStatId.class)
+@NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
+@AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+@Getter
+@Accessors(fluent = true)
+@Builder
+public class UserPeriodStatEntity {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "period_type", columnDefinition = "varchar(16)", updatable = false, nullable = false)
+    private PeriodType periodType; // 집계 기간 종류
+
+    @Id
+    @Column(name = "period_start", updatable = false, nullable = false)
+    private LocalDate periodStart; // 기간 시작일 (KST)
+
+    @Id
+    @Column(name = "user_id", updatable = false, nullable = false)
+    private Long userId; // 사용자 ID
+
+    @Builder.Default
+    @Column(name = "solved_count", nullable = false)
+    @NotNull
+    private Integer solvedCount = 0; // 기간 중 처음 해결한 문제 수
+
+    @Builder.Default
+    @Column(name = "rating_gained", nullable = false)
+    @NotNull
+    private Integer ratingGained = 0; // 기간 중 오른 레이팅
+
+    @Column(name = "updated_at", nullable = false)
+    @NotNull
+    private LocalDateTime updatedAt; // 마지막 누적 시각 (동점 시 먼저 달성한 사용자가 앞)
+}
@@ -0,0 +1,48 @@
+package com.climbx.climbx.user.entity;
+
+import com.climbx.climbx.common.enums.CriteriaType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+/**
+ * 사용자 랭킹 값의 일별 롤업. (user_id, criteria, snapshot_date) 당 한 행만 존재하며 스냅샷 배치가 JDBC로 일괄 기록합니다.
+ */
+@Entity
+@Table(name = "user_ranking_daily")
+@IdClass(UserRankingDailyId.class)
+@NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
+@AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+@Getter
+@Accessors(fluent = true)
+@Builder
+public class UserRankingDailyEntity {
+
+    @Id
+    @Column(name = "user_id", updatable = false, nullable = false)
+    private Long userId; // 사용자 ID
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "criteria", columnDefinition = "varchar(32)", updatable = false, nullable = false)
+    private CriteriaType criteria; // 랭킹 기준
+
+    @Id
+    @Column(name = "snapshot_date", updatable = false, nullable = false)
+    private LocalDate snapshotDate; // 스냅샷 일자 (KST)
+
+    @Column(name = "value", nullable = false)
+    @NotNull
+    private Integer value; // 해당 일자의 기준 값
+}
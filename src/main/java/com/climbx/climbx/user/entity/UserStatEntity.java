@@ -1,8 +1,10 @@
 package com.climbx.climbx.user.entity;
 
 import com.climbx.climbx.common.entity.BaseTimeEntity;
+import com.climbx.climbx.user.event.UserStatEntityListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
@@ -12,14 +14,23 @@ import jakarta.persistence.Table;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.Accessors;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLRestriction;
 
+/*
+ * submission_count, contribution_count 와 그 점수는 UserStatCounterService 가 UPDATE 증분으로
+ * 바꿉니다. 엔티티를 고쳐 저장할 때 바뀐 컬럼만 쓰도록 해(@DynamicUpdate) 카운터에 반영된 증분을 덮어쓰지 않습니다.
+ * rating 을 고치는 경로는 행을 잠그고 읽어야 합니다.
+ */
 @Entity
+@DynamicUpdate
+@EntityListeners(UserStatEntityListener.class)
 @Table(name = "user_stats")
 @SQLRestriction("deleted_at IS NULL")
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
@@ -64,6 +75,9 @@ public class UserStatEntity extends BaseTimeEntity {
     @Min(0)
     private Integer longestStreak = 0; // 가장 긴 연속 출석일, 기본값은 0
 
+    @Column(name = "last_active_date")
+    private LocalDate lastActiveDate; // 마지막으로 문제를 해결한 날짜(KST), 없으면 null
+
     @Builder.Default
     @Column(name = "solved_count", nullable = false)
     @NotNull
@@ -88,31 +102,54 @@ public class UserStatEntity extends BaseTimeEntity {
     @Min(0)
     private Integer rivalCount = 0; // 라이벌 수, 기본값은 0
 
-    public void incrementSubmissionCount() {
-        this.submissionCount++;
-    }
-
     public void incrementSolvedProblemsCount() {
         this.solvedCount++;
     }
 
-    public void incrementContributionCount() {
-        this.contributionCount++;
+    public void setRating(Integer rating) {
+        this.rating = rating;
     }
 
-    public void incrementRatingBySubmission(int amount) {
-        rating += amount;
+    public void setTopProblemRating(Integer topProblemRating) {
+        this.topProblemRating = topProblemRating;
     }
 
-    public void incrementRatingByContribution(int amount) {
-        rating += amount;
+    /**
+     * 상위 문제 레이팅 합을 바꾸고 전체 레이팅에 그 차이만큼 반영합니다.
+     */
+    public void updateTopProblemRating(int topProblemRating) {
+        this.rating += topProblemRating - this.topProblemRating;
+        this.topProblemRating = topProblemRating;
     }
 
-    public void setRating(Integer rating) {
-        this.rating = rating;
+    /**
+     * 문제를 해결한 날짜를 기록하고 연속 출석일을 갱신합니다.
+     * <p>
+     * 마지막 활동일 이전 날짜이거나, 어제보다 이전 날짜이거나, 바로 다음 날이지만 자정 초기화로 이미 연속 출석일이 끊긴 경우(늦게
+     * 승인된 제출)는 증분으로 계산할 수 없으므로 false를 반환합니다. 이때 호출자는 전체 기록으로 다시 계산해야 합니다.
+     */
+    public boolean recordActiveDate(LocalDate activeDate, LocalDate today) {
+        if (lastActiveDate != null && !activeDate.isAfter(lastActiveDate)) {
+            return activeDate.isEqual(lastActiveDate);
+        }
+        if (activeDate.isBefore(today.minusDays(1))) {
+            return false;
+        }
+
+        boolean continued = lastActiveDate != null && lastActiveDate.plusDays(1).isEqual(activeDate);
+        if (continued && currentStreak == 0) {
+            return false;
+        }
+
+        currentStreak = continued ? currentStreak + 1 : 1;
+        longestStreak = Math.max(longestStreak, currentStreak);
+        lastActiveDate = activeDate;
+        return true;
     }
 
-    public void setTopProblemRating(Integer topProblemRating) {
-        this.topProblemRating = topProblemRating;
+    public void setStreak(Integer currentStreak, Integer longestStreak, LocalDate lastActiveDate) {
+        this.currentStreak = currentStreak;
+        this.longestStreak = longestStreak;
+        this.lastActiveDate = lastActiveDate;
     }
 }
\ No newline at end of file
@@ -0,0 +1,133 @@
+package com.climbx.climbx.user.entity;
+
+import com.climbx.climbx.problem.enums.ProblemTagType;
+import com.climbx.climbx.user.util.UserRatingUtil;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+/**
+ * 사용자/태그별 카테고리 레이팅 집계. 해결한 문제 레이팅은 상위 {@link UserRatingUtil#TOP_PROBLEM_LIMIT}개만
+ * 내림차순 문자열로 보관하고, 값이 바뀔 때마다 rating을 다시 계산해 둡니다.
+ */
+@Entity
+@Table(name = "user_tag_stats")
+@IdClass(UserTagStatId.class)
+@NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
+@AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+@Getter
+@Accessors(fluent = true)
+@Builder
+public class UserTagStatEntity {
+
+    private static final String DELIMITER = ",";
+
+    @Id
+    @Column(name = "user_id", updatable = false, nullable = false)
+    private Long userId; // 사용자 ID
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tag", columnDefinition = "varchar(32)", updatable = false, nullable = false)
+    private ProblemTagType tag; // 문제 태그
+
+    @Builder.Default
+    @Column(name = "submission_count", nullable = false)
+    @NotNull
+    private Integer submissionCount = 0; // 상태와 관계없이 제출한 횟수
+
+    @Builder.Default
+    @Column(name = "solved_count", nullable = false)
+    @NotNull
+    private Integer solvedCount = 0; // 승인된 제출 수
+
+    @Builder.Default
+    @Column(name = "top_ratings", nullable = false)
+    @NotNull
+    private String topRatings = ""; // 해결한 문제 레이팅 상위 목록 (내림차순, 쉼표 구분)
+
+    @Builder.Default
+    @Column(name = "rating", nullable = false)
+    @NotNull
+    private Integer rating = 0; // 카테고리 레이팅
+
+    @Column(name = "updated_at", nullable = false)
+    @NotNull
+    private LocalDateTime updatedAt;
+
+    public static UserTagStatEntity of(
+        Long userId,
+        ProblemTagType tag,
+        List<Integer> solvedRatings,
+        int solvedCount,
+        int submissionCount,
+        LocalDateTime updatedAt
+    ) {
+        UserTagStatEntity entity = UserTagStatEntity.builder()
+            .userId(userId)
+            .tag(tag)
+            .submissionCount(submissionCount)
+            .solvedCount(solvedCount)
+            .topRatings(formatTopRatings(solvedRatings))
+            .updatedAt(updatedAt)
+            .build();
+        entity.recalculateRating();
+        return entity;
+    }
+
+    public void addSubmission(LocalDateTime at) {
+        submissionCount++;
+        updatedAt = at;
+        recalculateRating();
+    }
+
+    /**
+     * 승인된 제출을 반영합니다. 상위 목록이 가득 찼고 problemRating이 최솟값 이하이면 목록은 바뀌지 않습니다.
+     */
+    public void addSolvedProblem(int problemRating, LocalDateTime at) {
+        List<Integer> ratings = new ArrayList<>(parseTopRatings());
+        ratings.add(problemRating);
+        solvedCount++;
+        topRatings = formatTopRatings(ratings);
+        updatedAt = at;
+        recalculateRating();
+    }
+
+    public List<Integer> parseTopRatings() {
+        if (topRatings.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(topRatings.split(DELIMITER))
+            .map(Integer::valueOf)
+            .toList();
+    }
+
+    private void recalculateRating() {
+        rating = UserRatingUtil.calculateTagRating(parseTopRatings(), solvedCount,
+            submissionCount);
+    }
+
+    private static String formatTopRatings(List<Integer> ratings) {
+        return ratings.stream()
+            .sorted(Comparator.reverseOrder())
+            .limit(UserRatingUtil.TOP_PROBLEM_LIMIT)
+            .map(String::valueOf)
+            .collect(Collectors.joining(DELIMITER));
+    }
+}
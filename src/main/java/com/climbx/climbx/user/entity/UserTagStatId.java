@@ -0,0 +1,23 @@
+package com.climbx.climbx.user.entity;
+
+import com.climbx.climbx.problem.enums.ProblemTagType;
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+@NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
+@AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+@Getter
+@Accessors(fluent = true)
+@Builder
+@EqualsAndHashCode
+public class UserTagStatId implements Serializable {
+
+    private Long userId;
+
+    private ProblemTagType tag;
+}
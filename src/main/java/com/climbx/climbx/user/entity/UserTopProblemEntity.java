@@ -0,0 +1,57 @@
+package com.climbx.climbx.user.entity;
+
+import com.climbx.climbx.user.util.UserRatingUtil;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+/**
+ * 사용자가 해결한 서로 다른 문제 중 레이팅 상위 {@link UserRatingUtil#TOP_PROBLEM_LIMIT}개. 사용자마다 최대 그 수만큼의
+ * 행만 유지하며, 행의 rating 합이 user_stats.top_problem_rating 입니다.
+ */
+@Entity
+@Table(name = "user_top_problems")
+@IdClass(UserTopProblemId.class)
+@NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
+@AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+@Getter
+@Accessors(fluent = true)
+@Builder
+public class UserTopProblemEntity {
+
+    @Id
+    @Column(name = "user_id", updatable = false, nullable = false)
+    private Long userId; // 사용자 ID
+
+    @Id
+    @Column(name = "problem_id", columnDefinition = "BINARY(16)", updatable = false,
+        nullable = false)
+    private UUID problemId; // 해결한 문제 ID
+
+    @Column(name = "rating", nullable = false)
+    @NotNull
+    @Min(0)
+    private Integer rating; // 문제 레이팅 (문제 레이팅이 바뀌면 함께 갱신)
+
+    public static UserTopProblemEntity of(Long userId, UUID problemId, int rating) {
+        return UserTopProblemEntity.builder()
+            .userId(userId)
+            .problemId(problemId)
+            .rating(rating)
+            .build();
+    }
+
+    public void changeRating(int rating) {
+        this.rating = rating;
+    }
+}
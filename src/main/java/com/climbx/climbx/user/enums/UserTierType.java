@@ -1,7 +1,7 @@
 package com.climbx.climbx.user.enums;
 
 import com.climbx.climbx.common.exception.InvalidRatingValueException;
-import java.util.stream.Stream;
+import java.util.Arrays;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.Accessors;
@@ -31,10 +31,22 @@ public enum UserTierType {
     private final int inclusiveMinValue;
     private final int exclusiveMaxValue;
 
+    // 레이팅 0..M.exclusiveMaxValue - 1 를 인덱스로 하는 티어 표
+    private static final UserTierType[] BY_VALUE = buildLookupTable();
+
     public static UserTierType fromValue(Integer value) {
-        return Stream.of(values())
-            .filter(t -> t.inclusiveMinValue <= value && value < t.exclusiveMaxValue)
-            .findFirst()
-            .orElseThrow(() -> new InvalidRatingValueException(value));
+        int rating = value;
+        if (rating < 0 || rating >= BY_VALUE.length) {
+            throw new InvalidRatingValueException(rating);
+        }
+        return BY_VALUE[rating];
+    }
+
+    private static UserTierType[] buildLookupTable() {
+        UserTierType[] table = new UserTierType[M.exclusiveMaxValue];
+        for (UserTierType tier : values()) {
+            Arrays.fill(table, tier.inclusiveMinValue, tier.exclusiveMaxValue, tier);
+        }
+        return table;
     }
 }
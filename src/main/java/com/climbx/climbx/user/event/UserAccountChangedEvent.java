@@ -0,0 +1,31 @@
+package com.climbx.climbx.user.event;
+
+import com.climbx.climbx.common.enums.RoleType;
+import com.climbx.climbx.user.entity.UserAccountEntity;
+import lombok.Builder;
+
+/**
+ * user_accounts 행이 생성/수정된 직후 발행되는 이벤트. 랭킹 응답에 노출되는 프로필 정보를 담습니다.
+ */
+@Builder
+public record UserAccountChangedEvent(
+
+    Long userId,
+    RoleType role,
+    String nickname,
+    String statusMessage,
+    String profileImageCdnUrl,
+    boolean deleted
+) {
+
+    public static UserAccountChangedEvent from(UserAccountEntity account) {
+        return UserAccountChangedEvent.builder()
+            .userId(account.userId())
+            .role(account.role())
+            .nickname(account.nickname())
+            .statusMessage(account.statusMessage())
+            .profileImageCdnUrl(account.profileImageCdnUrl())
+            .deleted(account.deletedAt() != null)
+            .build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.climbx.climbx.user.event;
+
+import com.climbx.climbx.user.entity.UserStatEntity;
+import java.time.LocalDateTime;
+import lombok.Builder;
+
+/**
+ * user_stats 행이 생성/수정된 직후 발행되는 이벤트. 랭킹 정렬 키에 필요한 값만 스냅샷으로 담습니다.
+ */
+@Builder
+public record UserStatChangedEvent(
+
+    Long userId,
+    Integer rating,
+    Integer currentStreak,
+    Integer longestStreak,
+    Integer solvedCount,
+    LocalDateTime updatedAt,
+    boolean deleted
+) {
+
+    public static UserStatChangedEvent from(UserStatEntity stat) {
+        return UserStatChangedEvent.builder()
+            .userId(stat.userId())
+            .rating(stat.rating())
+            .currentStreak(stat.currentStreak())
+            .longestStreak(stat.longestStreak())
+            .solvedCount(stat.solvedCount())
+            .updatedAt(stat.updatedAt())
+            .deleted(stat.deletedAt() != null)
+            .build();
+    }
+}
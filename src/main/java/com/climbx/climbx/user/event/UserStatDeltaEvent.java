@@ -0,0 +1,17 @@
+package com.climbx.climbx.user.event;
+
+/**
+ * user_stats 카운터 증가분. 묶음 반영이 켜져 있으면 커밋 뒤 사용자별로 모았다가 한 번에 반영합니다.
+ */
+public record UserStatDeltaEvent(
+
+    Long userId,
+    int submissionCount,
+    int contributionCount
+) {
+
+    public UserStatDeltaEvent plus(UserStatDeltaEvent other) {
+        return new UserStatDeltaEvent(userId, submissionCount + other.submissionCount,
+            contributionCount + other.contributionCount);
+    }
+}
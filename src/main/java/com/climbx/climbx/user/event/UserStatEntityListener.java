@@ -0,0 +1,24 @@
+package com.climbx.climbx.user.event;
+
+import com.climbx.climbx.user.entity.UserStatEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * UserStatEntity 변경을 애플리케이션 이벤트로 전달합니다. 수신 측은 커밋 이후(AFTER_COMMIT)에 반영해야 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserStatEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onChanged(UserStatEntity stat) {
+        eventPublisher.publishEvent(UserStatChangedEvent.from(stat));
+    }
+}
@@ -0,0 +1,12 @@
+package com.climbx.climbx.user.exception;
+
+import com.climbx.climbx.common.enums.ErrorCode;
+import com.climbx.climbx.common.exception.BusinessException;
+
+public class InvalidUserCursorException extends BusinessException {
+
+    public InvalidUserCursorException(String cursor) {
+        super(ErrorCode.INVALID_USER_CURSOR);
+        addContext("cursor", cursor);
+    }
+}
@@ -0,0 +1,13 @@
+package com.climbx.climbx.user.index;
+
+/**
+ * 닉네임 검색 인덱스의 자동완성 결과 항목.
+ */
+public record NicknameEntry(
+
+    Long userId,
+    String nickname,
+    String profileImageCdnUrl
+) {
+
+}
@@ -0,0 +1,226 @@
+package com.climbx.climbx.user.index;
+
+import com.climbx.climbx.common.enums.RoleType;
+import com.climbx.climbx.common.util.HangulJamoUtil;
+import com.climbx.climbx.user.entity.UserAccountEntity;
+import com.climbx.climbx.user.event.UserAccountChangedEvent;
+import com.climbx.climbx.user.repository.UserAccountRepository;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 닉네임 검색용 인메모리 n-gram 역색인.
+ * <p>
+ * 정규화한 닉네임의 길이 1..{@link #GRAM_SIZE} 부분 문자열마다 userId 정렬 목록을 유지해 포함 검색을 테이블 크기와 무관하게
+ * 처리합니다. 검색어가 GRAM_SIZE 이하이면 목록 하나를 그대로 읽고, 더 길면 가장 짧은 trigram 목록을 후보로 삼아 전체 포함 여부로
+ * 거짓 양성을 걸러냅니다. 자동완성은 닉네임을 자모로 분해한 키의 정렬 집합에서 접두사 구간을 읽습니다. 집계 대상은
+ * {@code UserAccountEntity}의 @SQLRestriction과 동일하게 삭제되지 않은 USER 계정입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NicknameSearchIndex {
+
+    public static final int GRAM_SIZE = 3;
+
+    private static final Comparator<IndexedNickname> JAMO_ORDER = Comparator
+        .comparing(IndexedNickname::jamoKey)
+        .thenComparing(IndexedNickname::userId);
+
+    private final UserAccountRepository userAccountRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, IndexedNickname> entries = new HashMap<>();
+    private final Map<String, NavigableSet<Long>> postings = new HashMap<>();
+    private final NavigableSet<IndexedNickname> byJamoKey = new TreeSet<>(JAMO_ORDER);
+    private volatile boolean ready = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    public void reload() {
+        lock.writeLock().lock();
+        try {
+            long startedAt = System.currentTimeMillis();
+            // @SQLRestriction으로 삭제되지 않은 USER 계정만 조회됨
+            List<UserAccountEntity> accounts = userAccountRepository.findAll();
+
+            entries.clear();
+            postings.clear();
+            byJamoKey.clear();
+            accounts.forEach(account -> insert(IndexedNickname.of(account.userId(),
+                account.nickname(), account.profileImageCdnUrl())));
+            ready = true;
+
+            log.info("닉네임 검색 인덱스 적재 완료: users={}, grams={}, elapsed={}ms",
+                entries.size(), postings.size(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            ready = false;
+            log.error("닉네임 검색 인덱스 적재 실패, DB 조회로 대체합니다.", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 닉네임에 keyword를 포함하는 사용자 중 afterUserId 이후의 userId를 오름차순으로 최대 limit개 반환합니다. 대소문자는
+     * 구분하지 않습니다.
+     */
+    public List<Long> searchAfter(String keyword, long afterUserId, int limit) {
+        String query = HangulJamoUtil.normalize(keyword);
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (query.length() <= GRAM_SIZE) {
+                NavigableSet<Long> userIds = postings.get(query);
+                return userIds == null
+                    ? List.of()
+                    : userIds.tailSet(afterUserId, false).stream().limit(limit).toList();
+            }
+
+            NavigableSet<Long> candidates = null;
+            for (int i = 0; i + GRAM_SIZE <= query.length(); i++) {
+                NavigableSet<Long> userIds = postings.get(query.substring(i, i + GRAM_SIZE));
+                if (userIds == null) {
+                    return List.of();
+                }
+                if (candidates == null || userIds.size() < candidates.size()) {
+                    candidates = userIds;
+                }
+            }
+
+            List<Long> result = new ArrayList<>();
+            for (Long userId : candidates.tailSet(afterUserId, false)) {
+                if (entries.get(userId).normalized().contains(query)) {
+                    result.add(userId);
+                    if (result.size() >= limit) {
+                        break;
+                    }
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 자모 단위로 prefix로 시작하는 닉네임을 최대 limit개 반환합니다. 자모 사전순으로 정렬되므로 정확히 일치하는 닉네임이 가장
+     * 먼저 오고, 입력 중인 글자("클라임")도 완성된 닉네임("클라이머")과 일치합니다.
+     */
+    public List<NicknameEntry> autocomplete(String prefix, int limit) {
+        String key = HangulJamoUtil.decompose(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            IndexedNickname from = new IndexedNickname(Long.MIN_VALUE, null, null, null, key);
+            List<NicknameEntry> result = new ArrayList<>(limit);
+            for (IndexedNickname entry : byJamoKey.tailSet(from, true)) {
+                if (!entry.jamoKey().startsWith(key) || result.size() >= limit) {
+                    break;
+                }
+                result.add(new NicknameEntry(entry.userId(), entry.nickname(),
+                    entry.profileImageCdnUrl()));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 회원 가입(AuthService.createNewUser), 프로필 수정(modifyProfileInfo), 탈퇴(soft delete) 모두 계정 엔티티 이벤트로
+     * 반영됩니다. 로그인 시각 갱신처럼 닉네임과 프로필 이미지가 그대로인 변경은 무시합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        boolean searchable = !event.deleted() && event.role() == RoleType.USER;
+
+        lock.writeLock().lock();
+        try {
+            IndexedNickname current = entries.get(event.userId());
+            if (current != null && searchable
+                && current.nickname().equals(event.nickname())
+                && Objects.equals(current.profileImageCdnUrl(), event.profileImageCdnUrl())) {
+                return;
+            }
+            if (current != null) {
+                remove(current);
+            }
+            if (searchable) {
+                insert(IndexedNickname.of(event.userId(), event.nickname(),
+                    event.profileImageCdnUrl()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void insert(IndexedNickname entry) {
+        entries.put(entry.userId(), entry);
+        byJamoKey.add(entry);
+        forEachGram(entry.normalized(), gram -> postings
+            .computeIfAbsent(gram, key -> new TreeSet<>())
+            .add(entry.userId()));
+    }
+
+    private void remove(IndexedNickname entry) {
+        entries.remove(entry.userId());
+        byJamoKey.remove(entry);
+        forEachGram(entry.normalized(), gram -> {
+            NavigableSet<Long> userIds = postings.get(gram);
+            if (userIds != null && userIds.remove(entry.userId()) && userIds.isEmpty()) {
+                postings.remove(gram);
+            }
+        });
+    }
+
+    private static void forEachGram(String value, Consumer<String> action) {
+        for (int size = 1; size <= GRAM_SIZE; size++) {
+            for (int i = 0; i + size <= value.length(); i++) {
+                action.accept(value.substring(i, i + size));
+            }
+        }
+    }
+
+    private record IndexedNickname(
+        Long userId,
+        String nickname,
+        String profileImageCdnUrl,
+        String normalized,
+        String jamoKey
+    ) {
+
+        private static IndexedNickname of(Long userId, String nickname,
+            String profileImageCdnUrl) {
+            return new IndexedNickname(userId, nickname, profileImageCdnUrl,
+                HangulJamoUtil.normalize(nickname), HangulJamoUtil.decompose(nickname));
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.climbx.climbx.common.enums.RoleType;
 import com.climbx.climbx.user.entity.UserAccountEntity;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -32,4 +33,28 @@ public interface UserAccountRepository extends JpaRepository<UserAccountEntity,
      * 닉네임에 특정 문자열을 포함하는 사용자들 조회 (@SQLRestriction 자동 적용 - USER role만)
      */
     List<UserAccountEntity> findByNicknameContaining(String nickname);
+
+    /**
+     * userId 오름차순 keyset 페이지 조회. search가 null이면 전체, 아니면 닉네임 부분 일치 (LIKE 특수문자는 호출 측에서 '!'로
+     * 이스케이프, @SQLRestriction 자동 적용)
+     */
+    @Query("""
+        SELECT u FROM UserAccountEntity u
+         WHERE u.userId > :afterUserId
+           AND (:search IS NULL OR u.nickname LIKE CONCAT('%', :search, '%') ESCAPE '!')
+         ORDER BY u.userId ASC
+        """)
+    List<UserAccountEntity> findPageAfter(
+        @Param("afterUserId") Long afterUserId,
+        @Param("search") String search,
+        Pageable pageable
+    );
+
+    /*
+     * 닉네임 접두사 자동완성 (검색 인덱스가 준비되지 않았을 때 사용, @SQLRestriction 자동 적용)
+     */
+    List<UserAccountEntity> findByNicknameStartingWithOrderByNicknameAsc(
+        String prefix,
+        Pageable pageable
+    );
 }
@@ -0,0 +1,69 @@
+package com.climbx.climbx.user.repository;
+
+import com.climbx.climbx.user.dto.DailyHistoryResponseDto;
+import com.climbx.climbx.user.entity.UserDailyActivityEntity;
+import com.climbx.climbx.user.entity.UserDailyActivityId;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserDailyActivityRepository extends
+    JpaRepository<UserDailyActivityEntity, UserDailyActivityId> {
+
+    /**
+     * 일별 활동 행에 값을 더합니다. 행이 없으면 새로 만들며 동시 제출에도 한 행으로 누적됩니다.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_daily_activity
+                    (user_id, activity_date, solved_count, submitted_count)
+             VALUES (:userId, :activityDate, :solvedCount, :submittedCount)
+        ON DUPLICATE KEY UPDATE
+             solved_count    = solved_count + VALUES(solved_count),
+             submitted_count = submitted_count + VALUES(submitted_count)
+        """, nativeQuery = true)
+    int accumulate(
+        @Param("userId") Long userId,
+        @Param("activityDate") LocalDate activityDate,
+        @Param("solvedCount") int solvedCount,
+        @Param("submittedCount") int submittedCount
+    );
+
+    /**
+     * [from, to] 기간 중 문제를 해결한 날과 그날 해결한 문제 수 (PK 범위 스캔)
+     */
+    @Query("""
+        SELECT new com.climbx.climbx.user.dto.DailyHistoryResponseDto(a.activityDate, a.solvedCount)
+          FROM UserDailyActivityEntity a
+         WHERE a.userId = :userId
+           AND a.activityDate BETWEEN :from AND :to
+           AND a.solvedCount > 0
+         ORDER BY a.activityDate ASC
+        """)
+    List<DailyHistoryResponseDto> findSolvedHistory(
+        @Param("userId") Long userId,
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to
+    );
+
+    /**
+     * 전체 기간의 해결 기록. 연속 출석일 재계산에 사용합니다.
+     */
+    default List<DailyHistoryResponseDto> findSolvedHistory(Long userId) {
+        return findSolvedHistory(userId, LocalDate.of(2000, 1, 1), LocalDate.of(9999, 12, 31));
+    }
+
+    List<UserDailyActivityEntity> findByUserIdAndActivityDateBetweenOrderByActivityDateAsc(
+        Long userId,
+        LocalDate from,
+        LocalDate to
+    );
+
+    @Modifying
+    @Query("DELETE FROM UserDailyActivityEntity a WHERE a.userId IN :userIds")
+    int deleteByUserIdIn(@Param("userIds") Collection<Long> userIds);
+}
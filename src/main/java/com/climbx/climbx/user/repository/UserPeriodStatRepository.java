@@ -0,0 +1,150 @@
+package com.climbx.climbx.user.repository;
+
+import com.climbx.climbx.common.enums.PeriodType;
+import com.climbx.climbx.common.enums.RoleType;
+import com.climbx.climbx.ranking.dto.SeasonRankingRowDto;
+import com.climbx.climbx.user.entity.UserPeriodStatEntity;
+import com.climbx.climbx.user.entity.UserPeriodStatId;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserPeriodStatRepository extends
+    JpaRepository<UserPeriodStatEntity, UserPeriodStatId> {
+
+    /**
+     * 기간 집계 행에 값을 더합니다. 행이 없으면 새로 만들며 동시 승인에도 한 행으로 누적됩니다.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_period_stats
+                    (period_type, period_start, user_id, solved_count, rating_gained, updated_at)
+             VALUES (:periodType, :periodStart, :userId, :solvedCount, :ratingGained, :updatedAt)
+        ON DUPLICATE KEY UPDATE
+             solved_count  = solved_count + VALUES(solved_count),
+             rating_gained = rating_gained + VALUES(rating_gained),
+             updated_at    = VALUES(updated_at)
+        """, nativeQuery = true)
+    int accumulate(
+        @Param("periodType") String periodType,
+        @Param("periodStart") LocalDate periodStart,
+        @Param("userId") Long userId,
+        @Param("solvedCount") int solvedCount,
+        @Param("ratingGained") int ratingGained,
+        @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    /**
+     * 기간 내 해결 수 랭킹 첫 페이지 (solvedCount DESC, updatedAt ASC, userId ASC)
+     */
+    @Query("""
+        SELECT new com.climbx.climbx.ranking.dto.SeasonRankingRowDto(
+                    p.userId, ua.nickname, ua.profileImageCdnUrl,
+                    p.solvedCount, p.ratingGained, p.updatedAt)
+                FROM UserPeriodStatEntity p
+                JOIN UserAccountEntity ua ON ua.userId = p.userId
+                WHERE p.periodType = :periodType
+                  AND p.periodStart = :periodStart
+                  AND ua.role = :role
+                ORDER BY p.solvedCount DESC, p.updatedAt ASC, p.userId ASC
+        """)
+    List<SeasonRankingRowDto> findSolvedCountRanking(
+        @Param("periodType") PeriodType periodType,
+        @Param("periodStart") LocalDate periodStart,
+        @Param("role") RoleType role,
+        Pageable pageable
+    );
+
+    /**
+     * 커서(solvedCount, updatedAt, userId) 바로 다음 행부터 조회하는 seek 쿼리
+     */
+    @Query("""
+        SELECT new com.climbx.climbx.ranking.dto.SeasonRankingRowDto(
+                    p.userId, ua.nickname, ua.profileImageCdnUrl,
+                    p.solvedCount, p.ratingGained, p.updatedAt)
+                FROM UserPeriodStatEntity p
+                JOIN UserAccountEntity ua ON ua.userId = p.userId
+                WHERE p.periodType = :periodType
+                  AND p.periodStart = :periodStart
+                  AND ua.role = :role
+                  AND (p.solvedCount < :value
+                       OR (p.solvedCount = :value AND p.updatedAt > :updatedAt)
+                       OR (p.solvedCount = :value AND p.updatedAt = :updatedAt AND p.userId > :userId))
+                ORDER BY p.solvedCount DESC, p.updatedAt ASC, p.userId ASC
+        """)
+    List<SeasonRankingRowDto> findSolvedCountRankingAfter(
+        @Param("periodType") PeriodType periodType,
+        @Param("periodStart") LocalDate periodStart,
+        @Param("role") RoleType role,
+        @Param("value") Integer value,
+        @Param("updatedAt") LocalDateTime updatedAt,
+        @Param("userId") Long userId,
+        Pageable pageable
+    );
+
+    /**
+     * 기간 내 레이팅 상승폭 랭킹 첫 페이지 (ratingGained DESC, updatedAt ASC, userId ASC)
+     */
+    @Query("""
+        SELECT new com.climbx.climbx.ranking.dto.SeasonRankingRowDto(
+                    p.userId, ua.nickname, ua.profileImageCdnUrl,
+                    p.solvedCount, p.ratingGained, p.updatedAt)
+                FROM UserPeriodStatEntity p
+                JOIN UserAccountEntity ua ON ua.userId = p.userId
+                WHERE p.periodType = :periodType
+                  AND p.periodStart = :periodStart
+                  AND ua.role = :role
+                ORDER BY p.ratingGained DESC, p.updatedAt ASC, p.userId ASC
+        """)
+    List<SeasonRankingRowDto> findRatingGainedRanking(
+        @Param("periodType") PeriodType periodType,
+        @Param("periodStart") LocalDate periodStart,
+        @Param("role") RoleType role,
+        Pageable pageable
+    );
+
+    /**
+     * 커서(ratingGained, updatedAt, userId) 바로 다음 행부터 조회하는 seek 쿼리
+     */
+    @Query("""
+        SELECT new com.climbx.climbx.ranking.dto.SeasonRankingRowDto(
+                    p.userId, ua.nickname, ua.profileImageCdnUrl,
+                    p.solvedCount, p.ratingGained, p.updatedAt)
+                FROM UserPeriodStatEntity p
+                JOIN UserAccountEntity ua ON ua.userId = p.userId
+                WHERE p.periodType = :periodType
+                  AND p.periodStart = :periodStart
+                  AND ua.role = :role
+                  AND (p.ratingGained < :value
+                       OR (p.ratingGained = :value AND p.updatedAt > :updatedAt)
+                       OR (p.ratingGained = :value AND p.updatedAt = :updatedAt AND p.userId > :userId))
+                ORDER BY p.ratingGained DESC, p.updatedAt ASC, p.userId ASC
+        """)
+    List<SeasonRankingRowDto> findRatingGainedRankingAfter(
+        @Param("periodType") PeriodType periodType,
+        @Param("periodStart") LocalDate periodStart,
+        @Param("role") RoleType role,
+        @Param("value") Integer value,
+        @Param("updatedAt") LocalDateTime updatedAt,
+        @Param("userId") Long userId,
+        Pageable pageable
+    );
+
+    @Query("""
+        SELECT COUNT(p) FROM UserPeriodStatEntity p
+                JOIN UserAccountEntity ua ON ua.userId = p.userId
+                WHERE p.periodType = :periodType
+                  AND p.periodStart = :periodStart
+                  AND ua.role = :role
+        """)
+    long countByPeriodAndUserRole(
+        @Param("periodType") PeriodType periodType,
+        @Param("periodStart") LocalDate periodStart,
+        @Param("role") RoleType role
+    );
+}
@@ -0,0 +1,32 @@
+package com.climbx.climbx.user.repository;
+
+import com.climbx.climbx.common.enums.CriteriaType;
+import com.climbx.climbx.user.entity.UserRankingDailyEntity;
+import com.climbx.climbx.user.entity.UserRankingDailyId;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserRankingDailyRepository extends
+    JpaRepository<UserRankingDailyEntity, UserRankingDailyId> {
+
+    /**
+     * 사용자의 특정 criteria 일별 값을 기간으로 조회 (PK (user_id, criteria, snapshot_date) 범위 스캔)
+     */
+    List<UserRankingDailyEntity> findByUserIdAndCriteriaAndSnapshotDateBetweenOrderBySnapshotDateAsc(
+        Long userId,
+        CriteriaType criteria,
+        LocalDate from,
+        LocalDate to
+    );
+
+    /**
+     * 특정 사용자의 일별 롤업을 모두 삭제합니다. (soft delete 컬럼이 없는 집계 테이블)
+     */
+    @Modifying
+    @Query("DELETE FROM UserRankingDailyEntity d WHERE d.userId = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+}
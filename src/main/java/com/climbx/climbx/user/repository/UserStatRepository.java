@@ -2,10 +2,15 @@ package com.climbx.climbx.user.repository;
 
 import com.climbx.climbx.user.dto.UserRankingDto;
 import com.climbx.climbx.user.entity.UserStatEntity;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -39,6 +44,17 @@ public interface UserStatRepository extends JpaRepository<UserStatEntity, Long>
      */
     List<UserStatEntity> findByUserIdIn(List<Long> userIds);
 
+    /**
+     * 여러 사용자의 통계를 잠가 조회합니다. 워커끼리 교착되지 않도록 항상 userId 순서로 잠급니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT u FROM UserStatEntity u
+         WHERE u.userId IN :userIds
+         ORDER BY u.userId ASC
+        """)
+    List<UserStatEntity> findAllByUserIdInForUpdate(@Param("userIds") Collection<Long> userIds);
+
     /*
      * 배치 조회: 여러 사용자의 랭킹 정보 조회 (rating 기준)
      */
@@ -64,6 +80,29 @@ public interface UserStatRepository extends JpaRepository<UserStatEntity, Long>
     @Query("UPDATE UserStatEntity u SET u.deletedAt = CURRENT_TIMESTAMP WHERE u.userId = :userId AND u.deletedAt IS NULL")
     int softDeleteByUserId(@Param("userId") Long userId);
 
+    /**
+     * activeSince 이전부터 활동이 없는 사용자의 현재 연속 출석일을 한 번에 0으로 초기화합니다.
+     */
+    @Modifying
+    @Query("""
+        UPDATE UserStatEntity u
+           SET u.currentStreak = 0,
+               u.updatedAt = CURRENT_TIMESTAMP
+         WHERE u.currentStreak > 0
+           AND (u.lastActiveDate IS NULL OR u.lastActiveDate < :activeSince)
+        """)
+    int resetBrokenStreaks(@Param("activeSince") LocalDate activeSince);
+
+    /**
+     * afterUserId 다음 사용자 ID를 오름차순으로 조회합니다 (배치 재계산용 keyset 페이지).
+     */
+    @Query("""
+        SELECT u.userId FROM UserStatEntity u
+         WHERE u.userId > :afterUserId
+         ORDER BY u.userId ASC
+        """)
+    List<Long> findUserIdsAfter(@Param("afterUserId") Long afterUserId, Pageable pageable);
+
     // 유저의 랭킹
 
     /**
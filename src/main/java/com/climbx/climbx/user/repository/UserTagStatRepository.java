@@ -0,0 +1,59 @@
+package com.climbx.climbx.user.repository;
+
+import com.climbx.climbx.problem.enums.ProblemTagType;
+import com.climbx.climbx.user.dto.UserTagRatingDto;
+import com.climbx.climbx.user.entity.UserTagStatEntity;
+import com.climbx.climbx.user.entity.UserTagStatId;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserTagStatRepository extends JpaRepository<UserTagStatEntity, UserTagStatId> {
+
+    /**
+     * 여러 사용자의 태그별 카테고리 레이팅 조회 (PK user_id 범위 스캔)
+     */
+    @Query("""
+        SELECT new com.climbx.climbx.user.dto.UserTagRatingDto(t.userId, t.tag, t.rating)
+                FROM UserTagStatEntity t
+                WHERE t.userId IN :userIds
+        """)
+    List<UserTagRatingDto> findTagRatingsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * (사용자, 태그) 행이 없으면 빈 집계로 만듭니다. 이미 있으면 그대로 두므로 동시에 호출해도 중복 키 오류 없이 한 행만 남습니다.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_tag_stats
+                    (user_id, tag, submission_count, solved_count, top_ratings, rating, updated_at)
+             VALUES (:userId, :tag, 0, 0, '', 0, :updatedAt)
+        ON DUPLICATE KEY UPDATE user_id = user_id
+        """, nativeQuery = true)
+    int insertIfAbsent(
+        @Param("userId") Long userId,
+        @Param("tag") String tag,
+        @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT t FROM UserTagStatEntity t
+                WHERE t.userId = :userId
+                  AND t.tag IN :tags
+        """)
+    List<UserTagStatEntity> findForUpdate(
+        @Param("userId") Long userId,
+        @Param("tags") Collection<ProblemTagType> tags
+    );
+
+    @Modifying
+    @Query("DELETE FROM UserTagStatEntity t WHERE t.userId IN :userIds")
+    int deleteByUserIdIn(@Param("userIds") Collection<Long> userIds);
+}
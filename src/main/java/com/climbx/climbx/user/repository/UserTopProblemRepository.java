@@ -0,0 +1,61 @@
+package com.climbx.climbx.user.repository;
+
+import com.climbx.climbx.problem.dto.ProblemInfoResponseDto;
+import com.climbx.climbx.user.entity.UserTopProblemEntity;
+import com.climbx.climbx.user.entity.UserTopProblemId;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserTopProblemRepository extends
+    JpaRepository<UserTopProblemEntity, UserTopProblemId> {
+
+    /**
+     * 사용자의 상위 문제 행을 잠그고 조회합니다. 행이 없어도 user_id 범위가 잠기므로 같은 사용자의 동시 갱신이 직렬화됩니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM UserTopProblemEntity t WHERE t.userId = :userId")
+    List<UserTopProblemEntity> findByUserIdForUpdate(@Param("userId") Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM UserTopProblemEntity t WHERE t.problemId = :problemId")
+    List<UserTopProblemEntity> findByProblemIdForUpdate(@Param("problemId") UUID problemId);
+
+    List<UserTopProblemEntity> findByUserIdIn(Collection<Long> userIds);
+
+    /**
+     * 사용자의 상위 문제를 레이팅 높은 순으로 조회 (PK user_id 범위 스캔, 최대 50행)
+     */
+    @Query("""
+        SELECT new com.climbx.climbx.problem.dto.ProblemInfoResponseDto(
+            p.problemId,
+            g.gymId,
+            g.name,
+            ga.gymAreaId,
+            ga.areaName,
+            p.localLevel,
+            p.holdColor,
+            p.tier,
+            p.rating,
+            p.problemImageCdnUrl,
+            p.activeStatus,
+            p.createdAt
+        )
+        FROM UserTopProblemEntity t
+        JOIN ProblemEntity p ON p.problemId = t.problemId
+        JOIN p.gymEntity g
+        JOIN p.gymArea ga
+        WHERE t.userId = :userId
+        ORDER BY t.rating DESC
+        """)
+    List<ProblemInfoResponseDto> findTopProblems(
+        @Param("userId") Long userId,
+        Pageable pageable
+    );
+}
@@ -0,0 +1,40 @@
+package com.climbx.climbx.user.scheduler;
+
+import com.climbx.climbx.common.util.KstDateUtil;
+import com.climbx.climbx.user.service.UserDailyActivityBatchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserDailyActivityRebuildScheduler {
+
+    private final UserDailyActivityBatchService userDailyActivityBatchService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            userDailyActivityBatchService.backfillIfEmpty();
+        } catch (RuntimeException e) {
+            log.error("일별 활동 초기 적재 실패", e);
+        }
+    }
+
+    /**
+     * 매일 04:45(KST)에 일별 활동을 다시 집계해 제출 취소를 반영합니다.
+     */
+    @Scheduled(cron = "${climbx.daily-activity.rebuild-cron:0 45 4 * * *}",
+        zone = KstDateUtil.ZONE_NAME)
+    public void rebuild() {
+        try {
+            userDailyActivityBatchService.rebuildAll();
+        } catch (RuntimeException e) {
+            log.error("일별 활동 재계산 실패", e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.climbx.climbx.user.scheduler;
+
+import com.climbx.climbx.common.util.KstDateUtil;
+import com.climbx.climbx.user.service.UserRankingSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserRankingSnapshotScheduler {
+
+    private final UserRankingSnapshotService userRankingSnapshotService;
+
+    /**
+     * 매일 23:55(KST)에 당일 랭킹 값을 기록합니다. 여러 인스턴스에서 실행되어도 upsert이므로 결과는 같습니다.
+     */
+    @Scheduled(cron = "${climbx.ranking.snapshot-cron:0 55 23 * * *}", zone = KstDateUtil.ZONE_NAME)
+    public void snapshotToday() {
+        try {
+            userRankingSnapshotService.snapshot(KstDateUtil.today());
+        } catch (RuntimeException e) {
+            log.error("일별 랭킹 스냅샷 실패", e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.climbx.climbx.user.scheduler;
+
+import com.climbx.climbx.user.service.UserStatDeltaAccumulator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class UserStatFlushScheduler {
+
+    private final UserStatDeltaAccumulator userStatDeltaAccumulator;
+
+    /**
+     * 일정 간격(기본 1초)마다 모아 둔 사용자 통계 증가분을 반영합니다. 묶음 반영이 꺼져 있으면 모인 값이 없어 바로 끝납니다.
+     */
+    @Scheduled(fixedDelayString = "${climbx.user-stat.coalesce.flush-delay:PT1S}")
+    public void flush() {
+        userStatDeltaAccumulator.flush();
+    }
+}
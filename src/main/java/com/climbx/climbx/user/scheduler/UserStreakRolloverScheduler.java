@@ -0,0 +1,29 @@
+package com.climbx.climbx.user.scheduler;
+
+import com.climbx.climbx.common.util.KstDateUtil;
+import com.climbx.climbx.user.service.UserStreakBatchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserStreakRolloverScheduler {
+
+    private final UserStreakBatchService userStreakBatchService;
+
+    /**
+     * 매일 00:00(KST)에 전날까지 활동이 끊긴 사용자의 현재 연속 출석일을 초기화합니다. 같은 조건의 UPDATE이므로 여러 인스턴스에서
+     * 실행되어도 결과는 같습니다.
+     */
+    @Scheduled(cron = "${climbx.streak.rollover-cron:0 0 0 * * *}", zone = KstDateUtil.ZONE_NAME)
+    public void rollover() {
+        try {
+            userStreakBatchService.rollover(KstDateUtil.today());
+        } catch (RuntimeException e) {
+            log.error("연속 출석일 자정 초기화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.climbx.climbx.user.scheduler;
+
+import com.climbx.climbx.common.util.KstDateUtil;
+import com.climbx.climbx.user.service.UserTagStatBatchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserTagStatRebuildScheduler {
+
+    private final UserTagStatBatchService userTagStatBatchService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            userTagStatBatchService.backfillIfEmpty();
+        } catch (RuntimeException e) {
+            log.error("태그 집계 초기 적재 실패", e);
+        }
+    }
+
+    /**
+     * 매일 05:00(KST)에 태그 집계를 다시 계산해 문제 태그/레이팅 변경과 제출 취소를 반영합니다.
+     */
+    @Scheduled(cron = "${climbx.tag-stats.rebuild-cron:0 0 5 * * *}", zone = KstDateUtil.ZONE_NAME)
+    public void rebuild() {
+        try {
+            userTagStatBatchService.rebuildAll();
+        } catch (RuntimeException e) {
+            log.error("태그 집계 재계산 실패", e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.climbx.climbx.user.scheduler;
+
+import com.climbx.climbx.common.util.KstDateUtil;
+import com.climbx.climbx.user.service.UserTopProblemBatchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserTopProblemRebuildScheduler {
+
+    private final UserTopProblemBatchService userTopProblemBatchService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            userTopProblemBatchService.backfillIfEmpty();
+        } catch (RuntimeException e) {
+            log.error("상위 문제 목록 초기 적재 실패", e);
+        }
+    }
+
+    /**
+     * 매일 05:30(KST)에 상위 문제 목록을 다시 계산해 제출 취소와 문제 삭제를 반영합니다.
+     */
+    @Scheduled(cron = "${climbx.top-problems.rebuild-cron:0 30 5 * * *}",
+        zone = KstDateUtil.ZONE_NAME)
+    public void rebuild() {
+        try {
+            userTopProblemBatchService.rebuildAll();
+        } catch (RuntimeException e) {
+            log.error("상위 문제 목록 재계산 실패", e);
+        }
+    }
+}
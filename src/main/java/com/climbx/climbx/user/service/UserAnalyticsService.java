@@ -2,11 +2,18 @@ package com.climbx.climbx.user.service;
 
 import com.climbx.climbx.common.enums.CriteriaType;
 import com.climbx.climbx.common.enums.StatusType;
+import com.climbx.climbx.common.util.KstDateUtil;
 import com.climbx.climbx.problem.dto.ProblemInfoResponseDto;
 import com.climbx.climbx.submission.repository.SubmissionRepository;
 import com.climbx.climbx.user.dto.DailyHistoryResponseDto;
+import com.climbx.climbx.user.dto.UserActivityHeatmapResponseDto;
 import com.climbx.climbx.user.entity.UserAccountEntity;
-import com.climbx.climbx.user.repository.UserRankingHistoryRepository;
+import com.climbx.climbx.user.entity.UserDailyActivityEntity;
+import com.climbx.climbx.user.repository.UserDailyActivityRepository;
+import com.climbx.climbx.user.repository.UserRankingDailyRepository;
+import com.climbx.climbx.user.repository.UserTopProblemRepository;
+import com.climbx.climbx.user.util.ActivityHeatmapUtil;
+import com.climbx.climbx.user.util.UserRatingUtil;
 import java.time.LocalDate;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -20,14 +27,24 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class UserAnalyticsService {
 
+    private static final LocalDate HISTORY_MIN_DATE = LocalDate.of(2000, 1, 1);
+    private static final LocalDate HISTORY_MAX_DATE = LocalDate.of(9999, 12, 31);
+
     private final UserLookupService userLookupService;
     private final SubmissionRepository submissionRepository;
-    private final UserRankingHistoryRepository userRankingHistoryRepository;
+    private final UserRankingDailyRepository userRankingDailyRepository;
+    private final UserTopProblemRepository userTopProblemRepository;
+    private final UserDailyActivityRepository userDailyActivityRepository;
 
     public List<ProblemInfoResponseDto> getUserTopProblems(String nickname, Integer limit) {
         UserAccountEntity userAccount = userLookupService.findUserByNickname(nickname);
         Pageable pageable = PageRequest.of(0, limit);
 
+        // 상위 50개는 user_top_problems에 유지되므로 제출 전체를 정렬하지 않음
+        if (limit <= UserRatingUtil.TOP_PROBLEM_LIMIT) {
+            return userTopProblemRepository.findTopProblems(userAccount.userId(), pageable);
+        }
+
         return submissionRepository.getUserTopProblems(
             userAccount.userId(),
             StatusType.ACCEPTED,
@@ -42,14 +59,30 @@ public class UserAnalyticsService {
     ) {
         UserAccountEntity userAccount = userLookupService.findUserByNickname(nickname);
 
-        return submissionRepository.getUserDateSolvedCount(
+        // 기간 미지정 시 전체 범위로 PK 범위 스캔
+        return userDailyActivityRepository.findSolvedHistory(
             userAccount.userId(),
-            StatusType.ACCEPTED,
-            from,
-            to
+            from != null ? from : HISTORY_MIN_DATE,
+            to != null ? to : HISTORY_MAX_DATE
         );
     }
 
+    /**
+     * year(KST) 한 해의 일별 활동을 비트맵과 값 배열로 인코딩해 반환합니다.
+     */
+    public UserActivityHeatmapResponseDto getUserActivityHeatmap(String nickname, Integer year) {
+        UserAccountEntity userAccount = userLookupService.findUserByNickname(nickname);
+        int targetYear = year != null ? year : KstDateUtil.today().getYear();
+
+        List<UserDailyActivityEntity> activities = userDailyActivityRepository
+            .findByUserIdAndActivityDateBetweenOrderByActivityDateAsc(
+                userAccount.userId(),
+                LocalDate.of(targetYear, 1, 1),
+                LocalDate.of(targetYear, 12, 31)
+            );
+        return ActivityHeatmapUtil.encode(targetYear, activities);
+    }
+
     public List<DailyHistoryResponseDto> getUserDailyHistory(
         String nickname,
         CriteriaType criteria,
@@ -58,11 +91,19 @@ public class UserAnalyticsService {
     ) {
         UserAccountEntity userAccount = userLookupService.findUserByNickname(nickname);
 
-        return userRankingHistoryRepository.getUserDailyHistory(
-            userAccount.userId(),
-            criteria,
-            from,
-            to
-        );
+        // 기간 미지정 시 전체 범위로 PK 범위 스캔
+        return userRankingDailyRepository
+            .findByUserIdAndCriteriaAndSnapshotDateBetweenOrderBySnapshotDateAsc(
+                userAccount.userId(),
+                criteria,
+                from != null ? from : HISTORY_MIN_DATE,
+                to != null ? to : HISTORY_MAX_DATE
+            )
+            .stream()
+            .map(daily -> DailyHistoryResponseDto.builder()
+                .date(daily.snapshotDate())
+                .value(daily.value())
+                .build())
+            .toList();
     }
 }
\ No newline at end of file
@@ -0,0 +1,86 @@
+package com.climbx.climbx.user.service;
+
+import com.climbx.climbx.common.util.KstDateUtil;
+import com.climbx.climbx.submission.entity.SubmissionEntity;
+import com.climbx.climbx.submission.event.SubmissionAcceptedEvent;
+import com.climbx.climbx.submission.event.SubmissionCreatedEvent;
+import com.climbx.climbx.submission.repository.SubmissionRepository;
+import com.climbx.climbx.user.entity.UserDailyActivityEntity;
+import com.climbx.climbx.user.repository.UserDailyActivityRepository;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 사용자별 일별 활동(user_daily_activity)을 유지합니다.
+ * <p>
+ * 활동일은 제출이 생성된 날짜(KST)입니다. 제출 생성 시 그날의 제출 수를, 승인 시 그날 같은 문제를 처음 해결한 제출만
+ * 해결 수를 upsert로 늘립니다. 제출 취소는 반영하지 않으므로 배치 재집계({@link #rebuild(List)})로 맞춥니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class UserDailyActivityService {
+
+    private final UserDailyActivityRepository userDailyActivityRepository;
+    private final SubmissionRepository submissionRepository;
+
+    @Transactional
+    @EventListener
+    public void onSubmissionCreated(SubmissionCreatedEvent event) {
+        userDailyActivityRepository.accumulate(event.userId(), KstDateUtil.today(), 0, 1);
+    }
+
+    /**
+     * 늦은 승인 시 연속 출석일 재계산({@link UserStreakService#recalculate})이 이 행을 읽으므로 먼저 실행합니다.
+     */
+    @Transactional
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onSubmissionAccepted(SubmissionAcceptedEvent event) {
+        // 그날 같은 문제를 이미 해결했는지는 리뷰 시점에 정해짐 (워커의 처리 순서와 무관)
+        if (!event.dailyFirstSolve()) {
+            return;
+        }
+
+        Optional<SubmissionEntity> submission = submissionRepository.findById(event.videoId());
+        if (submission.isEmpty()) {
+            log.warn("일별 활동 갱신 대상 없음: videoId={}, userId={}",
+                event.videoId(), event.userId());
+            return;
+        }
+
+        LocalDate activityDate = KstDateUtil.toDate(submission.get().createdAt());
+        userDailyActivityRepository.accumulate(event.userId(), activityDate, 1, 0);
+    }
+
+    /**
+     * 사용자들의 일별 활동을 제출 기록으로부터 다시 집계해 교체합니다.
+     *
+     * @return 기록한 (사용자, 날짜) 행 수
+     */
+    @Transactional
+    public int rebuild(List<Long> userIds) {
+        List<UserDailyActivityEntity> activities = submissionRepository
+            .summarizeDailyActivity(userIds).stream()
+            .map(summary -> UserDailyActivityEntity.builder()
+                .userId(summary.userId())
+                .activityDate(summary.activityDate())
+                .solvedCount(summary.solvedCount())
+                .submittedCount(summary.submittedCount())
+                .build())
+            .toList();
+
+        userDailyActivityRepository.deleteByUserIdIn(userIds);
+        userDailyActivityRepository.saveAll(activities);
+        return activities.size();
+    }
+}
@@ -1,24 +1,26 @@
 package com.climbx.climbx.user.service;
 
-import com.climbx.climbx.common.enums.StatusType;
-import com.climbx.climbx.problem.dto.TagRatingPairDto;
-import com.climbx.climbx.submission.repository.SubmissionRepository;
+import com.climbx.climbx.common.concurrent.ParallelRead;
+import com.climbx.climbx.common.concurrent.ParallelReadExecutor;
+import com.climbx.climbx.ranking.index.RatingRankIndex;
 import com.climbx.climbx.user.dto.RatingResponseDto;
 import com.climbx.climbx.user.dto.TagRatingResponseDto;
 import com.climbx.climbx.user.dto.UserProfileResponseDto;
-import com.climbx.climbx.user.dto.UserRankingDto;
 import com.climbx.climbx.user.dto.UserTagRatingDto;
 import com.climbx.climbx.user.entity.UserAccountEntity;
 import com.climbx.climbx.user.entity.UserStatEntity;
 import com.climbx.climbx.user.enums.UserTierType;
 import com.climbx.climbx.user.exception.UserStatNotFoundException;
 import com.climbx.climbx.user.repository.UserStatRepository;
+import com.climbx.climbx.user.repository.UserTagStatRepository;
 import com.climbx.climbx.user.util.UserRatingUtil;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -30,22 +32,43 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class UserDataAggregationService {
 
+    public static final int BATCH_CHUNK_SIZE = 100;
+
     private final UserStatRepository userStatRepository;
-    private final SubmissionRepository submissionRepository;
+    private final UserTagStatRepository userTagStatRepository;
     private final UserRatingUtil userRatingUtil;
+    private final RatingRankIndex ratingRankIndex;
+    private final ParallelReadExecutor parallelReadExecutor;
 
+    /**
+     * 단일 사용자 프로필을 만듭니다. 태그 레이팅은 통계/순위 조회와 독립적이므로 별도 커넥션에서 동시에 조회하고, 실패하거나 제한
+     * 시간 안에 끝나지 않으면 카테고리 레이팅 없이 응답합니다. 통계 조회 실패는 그대로 전파합니다.
+     */
     public UserProfileResponseDto buildProfile(UserAccountEntity userAccount) {
+        return buildProfileResult(userAccount).profile();
+    }
+
+    /**
+     * {@link #buildProfile}과 같지만 태그 레이팅 조회가 실패하거나 시간 초과로 빠졌는지(degraded)도 함께 반환합니다. 이런
+     * 프로필은 캐시하거나 ETag를 붙이면 안 됩니다.
+     */
+    public ProfileResult buildProfileResult(UserAccountEntity userAccount) {
         Long userId = userAccount.userId();
 
-        UserStatEntity userStat = findUserStatByUserId(userId);
-        UserTierType tier = UserTierType.fromValue(userStat.rating());
-        Integer ratingRank = userStatRepository.findRankByRatingAndUpdatedAtAndUserId(
-            userStat.rating(), userStat.updatedAt(), userId);
+        UserStatEntity userStat;
+        Integer ratingRank;
+        List<UserTagRatingDto> tagRatings;
+        boolean degraded;
+        try (ParallelRead<List<UserTagRatingDto>> tagRatingsRead = parallelReadExecutor.fork(
+            "tagRatings", () -> userTagStatRepository.findTagRatingsByUserIdIn(List.of(userId)))) {
+            userStat = findUserStatByUserId(userId);
+            ratingRank = findRatingRank(userId, userStat);
+            tagRatings = tagRatingsRead.joinOrDefault(List.of());
+            degraded = tagRatingsRead.isDegraded();
+        }
 
-        List<TagRatingResponseDto> categoryRatings = userRatingUtil.calculateCategoryRating(
-            submissionRepository.getUserAcceptedSubmissionTagSummary(userId, StatusType.ACCEPTED),
-            submissionRepository.getUserAcceptedSubmissionTagSummary(userId, null)
-        );
+        UserTierType tier = UserTierType.fromValue(userStat.rating());
+        List<TagRatingResponseDto> categoryRatings = userRatingUtil.toCategoryRatings(tagRatings);
 
         Integer totalRating = userStat.rating();
         Integer topProblemRating = userStat.topProblemRating();
@@ -63,7 +86,7 @@ public class UserDataAggregationService {
             .contributionRating(contributionRating)
             .build();
 
-        return UserProfileResponseDto.from(
+        UserProfileResponseDto profile = UserProfileResponseDto.from(
             userAccount,
             userStat,
             tier,
@@ -71,9 +94,26 @@ public class UserDataAggregationService {
             ratingRank,
             categoryRatings
         );
+        return new ProfileResult(profile, degraded);
     }
 
+    /**
+     * 여러 사용자의 프로필을 만듭니다. IN 절 크기를 제한하기 위해 BATCH_CHUNK_SIZE명씩 나누어 조회합니다.
+     */
     public List<UserProfileResponseDto> buildProfilesBatch(List<UserAccountEntity> userAccounts) {
+        if (userAccounts.size() <= BATCH_CHUNK_SIZE) {
+            return buildProfilesChunk(userAccounts);
+        }
+
+        List<UserProfileResponseDto> profiles = new ArrayList<>(userAccounts.size());
+        for (int from = 0; from < userAccounts.size(); from += BATCH_CHUNK_SIZE) {
+            int to = Math.min(from + BATCH_CHUNK_SIZE, userAccounts.size());
+            profiles.addAll(buildProfilesChunk(userAccounts.subList(from, to)));
+        }
+        return profiles;
+    }
+
+    private List<UserProfileResponseDto> buildProfilesChunk(List<UserAccountEntity> userAccounts) {
         if (userAccounts.isEmpty()) {
             return List.of();
         }
@@ -88,17 +128,12 @@ public class UserDataAggregationService {
             .collect(Collectors.toMap(UserStatEntity::userId, Function.identity()));
 
         // 배치 조회: 랭킹 데이터
-        Map<Long, Integer> rankingMap = userStatRepository.findRanksByUserIds(userIds)
-            .stream()
-            .collect(Collectors.toMap(
-                UserRankingDto::userId,
-                UserRankingDto::ranking
-            ));
+        Map<Long, Integer> rankingMap = findRatingRanks(userIds);
 
-        // 배치 조회: 태그 요약 데이터
-        Map<Long, List<TagRatingPairDto>> acceptedTagsMap = buildTagSummaryMap(userIds,
-            StatusType.ACCEPTED);
-        Map<Long, List<TagRatingPairDto>> allTagsMap = buildTagSummaryMap(userIds, null);
+        // 배치 조회: 미리 계산된 태그별 카테고리 레이팅
+        Map<Long, List<UserTagRatingDto>> tagRatingsMap = userTagStatRepository
+            .findTagRatingsByUserIdIn(userIds).stream()
+            .collect(Collectors.groupingBy(UserTagRatingDto::userId));
 
         // 프로필 조립
         return userAccounts.stream()
@@ -113,10 +148,8 @@ public class UserDataAggregationService {
                 UserTierType tier = UserTierType.fromValue(userStat.rating());
                 Integer ratingRank = rankingMap.get(userId);
 
-                List<TagRatingResponseDto> categoryRatings = userRatingUtil.calculateCategoryRating(
-                    acceptedTagsMap.getOrDefault(userId, List.of()),
-                    allTagsMap.getOrDefault(userId, List.of())
-                );
+                List<TagRatingResponseDto> categoryRatings = userRatingUtil.toCategoryRatings(
+                    tagRatingsMap.getOrDefault(userId, List.of()));
 
                 RatingResponseDto rating = buildRatingResponse(userStat);
 
@@ -132,26 +165,37 @@ public class UserDataAggregationService {
             .toList();
     }
 
-    private Map<Long, List<TagRatingPairDto>> buildTagSummaryMap(List<Long> userIds,
-        StatusType status) {
-        List<UserTagRatingDto> primaryTags = submissionRepository.summarizeByPrimaryBatch(userIds,
-            status);
-        List<UserTagRatingDto> secondaryTags = submissionRepository.summarizeBySecondaryBatch(
-            userIds, status);
-
-        Map<Long, List<TagRatingPairDto>> tagMap = Stream.concat(
-                primaryTags.stream(),
-                secondaryTags.stream()
-            )
-            .collect(Collectors.groupingBy(
-                UserTagRatingDto::userId,
-                Collectors.mapping(
-                    dto -> new TagRatingPairDto(dto.tag(), dto.rating()),
-                    Collectors.toList()
-                )
-            ));
-
-        return tagMap;
+    /**
+     * 레이팅 순위 인덱스가 준비되어 있으면 O(log n)으로 계산하고, 아니면 COUNT 쿼리로 대체합니다.
+     */
+    private Integer findRatingRank(Long userId, UserStatEntity userStat) {
+        if (ratingRankIndex.isReady()) {
+            Optional<Integer> rank = ratingRankIndex.getRank(userId);
+            if (rank.isPresent()) {
+                return rank.get();
+            }
+        }
+        return userStatRepository.findRankByRatingAndUpdatedAtAndUserId(
+            userStat.rating(), userStat.updatedAt(), userId);
+    }
+
+    private Map<Long, Integer> findRatingRanks(List<Long> userIds) {
+        Map<Long, Integer> rankingMap = new HashMap<>();
+        List<Long> missingUserIds = userIds;
+
+        if (ratingRankIndex.isReady()) {
+            rankingMap.putAll(ratingRankIndex.getRanks(userIds));
+            missingUserIds = userIds.stream()
+                .filter(userId -> !rankingMap.containsKey(userId))
+                .toList();
+        }
+
+        // 인덱스에 아직 반영되지 않은 사용자만 DB에서 조회
+        if (!missingUserIds.isEmpty()) {
+            userStatRepository.findRanksByUserIds(missingUserIds)
+                .forEach(dto -> rankingMap.put(dto.userId(), dto.ranking()));
+        }
+        return rankingMap;
     }
 
     private RatingResponseDto buildRatingResponse(UserStatEntity userStat) {
@@ -169,4 +213,12 @@ public class UserDataAggregationService {
         return userStatRepository.findByUserId(userId)
             .orElseThrow(() -> new UserStatNotFoundException(userId));
     }
-}
\ No newline at end of file
+
+    public record ProfileResult(
+
+        UserProfileResponseDto profile,
+        boolean degraded
+    ) {
+
+    }
+}
@@ -4,7 +4,12 @@ import com.climbx.climbx.user.entity.UserAccountEntity;
 import com.climbx.climbx.user.exception.UserNotFoundException;
 import com.climbx.climbx.user.repository.UserAccountRepository;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,4 +43,31 @@ public class UserLookupService {
     public List<UserAccountEntity> findUsersByNicknameContaining(String nickname) {
         return userAccountRepository.findByNicknameContaining(nickname);
     }
-}
\ No newline at end of file
+
+    /**
+     * afterUserId 이후의 사용자를 userId 순으로 최대 limit명 조회합니다. search가 null이면 전체 사용자 대상입니다.
+     */
+    public List<UserAccountEntity> findUsersAfter(Long afterUserId, String search, int limit) {
+        return userAccountRepository.findPageAfter(afterUserId, search, PageRequest.of(0, limit));
+    }
+
+    /**
+     * userId 목록의 사용자를 주어진 순서대로 조회합니다. 삭제되었거나 없는 사용자는 제외됩니다.
+     */
+    public List<UserAccountEntity> findUsersByIds(List<Long> userIds) {
+        Map<Long, UserAccountEntity> accounts = userAccountRepository.findAllById(userIds).stream()
+            .collect(Collectors.toMap(UserAccountEntity::userId, Function.identity()));
+        return userIds.stream()
+            .map(accounts::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    /**
+     * 닉네임이 prefix로 시작하는 사용자를 닉네임 순으로 최대 limit명 조회합니다.
+     */
+    public List<UserAccountEntity> findUsersByNicknamePrefix(String prefix, int limit) {
+        return userAccountRepository.findByNicknameStartingWithOrderByNicknameAsc(prefix,
+            PageRequest.of(0, limit));
+    }
+}
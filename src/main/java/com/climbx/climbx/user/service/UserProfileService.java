@@ -1,12 +1,19 @@
 package com.climbx.climbx.user.service;
 
 import com.climbx.climbx.common.service.S3Service;
+import com.climbx.climbx.user.cache.CachedUserProfile;
+import com.climbx.climbx.user.cache.UserProfileCache;
+import com.climbx.climbx.user.dto.UserAutocompleteResponseDto;
+import com.climbx.climbx.user.dto.UserCursor;
 import com.climbx.climbx.user.dto.UserProfileInfoModifyRequestDto;
+import com.climbx.climbx.user.dto.UserProfilePageResponseDto;
 import com.climbx.climbx.user.dto.UserProfileResponseDto;
 import com.climbx.climbx.user.entity.UserAccountEntity;
 import com.climbx.climbx.user.exception.DuplicateNicknameException;
 import com.climbx.climbx.user.exception.NicknameMismatchException;
+import com.climbx.climbx.user.index.NicknameSearchIndex;
 import com.climbx.climbx.user.repository.UserAccountRepository;
+import com.climbx.climbx.user.service.UserDataAggregationService.ProfileResult;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,17 +31,60 @@ public class UserProfileService {
     private final UserLookupService userLookupService;
     private final S3Service s3Service;
     private final UserDataAggregationService userDataAggregationService;
+    private final UserProfileCache userProfileCache;
+    private final NicknameSearchIndex nicknameSearchIndex;
+
+    /**
+     * 사용자 목록을 userId 순 keyset 페이지로 조회합니다. cursor가 없으면 첫 페이지이며, 공백 검색어는 전체 조회로 처리합니다.
+     */
+    public UserProfilePageResponseDto getUsers(String search, String cursor, int size) {
+        String keyword = search == null || search.trim().isEmpty()
+            ? null
+            : search.trim();
+        long afterUserId = cursor == null || cursor.isBlank()
+            ? 0L
+            : UserCursor.decode(cursor).userId();
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1명 조회. 검색은 닉네임 인덱스가 준비되어 있으면 LIKE 스캔 없이 처리
+        if (keyword != null && nicknameSearchIndex.isReady()) {
+            // 색인 이후 탈퇴한 사용자는 findUsersByIds에서 빠지므로 다음 페이지 여부와 커서는 색인 ID로 정함
+            List<Long> userIds = nicknameSearchIndex.searchAfter(keyword, afterUserId, size + 1);
+            boolean hasNext = userIds.size() > size;
+            List<Long> pageIds = hasNext ? userIds.subList(0, size) : userIds;
+            return toPage(userLookupService.findUsersByIds(pageIds),
+                hasNext ? pageIds.getLast() : null);
+        }
 
-    public List<UserProfileResponseDto> getUsers(String search) {
-        List<UserAccountEntity> users;
+        List<UserAccountEntity> users = userLookupService.findUsersAfter(afterUserId,
+            keyword == null ? null : escapeLike(keyword), size + 1);
+        boolean hasNext = users.size() > size;
+        List<UserAccountEntity> page = hasNext ? users.subList(0, size) : users;
+        return toPage(page, hasNext ? page.getLast().userId() : null);
+    }
 
-        if (search == null || search.trim().isEmpty()) {
-            users = userLookupService.findAllUsers();
-        } else {
-            users = userLookupService.findUsersByNicknameContaining(search.trim());
-        }
+    private UserProfilePageResponseDto toPage(List<UserAccountEntity> page, Long cursorUserId) {
+        return UserProfilePageResponseDto.builder()
+            .users(userDataAggregationService.buildProfilesBatch(page))
+            .hasNext(cursorUserId != null)
+            .nextCursor(cursorUserId == null ? null : new UserCursor(cursorUserId).encode())
+            .build();
+    }
 
-        return userDataAggregationService.buildProfilesBatch(users);
+    /**
+     * 닉네임 접두사 자동완성. 인덱스가 준비되지 않았으면 DB 접두사 조회로 대체하며, 이때는 자모 단위 일치를 지원하지 않습니다.
+     */
+    public List<UserAutocompleteResponseDto> autocompleteNickname(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        if (nicknameSearchIndex.isReady()) {
+            return nicknameSearchIndex.autocomplete(prefix.trim(), limit).stream()
+                .map(UserAutocompleteResponseDto::from)
+                .toList();
+        }
+        return userLookupService.findUsersByNicknamePrefix(prefix.trim(), limit).stream()
+            .map(UserAutocompleteResponseDto::from)
+            .toList();
     }
 
     public UserProfileResponseDto getUserById(Long userId) {
@@ -47,6 +97,26 @@ public class UserProfileService {
         return userDataAggregationService.buildProfile(userAccountEntity);
     }
 
+    public Long findUserIdByNickname(String nickname) {
+        return userLookupService.findUserByNickname(nickname).userId();
+    }
+
+    /**
+     * 프로필을 만들어 버전과 함께 캐시에 저장합니다. 버전은 호출자가 이 트랜잭션을 시작하기 전에 읽어야 합니다. 첫 조회로
+     * 스냅샷이 고정된 뒤에 읽으면 그 사이 커밋된 변경이 빠진 프로필이 새 버전으로 저장됩니다. 태그 레이팅이 빠진 프로필은
+     * 캐시하지 않고 ETag 없이 반환합니다.
+     */
+    public CachedUserProfile loadCachedUser(Long userId, long version) {
+        UserAccountEntity userAccountEntity = userLookupService.findUserById(userId);
+        ProfileResult result = userDataAggregationService.buildProfileResult(userAccountEntity);
+        if (result.degraded()) {
+            return CachedUserProfile.uncached(userAccountEntity.userId(), version,
+                result.profile());
+        }
+        return userProfileCache.put(userAccountEntity.userId(), userAccountEntity.nickname(),
+            version, result.profile());
+    }
+
     @Transactional
     public UserProfileResponseDto modifyUserProfileInfo(
         Long userId,
@@ -95,4 +165,9 @@ public class UserProfileService {
         return userDataAggregationService.buildProfile(userAccountEntity);
     }
 
-}
\ No newline at end of file
+    private static String escapeLike(String keyword) {
+        return keyword.replace("!", "!!")
+            .replace("%", "!%")
+            .replace("_", "!_");
+    }
+}
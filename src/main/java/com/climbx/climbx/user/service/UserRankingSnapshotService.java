@@ -0,0 +1,186 @@
+package com.climbx.climbx.user.service;
+
+import com.climbx.climbx.common.enums.CriteriaType;
+import com.climbx.climbx.common.enums.RoleType;
+import com.climbx.climbx.common.util.KstDateUtil;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * user_ranking_daily 롤업을 기록합니다.
+ * <p>
+ * 스냅샷은 user_stats를 user_id 순으로 CHUNK_SIZE명씩 읽어 기준별 값을 JDBC batch upsert 하며, 청크마다 별도 트랜잭션으로
+ * 커밋해 락 보유 시간을 짧게 유지합니다. 같은 날짜로 다시 실행하면 값을 덮어쓰므로 재실행해도 안전합니다.
+ */
+@Slf4j
+@Service
+public class UserRankingSnapshotService {
+
+    static final int CHUNK_SIZE = 1000;
+
+    private static final String SELECT_STATS_SQL = """
+        SELECT us.user_id, us.rating, us.current_streak, us.longest_streak, us.solved_count
+          FROM user_stats us
+          JOIN user_accounts ua ON ua.user_id = us.user_id
+         WHERE us.deleted_at IS NULL
+           AND ua.deleted_at IS NULL
+           AND ua.role = ?
+           AND us.user_id > ?
+         ORDER BY us.user_id
+         LIMIT ?
+        """;
+
+    private static final String UPSERT_DAILY_SQL = """
+        INSERT INTO user_ranking_daily (user_id, criteria, snapshot_date, `value`)
+        VALUES (?, ?, ?, ?)
+        ON DUPLICATE KEY UPDATE `value` = VALUES(`value`)
+        """;
+
+    /*
+     * 기존 user_ranking_histories의 하루 첫 행(MIN(history_id))을 롤업으로 옮깁니다. 스케줄 스냅샷의 snapshot_date와 같은
+     * KST 날짜로 묶도록 created_at을 +09:00으로 변환한 뒤 날짜를 자릅니다.
+     */
+    private static final String BACKFILL_FROM_HISTORY_SQL = """
+        INSERT INTO user_ranking_daily (user_id, criteria, snapshot_date, `value`)
+        SELECT h.user_id, h.criteria,
+               DATE(CONVERT_TZ(h.created_at, @@session.time_zone, '+09:00')), h.`value`
+          FROM user_ranking_histories h
+          JOIN (SELECT MIN(history_id) AS history_id
+                  FROM user_ranking_histories
+                 WHERE deleted_at IS NULL
+                   AND created_at >= ?
+                   AND created_at < ?
+                 GROUP BY user_id, criteria,
+                          DATE(CONVERT_TZ(created_at, @@session.time_zone, '+09:00'))) first_of_day
+            ON first_of_day.history_id = h.history_id
+        ON DUPLICATE KEY UPDATE `value` = VALUES(`value`)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionTemplate;
+
+    @Autowired
+    public UserRankingSnapshotService(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager
+    ) {
+        this(jdbcTemplate, new TransactionTemplate(transactionManager));
+    }
+
+    UserRankingSnapshotService(
+        JdbcTemplate jdbcTemplate,
+        TransactionOperations transactionTemplate
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 모든 일반 사용자의 현재 기준 값을 snapshotDate 일자로 기록합니다.
+     *
+     * @return 기록한 행 수 (사용자 수 × 기준 수)
+     */
+    public int snapshot(LocalDate snapshotDate) {
+        long startedAt = System.currentTimeMillis();
+        long lastUserId = 0L;
+        int written = 0;
+
+        while (true) {
+            final long afterUserId = lastUserId;
+            List<StatRow> rows = jdbcTemplate.query(
+                SELECT_STATS_SQL,
+                (rs, rowNum) -> new StatRow(
+                    rs.getLong("user_id"),
+                    rs.getInt("rating"),
+                    rs.getInt("current_streak"),
+                    rs.getInt("longest_streak"),
+                    rs.getInt("solved_count")
+                ),
+                RoleType.USER.name(), afterUserId, CHUNK_SIZE
+            );
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            written += transactionTemplate.execute(status -> upsert(rows, snapshotDate));
+            lastUserId = rows.getLast().userId();
+
+            if (rows.size() < CHUNK_SIZE) {
+                break;
+            }
+        }
+
+        log.info("일별 랭킹 스냅샷 기록 완료: date={}, rows={}, elapsed={}ms",
+            snapshotDate, written, System.currentTimeMillis() - startedAt);
+        return written;
+    }
+
+    /**
+     * KST 기준 [from, to] 기간의 user_ranking_histories를 롤업 테이블로 다시 채웁니다.
+     *
+     * @return 영향받은 행 수 (MySQL 기준 갱신된 행은 2로 집계)
+     */
+    public int backfillFromHistory(LocalDate from, LocalDate to) {
+        Integer affected = transactionTemplate.execute(status -> jdbcTemplate.update(
+            BACKFILL_FROM_HISTORY_SQL,
+            Timestamp.valueOf(KstDateUtil.startOfDay(from)),
+            Timestamp.valueOf(KstDateUtil.startOfDay(to.plusDays(1)))
+        ));
+
+        log.info("일별 랭킹 롤업 백필 완료: from={}, to={}, affected={}", from, to, affected);
+        return affected == null ? 0 : affected;
+    }
+
+    private int upsert(List<StatRow> rows, LocalDate snapshotDate) {
+        CriteriaType[] criteriaTypes = CriteriaType.values();
+        Date date = Date.valueOf(snapshotDate);
+
+        jdbcTemplate.batchUpdate(UPSERT_DAILY_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                StatRow row = rows.get(i / criteriaTypes.length);
+                CriteriaType criteria = criteriaTypes[i % criteriaTypes.length];
+                ps.setLong(1, row.userId());
+                ps.setString(2, criteria.name());
+                ps.setDate(3, date);
+                ps.setInt(4, row.valueOf(criteria));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size() * criteriaTypes.length;
+            }
+        });
+        return rows.size() * criteriaTypes.length;
+    }
+
+    record StatRow(
+        long userId,
+        int rating,
+        int currentStreak,
+        int longestStreak,
+        int solvedCount
+    ) {
+
+        int valueOf(CriteriaType criteria) {
+            return switch (criteria) {
+                case RATING -> rating;
+                case CURRENT_STREAK -> currentStreak;
+                case LONGEST_STREAK -> longestStreak;
+                case SOLVED_COUNT -> solvedCount;
+            };
+        }
+    }
+}
@@ -2,14 +2,21 @@ package com.climbx.climbx.user.service;
 
 import com.climbx.climbx.common.enums.CriteriaType;
 import com.climbx.climbx.problem.dto.ProblemInfoResponseDto;
+import com.climbx.climbx.user.cache.CachedUserProfile;
+import com.climbx.climbx.user.cache.UserProfileCache;
 import com.climbx.climbx.user.dto.DailyHistoryResponseDto;
+import com.climbx.climbx.user.dto.UserActivityHeatmapResponseDto;
+import com.climbx.climbx.user.dto.UserAutocompleteResponseDto;
 import com.climbx.climbx.user.dto.UserProfileInfoModifyRequestDto;
+import com.climbx.climbx.user.dto.UserProfilePageResponseDto;
 import com.climbx.climbx.user.dto.UserProfileResponseDto;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -21,9 +28,30 @@ public class UserService {
 
     private final UserProfileService userProfileService;
     private final UserAnalyticsService userAnalyticsService;
+    private final UserProfileCache userProfileCache;
 
-    public List<UserProfileResponseDto> getUsers(String search) {
-        return userProfileService.getUsers(search);
+    public UserProfilePageResponseDto getUsers(String search, String cursor, int size) {
+        return userProfileService.getUsers(search, cursor, size);
+    }
+
+    /**
+     * 검색 조건에 맞는 모든 사용자 프로필을 BATCH_CHUNK_SIZE명씩 만들어 chunkConsumer에 넘깁니다. 청크마다 짧은 읽기 트랜잭션을
+     * 사용해 응답을 쓰는 동안 커넥션을 잡고 있지 않습니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void streamUsers(String search, Consumer<List<UserProfileResponseDto>> chunkConsumer) {
+        String cursor = null;
+        UserProfilePageResponseDto page;
+        do {
+            page = userProfileService.getUsers(search, cursor,
+                UserDataAggregationService.BATCH_CHUNK_SIZE);
+            chunkConsumer.accept(page.users());
+            cursor = page.nextCursor();
+        } while (page.hasNext());
+    }
+
+    public List<UserAutocompleteResponseDto> autocompleteNickname(String keyword, int limit) {
+        return userProfileService.autocompleteNickname(keyword, limit);
     }
 
     public UserProfileResponseDto getUserById(Long userId) {
@@ -34,6 +62,21 @@ public class UserService {
         return userProfileService.getUserByNickname(nickname);
     }
 
+    /**
+     * ETag와 함께 프로필을 조회합니다. 캐시가 유효하면 커넥션을 잡지 않도록 트랜잭션 없이 실행하고, 없을 때만 프로필을 만듭니다.
+     * <p>
+     * 프로필을 만들 때는 userId만 짧은 트랜잭션으로 찾고, 버전을 읽은 다음 새 트랜잭션에서 프로필을 만듭니다. 그래서 프로필의
+     * 스냅샷은 항상 버전을 읽은 이후이고, 도중에 커밋된 변경은 저장한 항목을 무효로 만듭니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CachedUserProfile getCachedUserByNickname(String nickname) {
+        return userProfileCache.find(nickname).orElseGet(() -> {
+            Long userId = userProfileService.findUserIdByNickname(nickname);
+            long version = userProfileCache.currentVersion(userId);
+            return userProfileService.loadCachedUser(userId, version);
+        });
+    }
+
     @Transactional
     public UserProfileResponseDto modifyUserProfileInfo(
         Long userId,
@@ -64,6 +107,10 @@ public class UserService {
         return userAnalyticsService.getUserStreak(nickname, from, to);
     }
 
+    public UserActivityHeatmapResponseDto getUserActivityHeatmap(String nickname, Integer year) {
+        return userAnalyticsService.getUserActivityHeatmap(nickname, year);
+    }
+
     public List<DailyHistoryResponseDto> getUserDailyHistory(
         String nickname,
         CriteriaType criteria,
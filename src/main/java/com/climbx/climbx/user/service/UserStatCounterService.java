@@ -0,0 +1,185 @@
+package com.climbx.climbx.user.service;
+
+import com.climbx.climbx.user.entity.UserStatEntity;
+import com.climbx.climbx.user.event.UserStatChangedEvent;
+import com.climbx.climbx.user.event.UserStatDeltaEvent;
+import com.climbx.climbx.user.exception.UserNotFoundException;
+import com.climbx.climbx.user.util.UserRatingUtil;
+import jakarta.persistence.EntityManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 제출 수/기여 수 카운터와 그에 따른 레이팅 변화를 user_stats 에 원자적으로 반영합니다.
+ * <p>
+ * 엔티티를 읽어 값을 고친 뒤 쓰면 동시 요청끼리 증가분을 덮어쓰고, 비관적 락을 걸면 활동이 많은 사용자의 요청이 줄을 섭니다.
+ * 대신 {@code SET x = x + ?} 형태의 UPDATE 한 번으로 카운터와 레이팅을 함께 바꿉니다. 점수 증분은 {@link UserRatingUtil}의
+ * 점수 표를 SQL(ELT)로 옮겨 갱신 직전 값 기준으로 계산합니다. 벌크 UPDATE 는 엔티티 리스너를 거치지 않으므로 반영한 행을
+ * 다시 읽어 {@link UserStatChangedEvent}를 직접 발행합니다.
+ * <p>
+ * {@code climbx.user-stat.coalesce.enabled}가 켜져 있으면 증가분을 바로 쓰지 않고 커밋 뒤
+ * {@link UserStatDeltaAccumulator}에 넘겨 사용자별로 합친 다음 주기적으로 묶어 반영합니다.
+ */
+@Slf4j
+@Service
+public class UserStatCounterService {
+
+    /*
+     * MySQL 단일 테이블 UPDATE 는 SET 절을 왼쪽부터 평가하고 뒤 항목은 앞에서 바뀐 값을 봅니다. 레이팅은 카운터를 바꾸기 전
+     * 값으로 계산해야 하므로 가장 먼저 둡니다.
+     */
+    private static final String APPLY_DELTA_SQL = """
+        UPDATE user_stats
+           SET rating = rating
+                      + %s - %s
+                      + %s - %s,
+               submission_count = submission_count + ?,
+               contribution_count = contribution_count + ?,
+               updated_at = ?
+         WHERE user_id = ?
+           AND deleted_at IS NULL
+        """.formatted(
+        scoreSql("submission_count + ?", UserRatingUtil.submissionScoreTable()),
+        scoreSql("submission_count", UserRatingUtil.submissionScoreTable()),
+        scoreSql("contribution_count + ?", UserRatingUtil.contributionScoreTable()),
+        scoreSql("contribution_count", UserRatingUtil.contributionScoreTable()));
+
+    private static final String SELECT_CHANGED_SQL = """
+        SELECT user_id, rating, current_streak, longest_streak, solved_count, updated_at
+          FROM user_stats
+         WHERE deleted_at IS NULL
+           AND user_id IN (%s)
+        """;
+
+    private static final String EXISTS_SQL = """
+        SELECT EXISTS(SELECT 1 FROM user_stats WHERE user_id = ? AND deleted_at IS NULL)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean coalesce;
+
+    public UserStatCounterService(
+        JdbcTemplate jdbcTemplate,
+        EntityManager entityManager,
+        ApplicationEventPublisher eventPublisher,
+        @Value("${climbx.user-stat.coalesce.enabled:false}") boolean coalesce
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.coalesce = coalesce;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addSubmission(Long userId) {
+        add(new UserStatDeltaEvent(userId, 1, 0));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addContribution(Long userId) {
+        add(new UserStatDeltaEvent(userId, 0, 1));
+    }
+
+    /**
+     * 증가분을 user_id 순으로 JDBC 배치 UPDATE 하고, 반영된 행마다 {@link UserStatChangedEvent}를 발행합니다. 같은 사용자의
+     * 증가분은 호출자가 미리 합쳐서 넘겨야 합니다.
+     * <p>
+     * 같은 트랜잭션에서 이미 읽어 고친 UserStatEntity 가 있으면(예: 문제 레이팅 변경으로 top_problem_rating 을 고친 경우) 먼저
+     * flush 해 그 변경을 DB에 내리고, UPDATE 뒤에는 그 엔티티를 다시 읽어 커밋 때 옛 값으로 덮어쓰지 않게 합니다.
+     *
+     * @return 반영된 사용자 수. 삭제되었거나 없는 사용자는 제외됩니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int apply(Collection<UserStatDeltaEvent> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        // 여러 인스턴스가 같은 사용자들을 동시에 반영할 때 교착을 피하도록 항상 같은 순서로 행을 잠금
+        List<UserStatDeltaEvent> sorted = deltas.stream()
+            .sorted(Comparator.comparing(UserStatDeltaEvent::userId))
+            .toList();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        entityManager.flush();
+        jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, sorted.stream()
+            .map(delta -> new Object[]{delta.submissionCount(), delta.contributionCount(),
+                delta.submissionCount(), delta.contributionCount(), now, delta.userId()})
+            .toList());
+        sorted.forEach(delta -> refreshIfLoaded(delta.userId()));
+
+        String placeholders = String.join(", ", Collections.nCopies(sorted.size(), "?"));
+        List<UserStatChangedEvent> changed = jdbcTemplate.query(
+            SELECT_CHANGED_SQL.formatted(placeholders),
+            UserStatCounterService::toChangedEvent,
+            sorted.stream().map(UserStatDeltaEvent::userId).toArray());
+        changed.forEach(eventPublisher::publishEvent);
+
+        log.debug("사용자 통계 카운터 반영: requested={}, applied={}", sorted.size(), changed.size());
+        return changed.size();
+    }
+
+    private void add(UserStatDeltaEvent delta) {
+        if (coalesce) {
+            // 즉시 반영과 같이 없는 사용자는 호출 시점에 거부하고, 커밋된 증가분만 UserStatDeltaAccumulator 가 모음
+            if (!Boolean.TRUE.equals(
+                jdbcTemplate.queryForObject(EXISTS_SQL, Boolean.class, delta.userId()))) {
+                throw new UserNotFoundException(delta.userId());
+            }
+            eventPublisher.publishEvent(delta);
+            return;
+        }
+        if (apply(List.of(delta)) == 0) {
+            throw new UserNotFoundException(delta.userId());
+        }
+    }
+
+    /*
+     * 영속성 컨텍스트에 이미 올라온 엔티티만 다시 읽습니다. getReference 는 올라와 있지 않으면 조회 없이 프록시만 돌려줍니다.
+     */
+    private void refreshIfLoaded(Long userId) {
+        UserStatEntity stat = entityManager.getReference(UserStatEntity.class, userId);
+        if (Hibernate.isInitialized(stat)) {
+            entityManager.refresh(stat);
+        }
+    }
+
+    /**
+     * 개수 표현식에 해당하는 점수를 점수 표에서 찾는 SQL 식. 표의 마지막 값 이후로는 점수가 변하지 않으므로 개수를 표 길이로
+     * 자릅니다.
+     */
+    static String scoreSql(String count, int[] table) {
+        return "CAST(ELT(LEAST(%s, %d) + 1, %s) AS SIGNED)".formatted(count, table.length - 1,
+            Arrays.stream(table).mapToObj(String::valueOf).collect(Collectors.joining(", ")));
+    }
+
+    private static UserStatChangedEvent toChangedEvent(ResultSet rs, int rowNum)
+        throws SQLException {
+        return UserStatChangedEvent.builder()
+            .userId(rs.getLong("user_id"))
+            .rating(rs.getInt("rating"))
+            .currentStreak(rs.getInt("current_streak"))
+            .longestStreak(rs.getInt("longest_streak"))
+            .solvedCount(rs.getInt("solved_count"))
+            .updatedAt(rs.getTimestamp("updated_at").toLocalDateTime())
+            .deleted(false)
+            .build();
+    }
+}
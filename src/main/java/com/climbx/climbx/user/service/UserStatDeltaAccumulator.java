@@ -0,0 +1,155 @@
+package com.climbx.climbx.user.service;
+
+import com.climbx.climbx.user.event.UserStatDeltaEvent;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 커밋된 user_stats 카운터 증가분을 사용자별로 합쳐 두었다가 묶어서 반영합니다.
+ * <p>
+ * 증가분은 userId 해시로 고른 stripe 하나만 잠그고 더하므로 요청 스레드끼리 거의 경합하지 않습니다. {@link #flush()}는 모든
+ * stripe를 비워 batchSize명씩 별도 트랜잭션으로 {@link UserStatCounterService#apply}에 넘기며, 실패한 묶음과 그 뒤 증가분은
+ * 다시 합쳐 두고 다음 주기에 재시도합니다.
+ * <p>
+ * 종료 시에는 DataSource 보다 먼저 정리되므로 남은 증가분을 동기로 모두 반영하고, 그래도 남으면 값을 로그로 남깁니다. 프로세스가
+ * 강제 종료되면 마지막 반영 이후(최대 flush 주기 하나)의 증가분은 잃을 수 있습니다.
+ */
+@Slf4j
+@Component
+public class UserStatDeltaAccumulator implements DisposableBean {
+
+    private static final int SHUTDOWN_FLUSH_ATTEMPTS = 3;
+
+    private final UserStatCounterService userStatCounterService;
+    private final TransactionOperations transaction;
+    private final List<Map<Long, UserStatDeltaEvent>> stripes;
+    private final int batchSize;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private volatile boolean closed = false;
+
+    @Autowired
+    public UserStatDeltaAccumulator(
+        UserStatCounterService userStatCounterService,
+        PlatformTransactionManager transactionManager,
+        @Value("${climbx.user-stat.coalesce.stripes:16}") int stripes,
+        @Value("${climbx.user-stat.coalesce.batch-size:500}") int batchSize
+    ) {
+        this(userStatCounterService, requiresNew(transactionManager), stripes, batchSize);
+    }
+
+    UserStatDeltaAccumulator(
+        UserStatCounterService userStatCounterService,
+        TransactionOperations transaction,
+        int stripes,
+        int batchSize
+    ) {
+        this.userStatCounterService = userStatCounterService;
+        this.transaction = transaction;
+        this.stripes = IntStream.range(0, stripes)
+            .<Map<Long, UserStatDeltaEvent>>mapToObj(i -> new HashMap<>())
+            .toList();
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 증가분을 기록한 트랜잭션이 커밋된 뒤에만 모읍니다. 종료가 시작된 뒤 들어온 증가분은 바로 반영합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserStatDelta(UserStatDeltaEvent delta) {
+        add(delta);
+        if (closed) {
+            flush();
+        }
+    }
+
+    /**
+     * 모아 둔 증가분을 반영합니다.
+     *
+     * @return 반영을 커밋한 사용자 수
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            List<UserStatDeltaEvent> pending = drain();
+            for (int from = 0; from < pending.size(); from += batchSize) {
+                List<UserStatDeltaEvent> batch = List.copyOf(
+                    pending.subList(from, Math.min(from + batchSize, pending.size())));
+                try {
+                    transaction.executeWithoutResult(status -> userStatCounterService.apply(batch));
+                } catch (RuntimeException e) {
+                    pending.subList(from, pending.size()).forEach(this::add);
+                    log.error("사용자 통계 증가분 반영 실패, 다음 주기에 재시도합니다: pending={}",
+                        pending.size() - from, e);
+                    return from;
+                }
+            }
+            return pending.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public int pendingCount() {
+        int count = 0;
+        for (Map<Long, UserStatDeltaEvent> stripe : stripes) {
+            synchronized (stripe) {
+                count += stripe.size();
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void destroy() {
+        closed = true;
+        for (int attempt = 0; attempt < SHUTDOWN_FLUSH_ATTEMPTS && pendingCount() > 0; attempt++) {
+            flush();
+        }
+        List<UserStatDeltaEvent> lost = drain();
+        if (!lost.isEmpty()) {
+            log.error("종료 전에 반영하지 못한 사용자 통계 증가분: {}", lost);
+        }
+    }
+
+    void add(UserStatDeltaEvent delta) {
+        Map<Long, UserStatDeltaEvent> stripe = stripes.get(
+            Math.floorMod(delta.userId().hashCode(), stripes.size()));
+        synchronized (stripe) {
+            stripe.merge(delta.userId(), delta, UserStatDeltaEvent::plus);
+        }
+    }
+
+    private List<UserStatDeltaEvent> drain() {
+        List<UserStatDeltaEvent> drained = new ArrayList<>();
+        for (Map<Long, UserStatDeltaEvent> stripe : stripes) {
+            synchronized (stripe) {
+                drained.addAll(stripe.values());
+                stripe.clear();
+            }
+        }
+        return drained;
+    }
+
+    /*
+     * 커밋 직후 리스너에서 호출되면 끝난 트랜잭션의 자원이 아직 묶여 있으므로 항상 새 트랜잭션으로 반영합니다.
+     */
+    private static TransactionTemplate requiresNew(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+}
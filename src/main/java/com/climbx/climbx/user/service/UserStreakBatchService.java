@@ -0,0 +1,92 @@
+package com.climbx.climbx.user.service;
+
+import com.climbx.climbx.ranking.index.RankingIndex;
+import com.climbx.climbx.user.cache.UserProfileCache;
+import com.climbx.climbx.user.repository.UserStatRepository;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 연속 출석일 배치 작업. 자정 초기화는 한 번의 UPDATE로 끊긴 연속 출석일을 0으로 만들고, 전체 재계산은 사용자별 일별 해결
+ * 기록으로 값을 다시 채웁니다.
+ */
+@Slf4j
+@Service
+public class UserStreakBatchService {
+
+    static final int REBUILD_CHUNK_SIZE = 500;
+
+    private final UserStatRepository userStatRepository;
+    private final UserStreakService userStreakService;
+    private final RankingIndex rankingIndex;
+    private final UserProfileCache userProfileCache;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserStreakBatchService(
+        UserStatRepository userStatRepository,
+        UserStreakService userStreakService,
+        RankingIndex rankingIndex,
+        UserProfileCache userProfileCache,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.userStatRepository = userStatRepository;
+        this.userStreakService = userStreakService;
+        this.rankingIndex = rankingIndex;
+        this.userProfileCache = userProfileCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * today 기준으로 어제와 오늘 모두 활동이 없는 사용자의 현재 연속 출석일을 초기화합니다. 벌크 UPDATE는 엔티티 리스너를 거치지
+     * 않으므로 초기화된 사용자가 있으면 랭킹 인덱스를 다시 적재하고 프로필 캐시를 비웁니다.
+     *
+     * @return 초기화한 사용자 수
+     */
+    public int rollover(LocalDate today) {
+        Integer reset = transactionTemplate.execute(
+            status -> userStatRepository.resetBrokenStreaks(today.minusDays(1)));
+        int affectedRows = reset == null ? 0 : reset;
+        if (affectedRows > 0) {
+            rankingIndex.reload();
+            userProfileCache.invalidateAll();
+        }
+
+        log.info("연속 출석일 자정 초기화 완료: date={}, reset={}", today, affectedRows);
+        return affectedRows;
+    }
+
+    /**
+     * 전체 사용자의 연속 출석일을 일별 해결 기록으로 다시 계산합니다. 사용자 ID 순으로 나누어 청크마다 별도 트랜잭션으로 처리합니다.
+     *
+     * @return 재계산한 사용자 수
+     */
+    public int rebuild(LocalDate today) {
+        long startedAt = System.currentTimeMillis();
+        int rebuilt = 0;
+        long afterUserId = 0L;
+
+        while (true) {
+            List<Long> userIds = userStatRepository.findUserIdsAfter(afterUserId,
+                PageRequest.of(0, REBUILD_CHUNK_SIZE));
+            if (userIds.isEmpty()) {
+                break;
+            }
+
+            transactionTemplate.executeWithoutResult(status ->
+                userStatRepository.findByUserIdIn(userIds)
+                    .forEach(userStat -> userStreakService.recalculate(userStat, today)));
+
+            rebuilt += userIds.size();
+            afterUserId = userIds.getLast();
+        }
+
+        log.info("연속 출석일 전체 재계산 완료: users={}, elapsed={}ms",
+            rebuilt, System.currentTimeMillis() - startedAt);
+        return rebuilt;
+    }
+}
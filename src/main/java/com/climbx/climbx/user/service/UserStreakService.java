@@ -0,0 +1,69 @@
+package com.climbx.climbx.user.service;
+
+import com.climbx.climbx.common.util.KstDateUtil;
+import com.climbx.climbx.submission.entity.SubmissionEntity;
+import com.climbx.climbx.submission.event.SubmissionAcceptedEvent;
+import com.climbx.climbx.submission.repository.SubmissionRepository;
+import com.climbx.climbx.user.dto.UserStreakDto;
+import com.climbx.climbx.user.entity.UserStatEntity;
+import com.climbx.climbx.user.repository.UserDailyActivityRepository;
+import com.climbx.climbx.user.repository.UserStatRepository;
+import com.climbx.climbx.user.util.UserStreakUtil;
+import java.time.LocalDate;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 제출 승인 시 사용자의 연속 출석일(currentStreak, longestStreak)을 증분 갱신합니다.
+ * <p>
+ * 활동일은 제출이 생성된 날짜(KST)이며, 증분으로 계산할 수 없는 늦은 승인은 해당 사용자의 일별 활동(user_daily_activity)으로 다시 계산합니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class UserStreakService {
+
+    private final UserStatRepository userStatRepository;
+    private final SubmissionRepository submissionRepository;
+    private final UserDailyActivityRepository userDailyActivityRepository;
+
+    @Transactional
+    @EventListener
+    public void onSubmissionAccepted(SubmissionAcceptedEvent event) {
+        Optional<SubmissionEntity> submission = submissionRepository.findById(event.videoId());
+        Optional<UserStatEntity> userStat = userStatRepository.findById(event.userId());
+        if (submission.isEmpty() || userStat.isEmpty()) {
+            log.warn("연속 출석일 갱신 대상 없음: videoId={}, userId={}",
+                event.videoId(), event.userId());
+            return;
+        }
+
+        LocalDate today = KstDateUtil.today();
+        LocalDate activeDate = KstDateUtil.toDate(submission.get().createdAt());
+        if (!userStat.get().recordActiveDate(activeDate, today)) {
+            recalculate(userStat.get(), today);
+        }
+
+        log.info("연속 출석일 갱신: userId={}, activeDate={}, currentStreak={}, longestStreak={}",
+            event.userId(), activeDate, userStat.get().currentStreak(),
+            userStat.get().longestStreak());
+    }
+
+    /**
+     * 사용자의 일별 해결 기록 전체로 연속 출석일을 다시 계산합니다.
+     */
+    @Transactional
+    public void recalculate(UserStatEntity userStat, LocalDate today) {
+        UserStreakDto streak = UserStreakUtil.calculate(
+            userDailyActivityRepository.findSolvedHistory(userStat.userId()),
+            today
+        );
+        userStat.setStreak(streak.currentStreak(), streak.longestStreak(),
+            streak.lastActiveDate());
+    }
+}
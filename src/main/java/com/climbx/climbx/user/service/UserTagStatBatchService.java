@@ -0,0 +1,63 @@
+package com.climbx.climbx.user.service;
+
+import com.climbx.climbx.user.cache.UserProfileCache;
+import com.climbx.climbx.user.repository.UserStatRepository;
+import com.climbx.climbx.user.repository.UserTagStatRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+/**
+ * user_tag_stats 전체 재집계. 사용자 ID 순으로 나누어 청크마다 {@link UserTagStatService#rebuild(List)}의
+ * 트랜잭션으로 교체합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserTagStatBatchService {
+
+    static final int REBUILD_CHUNK_SIZE = 500;
+
+    private final UserStatRepository userStatRepository;
+    private final UserTagStatRepository userTagStatRepository;
+    private final UserTagStatService userTagStatService;
+    private final UserProfileCache userProfileCache;
+
+    /**
+     * @return 기록한 (사용자, 태그) 행 수
+     */
+    public int rebuildAll() {
+        long startedAt = System.currentTimeMillis();
+        int rows = 0;
+        long afterUserId = 0L;
+
+        while (true) {
+            List<Long> userIds = userStatRepository.findUserIdsAfter(afterUserId,
+                PageRequest.of(0, REBUILD_CHUNK_SIZE));
+            if (userIds.isEmpty()) {
+                break;
+            }
+            rows += userTagStatService.rebuild(userIds);
+            afterUserId = userIds.getLast();
+        }
+        // 벌크 교체는 프로필 캐시 무효화 이벤트를 거치지 않음
+        userProfileCache.invalidateAll();
+
+        log.info("태그 집계 전체 재계산 완료: rows={}, elapsed={}ms",
+            rows, System.currentTimeMillis() - startedAt);
+        return rows;
+    }
+
+    /**
+     * 테이블이 비어 있으면(배포 직후) 전체 재집계로 채웁니다.
+     */
+    public void backfillIfEmpty() {
+        if (userTagStatRepository.count() > 0) {
+            return;
+        }
+        log.info("태그 집계가 비어 있어 전체 재계산을 시작합니다.");
+        rebuildAll();
+    }
+}
@@ -0,0 +1,116 @@
+package com.climbx.climbx.user.service;
+
+import com.climbx.climbx.problem.entity.ProblemEntity;
+import com.climbx.climbx.problem.enums.ProblemTagType;
+import com.climbx.climbx.problem.repository.ProblemRepository;
+import com.climbx.climbx.submission.event.SubmissionAcceptedEvent;
+import com.climbx.climbx.submission.event.SubmissionCreatedEvent;
+import com.climbx.climbx.submission.repository.SubmissionRepository;
+import com.climbx.climbx.user.entity.UserTagStatEntity;
+import com.climbx.climbx.user.repository.UserTagStatRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 사용자/태그별 카테고리 레이팅(user_tag_stats)을 유지합니다.
+ * <p>
+ * 제출 생성과 승인 시 문제의 주/보조 태그 행을 증분 갱신합니다. 문제 태그나 레이팅 변경, 제출 취소는 반영하지 않으므로 배치
+ * 재집계({@link #rebuild(List)})로 맞추며, 재집계는 태그 요약 네이티브 쿼리 한 번으로 사용자 청크를 처리합니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class UserTagStatService {
+
+    private final UserTagStatRepository userTagStatRepository;
+    private final SubmissionRepository submissionRepository;
+    private final ProblemRepository problemRepository;
+
+    @Transactional
+    @EventListener
+    public void onSubmissionCreated(SubmissionCreatedEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        update(event.userId(), event.problemId(), (stat, problem) -> stat.addSubmission(now));
+    }
+
+    @Transactional
+    @EventListener
+    public void onSubmissionAccepted(SubmissionAcceptedEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        update(event.userId(), event.problemId(),
+            (stat, problem) -> stat.addSolvedProblem(problem.rating(), now));
+    }
+
+    /**
+     * 사용자들의 태그 집계를 제출 기록으로부터 다시 계산해 교체합니다.
+     *
+     * @return 기록한 (사용자, 태그) 행 수
+     */
+    @Transactional
+    public int rebuild(List<Long> userIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<UserTagStatEntity> stats = submissionRepository.summarizeTags(userIds).stream()
+            .map(summary -> UserTagStatEntity.of(
+                summary.userId(),
+                summary.tag(),
+                summary.topRatings(),
+                summary.solvedCount(),
+                summary.submissionCount(),
+                now
+            ))
+            .toList();
+
+        userTagStatRepository.deleteByUserIdIn(userIds);
+        userTagStatRepository.saveAll(stats);
+        return stats.size();
+    }
+
+    private void update(
+        Long userId,
+        UUID problemId,
+        BiConsumer<UserTagStatEntity, ProblemEntity> change
+    ) {
+        Optional<ProblemEntity> problem = problemRepository.findById(problemId);
+        if (problem.isEmpty()) {
+            log.warn("태그 집계 대상 문제 없음: userId={}, problemId={}", userId, problemId);
+            return;
+        }
+
+        // 주/보조 태그가 같으면 기존 태그 요약 쿼리와 같이 두 번 반영
+        List<ProblemTagType> tags = Stream.of(problem.get().primaryTag(),
+                problem.get().secondaryTag())
+            .filter(Objects::nonNull)
+            .toList();
+        if (tags.isEmpty()) {
+            return;
+        }
+
+        // 같은 (사용자, 태그)의 동시 승인이 둘 다 INSERT 해 중복 키로 실패하지 않도록 빈 행을 먼저 upsert 한 뒤 잠가서 갱신
+        LocalDateTime now = LocalDateTime.now();
+        tags.stream().distinct()
+            .forEach(tag -> userTagStatRepository.insertIfAbsent(userId, tag.name(), now));
+
+        Map<ProblemTagType, UserTagStatEntity> stats = userTagStatRepository
+            .findForUpdate(userId, tags).stream()
+            .collect(Collectors.toMap(UserTagStatEntity::tag, Function.identity()));
+
+        for (ProblemTagType tag : tags) {
+            change.accept(stats.get(tag), problem.get());
+        }
+        userTagStatRepository.saveAll(stats.values());
+    }
+}
@@ -0,0 +1,62 @@
+package com.climbx.climbx.user.service;
+
+import com.climbx.climbx.user.cache.UserProfileCache;
+import com.climbx.climbx.user.repository.UserStatRepository;
+import com.climbx.climbx.user.repository.UserTopProblemRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+/**
+ * user_top_problems 전체 재계산. 사용자 ID 순으로 나누어 청크마다 {@link UserTopProblemService#rebuild(List)}의
+ * 트랜잭션으로 맞춥니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserTopProblemBatchService {
+
+    static final int REBUILD_CHUNK_SIZE = 500;
+
+    private final UserStatRepository userStatRepository;
+    private final UserTopProblemRepository userTopProblemRepository;
+    private final UserTopProblemService userTopProblemService;
+    private final UserProfileCache userProfileCache;
+
+    /**
+     * @return 기록한 (사용자, 문제) 행 수
+     */
+    public int rebuildAll() {
+        long startedAt = System.currentTimeMillis();
+        int rows = 0;
+        long afterUserId = 0L;
+
+        while (true) {
+            List<Long> userIds = userStatRepository.findUserIdsAfter(afterUserId,
+                PageRequest.of(0, REBUILD_CHUNK_SIZE));
+            if (userIds.isEmpty()) {
+                break;
+            }
+            rows += userTopProblemService.rebuild(userIds);
+            afterUserId = userIds.getLast();
+        }
+        userProfileCache.invalidateAll();
+
+        log.info("상위 문제 전체 재계산 완료: rows={}, elapsed={}ms",
+            rows, System.currentTimeMillis() - startedAt);
+        return rows;
+    }
+
+    /**
+     * 테이블이 비어 있으면(배포 직후) 전체 재계산으로 채웁니다.
+     */
+    public void backfillIfEmpty() {
+        if (userTopProblemRepository.count() > 0) {
+            return;
+        }
+        log.info("상위 문제 목록이 비어 있어 전체 재계산을 시작합니다.");
+        rebuildAll();
+    }
+}
@@ -0,0 +1,232 @@
+package com.climbx.climbx.user.service;
+
+import com.climbx.climbx.common.enums.StatusType;
+import com.climbx.climbx.problem.event.ProblemRatingChangedEvent;
+import com.climbx.climbx.submission.repository.SubmissionRepository;
+import com.climbx.climbx.user.dto.UserSolvedProblemDto;
+import com.climbx.climbx.user.entity.UserStatEntity;
+import com.climbx.climbx.user.entity.UserTopProblemEntity;
+import com.climbx.climbx.user.repository.UserStatRepository;
+import com.climbx.climbx.user.repository.UserTopProblemRepository;
+import com.climbx.climbx.user.util.TopProblemHeap;
+import com.climbx.climbx.user.util.UserRatingUtil;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 사용자별 해결 문제 레이팅 상위 {@link UserRatingUtil#TOP_PROBLEM_LIMIT}개(user_top_problems)와 그 합인
+ * user_stats.top_problem_rating 을 유지합니다.
+ * <p>
+ * 첫 해결은 사용자 행을 잠근 뒤 {@link TopProblemHeap}에 넣어 O(log 50)에 반영하고, 밀려난 행만 지웁니다. 문제 레이팅이 바뀌면
+ * 그 문제를 가진 행의 레이팅을 고치고, 내려간 경우 가득 찬 목록은 다시 계산하며 올라간 경우 새로 들어갈 수 있는 사용자에게만
+ * 추가합니다. 제출 취소나 문제 삭제는 배치 재계산({@link #rebuild(List)})으로 맞춥니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class UserTopProblemService {
+
+    private final UserTopProblemRepository userTopProblemRepository;
+    private final SubmissionRepository submissionRepository;
+    private final UserStatRepository userStatRepository;
+
+    /**
+     * 사용자가 처음 해결한 문제를 상위 목록에 반영합니다. user_stats 는 호출자가 갱신합니다.
+     *
+     * @return 반영 후 상위 문제 레이팅 합
+     */
+    @Transactional
+    public int addSolvedProblem(Long userId, UUID problemId, int rating) {
+        List<UserTopProblemEntity> rows = userTopProblemRepository.findByUserIdForUpdate(userId);
+        TopProblemHeap heap = TopProblemHeap.of(rows);
+        if (rows.stream().anyMatch(row -> row.problemId().equals(problemId))) {
+            return heap.ratingSum();
+        }
+
+        UserTopProblemEntity candidate = UserTopProblemEntity.of(userId, problemId, rating);
+        Optional<UserTopProblemEntity> evicted = heap.offer(candidate);
+        if (evicted.isPresent() && evicted.get() == candidate) {
+            return heap.ratingSum();
+        }
+
+        userTopProblemRepository.save(candidate);
+        evicted.ifPresent(userTopProblemRepository::delete);
+        return heap.ratingSum();
+    }
+
+    /**
+     * 한 사용자가 처음 해결한 여러 문제를 한 번의 잠금과 힙 구성으로 반영합니다. 일괄 리뷰에서 사용하며, 이번 호출에서 들어왔다가
+     * 다시 밀려난 문제는 저장하지 않습니다. user_stats 는 호출자가 갱신합니다.
+     *
+     * @return 반영 후 상위 문제 레이팅 합
+     */
+    @Transactional
+    public int addSolvedProblems(Long userId, List<UserSolvedProblemDto> solvedProblems) {
+        List<UserTopProblemEntity> rows = userTopProblemRepository.findByUserIdForUpdate(userId);
+        TopProblemHeap heap = TopProblemHeap.of(rows);
+        Set<UUID> held = rows.stream()
+            .map(UserTopProblemEntity::problemId)
+            .collect(Collectors.toCollection(HashSet::new));
+
+        List<UserTopProblemEntity> added = new ArrayList<>();
+        List<UserTopProblemEntity> evictedRows = new ArrayList<>();
+        for (UserSolvedProblemDto solved : solvedProblems) {
+            if (!held.add(solved.problemId())) {
+                continue;
+            }
+            UserTopProblemEntity candidate = UserTopProblemEntity.of(userId, solved.problemId(),
+                solved.rating());
+            Optional<UserTopProblemEntity> evicted = heap.offer(candidate);
+            if (evicted.isPresent() && evicted.get() == candidate) {
+                continue;
+            }
+            added.add(candidate);
+            evicted.filter(row -> !added.remove(row)).ifPresent(evictedRows::add);
+        }
+
+        userTopProblemRepository.saveAll(added);
+        userTopProblemRepository.deleteAll(evictedRows);
+        return heap.ratingSum();
+    }
+
+    @Transactional
+    @EventListener
+    public void onProblemRatingChanged(ProblemRatingChangedEvent event) {
+        UUID problemId = event.problemId();
+        List<UserTopProblemEntity> holders = userTopProblemRepository
+            .findByProblemIdForUpdate(problemId);
+        holders.forEach(row -> row.changeRating(event.rating()));
+
+        Set<Long> holderIds = holders.stream()
+            .map(UserTopProblemEntity::userId)
+            .collect(Collectors.toSet());
+
+        Set<Long> changed = new HashSet<>();
+        if (event.rating() < event.previousRating()) {
+            if (holderIds.isEmpty()) {
+                return;
+            }
+            // 가득 찬 목록에서는 목록 밖의 해결 문제가 내려간 문제보다 높아졌을 수 있음
+            Map<Long, List<UserTopProblemEntity>> rowsByUser = groupByUser(
+                userTopProblemRepository.findByUserIdIn(holderIds));
+            List<Long> fullUserIds = new ArrayList<>();
+            holderIds.forEach(userId -> {
+                if (rowsByUser.get(userId).size() >= UserRatingUtil.TOP_PROBLEM_LIMIT) {
+                    fullUserIds.add(userId);
+                } else {
+                    changed.add(userId);
+                }
+            });
+            if (!fullUserIds.isEmpty()) {
+                rebuild(fullUserIds);
+            }
+        } else {
+            changed.addAll(holderIds);
+            submissionRepository.findTopProblemCandidates(problemId, StatusType.ACCEPTED,
+                    event.rating(), UserRatingUtil.TOP_PROBLEM_LIMIT)
+                .forEach(userId -> {
+                    addSolvedProblem(userId, problemId, event.rating());
+                    changed.add(userId);
+                });
+        }
+
+        syncUserStats(changed);
+        log.info("문제 레이팅 변경 반영: problemId={}, {} -> {}, users={}",
+            problemId, event.previousRating(), event.rating(), changed.size());
+    }
+
+    /**
+     * 사용자들의 상위 문제 목록을 제출 기록으로부터 다시 계산하고 user_stats 에 반영합니다. 달라진 행만 추가/수정/삭제합니다.
+     *
+     * @return 기록한 (사용자, 문제) 행 수
+     */
+    @Transactional
+    public int rebuild(List<Long> userIds) {
+        Map<Long, TopProblemHeap> heaps = new HashMap<>();
+        submissionRepository.findSolvedProblems(userIds, StatusType.ACCEPTED)
+            .forEach(solved -> heaps
+                .computeIfAbsent(solved.userId(),
+                    userId -> new TopProblemHeap(UserRatingUtil.TOP_PROBLEM_LIMIT))
+                .offer(toEntity(solved)));
+
+        Map<Long, List<UserTopProblemEntity>> existingByUser = groupByUser(
+            userTopProblemRepository.findByUserIdIn(userIds));
+
+        int rows = 0;
+        List<UserTopProblemEntity> toSave = new ArrayList<>();
+        List<UserTopProblemEntity> toDelete = new ArrayList<>();
+        for (Long userId : userIds) {
+            Map<UUID, UserTopProblemEntity> existing = existingByUser
+                .getOrDefault(userId, List.of()).stream()
+                .collect(Collectors.toMap(UserTopProblemEntity::problemId, Function.identity()));
+
+            TopProblemHeap heap = heaps.get(userId);
+            List<UserTopProblemEntity> entries = heap == null ? List.of() : heap.entries();
+            for (UserTopProblemEntity entry : entries) {
+                UserTopProblemEntity current = existing.remove(entry.problemId());
+                if (current == null) {
+                    toSave.add(entry);
+                } else if (!current.rating().equals(entry.rating())) {
+                    current.changeRating(entry.rating());
+                }
+            }
+            toDelete.addAll(existing.values());
+            rows += entries.size();
+        }
+
+        userTopProblemRepository.deleteAll(toDelete);
+        userTopProblemRepository.saveAll(toSave);
+
+        Map<Long, Integer> sums = new HashMap<>();
+        heaps.forEach((userId, heap) -> sums.put(userId, heap.ratingSum()));
+        updateUserStats(userIds, sums);
+        return rows;
+    }
+
+    private void syncUserStats(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        Map<Long, Integer> sums = userTopProblemRepository.findByUserIdIn(userIds).stream()
+            .collect(Collectors.groupingBy(UserTopProblemEntity::userId,
+                Collectors.summingInt(UserTopProblemEntity::rating)));
+        updateUserStats(userIds, sums);
+    }
+
+    /*
+     * rating 은 UserStatCounterService 가 UPDATE 증분으로도 바꾸므로 행을 잠그고 읽어 그 사이의 증분을 덮어쓰지 않게 합니다.
+     */
+    private void updateUserStats(Collection<Long> userIds, Map<Long, Integer> sums) {
+        for (UserStatEntity stat : userStatRepository.findAllByUserIdInForUpdate(userIds)) {
+            int sum = sums.getOrDefault(stat.userId(), 0);
+            if (stat.topProblemRating() != sum) {
+                stat.updateTopProblemRating(sum);
+            }
+        }
+    }
+
+    private static Map<Long, List<UserTopProblemEntity>> groupByUser(
+        List<UserTopProblemEntity> rows
+    ) {
+        return rows.stream().collect(Collectors.groupingBy(UserTopProblemEntity::userId));
+    }
+
+    private static UserTopProblemEntity toEntity(UserSolvedProblemDto solved) {
+        return UserTopProblemEntity.of(solved.userId(), solved.problemId(), solved.rating());
+    }
+}
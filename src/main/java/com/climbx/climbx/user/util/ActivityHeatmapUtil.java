@@ -0,0 +1,50 @@
+package com.climbx.climbx.user.util;
+
+import com.climbx.climbx.user.dto.UserActivityHeatmapResponseDto;
+import com.climbx.climbx.user.entity.UserDailyActivityEntity;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+public final class ActivityHeatmapUtil {
+
+    private ActivityHeatmapUtil() {
+    }
+
+    /**
+     * 날짜 오름차순 일별 활동을 연간 히트맵으로 인코딩합니다. 해당 연도 밖이거나 활동이 없는 행은 건너뜁니다.
+     */
+    public static UserActivityHeatmapResponseDto encode(
+        int year,
+        List<UserDailyActivityEntity> activities
+    ) {
+        LocalDate startDate = LocalDate.ofYearDay(year, 1);
+        int days = startDate.lengthOfYear();
+        byte[] bitmap = new byte[(days + Byte.SIZE - 1) / Byte.SIZE];
+        List<Integer> solvedCounts = new ArrayList<>();
+        List<Integer> submittedCounts = new ArrayList<>();
+
+        for (UserDailyActivityEntity activity : activities) {
+            long offset = ChronoUnit.DAYS.between(startDate, activity.activityDate());
+            if (offset < 0 || offset >= days
+                || (activity.solvedCount() <= 0 && activity.submittedCount() <= 0)) {
+                continue;
+            }
+            int day = (int) offset;
+            bitmap[day / Byte.SIZE] |= (byte) (1 << (day % Byte.SIZE));
+            solvedCounts.add(activity.solvedCount());
+            submittedCounts.add(activity.submittedCount());
+        }
+
+        return UserActivityHeatmapResponseDto.builder()
+            .year(year)
+            .startDate(startDate)
+            .days(days)
+            .activeDays(Base64.getUrlEncoder().withoutPadding().encodeToString(bitmap))
+            .solvedCounts(solvedCounts)
+            .submittedCounts(submittedCounts)
+            .build();
+    }
+}
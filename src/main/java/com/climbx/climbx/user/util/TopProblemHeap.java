@@ -0,0 +1,68 @@
+package com.climbx.climbx.user.util;
+
+import com.climbx.climbx.user.entity.UserTopProblemEntity;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+/**
+ * 레이팅 상위 capacity개 문제를 유지하는 최소 힙. 가장 낮은 레이팅이 루트에 있어 새 문제를 O(log capacity)에 반영하고, 레이팅
+ * 합을 함께 유지합니다. 레이팅이 같으면 이미 들어 있는 문제를 유지합니다. 스레드 안전하지 않습니다.
+ */
+public class TopProblemHeap {
+
+    private final int capacity;
+    private final PriorityQueue<UserTopProblemEntity> heap;
+    private int ratingSum;
+
+    public TopProblemHeap(int capacity) {
+        this.capacity = capacity;
+        this.heap = new PriorityQueue<>(capacity + 1,
+            Comparator.comparingInt(UserTopProblemEntity::rating));
+    }
+
+    public static TopProblemHeap of(Collection<UserTopProblemEntity> entries) {
+        TopProblemHeap heap = new TopProblemHeap(UserRatingUtil.TOP_PROBLEM_LIMIT);
+        entries.forEach(heap::offer);
+        return heap;
+    }
+
+    /**
+     * 문제를 추가합니다. 가득 찼으면 최솟값보다 레이팅이 높을 때만 들어가고 최솟값이 밀려납니다.
+     *
+     * @return 목록에서 빠진 항목. 후보가 들어가지 못했으면 후보 자신, 빠진 항목이 없으면 빈 값
+     */
+    public Optional<UserTopProblemEntity> offer(UserTopProblemEntity candidate) {
+        if (heap.size() < capacity) {
+            heap.add(candidate);
+            ratingSum += candidate.rating();
+            return Optional.empty();
+        }
+        UserTopProblemEntity min = heap.peek();
+        if (min == null || candidate.rating() <= min.rating()) {
+            return Optional.of(candidate);
+        }
+        heap.poll();
+        heap.add(candidate);
+        ratingSum += candidate.rating() - min.rating();
+        return Optional.of(min);
+    }
+
+    public int ratingSum() {
+        return ratingSum;
+    }
+
+    public int size() {
+        return heap.size();
+    }
+
+    public boolean isFull() {
+        return heap.size() >= capacity;
+    }
+
+    public List<UserTopProblemEntity> entries() {
+        return List.copyOf(heap);
+    }
+}
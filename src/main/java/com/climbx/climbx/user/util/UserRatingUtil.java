@@ -1,35 +1,66 @@
 package com.climbx.climbx.user.util;
 
-import com.climbx.climbx.problem.dto.TagRatingPairDto;
 import com.climbx.climbx.problem.enums.ProblemTagType;
 import com.climbx.climbx.problem.enums.ProblemTierType;
 import com.climbx.climbx.user.dto.RatingResponseDto;
 import com.climbx.climbx.user.dto.TagRatingResponseDto;
+import com.climbx.climbx.user.dto.UserTagRatingDto;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
-@Slf4j
 public class UserRatingUtil {
 
     static final int CATEGORY_TYPE_LIMIT = 8;
+    public static final int TOP_PROBLEM_LIMIT = 50;
+
+    private static final ProblemTagType[] TAG_TYPES = ProblemTagType.values();
+
+    // 개수별 점수 표. 점수는 개수에 대해 단조 증가하며 최댓값에 도달한 뒤로는 변하지 않으므로 그 지점까지만 저장합니다.
+    private static final int[] SOLVED_SCORE = saturatingScoreTable(1000,
+        UserRatingUtil::solvedScoreFormula);
+    private static final int[] CONTRIBUTION_SCORE = saturatingScoreTable(100,
+        UserRatingUtil::contributionScoreFormula);
 
     public static int calculateSubmissionScore(int submissionCount) {
         return 10 * Math.min(submissionCount, 50);
     }
 
     public static int calculateSolvedScore(int solvedCount) {
-        return (int) Math.round(1000 * (1 - Math.pow(0.98, solvedCount)));
+        return lookupScore(SOLVED_SCORE, solvedCount, UserRatingUtil::solvedScoreFormula);
     }
 
     public static int calculateContributionScore(int contributionCount) {
+        return lookupScore(CONTRIBUTION_SCORE, contributionCount,
+            UserRatingUtil::contributionScoreFormula);
+    }
+
+    /**
+     * 제출 수별 제출 점수 표. 인덱스가 제출 수이며 마지막 값 이후로는 점수가 변하지 않습니다.
+     */
+    public static int[] submissionScoreTable() {
+        return saturatingScoreTable(calculateSubmissionScore(Integer.MAX_VALUE),
+            UserRatingUtil::calculateSubmissionScore);
+    }
+
+    /**
+     * 기여 수별 기여 점수 표. 인덱스가 기여 수이며 마지막 값 이후로는 점수가 변하지 않습니다.
+     */
+    public static int[] contributionScoreTable() {
+        return CONTRIBUTION_SCORE.clone();
+    }
+
+    static int solvedScoreFormula(int solvedCount) {
+        return (int) Math.round(1000 * (1 - Math.pow(0.98, solvedCount)));
+    }
+
+    static int contributionScoreFormula(int contributionCount) {
         return (int) Math.round(100 * (1 - Math.pow(0.9, contributionCount)));
     }
 
@@ -57,64 +88,113 @@ public class UserRatingUtil {
             .build();
     }
 
-    public List<TagRatingResponseDto> calculateCategoryRating(
-        List<TagRatingPairDto> solvedTags,
-        List<TagRatingPairDto> allTags
+    /**
+     * user_tag_stats에 미리 계산해 둔 태그별 레이팅으로 상위 카테고리 레이팅을 구성합니다. 기록이 없는 태그는 0점입니다.
+     */
+    public List<TagRatingResponseDto> toCategoryRatings(List<UserTagRatingDto> tagRatings) {
+        int[] ratingByTag = new int[TAG_TYPES.length];
+        tagRatings.forEach(dto -> ratingByTag[dto.tag().ordinal()] = dto.rating());
+        return rankCategoryRatings(ratingByTag);
+    }
+
+    /**
+     * 태그 하나의 카테고리 레이팅. solvedRatings는 해결한 문제 레이팅 목록이며 상위 TOP_PROBLEM_LIMIT개만 반영합니다.
+     */
+    public static int calculateTagRating(
+        List<Integer> solvedRatings,
+        int solvedCount,
+        int submissionCount
     ) {
-        // {Problem, tag} 형태로 solvedTags와 allTags를 받음.
-        // Problem은 각각 2개씩 있을 수 있음
-
-        log.info("Calculating category ratings for {} solved tags and {} all tags",
-            solvedTags.size(), allTags.size());
-        solvedTags.forEach(tag -> log.debug("Solved tag: {}, rating: {}",
-            tag.tag(), tag.rating()));
-        allTags.forEach(tag -> log.debug("All tag: {}, rating: {}",
-            tag.tag(), tag.rating()));
-
-        Map<ProblemTagType, List<Integer>> solvedByTag = solvedTags.stream()
-            .collect(Collectors.groupingBy(
-                TagRatingPairDto::tag,
-                Collectors.mapping(TagRatingPairDto::rating, Collectors.toList())
-            ));
-
-        Map<ProblemTagType, List<Integer>> allByTag = allTags.stream()
-            .collect(Collectors.groupingBy(
-                TagRatingPairDto::tag,
-                Collectors.mapping(TagRatingPairDto::rating, Collectors.toList())
-            ));
-
-        record TagRatingWithPriority(TagRatingResponseDto dto, int priority) {
+        int[] ratings = solvedRatings.stream().mapToInt(Integer::intValue).toArray();
+        return calculateTagRating(ratings, 0, ratings.length, solvedCount, submissionCount);
+    }
 
+    /**
+     * ratings[from, to) 구간을 해결한 문제 레이팅으로 보고 태그 레이팅을 계산합니다. 구간의 원소 순서는 바뀔 수 있습니다.
+     */
+    static int calculateTagRating(
+        int[] ratings,
+        int from,
+        int to,
+        int solvedCount,
+        int submissionCount
+    ) {
+        int end = Math.min(to, from + TOP_PROBLEM_LIMIT);
+        if (to > end) {
+            selectTop(ratings, from, to, TOP_PROBLEM_LIMIT);
+        }
+        int tierSum = 0;
+        for (int i = from; i < end; i++) {
+            tierSum += ProblemTierType.fromValue(ratings[i]).value();
         }
 
-        List<TagRatingResponseDto> allCategoryRatings = Arrays.stream(ProblemTagType.values())
-            .map(tag -> {
-                List<Integer> solvedRatings = solvedByTag.getOrDefault(tag, List.of());
-                List<Integer> allRatings = allByTag.getOrDefault(tag, List.of());
-
-                int topProblemScore = 2 * solvedRatings.stream()
-                    .sorted(Comparator.reverseOrder())
-                    .limit(50)
-                    .mapToInt(Integer::intValue)
-                    .map(rating -> ProblemTierType.fromValue(rating).value())
-                    .sum();
-                int allSubmissionScore = 10 * Math.min(allRatings.size(), 50);
-                int solvedCountScore = (int) Math.round(
-                    1000 * (1 - Math.pow(0.98, solvedRatings.size()))
-                );
-                TagRatingResponseDto dto = TagRatingResponseDto.builder()
-                    .category(tag.displayName())
-                    .rating(
-                        topProblemScore + allSubmissionScore + solvedCountScore
-                    )
-                    .build();
-                return new TagRatingWithPriority(dto, tag.priority());
-            }).sorted(Comparator.comparing((TagRatingWithPriority t) -> t.dto().rating()).reversed()
-                .thenComparing(t -> t.priority()))
-            .map(TagRatingWithPriority::dto)
-            .toList();
+        int topProblemScore = 2 * tierSum;
+        return topProblemScore + calculateSubmissionScore(submissionCount)
+            + calculateSolvedScore(solvedCount);
+    }
+
+    /**
+     * 점수 표 조회. 표 끝을 넘는 개수는 포화된 마지막 값을, 음수 개수는 기존 공식 값을 반환합니다.
+     */
+    private static int lookupScore(int[] table, int count, IntUnaryOperator formula) {
+        if (count < 0) {
+            return formula.applyAsInt(count);
+        }
+        return table[Math.min(count, table.length - 1)];
+    }
 
-        return allCategoryRatings.subList(0,
-            Math.min(CATEGORY_TYPE_LIMIT, allCategoryRatings.size()));
+    private static int[] saturatingScoreTable(int maxScore, IntUnaryOperator formula) {
+        int saturatedAt = 0;
+        while (formula.applyAsInt(saturatedAt) < maxScore) {
+            saturatedAt++;
+        }
+        return IntStream.rangeClosed(0, saturatedAt).map(formula).toArray();
+    }
+
+    /**
+     * Quickselect로 ratings[from, to)의 큰 값 k개를 구간 앞쪽 k칸에 모읍니다. 앞쪽 k칸 안의 순서는 보장하지 않습니다.
+     */
+    private static void selectTop(int[] ratings, int from, int to, int k) {
+        int left = from;
+        int right = to - 1;
+        int target = from + k - 1;
+        while (left < right) {
+            int pivot = ratings[(left + right) >>> 1];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (ratings[i] > pivot) {
+                    i++;
+                }
+                while (ratings[j] < pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    int tmp = ratings[i];
+                    ratings[i++] = ratings[j];
+                    ratings[j--] = tmp;
+                }
+            }
+            if (target <= j) {
+                right = j;
+            } else if (target >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private List<TagRatingResponseDto> rankCategoryRatings(int[] ratingByTag) {
+        return Arrays.stream(TAG_TYPES)
+            .sorted(Comparator.comparingInt((ProblemTagType tag) -> ratingByTag[tag.ordinal()])
+                .reversed()
+                .thenComparing(ProblemTagType::priority))
+            .limit(CATEGORY_TYPE_LIMIT)
+            .map(tag -> TagRatingResponseDto.builder()
+                .category(tag.displayName())
+                .rating(ratingByTag[tag.ordinal()])
+                .build())
+            .toList();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,37 @@
+package com.climbx.climbx.user.util;
+
+import com.climbx.climbx.user.dto.DailyHistoryResponseDto;
+import com.climbx.climbx.user.dto.UserStreakDto;
+import java.time.LocalDate;
+import java.util.List;
+
+public final class UserStreakUtil {
+
+    private UserStreakUtil() {
+    }
+
+    /**
+     * 날짜 오름차순 일별 해결 기록으로 연속 출석일을 계산합니다. 마지막 활동일이 오늘 또는 어제가 아니면 현재 연속 출석일은 0입니다.
+     */
+    public static UserStreakDto calculate(List<DailyHistoryResponseDto> dailySolved, LocalDate today) {
+        int run = 0;
+        int longest = 0;
+        LocalDate last = null;
+
+        for (DailyHistoryResponseDto day : dailySolved) {
+            if (day.value() == null || day.value() <= 0) {
+                continue;
+            }
+            run = last != null && last.plusDays(1).isEqual(day.date()) ? run + 1 : 1;
+            longest = Math.max(longest, run);
+            last = day.date();
+        }
+
+        boolean alive = last != null && !last.isBefore(today.minusDays(1));
+        return UserStreakDto.builder()
+            .currentStreak(alive ? run : 0)
+            .longestStreak(longest)
+            .lastActiveDate(last)
+            .build();
+    }
+}
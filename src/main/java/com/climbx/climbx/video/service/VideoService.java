@@ -3,6 +3,8 @@ package com.climbx.climbx.video.service;
 import com.climbx.climbx.common.enums.ErrorCode;
 import com.climbx.climbx.common.enums.StatusType;
 import com.climbx.climbx.common.service.S3Service;
+import com.climbx.climbx.submission.entity.SubmissionEntity;
+import com.climbx.climbx.submission.repository.SubmissionRepository;
 import com.climbx.climbx.user.entity.UserAccountEntity;
 import com.climbx.climbx.user.exception.UserNotFoundException;
 import com.climbx.climbx.user.repository.UserAccountRepository;
@@ -26,6 +28,7 @@ public class VideoService {
 
     private final S3Service s3Service;
     private final VideoRepository videoRepository;
+    private final SubmissionRepository submissionRepository;
     private final UserAccountRepository userAccountRepository;
 
     @Transactional
@@ -82,8 +85,9 @@ public class VideoService {
             throw new VideoOnlyOwnerCanModifyException(ErrorCode.VIDEO_ONLY_OWNER_CAN_MODIFY);
         }
 
-        // Soft delete 수행
+        // Soft delete 수행. 제출 조회는 videos를 조인하지 않으므로 연결된 제출도 함께 삭제 처리
         videoEntity.softDelete();
+        submissionRepository.findById(videoId).ifPresent(SubmissionEntity::softDelete);
 
         return VideoDeleteResponseDto.from(videoId);
     }
@@ -0,0 +1,11 @@
+-- 사용자/기준/일자별 랭킹 값 롤업 테이블 (하루 한 행)
+CREATE TABLE `user_ranking_daily`
+(
+    `user_id`       bigint      NOT NULL,
+    `criteria`      varchar(32) NOT NULL,
+    `snapshot_date` date        NOT NULL,
+    `value`         int         NOT NULL,
+    PRIMARY KEY (`user_id`, `criteria`, `snapshot_date`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_0900_ai_ci;
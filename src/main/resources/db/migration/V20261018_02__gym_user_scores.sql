@@ -0,0 +1,13 @@
+-- 클라이밍장별 사용자 점수 집계 테이블 (클라이밍장 리더보드)
+CREATE TABLE `gym_user_scores`
+(
+    `gym_id`       bigint      NOT NULL,
+    `user_id`      bigint      NOT NULL,
+    `score`        int         NOT NULL,
+    `solved_count` int         NOT NULL,
+    `updated_at`   datetime(6) NOT NULL,
+    PRIMARY KEY (`gym_id`, `user_id`),
+    KEY `idx_gym_user_scores_ranking` (`gym_id`, `score` DESC, `updated_at`, `user_id`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_0900_ai_ci;
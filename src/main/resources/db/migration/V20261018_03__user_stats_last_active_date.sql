@@ -0,0 +1,4 @@
+-- 연속 출석일 계산용 마지막 활동일(KST)과 자정 초기화 대상 조회용 인덱스
+ALTER TABLE user_stats
+    ADD COLUMN last_active_date DATE NULL,
+    ADD KEY `idx_user_stats_streak_rollover` (`current_streak`, `last_active_date`);
@@ -0,0 +1,15 @@
+-- 기간(주간/월간)별 사용자 집계 테이블 (시즌 랭킹). 제출 승인 시 upsert로 누적합니다.
+CREATE TABLE `user_period_stats`
+(
+    `period_type`   varchar(16) NOT NULL,
+    `period_start`  date        NOT NULL,
+    `user_id`       bigint      NOT NULL,
+    `solved_count`  int         NOT NULL,
+    `rating_gained` int         NOT NULL,
+    `updated_at`    datetime(6) NOT NULL,
+    PRIMARY KEY (`period_type`, `period_start`, `user_id`),
+    KEY `idx_user_period_stats_solved` (`period_type`, `period_start`, `solved_count` DESC, `updated_at`, `user_id`),
+    KEY `idx_user_period_stats_rating` (`period_type`, `period_start`, `rating_gained` DESC, `updated_at`, `user_id`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_0900_ai_ci;
@@ -0,0 +1,14 @@
+-- 사용자/태그별 카테고리 레이팅 집계 테이블. 프로필 조회 시 user_id 범위 스캔 한 번으로 읽습니다.
+CREATE TABLE `user_tag_stats`
+(
+    `user_id`          bigint       NOT NULL,
+    `tag`              varchar(32)  NOT NULL,
+    `submission_count` int          NOT NULL,
+    `solved_count`     int          NOT NULL,
+    `top_ratings`      varchar(255) NOT NULL,
+    `rating`           int          NOT NULL,
+    `updated_at`       datetime(6)  NOT NULL,
+    PRIMARY KEY (`user_id`, `tag`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_0900_ai_ci;
@@ -0,0 +1,12 @@
+-- 사용자별로 해결한 서로 다른 문제 중 레이팅 상위 50개. user_stats.top_problem_rating은 이 행들의 레이팅 합이며,
+-- 문제 레이팅이 바뀌면 problem_id 인덱스로 해당 문제를 가진 사용자를 찾아 다시 계산합니다.
+CREATE TABLE `user_top_problems`
+(
+    `user_id`    bigint     NOT NULL,
+    `problem_id` binary(16) NOT NULL,
+    `rating`     int        NOT NULL,
+    PRIMARY KEY (`user_id`, `problem_id`),
+    KEY `idx_user_top_problems_problem_id` (`problem_id`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_0900_ai_ci;
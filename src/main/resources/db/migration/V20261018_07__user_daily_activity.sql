@@ -0,0 +1,11 @@
+-- 사용자별 일별(KST) 활동 집계. 제출 생성/승인 시 upsert로 누적하며 스트릭과 히트맵은 (user_id, activity_date) PK 범위만 읽습니다.
+CREATE TABLE `user_daily_activity`
+(
+    `user_id`         bigint NOT NULL,
+    `activity_date`   date   NOT NULL,
+    `solved_count`    int    NOT NULL,
+    `submitted_count` int    NOT NULL,
+    PRIMARY KEY (`user_id`, `activity_date`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_0900_ai_ci;
@@ -0,0 +1,2 @@
+-- 제출 목록 keyset 조회((created_at, video_id) DESC seek)용 인덱스
+CREATE INDEX `idx_submissions_created_at_video_id` ON `submissions` (`created_at`, `video_id`);
@@ -0,0 +1,28 @@
+-- 사용자 범위 제출 조회가 videos 조인 없이 인덱스 범위 스캔이 되도록 제출자, 클라이밍장, 문제 레이팅을 submissions에 비정규화합니다.
+ALTER TABLE `submissions`
+    ADD COLUMN `user_id`        bigint DEFAULT NULL,
+    ADD COLUMN `gym_id`         bigint DEFAULT NULL,
+    ADD COLUMN `problem_rating` int    DEFAULT NULL;
+
+UPDATE `submissions` s
+    JOIN `videos` v ON v.video_id = s.video_id
+    JOIN `problems` p ON p.problem_id = s.problem_id
+SET s.user_id        = v.user_id,
+    s.gym_id         = p.gym_id,
+    s.problem_rating = p.problem_rating;
+
+-- 삭제된 영상의 제출은 그동안 videos 조인으로 가려졌으므로 제출도 삭제 처리합니다.
+UPDATE `submissions` s
+    JOIN `videos` v ON v.video_id = s.video_id
+SET s.deleted_at = v.deleted_at
+WHERE v.deleted_at IS NOT NULL
+  AND s.deleted_at IS NULL;
+
+ALTER TABLE `submissions`
+    MODIFY `user_id` bigint NOT NULL,
+    MODIFY `gym_id` bigint NOT NULL,
+    MODIFY `problem_rating` int NOT NULL,
+    ADD INDEX `idx_submissions_user_status_created_at` (`user_id`, `status`, `created_at`),
+    ADD INDEX `idx_submissions_user_created_at` (`user_id`, `created_at`, `video_id`),
+    ADD INDEX `idx_submissions_problem_status` (`problem_id`, `status`),
+    ADD INDEX `idx_submissions_gym_status` (`gym_id`, `status`);
@@ -0,0 +1,20 @@
+-- 트랜잭셔널 아웃박스. 리뷰 트랜잭션은 행만 기록하고, 워커가 (status, available_at, outbox_event_id) 순서로
+-- FOR UPDATE SKIP LOCKED 로 가져가 레이팅 재계산 등을 처리합니다. (event_type, idempotency_key)로 중복 기록을 막습니다.
+CREATE TABLE `outbox_events`
+(
+    `outbox_event_id` bigint       NOT NULL AUTO_INCREMENT,
+    `event_type`      varchar(50)  NOT NULL,
+    `idempotency_key` varchar(100) NOT NULL,
+    `payload`         text         NOT NULL,
+    `status`          varchar(20)  NOT NULL,
+    `attempts`        int          NOT NULL,
+    `available_at`    datetime(6)  NOT NULL,
+    `last_error`      varchar(500)          DEFAULT NULL,
+    `created_at`      datetime(6)  NOT NULL,
+    `processed_at`    datetime(6)           DEFAULT NULL,
+    PRIMARY KEY (`outbox_event_id`),
+    UNIQUE KEY `uk_outbox_events_type_key` (`event_type`, `idempotency_key`),
+    KEY `idx_outbox_events_status_available` (`status`, `available_at`, `outbox_event_id`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_0900_ai_ci;
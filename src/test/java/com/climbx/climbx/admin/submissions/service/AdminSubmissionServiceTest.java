@@ -2,31 +2,39 @@ package com.climbx.climbx.admin.submissions.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
-import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 
+import com.climbx.climbx.admin.submission.dto.SubmissionBatchReviewItemDto;
+import com.climbx.climbx.admin.submission.dto.SubmissionBatchReviewRequestDto;
+import com.climbx.climbx.admin.submission.dto.SubmissionBatchReviewResponseDto;
+import com.climbx.climbx.admin.submission.dto.SubmissionBatchReviewResultDto;
 import com.climbx.climbx.admin.submission.dto.SubmissionReviewRequestDto;
 import com.climbx.climbx.admin.submission.dto.SubmissionReviewResponseDto;
 import com.climbx.climbx.admin.submission.exception.StatusModifyToPendingException;
 import com.climbx.climbx.admin.submission.service.AdminSubmissionService;
+import com.climbx.climbx.common.enums.ErrorCode;
 import com.climbx.climbx.common.enums.StatusType;
+import com.climbx.climbx.common.outbox.OutboxEventPublisher;
+import com.climbx.climbx.common.outbox.OutboxEventType;
+import com.climbx.climbx.common.util.KstDateUtil;
 import com.climbx.climbx.problem.entity.ProblemEntity;
-import com.climbx.climbx.problem.repository.ContributionRepository;
-import com.climbx.climbx.problem.service.ProblemService;
+import com.climbx.climbx.submission.dto.SubmissionSolvedAtDto;
 import com.climbx.climbx.submission.entity.SubmissionEntity;
+import com.climbx.climbx.submission.event.SubmissionAcceptedPayload;
 import com.climbx.climbx.submission.exception.PendingSubmissionNotFoundException;
 import com.climbx.climbx.submission.repository.SubmissionRepository;
-import com.climbx.climbx.user.dto.RatingResponseDto;
-import com.climbx.climbx.user.entity.UserAccountEntity;
-import com.climbx.climbx.user.entity.UserStatEntity;
-import com.climbx.climbx.user.exception.UserNotFoundException;
-import com.climbx.climbx.user.repository.UserStatRepository;
-import com.climbx.climbx.user.util.UserRatingUtil;
+import com.climbx.climbx.user.dto.UserSolvedProblemDto;
 import com.climbx.climbx.video.entity.VideoEntity;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -34,9 +42,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Pageable;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("AdminSubmissionService 테스트")
@@ -49,221 +55,145 @@ class AdminSubmissionServiceTest {
     private SubmissionRepository submissionRepository;
 
     @Mock
-    private UserStatRepository userStatRepository;
+    private OutboxEventPublisher outboxEventPublisher;
 
-    @Mock
-    private ContributionRepository contributionRepository;
-
-    @Mock
-    private ProblemService problemService;
+    private final LocalDateTime createdAt = LocalDateTime.of(2026, 10, 18, 12, 0);
 
     @Nested
     @DisplayName("reviewSubmission 메서드 테스트")
     class ReviewSubmissionTest {
 
-        @Test
-        @DisplayName("유효한 PENDING 상태의 제출을 ACCEPTED로 승인하면 성공한다")
-        void givenValidPendingSubmission_whenReviewWithAccepted_thenSuccess() {
-            // Given
-            UUID videoId = UUID.randomUUID();
-            Long userId = 1L;
-            String reason = "승인 완료";
-            int oldRating = 1200;
-            int newRating = 1250;
+        private final UUID videoId = UUID.randomUUID();
+        private final Long userId = 1L;
+        private final UUID problemId = UUID.randomUUID();
 
-            SubmissionReviewRequestDto request = SubmissionReviewRequestDto.builder()
-                .status(StatusType.ACCEPTED)
-                .reason(reason)
-                .build();
-
-            VideoEntity videoEntity = VideoEntity.builder()
-                .videoId(videoId)
-                .userId(userId)
-                .build();
-
-            ProblemEntity problemEntity = ProblemEntity.builder()
-                .problemId(UUID.randomUUID())
-                .build();
-
-            SubmissionEntity submission = SubmissionEntity.builder()
+        private SubmissionEntity pendingSubmission() {
+            return SubmissionEntity.builder()
                 .videoId(videoId)
                 .status(StatusType.PENDING)
-                .videoEntity(videoEntity)
-                .problemEntity(problemEntity)
-                .build();
-
-            UserAccountEntity userAccount = UserAccountEntity.builder()
-                .userId(userId)
-                .nickname("testUser")
-                .build();
-
-            UserStatEntity userStat = UserStatEntity.builder()
-                .userId(userId)
-                .rating(oldRating)
-                .submissionCount(10)
-                .solvedCount(5)
-                .contributionCount(3)
-                .userAccountEntity(userAccount)
+                .videoEntity(VideoEntity.builder().videoId(videoId).userId(userId).build())
+                .problemEntity(ProblemEntity.builder().problemId(problemId).rating(15).build())
                 .build();
-
-            given(submissionRepository.findById(videoId))
-                .willReturn(Optional.of(submission));
-            given(userStatRepository.findById(userId))
-                .willReturn(Optional.of(userStat));
-            given(
-                contributionRepository.findByUserIdAndProblemId(userId, problemEntity.problemId()))
-                .willReturn(Optional.empty());
-
-            // When
-            try (MockedStatic<UserRatingUtil> mockedStatic = mockStatic(UserRatingUtil.class)) {
-                // Service increments solvedCount BEFORE rating calculation (5 -> 6)
-                mockedStatic.when(() -> UserRatingUtil.calculateUserRating(
-                        userStat.topProblemRating(), // default 0
-                        userStat.submissionCount(),  // 10
-                        userStat.solvedCount() + 1,  // will become 6 after increment
-                        userStat.contributionCount() // 3
-                    ))
-                    .thenReturn(RatingResponseDto.builder()
-                        .totalRating(newRating)
-                        .topProblemRating(0)
-                        .submissionRating(0)
-                        .solvedRating(0)
-                        .contributionRating(0)
-                        .build());
-
-                SubmissionReviewResponseDto result = adminSubmissionService.reviewSubmission(
-                    videoId, request);
-
-                // Then
-                assertThat(result.videoId()).isEqualTo(videoId);
-                assertThat(result.status()).isEqualTo(StatusType.ACCEPTED);
-                assertThat(result.reason()).isEqualTo(reason);
-                assertThat(userStat.rating()).isEqualTo(newRating);
-                assertThat(userStat.solvedCount()).isEqualTo(6); // 5 + 1 increment
-
-                then(submissionRepository).should(times(1)).findById(videoId);
-                then(userStatRepository).should(times(1)).findById(userId);
-
-                mockedStatic.verify(() -> UserRatingUtil.calculateUserRating(0, 10, 6, 3),
-                    times(1));
-            }
         }
 
-        @Test
-        @DisplayName("ACCEPTED 승인 시 사용자 통계를 찾을 수 없으면 UserNotFoundException이 발생한다")
-        void givenAcceptedStatusButUserNotFound_whenReview_thenThrowUserNotFoundException() {
-            // Given
-            UUID videoId = UUID.randomUUID();
-            Long userId = 1L;
-            String reason = "승인 완료";
+        /**
+         * 제출일 비교에 생성 시각이 필요한 경우. 빌더로는 createdAt을 채울 수 없어 mock을 사용합니다.
+         */
+        private SubmissionEntity pendingSubmissionCreatedAt(LocalDateTime at) {
+            SubmissionEntity submission = mock(SubmissionEntity.class);
+            given(submission.status()).willReturn(StatusType.PENDING);
+            given(submission.videoId()).willReturn(videoId);
+            given(submission.videoEntity()).willReturn(
+                VideoEntity.builder().videoId(videoId).userId(userId).build());
+            given(submission.problemEntity()).willReturn(
+                ProblemEntity.builder().problemId(problemId).build());
+            given(submission.createdAt()).willReturn(at);
+            return submission;
+        }
 
-            SubmissionReviewRequestDto request = SubmissionReviewRequestDto.builder()
+        private SubmissionReviewRequestDto accept() {
+            return SubmissionReviewRequestDto.builder()
                 .status(StatusType.ACCEPTED)
-                .reason(reason)
-                .build();
-
-            VideoEntity videoEntity = VideoEntity.builder()
-                .videoId(videoId)
-                .userId(userId)
-                .build();
-
-            ProblemEntity problemEntity = ProblemEntity.builder()
-                .problemId(UUID.randomUUID())
-                .build();
-
-            SubmissionEntity submission = SubmissionEntity.builder()
-                .videoId(videoId)
-                .status(StatusType.PENDING)
-                .videoEntity(videoEntity)
-                .problemEntity(problemEntity)
+                .reason("승인")
                 .build();
+        }
 
-            given(submissionRepository.findById(videoId))
-                .willReturn(Optional.of(submission));
-            given(userStatRepository.findById(userId))
-                .willReturn(Optional.empty());
+        @Test
+        @DisplayName("처음 해결한 제출을 승인하면 상태만 바꾸고 승인 이벤트를 아웃박스에 기록한다")
+        void givenFirstSolve_whenReviewWithAccepted_thenAppendOutboxEvent() {
+            // given
+            SubmissionEntity submission = pendingSubmission();
+            given(submissionRepository.findById(videoId)).willReturn(Optional.of(submission));
+            given(submissionRepository.isAcceptedSubmissionExist(userId, problemId))
+                .willReturn(false);
+
+            // when
+            SubmissionReviewResponseDto result = adminSubmissionService.reviewSubmission(
+                videoId, accept());
+
+            // then
+            assertThat(result.videoId()).isEqualTo(videoId);
+            assertThat(result.status()).isEqualTo(StatusType.ACCEPTED);
+            assertThat(result.reason()).isEqualTo("승인");
+            assertThat(submission.status()).isEqualTo(StatusType.ACCEPTED);
+
+            then(outboxEventPublisher).should().append(OutboxEventType.SUBMISSION_ACCEPTED,
+                videoId.toString(),
+                new SubmissionAcceptedPayload(videoId, userId, problemId, true, true));
+            // 처음 해결이면 같은 날 다른 승인 제출이 있을 수 없음
+            then(submissionRepository).should(times(0)).existsOtherSubmissionBetween(
+                any(), any(), any(), any(), any(), any());
+        }
 
-            // When & Then
-            assertThatThrownBy(() -> adminSubmissionService.reviewSubmission(videoId, request))
-                .isInstanceOf(UserNotFoundException.class);
+        @Test
+        @DisplayName("이미 해결한 문제를 다른 날 제출로 승인하면 그날 처음 해결한 것으로 기록한다")
+        void givenSolvedOnOtherDay_whenReviewWithAccepted_thenDailyFirstSolve() {
+            // given
+            SubmissionEntity submission = pendingSubmissionCreatedAt(createdAt);
+            LocalDate date = KstDateUtil.toDate(createdAt);
+            given(submissionRepository.findById(videoId)).willReturn(Optional.of(submission));
+            given(submissionRepository.isAcceptedSubmissionExist(userId, problemId))
+                .willReturn(true);
+            given(submissionRepository.existsOtherSubmissionBetween(userId, problemId,
+                StatusType.ACCEPTED, videoId, KstDateUtil.startOfDay(date),
+                KstDateUtil.startOfDay(date.plusDays(1)))).willReturn(false);
+
+            // when
+            adminSubmissionService.reviewSubmission(videoId, accept());
+
+            // then
+            then(submission).should().setStatus(StatusType.ACCEPTED, "승인");
+            then(outboxEventPublisher).should().append(OutboxEventType.SUBMISSION_ACCEPTED,
+                videoId.toString(),
+                new SubmissionAcceptedPayload(videoId, userId, problemId, false, true));
+        }
 
-            then(submissionRepository).should(times(1)).findById(videoId);
-            then(userStatRepository).should(times(1)).findById(userId);
+        @Test
+        @DisplayName("같은 날 같은 문제가 이미 승인됐으면 그날 처음 해결이 아닌 것으로 기록한다")
+        void givenSolvedOnSameDay_whenReviewWithAccepted_thenNotDailyFirstSolve() {
+            // given
+            SubmissionEntity submission = pendingSubmissionCreatedAt(createdAt);
+            LocalDate date = KstDateUtil.toDate(createdAt);
+            given(submissionRepository.findById(videoId)).willReturn(Optional.of(submission));
+            given(submissionRepository.isAcceptedSubmissionExist(userId, problemId))
+                .willReturn(true);
+            given(submissionRepository.existsOtherSubmissionBetween(userId, problemId,
+                StatusType.ACCEPTED, videoId, KstDateUtil.startOfDay(date),
+                KstDateUtil.startOfDay(date.plusDays(1)))).willReturn(true);
+
+            // when
+            adminSubmissionService.reviewSubmission(videoId, accept());
+
+            // then
+            then(outboxEventPublisher).should().append(OutboxEventType.SUBMISSION_ACCEPTED,
+                videoId.toString(),
+                new SubmissionAcceptedPayload(videoId, userId, problemId, false, false));
         }
 
         @Test
-        @DisplayName("유효한 PENDING 상태의 제출을 REJECTED로 거절하면 성공한다")
+        @DisplayName("유효한 PENDING 상태의 제출을 REJECTED로 거절하면 아웃박스에 기록하지 않는다")
         void givenValidPendingSubmission_whenReviewWithRejected_thenSuccess() {
-            // Given
-            UUID videoId = UUID.randomUUID();
-            Long userId = 1L;
+            // given
             String reason = "부적절한 내용";
-
             SubmissionReviewRequestDto request = SubmissionReviewRequestDto.builder()
                 .status(StatusType.REJECTED)
                 .reason(reason)
                 .build();
+            given(submissionRepository.findById(videoId))
+                .willReturn(Optional.of(pendingSubmission()));
 
-            VideoEntity videoEntity = VideoEntity.builder()
-                .videoId(videoId)
-                .userId(userId)
-                .build();
-
-            ProblemEntity problemEntity = ProblemEntity.builder()
-                .problemId(UUID.randomUUID())
-                .build();
-
-            SubmissionEntity submission = SubmissionEntity.builder()
-                .videoId(videoId)
-                .status(StatusType.PENDING)
-                .videoEntity(videoEntity)
-                .problemEntity(problemEntity)
-                .build();
-
-            UserAccountEntity userAccount = UserAccountEntity.builder()
-                .userId(userId)
-                .nickname("testUser")
-                .build();
+            // when
+            SubmissionReviewResponseDto result = adminSubmissionService.reviewSubmission(
+                videoId, request);
 
-            UserStatEntity userStat = UserStatEntity.builder()
-                .userId(userId)
-                .rating(1200)
-                .submissionCount(10)
-                .solvedCount(5)
-                .contributionCount(3)
-                .userAccountEntity(userAccount)
-                .build();
+            // then
+            assertThat(result.videoId()).isEqualTo(videoId);
+            assertThat(result.status()).isEqualTo(StatusType.REJECTED);
+            assertThat(result.reason()).isEqualTo(reason);
 
-            given(submissionRepository.findById(videoId))
-                .willReturn(Optional.of(submission));
-            given(userStatRepository.findById(userId))
-                .willReturn(Optional.of(userStat));
-
-            // When & Then
-            try (MockedStatic<UserRatingUtil> mockedStatic = mockStatic(UserRatingUtil.class)) {
-                SubmissionReviewResponseDto result = adminSubmissionService.reviewSubmission(
-                    videoId,
-                    request);
-
-                // Then
-                assertThat(result.videoId()).isEqualTo(videoId);
-                assertThat(result.status()).isEqualTo(StatusType.REJECTED);
-                assertThat(result.reason()).isEqualTo(reason);
-                // REJECTED의 경우 레이팅이 변경되지 않아야 함
-                assertThat(userStat.rating()).isEqualTo(1200);
-                assertThat(userStat.solvedCount()).isEqualTo(5); // 변경되지 않음
-
-                then(submissionRepository).should(times(1)).findById(videoId);
-                then(userStatRepository).should(times(1)).findById(userId);
-                // REJECTED의 경우 레이팅 계산 관련 메서드는 호출되지 않아야 함
-                then(submissionRepository).should(times(0))
-                    .getUserTopProblems(userId, StatusType.ACCEPTED, Pageable.ofSize(50));
-
-                // Static 메서드는 호출되지 않아야 함
-                mockedStatic.verify(
-                    () -> UserRatingUtil.calculateUserRating(anyInt(), anyInt(), anyInt(),
-                        anyInt()), times(0));
-            }
+            then(submissionRepository).should(times(1)).findById(videoId);
+            then(submissionRepository).should(times(0)).isAcceptedSubmissionExist(any(), any());
+            then(outboxEventPublisher).shouldHaveNoInteractions();
         }
 
         @Test
@@ -354,4 +284,128 @@ class AdminSubmissionServiceTest {
             then(submissionRepository).should(times(0)).findById(videoId);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("reviewSubmissions 메서드 테스트")
+    class ReviewSubmissionsTest {
+
+        private SubmissionEntity pendingSubmission(UUID videoId, Long userId, UUID problemId,
+            LocalDateTime at) {
+            SubmissionEntity submission = mock(SubmissionEntity.class);
+            given(submission.videoId()).willReturn(videoId);
+            given(submission.userId()).willReturn(userId);
+            given(submission.problemId()).willReturn(problemId);
+            given(submission.createdAt()).willReturn(at);
+            return submission;
+        }
+
+        private SubmissionBatchReviewItemDto item(UUID videoId, StatusType status) {
+            return SubmissionBatchReviewItemDto.builder()
+                .videoId(videoId)
+                .status(status)
+                .reason("검토")
+                .build();
+        }
+
+        @Test
+        @DisplayName("유효한 항목만 처리하고 잘못된 항목은 항목별 실패로 반환한다")
+        void shouldReturnPerItemResults() {
+            // given
+            Long userId = 1L;
+            UUID problemId = UUID.randomUUID();
+            UUID acceptedId = UUID.randomUUID();
+            UUID rejectedId = UUID.randomUUID();
+            UUID missingId = UUID.randomUUID();
+
+            SubmissionEntity accepted = pendingSubmission(acceptedId, userId, problemId,
+                createdAt);
+            SubmissionEntity rejected = mock(SubmissionEntity.class);
+            given(rejected.videoId()).willReturn(rejectedId);
+
+            SubmissionBatchReviewRequestDto request = SubmissionBatchReviewRequestDto.builder()
+                .reviews(List.of(
+                    item(acceptedId, StatusType.ACCEPTED),
+                    item(rejectedId, StatusType.REJECTED),
+                    item(UUID.randomUUID(), StatusType.PENDING),
+                    item(acceptedId, StatusType.REJECTED),
+                    item(missingId, StatusType.ACCEPTED)
+                ))
+                .build();
+
+            given(submissionRepository.findAllForReview(Set.of(acceptedId, rejectedId, missingId),
+                StatusType.PENDING)).willReturn(List.of(accepted, rejected));
+            given(submissionRepository.findSolvedProblemsAmong(Set.of(userId), Set.of(problemId),
+                StatusType.ACCEPTED)).willReturn(List.of());
+
+            // when
+            SubmissionBatchReviewResponseDto result = adminSubmissionService.reviewSubmissions(
+                request);
+
+            // then
+            assertThat(result.requestedCount()).isEqualTo(5);
+            assertThat(result.succeededCount()).isEqualTo(2);
+            assertThat(result.failedCount()).isEqualTo(3);
+            assertThat(result.results())
+                .extracting(SubmissionBatchReviewResultDto::errorCode)
+                .containsExactly(null, null, ErrorCode.STATUS_MODIFY_TO_PENDING,
+                    ErrorCode.DUPLICATE_SUBMISSION_REVIEW, ErrorCode.PENDING_SUBMISSION_NOT_FOUND);
+
+            then(accepted).should().setStatus(StatusType.ACCEPTED, "검토");
+            then(rejected).should().setStatus(StatusType.REJECTED, "검토");
+            then(outboxEventPublisher).should().appendAll(eq(OutboxEventType.SUBMISSION_ACCEPTED),
+                eq(List.of(new SubmissionAcceptedPayload(acceptedId, userId, problemId, true,
+                    true))), any());
+        }
+
+        @Test
+        @DisplayName("이미 해결한 문제는 배치 안의 순서와 같은 날 승인 기록으로 그날 처음 해결 여부를 정한다")
+        void shouldClassifyDailyFirstSolve() {
+            // given
+            Long userId = 1L;
+            UUID problemId = UUID.randomUUID();
+            UUID firstId = UUID.randomUUID();
+            UUID secondId = UUID.randomUUID();
+            UUID previousDayId = UUID.randomUUID();
+            LocalDateTime previousDay = createdAt.minusDays(1);
+
+            SubmissionEntity first = pendingSubmission(firstId, userId, problemId, createdAt);
+            SubmissionEntity second = pendingSubmission(secondId, userId, problemId,
+                createdAt.plusHours(1));
+            SubmissionEntity previous = pendingSubmission(previousDayId, userId, problemId,
+                previousDay);
+
+            SubmissionBatchReviewRequestDto request = SubmissionBatchReviewRequestDto.builder()
+                .reviews(List.of(
+                    item(firstId, StatusType.ACCEPTED),
+                    item(secondId, StatusType.ACCEPTED),
+                    item(previousDayId, StatusType.ACCEPTED)
+                ))
+                .build();
+
+            given(submissionRepository.findAllForReview(Set.of(firstId, secondId, previousDayId),
+                StatusType.PENDING)).willReturn(List.of(first, second, previous));
+            given(submissionRepository.findSolvedProblemsAmong(Set.of(userId), Set.of(problemId),
+                StatusType.ACCEPTED)).willReturn(
+                List.of(new UserSolvedProblemDto(userId, problemId, 800)));
+            given(submissionRepository.findSolvedAtAmongBetween(Set.of(userId), Set.of(problemId),
+                StatusType.ACCEPTED,
+                KstDateUtil.startOfDay(KstDateUtil.toDate(previousDay)),
+                KstDateUtil.startOfDay(KstDateUtil.toDate(createdAt).plusDays(1))))
+                .willReturn(List.of(
+                    new SubmissionSolvedAtDto(userId, problemId, previousDay.plusHours(1))));
+
+            // when
+            SubmissionBatchReviewResponseDto result = adminSubmissionService.reviewSubmissions(
+                request);
+
+            // then
+            assertThat(result.succeededCount()).isEqualTo(3);
+            then(outboxEventPublisher).should().appendAll(eq(OutboxEventType.SUBMISSION_ACCEPTED),
+                eq(List.of(
+                    new SubmissionAcceptedPayload(firstId, userId, problemId, false, true),
+                    new SubmissionAcceptedPayload(secondId, userId, problemId, false, false),
+                    new SubmissionAcceptedPayload(previousDayId, userId, problemId, false,
+                        false))), any());
+        }
+    }
+}
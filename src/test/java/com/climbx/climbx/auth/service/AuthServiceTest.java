@@ -28,6 +28,7 @@ import com.climbx.climbx.submission.repository.SubmissionRepository;
 import com.climbx.climbx.user.entity.UserAccountEntity;
 import com.climbx.climbx.user.exception.UserNotFoundException;
 import com.climbx.climbx.user.repository.UserAccountRepository;
+import com.climbx.climbx.user.repository.UserRankingDailyRepository;
 import com.climbx.climbx.user.repository.UserRankingHistoryRepository;
 import com.climbx.climbx.user.repository.UserStatRepository;
 import com.climbx.climbx.video.repository.VideoRepository;
@@ -69,6 +70,9 @@ class AuthServiceTest {
     @Mock
     private UserRankingHistoryRepository userRankingHistoryRepository;
 
+    @Mock
+    private UserRankingDailyRepository userRankingDailyRepository;
+
     @Mock
     private VideoRepository videoRepository;
 
@@ -328,6 +332,7 @@ class AuthServiceTest {
             then(videoRepository).should().softDeleteAllByUserId(userId);
             then(submissionRepository).should().softDeleteAllByUserId(userId);
             then(userRankingHistoryRepository).should().softDeleteAllByUserId(userId);
+            then(userRankingDailyRepository).should().deleteAllByUserId(userId);
         }
 
         @Test
@@ -354,6 +359,7 @@ class AuthServiceTest {
             then(videoRepository).should(never()).softDeleteAllByUserId(anyLong());
             then(submissionRepository).should(never()).softDeleteAllByUserId(anyLong());
             then(userRankingHistoryRepository).should(never()).softDeleteAllByUserId(anyLong());
+            then(userRankingDailyRepository).should(never()).deleteAllByUserId(anyLong());
         }
 
         @Test
@@ -390,6 +396,7 @@ class AuthServiceTest {
             then(videoRepository).should().softDeleteAllByUserId(userId);
             then(submissionRepository).should().softDeleteAllByUserId(userId);
             then(userRankingHistoryRepository).should().softDeleteAllByUserId(userId);
+            then(userRankingDailyRepository).should().deleteAllByUserId(userId);
         }
     }
 }
\ No newline at end of file
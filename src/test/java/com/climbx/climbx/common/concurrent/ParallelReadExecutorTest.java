@@ -0,0 +1,156 @@
+package com.climbx.climbx.common.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+@DisplayName("ParallelReadExecutor 테스트")
+class ParallelReadExecutorTest {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private ParallelReadExecutor executorWithSpareConnections(int spare, Duration timeout) {
+        return new ParallelReadExecutor(executor, TransactionOperations.withoutTransaction(),
+            () -> spare, timeout);
+    }
+
+    @Nested
+    @DisplayName("풀에 여유가 있으면 가상 스레드에서 실행")
+    class Forked {
+
+        @Test
+        @DisplayName("호출 스레드와 다른 스레드에서 실행한 결과를 반환한다")
+        void shouldRunOnAnotherThread() {
+            // given
+            ParallelReadExecutor parallelReadExecutor = executorWithSpareConnections(5,
+                Duration.ofSeconds(1));
+            AtomicReference<Thread> readThread = new AtomicReference<>();
+
+            // when
+            List<Integer> result;
+            try (ParallelRead<List<Integer>> read = parallelReadExecutor.fork("test", () -> {
+                readThread.set(Thread.currentThread());
+                return List.of(1, 2);
+            })) {
+                result = read.joinOrDefault(List.of());
+
+                // then
+                assertThat(read.isForked()).isTrue();
+                assertThat(read.isDegraded()).isFalse();
+            }
+            assertThat(result).containsExactly(1, 2);
+            assertThat(readThread.get().isVirtual()).isTrue();
+        }
+
+        @Test
+        @DisplayName("작업이 실패하면 fallback을 반환한다")
+        void shouldReturnFallbackOnFailure() {
+            // given
+            ParallelReadExecutor parallelReadExecutor = executorWithSpareConnections(5,
+                Duration.ofSeconds(1));
+
+            // when
+            List<Integer> result;
+            boolean degraded;
+            try (ParallelRead<List<Integer>> read = parallelReadExecutor.fork("test", () -> {
+                throw new IllegalStateException("db down");
+            })) {
+                result = read.joinOrDefault(List.of());
+                degraded = read.isDegraded();
+            }
+
+            // then
+            assertThat(result).isEmpty();
+            assertThat(degraded).isTrue();
+        }
+
+        @Test
+        @DisplayName("제한 시간 안에 끝나지 않으면 작업을 취소하고 fallback을 반환한다")
+        void shouldCancelOnTimeout() throws InterruptedException {
+            // given
+            ParallelReadExecutor parallelReadExecutor = executorWithSpareConnections(5,
+                Duration.ofMillis(50));
+            CountDownLatch interrupted = new CountDownLatch(1);
+
+            // when
+            List<Integer> result;
+            boolean degraded;
+            try (ParallelRead<List<Integer>> read = parallelReadExecutor.fork("test", () -> {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return List.of(1);
+            })) {
+                result = read.joinOrDefault(List.of());
+                degraded = read.isDegraded();
+            }
+
+            // then
+            assertThat(result).isEmpty();
+            assertThat(degraded).isTrue();
+            assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("풀에 여유가 없으면 호출 스레드에서 실행")
+    class Deferred {
+
+        @Test
+        @DisplayName("join 시점에 호출 스레드에서 실행하고 예외를 그대로 전파한다")
+        void shouldRunOnCallerThreadAndPropagate() {
+            // given
+            ParallelReadExecutor parallelReadExecutor = executorWithSpareConnections(0,
+                Duration.ofSeconds(1));
+            Thread caller = Thread.currentThread();
+            AtomicReference<Thread> readThread = new AtomicReference<>();
+
+            // when
+            ParallelRead<Integer> ok = parallelReadExecutor.fork("ok", () -> {
+                readThread.set(Thread.currentThread());
+                return 1;
+            });
+            ParallelRead<Integer> failing = parallelReadExecutor.fork("failing", () -> {
+                throw new IllegalStateException("db down");
+            });
+
+            // then
+            assertThat(ok.isForked()).isFalse();
+            assertThat(readThread.get()).isNull();
+            assertThat(ok.joinOrDefault(0)).isEqualTo(1);
+            assertThat(readThread.get()).isSameAs(caller);
+            assertThatThrownBy(() -> failing.joinOrDefault(0))
+                .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("sequential 인스턴스는 항상 호출 스레드에서 실행한다")
+        void sequentialShouldNeverFork() {
+            // when
+            ParallelRead<Integer> read = ParallelReadExecutor.sequential().fork("test", () -> 1);
+
+            // then
+            assertThat(read.isForked()).isFalse();
+            assertThat(read.joinOrDefault(0)).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.climbx.climbx.common.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxWorker 테스트")
+class OutboxWorkerTest {
+
+    private static final int BATCH_SIZE = 10;
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    private final RecordingHandler handler = new RecordingHandler();
+    private OutboxWorker outboxWorker;
+
+    @BeforeEach
+    void setUp() {
+        outboxWorker = new OutboxWorker(outboxEventRepository, new ObjectMapper(),
+            List.of(handler), null, TransactionOperations.withoutTransaction(), 1, BATCH_SIZE,
+            MAX_ATTEMPTS, Duration.ofSeconds(5), Duration.ofMinutes(30));
+    }
+
+    private OutboxEventEntity event(long id, String value, int attempts) {
+        return OutboxEventEntity.builder()
+            .outboxEventId(id)
+            .eventType(OutboxEventType.SUBMISSION_ACCEPTED)
+            .idempotencyKey(value)
+            .payload("\"" + value + "\"")
+            .attempts(attempts)
+            .availableAt(LocalDateTime.now())
+            .createdAt(LocalDateTime.now())
+            .build();
+    }
+
+    @Nested
+    @DisplayName("일괄 처리")
+    class ProcessBatch {
+
+        @Test
+        @DisplayName("가져온 이벤트를 한 번에 처리하고 완료로 표시한다")
+        void shouldHandleClaimedEventsTogether() {
+            // given
+            OutboxEventEntity first = event(1L, "a", 0);
+            OutboxEventEntity second = event(2L, "b", 0);
+            given(outboxEventRepository.claimAvailable(any(), eq(BATCH_SIZE)))
+                .willReturn(List.of(first, second));
+
+            // when
+            boolean claimed = outboxWorker.processBatch();
+
+            // then
+            assertThat(claimed).isTrue();
+            assertThat(handler.calls).containsExactly(List.of("a", "b"));
+            assertThat(first.status()).isEqualTo(OutboxStatusType.DONE);
+            assertThat(second.status()).isEqualTo(OutboxStatusType.DONE);
+            assertThat(first.processedAt()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("가져올 이벤트가 없으면 false를 반환한다")
+        void shouldReturnFalseWhenEmpty() {
+            // given
+            given(outboxEventRepository.claimAvailable(any(), eq(BATCH_SIZE)))
+                .willReturn(List.of());
+
+            // when & then
+            assertThat(outboxWorker.processBatch()).isFalse();
+            assertThat(handler.calls).isEmpty();
+        }
+
+        @Test
+        @DisplayName("일괄 처리가 실패하면 이벤트별로 다시 시도해 실패한 이벤트만 재시도 대기로 돌린다")
+        void shouldIsolateFailedEvent() {
+            // given
+            handler.failing = Set.of("bad");
+            OutboxEventEntity good = event(1L, "good", 0);
+            OutboxEventEntity bad = event(2L, "bad", 0);
+            given(outboxEventRepository.claimAvailable(any(), eq(BATCH_SIZE)))
+                .willReturn(List.of(good, bad));
+            given(outboxEventRepository.claimById(1L)).willReturn(Optional.of(good));
+            given(outboxEventRepository.claimById(2L)).willReturn(Optional.of(bad));
+            given(outboxEventRepository.findByIdForUpdate(2L)).willReturn(Optional.of(bad));
+            LocalDateTime before = LocalDateTime.now();
+
+            // when
+            boolean claimed = outboxWorker.processBatch();
+
+            // then
+            assertThat(claimed).isTrue();
+            assertThat(handler.calls).containsExactly(
+                List.of("good", "bad"), List.of("good"), List.of("bad"));
+            assertThat(good.status()).isEqualTo(OutboxStatusType.DONE);
+            assertThat(bad.status()).isEqualTo(OutboxStatusType.PENDING);
+            assertThat(bad.attempts()).isEqualTo(1);
+            assertThat(bad.lastError()).contains("bad");
+            assertThat(bad.availableAt()).isAfterOrEqualTo(before.plusSeconds(5));
+        }
+
+        @Test
+        @DisplayName("최대 시도 횟수에 도달하면 FAILED로 남긴다")
+        void shouldGiveUpAfterMaxAttempts() {
+            // given
+            handler.failing = Set.of("bad");
+            OutboxEventEntity bad = event(1L, "bad", MAX_ATTEMPTS - 1);
+            given(outboxEventRepository.claimAvailable(any(), eq(BATCH_SIZE)))
+                .willReturn(List.of(bad));
+            given(outboxEventRepository.claimById(1L)).willReturn(Optional.of(bad));
+            given(outboxEventRepository.findByIdForUpdate(1L)).willReturn(Optional.of(bad));
+
+            // when
+            outboxWorker.processBatch();
+
+            // then
+            assertThat(bad.status()).isEqualTo(OutboxStatusType.FAILED);
+            assertThat(bad.attempts()).isEqualTo(MAX_ATTEMPTS);
+        }
+    }
+
+    private static class RecordingHandler implements OutboxEventHandler<String> {
+
+        private final List<List<String>> calls = new ArrayList<>();
+        private Set<String> failing = Set.of();
+
+        @Override
+        public OutboxEventType type() {
+            return OutboxEventType.SUBMISSION_ACCEPTED;
+        }
+
+        @Override
+        public Class<String> payloadType() {
+            return String.class;
+        }
+
+        @Override
+        public void handle(List<String> payloads) {
+            calls.add(payloads);
+            payloads.stream()
+                .filter(failing::contains)
+                .findFirst()
+                .ifPresent(value -> {
+                    throw new IllegalStateException("처리 실패: " + value);
+                });
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.climbx.climbx.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("FenwickTree 테스트")
+class FenwickTreeTest {
+
+    @Test
+    @DisplayName("무작위 갱신 후 누적 합이 단순 배열 합과 일치한다")
+    void shouldMatchNaivePrefixSums() {
+        // given
+        Random random = new Random(7);
+        int size = 3101;
+        FenwickTree tree = new FenwickTree(size);
+        long[] naive = new long[size];
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            int index = random.nextInt(size);
+            long delta = random.nextInt(5) - 2;
+            tree.add(index, delta);
+            naive[index] += delta;
+        }
+
+        // then
+        long sum = 0;
+        for (int i = 0; i <= size; i++) {
+            assertThat(tree.prefixSum(i)).isEqualTo(sum);
+            if (i < size) {
+                sum += naive[i];
+            }
+        }
+        assertThat(tree.rangeSum(100, 200))
+            .isEqualTo(tree.prefixSum(200) - tree.prefixSum(100));
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 인덱스 갱신 시 예외가 발생한다")
+    void shouldThrowWhenIndexOutOfBounds() {
+        // given
+        FenwickTree tree = new FenwickTree(10);
+
+        // when & then
+        assertThatThrownBy(() -> tree.add(10, 1))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(tree.prefixSum(100)).isZero();
+    }
+}
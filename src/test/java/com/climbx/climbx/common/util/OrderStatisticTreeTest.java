@@ -0,0 +1,109 @@
+package com.climbx.climbx.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("OrderStatisticTree 테스트")
+class OrderStatisticTreeTest {
+
+    @Nested
+    @DisplayName("기본 연산 테스트")
+    class BasicOperationTest {
+
+        @Test
+        @DisplayName("삽입한 원소를 정렬 순서대로 조회한다")
+        void shouldKeepElementsSorted() {
+            // given
+            OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.reverseOrder());
+
+            // when
+            List.of(5, 1, 9, 3, 7).forEach(tree::add);
+
+            // then
+            assertThat(tree.size()).isEqualTo(5);
+            assertThat(tree.range(0, 10)).containsExactly(9, 7, 5, 3, 1);
+            assertThat(tree.get(0)).isEqualTo(9);
+            assertThat(tree.get(4)).isEqualTo(1);
+            assertThat(tree.countLessThan(5)).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("중복 원소는 추가하지 않는다")
+        void shouldIgnoreDuplicate() {
+            // given
+            OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+            tree.add(1);
+
+            // when
+            boolean added = tree.add(1);
+
+            // then
+            assertThat(added).isFalse();
+            assertThat(tree.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("없는 원소를 삭제하면 false를 반환한다")
+        void shouldReturnFalseWhenRemovingMissingElement() {
+            // given
+            OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+            tree.add(1);
+
+            // when & then
+            assertThat(tree.remove(2)).isFalse();
+            assertThat(tree.remove(1)).isTrue();
+            assertThat(tree.isEmpty()).isTrue();
+        }
+
+        @Test
+        @DisplayName("범위를 벗어난 인덱스 조회 시 예외가 발생한다")
+        void shouldThrowWhenIndexOutOfBounds() {
+            // given
+            OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+
+            // when & then
+            assertThatThrownBy(() -> tree.get(0))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+            assertThat(tree.range(3, 10)).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("무작위 삽입/삭제 후에도 TreeSet과 동일한 순위와 구간을 반환한다")
+    void shouldMatchTreeSetAfterRandomOperations() {
+        // given
+        Random random = new Random(42);
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+        TreeSet<Integer> expected = new TreeSet<>();
+
+        // when
+        for (int i = 0; i < 5_000; i++) {
+            int value = random.nextInt(1_000);
+            if (random.nextBoolean()) {
+                assertThat(tree.add(value)).isEqualTo(expected.add(value));
+            } else {
+                assertThat(tree.remove(value)).isEqualTo(expected.remove(value));
+            }
+        }
+
+        // then
+        List<Integer> sorted = new ArrayList<>(expected);
+        assertThat(tree.size()).isEqualTo(sorted.size());
+        assertThat(tree.range(0, sorted.size())).isEqualTo(sorted);
+        for (int i = 0; i < sorted.size(); i += 37) {
+            assertThat(tree.get(i)).isEqualTo(sorted.get(i));
+            assertThat(tree.countLessThan(sorted.get(i))).isEqualTo(i);
+            assertThat(tree.range(i, 10))
+                .isEqualTo(sorted.subList(i, Math.min(i + 10, sorted.size())));
+        }
+    }
+}
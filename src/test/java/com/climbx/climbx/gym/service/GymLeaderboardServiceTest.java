@@ -0,0 +1,258 @@
+package com.climbx.climbx.gym.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.climbx.climbx.common.enums.RoleType;
+import com.climbx.climbx.common.enums.StatusType;
+import com.climbx.climbx.fixture.GymFixture;
+import com.climbx.climbx.fixture.UserFixture;
+import com.climbx.climbx.gym.dto.GymRankingCursor;
+import com.climbx.climbx.gym.dto.GymRankingResponseDto;
+import com.climbx.climbx.gym.dto.GymUserRankingResponseDto;
+import com.climbx.climbx.gym.entity.GymUserScoreEntity;
+import com.climbx.climbx.gym.entity.GymUserScoreId;
+import com.climbx.climbx.gym.event.GymUserScoreChangedEvent;
+import com.climbx.climbx.gym.exception.GymNotFoundException;
+import com.climbx.climbx.gym.index.GymLeaderboardIndex;
+import com.climbx.climbx.gym.index.GymRankingSlice;
+import com.climbx.climbx.gym.index.GymScoreSnapshot;
+import com.climbx.climbx.gym.repository.GymRepository;
+import com.climbx.climbx.gym.repository.GymUserScoreRepository;
+import com.climbx.climbx.problem.entity.ProblemEntity;
+import com.climbx.climbx.problem.repository.ProblemRepository;
+import com.climbx.climbx.submission.event.SubmissionAcceptedEvent;
+import com.climbx.climbx.submission.repository.SubmissionRepository;
+import com.climbx.climbx.user.repository.UserAccountRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GymLeaderboardService 테스트")
+class GymLeaderboardServiceTest {
+
+    @Mock
+    private GymRepository gymRepository;
+
+    @Mock
+    private GymUserScoreRepository gymUserScoreRepository;
+
+    @Mock
+    private SubmissionRepository submissionRepository;
+
+    @Mock
+    private ProblemRepository problemRepository;
+
+    @Mock
+    private UserAccountRepository userAccountRepository;
+
+    @Mock
+    private GymLeaderboardIndex gymLeaderboardIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private GymLeaderboardService gymLeaderboardService;
+
+    private static final Long GYM_ID = 1L;
+    private static final Long USER_ID = 10L;
+
+    private GymScoreSnapshot snapshot(Long userId, String nickname, int score) {
+        return GymScoreSnapshot.builder()
+            .gymId(GYM_ID)
+            .userId(userId)
+            .nickname(nickname)
+            .score(score)
+            .solvedCount(score / 10)
+            .updatedAt(LocalDateTime.of(2026, 10, 1, 12, 0))
+            .build();
+    }
+
+    @Nested
+    @DisplayName("제출 승인 시 점수 증분 갱신")
+    class OnSubmissionAcceptedTest {
+
+        private final UUID problemId = UUID.randomUUID();
+
+        private SubmissionAcceptedEvent event(boolean firstSolve) {
+            return new SubmissionAcceptedEvent(UUID.randomUUID(), USER_ID, problemId, firstSolve,
+                firstSolve, 10);
+        }
+
+        private void givenAccountAndProblem(int problemRating) {
+            ProblemEntity problem = ProblemEntity.builder()
+                .problemId(problemId)
+                .gymEntity(GymFixture.createGymEntity(GYM_ID, "Test Gym", 37.0, 126.0))
+                .rating(problemRating)
+                .build();
+            given(userAccountRepository.findByUserId(USER_ID))
+                .willReturn(Optional.of(UserFixture.createUserAccountEntity(USER_ID, "alice")));
+            given(problemRepository.findById(problemId)).willReturn(Optional.of(problem));
+        }
+
+        @Test
+        @DisplayName("처음 해결한 문제면 클라이밍장 점수에 문제 레이팅을 더하고 변경 이벤트를 발행한다")
+        void shouldAddProblemRatingOnFirstSolve() {
+            // given
+            givenAccountAndProblem(17);
+            given(gymUserScoreRepository.findById(any(GymUserScoreId.class)))
+                .willReturn(Optional.empty());
+
+            // when
+            gymLeaderboardService.onSubmissionAccepted(event(true));
+
+            // then
+            ArgumentCaptor<GymUserScoreEntity> captor =
+                ArgumentCaptor.forClass(GymUserScoreEntity.class);
+            then(gymUserScoreRepository).should().save(captor.capture());
+            assertThat(captor.getValue().gymId()).isEqualTo(GYM_ID);
+            assertThat(captor.getValue().score()).isEqualTo(17);
+            assertThat(captor.getValue().solvedCount()).isEqualTo(1);
+
+            then(eventPublisher).should().publishEvent(any(GymUserScoreChangedEvent.class));
+            then(submissionRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("상위 문제가 이미 한도만큼 있으면 상위 레이팅 합을 다시 계산한다")
+        void shouldRecalculateTopProblemScoreWhenFull() {
+            // given
+            givenAccountAndProblem(25);
+            GymUserScoreEntity current = GymUserScoreEntity.builder()
+                .gymId(GYM_ID)
+                .userId(USER_ID)
+                .score(500)
+                .solvedCount(GymUserScoreEntity.TOP_PROBLEM_LIMIT)
+                .updatedAt(LocalDateTime.of(2026, 10, 1, 12, 0))
+                .build();
+            given(gymUserScoreRepository.findById(any(GymUserScoreId.class)))
+                .willReturn(Optional.of(current));
+            // 새 문제(25)가 가장 낮은 문제(10)를 대체
+            List<Integer> topRatings = new ArrayList<>(List.of(25));
+            topRatings.addAll(Collections.nCopies(GymUserScoreEntity.TOP_PROBLEM_LIMIT - 1, 10));
+            given(submissionRepository.findSolvedProblemRatingsAtGym(eq(USER_ID), eq(GYM_ID),
+                eq(StatusType.ACCEPTED), any(Pageable.class)))
+                .willReturn(topRatings);
+
+            // when
+            gymLeaderboardService.onSubmissionAccepted(event(true));
+
+            // then
+            assertThat(current.score()).isEqualTo(25 + 10 * 49);
+            assertThat(current.solvedCount()).isEqualTo(GymUserScoreEntity.TOP_PROBLEM_LIMIT + 1);
+            then(gymUserScoreRepository).should().save(current);
+        }
+
+        @Test
+        @DisplayName("이미 해결한 문제를 다시 승인하면 점수를 바꾸지 않는다")
+        void shouldIgnoreRepeatedSolve() {
+            // when
+            gymLeaderboardService.onSubmissionAccepted(event(false));
+
+            // then
+            then(gymUserScoreRepository).shouldHaveNoInteractions();
+            then(eventPublisher).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("일반 사용자가 아니면 리더보드에 반영하지 않는다")
+        void shouldIgnoreNonUserAccount() {
+            // given
+            given(userAccountRepository.findByUserId(USER_ID)).willReturn(Optional.empty());
+            given(problemRepository.findById(problemId)).willReturn(Optional.empty());
+
+            // when
+            gymLeaderboardService.onSubmissionAccepted(event(true));
+
+            // then
+            then(gymUserScoreRepository).shouldHaveNoInteractions();
+            then(eventPublisher).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("클라이밍장 리더보드 조회")
+    class GetGymRankingTest {
+
+        @Test
+        @DisplayName("인덱스가 준비되어 있으면 인덱스에서 첫 페이지를 조회하고 다음 커서를 반환한다")
+        void shouldGetFirstPageFromIndex() {
+            // given
+            GymScoreSnapshot bob = snapshot(2L, "bob", 300);
+            given(gymRepository.existsById(GYM_ID)).willReturn(true);
+            given(gymLeaderboardIndex.isReady()).willReturn(true);
+            given(gymLeaderboardIndex.getRange(GYM_ID, 0, 2))
+                .willReturn(new GymRankingSlice(0,
+                    List.of(snapshot(1L, "alice", 400), bob), 5));
+
+            // when
+            GymRankingResponseDto result = gymLeaderboardService.getGymRanking(GYM_ID, null, 2);
+
+            // then
+            assertThat(result.rankings())
+                .extracting(GymUserRankingResponseDto::nickname, GymUserRankingResponseDto::ranking)
+                .containsExactly(tuple("alice", 1L), tuple("bob", 2L));
+            assertThat(result.totalCount()).isEqualTo(5L);
+            assertThat(result.hasNext()).isTrue();
+            assertThat(GymRankingCursor.decode(result.nextCursor()))
+                .isEqualTo(GymRankingCursor.of(bob, 2L));
+
+            then(gymUserScoreRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("인덱스가 준비되지 않았으면 커서 다음 위치부터 seek 조회한다")
+        void shouldGetPageAfterCursorBySeekQuery() {
+            // given
+            GymRankingCursor cursor = GymRankingCursor.of(snapshot(2L, "bob", 300), 2L);
+            given(gymRepository.existsById(GYM_ID)).willReturn(true);
+            given(gymUserScoreRepository.findGymRankingAfter(eq(GYM_ID), eq(RoleType.USER),
+                eq(300), eq(cursor.updatedAt()), eq(2L), any(Pageable.class)))
+                .willReturn(List.of(snapshot(3L, "carol", 200)));
+            given(gymUserScoreRepository.countByGymIdAndUserRole(GYM_ID, RoleType.USER))
+                .willReturn(3L);
+
+            // when
+            GymRankingResponseDto result = gymLeaderboardService.getGymRanking(GYM_ID,
+                cursor.encode(), 2);
+
+            // then
+            assertThat(result.rankings())
+                .extracting(GymUserRankingResponseDto::nickname, GymUserRankingResponseDto::ranking)
+                .containsExactly(tuple("carol", 3L));
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 클라이밍장이면 예외가 발생한다")
+        void shouldThrowWhenGymNotFound() {
+            // given
+            given(gymRepository.existsById(999L)).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> gymLeaderboardService.getGymRanking(999L, null, 20))
+                .isInstanceOf(GymNotFoundException.class);
+        }
+    }
+}
@@ -24,6 +24,7 @@ import com.climbx.climbx.problem.dto.ProblemInfoResponseDto;
 import com.climbx.climbx.problem.entity.ProblemEntity;
 import com.climbx.climbx.problem.enums.HoldColorType;
 import com.climbx.climbx.problem.enums.ProblemTierType;
+import com.climbx.climbx.problem.event.ProblemTierChangedEvent;
 import com.climbx.climbx.problem.exception.GymAreaNotFoundException;
 import com.climbx.climbx.problem.repository.ContributionRepository;
 import com.climbx.climbx.problem.repository.ProblemRepository;
@@ -37,6 +38,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,6 +52,8 @@ public class ProblemServiceTest {
     private S3Service s3Service;
     @Mock
     private ContributionRepository contributionRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private ProblemService problemService;
@@ -176,6 +180,8 @@ public class ProblemServiceTest {
             then(s3Service).should(times(1))
                 .uploadProblemImage(any(), eq(gymAreaId), eq(problemImage));
             then(problemRepository).should(times(1)).save(any(ProblemEntity.class));
+            then(eventPublisher).should(times(1))
+                .publishEvent(any(ProblemTierChangedEvent.class));
 
             assertThat(result.problemId()).isEqualTo(problemId);
             assertThat(result.gymAreaId()).isEqualTo(gymAreaId);
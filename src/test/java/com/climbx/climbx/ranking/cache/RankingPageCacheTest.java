@@ -0,0 +1,135 @@
+package com.climbx.climbx.ranking.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.climbx.climbx.common.enums.CriteriaType;
+import com.climbx.climbx.ranking.index.RankingRangeChangedEvent;
+import com.climbx.climbx.ranking.index.RankingSlice;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+@DisplayName("RankingPageCache 테스트")
+class RankingPageCacheTest {
+
+    private Cache<RankingPageKey, RankingSlice> cache;
+    private RankingPageCache rankingPageCache;
+
+    @BeforeEach
+    void setUp() {
+        cache = Caffeine.newBuilder().recordStats().build();
+        rankingPageCache = new RankingPageCache(cache);
+    }
+
+    private void load(CriteriaType criteria, int page, int size) {
+        rankingPageCache.get(criteria, PageRequest.of(page, size),
+            () -> new RankingSlice((long) page * size, List.of(), 100L));
+    }
+
+    @Test
+    @DisplayName("상위 MAX_CACHED_RANK 안에 포함되는 페이지만 캐시 대상이다")
+    void shouldCacheOnlyTopPages() {
+        assertThat(rankingPageCache.isCacheable(PageRequest.of(0, 20))).isTrue();
+        assertThat(rankingPageCache.isCacheable(PageRequest.of(9, 20))).isTrue();
+        assertThat(rankingPageCache.isCacheable(PageRequest.of(10, 20))).isFalse();
+    }
+
+    @Test
+    @DisplayName("변경 구간과 겹치는 페이지만 무효화한다")
+    void shouldInvalidateOnlyOverlappingPages() {
+        // given
+        load(CriteriaType.RATING, 0, 20);
+        load(CriteriaType.RATING, 1, 20);
+        load(CriteriaType.RATING, 2, 20);
+        load(CriteriaType.SOLVED_COUNT, 1, 20);
+
+        // when
+        rankingPageCache.onRankingRangeChanged(
+            new RankingRangeChangedEvent(CriteriaType.RATING, 25L, 30L));
+
+        // then
+        assertThat(cache.asMap().keySet()).containsExactlyInAnyOrder(
+            new RankingPageKey(CriteriaType.RATING, 0L, 20),
+            new RankingPageKey(CriteriaType.RATING, 40L, 20),
+            new RankingPageKey(CriteriaType.SOLVED_COUNT, 20L, 20)
+        );
+        assertThat(rankingPageCache.stats().invalidationCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("전체 변경 이벤트는 해당 기준의 모든 페이지를 무효화한다")
+    void shouldInvalidateAllPagesOfCriteria() {
+        // given
+        load(CriteriaType.RATING, 0, 20);
+        load(CriteriaType.RATING, 5, 20);
+        load(CriteriaType.CURRENT_STREAK, 0, 20);
+
+        // when
+        rankingPageCache.onRankingRangeChanged(RankingRangeChangedEvent.all(CriteriaType.RATING));
+
+        // then
+        assertThat(cache.asMap().keySet()).containsExactly(
+            new RankingPageKey(CriteriaType.CURRENT_STREAK, 0L, 20));
+    }
+
+    @Test
+    @DisplayName("캐시 적중 시 loader를 다시 호출하지 않는다")
+    void shouldHitCache() {
+        // given
+        load(CriteriaType.RATING, 0, 20);
+
+        // when
+        load(CriteriaType.RATING, 0, 20);
+
+        // then
+        assertThat(rankingPageCache.stats().hitCount()).isEqualTo(1L);
+        assertThat(rankingPageCache.stats().missCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("로드 도중 겹치는 변경이 지나가면 로드한 페이지를 저장해 두지 않는다")
+    void shouldDiscardSliceLoadedBeforeChange() {
+        // given
+        RankingSlice stale = new RankingSlice(0L, List.of(), 100L);
+        rankingPageCache.get(CriteriaType.RATING, PageRequest.of(0, 20), () -> {
+            // 인덱스를 읽은 뒤, 캐시에 저장되기 전에 레이팅 변경이 반영됨
+            rankingPageCache.onRankingRangeChanged(
+                new RankingRangeChangedEvent(CriteriaType.RATING, 3L, 7L));
+            return stale;
+        });
+
+        // when
+        RankingSlice fresh = new RankingSlice(0L, List.of(), 101L);
+        RankingSlice result = rankingPageCache.get(CriteriaType.RATING, PageRequest.of(0, 20),
+            () -> fresh);
+
+        // then
+        assertThat(result).isSameAs(fresh);
+        assertThat(cache.asMap()).containsEntry(
+            new RankingPageKey(CriteriaType.RATING, 0L, 20), fresh);
+    }
+
+    @Test
+    @DisplayName("다른 기준이나 캐시 범위 밖의 변경은 로드 중인 페이지에 영향을 주지 않는다")
+    void shouldKeepSliceWhenChangeDoesNotOverlap() {
+        // given
+        RankingSlice slice = new RankingSlice(0L, List.of(), 100L);
+
+        // when
+        rankingPageCache.get(CriteriaType.RATING, PageRequest.of(0, 20), () -> {
+            rankingPageCache.onRankingRangeChanged(
+                new RankingRangeChangedEvent(CriteriaType.SOLVED_COUNT, 3L, 7L));
+            rankingPageCache.onRankingRangeChanged(new RankingRangeChangedEvent(
+                CriteriaType.RATING, RankingPageCache.MAX_CACHED_RANK + 10L, 500L));
+            return slice;
+        });
+
+        // then
+        assertThat(cache.asMap()).containsEntry(
+            new RankingPageKey(CriteriaType.RATING, 0L, 20), slice);
+    }
+}
@@ -0,0 +1,104 @@
+package com.climbx.climbx.ranking.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.climbx.climbx.problem.enums.ProblemTierType;
+import com.climbx.climbx.problem.event.ProblemTierChangedEvent;
+import com.climbx.climbx.user.enums.UserTierType;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TierDistribution 테스트")
+class TierDistributionTest {
+
+    @Test
+    @DisplayName("레이팅 변경 시 이전 티어는 감소하고 새 티어는 증가한다")
+    void shouldMoveUserBetweenTiers() {
+        // given
+        TierDistribution distribution = new TierDistribution();
+        distribution.changeUserRating(null, 1000);
+        distribution.changeUserRating(null, 1100);
+
+        // when
+        distribution.changeUserRating(1000, 1700);
+
+        // then
+        assertThat(distribution.userTierCount(UserTierType.G3)).isZero();
+        assertThat(distribution.userTierCount(UserTierType.G2)).isEqualTo(1);
+        assertThat(distribution.userTierCount(UserTierType.P1)).isEqualTo(1);
+        assertThat(distribution.totalUsers()).isEqualTo(2);
+        assertThat(distribution.countUsersAtOrAbove(1650)).isEqualTo(1);
+        assertThat(distribution.countUsersAtOrAbove(1701)).isZero();
+    }
+
+    @Test
+    @DisplayName("레이팅 이상 인원 수가 단순 집계와 일치한다")
+    void shouldMatchNaiveCounts() {
+        // given
+        Random random = new Random(11);
+        TierDistribution distribution = new TierDistribution();
+        int[] ratings = new int[500];
+        for (int i = 0; i < ratings.length; i++) {
+            ratings[i] = random.nextInt(TierDistribution.MAX_RATING + 1);
+            distribution.changeUserRating(null, ratings[i]);
+        }
+
+        // when
+        for (int i = 0; i < 2_000; i++) {
+            int user = random.nextInt(ratings.length);
+            int rating = random.nextInt(TierDistribution.MAX_RATING + 1);
+            distribution.changeUserRating(ratings[user], rating);
+            ratings[user] = rating;
+        }
+
+        // then
+        for (int rating = 0; rating <= TierDistribution.MAX_RATING + 1; rating += 37) {
+            int threshold = rating;
+            long expected = Arrays.stream(ratings).filter(r -> r >= threshold).count();
+            assertThat(distribution.countUsersAtOrAbove(rating)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("DB 집계로 보정하면 카운터를 교체하고 차이를 반환한다")
+    void shouldReconcileUsers() {
+        // given
+        TierDistribution distribution = new TierDistribution();
+        distribution.changeUserRating(null, 100);
+        distribution.changeUserRating(null, 100);
+        long[] ratingCounts = new long[TierDistribution.MAX_RATING + 1];
+        ratingCounts[100] = 1;
+        ratingCounts[2500] = 1;
+
+        // when
+        long drift = distribution.reconcileUsers(ratingCounts);
+
+        // then
+        assertThat(drift).isEqualTo(2);
+        assertThat(distribution.userTierCount(UserTierType.B3)).isEqualTo(1);
+        assertThat(distribution.userTierCount(UserTierType.M)).isEqualTo(1);
+        assertThat(distribution.countUsersAtOrAbove(2250)).isEqualTo(1);
+        assertThat(distribution.reconcileUsers(ratingCounts)).isZero();
+    }
+
+    @Test
+    @DisplayName("문제 티어 변경 이벤트를 카운터에 반영한다")
+    void shouldApplyProblemTierChangedEvent() {
+        // given
+        TierDistribution distribution = new TierDistribution();
+        UUID problemId = UUID.randomUUID();
+
+        // when
+        distribution.onProblemTierChanged(
+            new ProblemTierChangedEvent(problemId, null, ProblemTierType.G1));
+        distribution.onProblemTierChanged(
+            new ProblemTierChangedEvent(problemId, ProblemTierType.G1, ProblemTierType.P3));
+
+        // then
+        assertThat(distribution.problemTierCount(ProblemTierType.G1)).isZero();
+        assertThat(distribution.problemTierCount(ProblemTierType.P3)).isEqualTo(1);
+    }
+}
@@ -1,17 +1,39 @@
 package com.climbx.climbx.ranking.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
 
 import com.climbx.climbx.common.enums.CriteriaType;
+import com.climbx.climbx.common.enums.RoleType;
 import com.climbx.climbx.fixture.UserFixture;
+import com.climbx.climbx.ranking.cache.RankingPageCache;
+import com.climbx.climbx.ranking.dto.RankingAroundResponseDto;
+import com.climbx.climbx.ranking.dto.RankingCursor;
 import com.climbx.climbx.ranking.dto.RankingResponseDto;
+import com.climbx.climbx.ranking.dto.UserRankingResponseDto;
+import com.climbx.climbx.ranking.exception.InvalidRankingCursorException;
+import com.climbx.climbx.ranking.index.RankingIndex;
+import com.climbx.climbx.ranking.index.RankingSlice;
+import com.climbx.climbx.ranking.index.RankingSnapshot;
 import com.climbx.climbx.ranking.repository.RankingRepository;
 import com.climbx.climbx.user.entity.UserAccountEntity;
 import com.climbx.climbx.user.entity.UserStatEntity;
+import com.climbx.climbx.user.exception.UserNotFoundException;
+import com.climbx.climbx.user.repository.UserAccountRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -23,6 +45,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("RankingService 테스트")
@@ -31,6 +54,18 @@ class RankingServiceTest {
     @Mock
     private RankingRepository rankingRepository;
 
+    @Mock
+    private RankingIndex rankingIndex;
+
+    @Mock
+    private Cache<RoleType, Long> rankingTotalCountCache;
+
+    @Mock
+    private RankingPageCache rankingPageCache;
+
+    @Mock
+    private UserAccountRepository userAccountRepository;
+
     @InjectMocks
     private RankingService rankingService;
 
@@ -311,4 +346,353 @@ class RankingServiceTest {
             then(rankingRepository).should().findAllByUserRole(any(Pageable.class), any());
         }
     }
-} 
\ No newline at end of file
+
+    @Nested
+    @DisplayName("인메모리 랭킹 인덱스 조회 테스트")
+    class GetRankingPageFromIndexTest {
+
+        private RankingSnapshot snapshot(Long userId, String nickname, Integer rating) {
+            return RankingSnapshot.builder()
+                .userId(userId)
+                .nickname(nickname)
+                .rating(rating)
+                .currentStreak(0)
+                .longestStreak(0)
+                .solvedCount(0)
+                .build();
+        }
+
+        @Test
+        @DisplayName("인덱스가 준비되어 있으면 DB를 조회하지 않고 순위 구간을 반환한다")
+        void shouldGetRankingPageFromIndex() {
+            // given
+            CriteriaType criteria = CriteriaType.RATING;
+            Pageable pageable = PageRequest.of(1, 2);
+
+            given(rankingIndex.isReady()).willReturn(true);
+            given(rankingIndex.getRange(criteria, 2L, 2))
+                .willReturn(new RankingSlice(2L,
+                    List.of(snapshot(3L, "carol", 1000), snapshot(4L, "dave", 900)), 5L));
+
+            // when
+            RankingResponseDto result = rankingService.getRankingPage(criteria, pageable);
+
+            // then
+            assertThat(result.totalCount()).isEqualTo(5);
+            assertThat(result.rankings()).hasSize(2);
+            assertThat(result.rankings().get(0).nickname()).isEqualTo("carol");
+            assertThat(result.rankings().get(0).ranking()).isEqualTo(3L);
+            assertThat(result.rankings().get(1).ranking()).isEqualTo(4L);
+            assertThat(result.hasNext()).isTrue();
+            assertThat(result.nextCursor()).isEqualTo("2");
+
+            then(rankingRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("마지막 페이지에서는 hasNext가 false이다")
+        void shouldReturnNoNextOnLastPage() {
+            // given
+            CriteriaType criteria = CriteriaType.SOLVED_COUNT;
+            Pageable pageable = PageRequest.of(2, 2);
+
+            given(rankingIndex.isReady()).willReturn(true);
+            given(rankingIndex.getRange(any(CriteriaType.class), anyLong(), anyInt()))
+                .willReturn(new RankingSlice(4L, List.of(snapshot(5L, "eve", 100)), 5L));
+
+            // when
+            RankingResponseDto result = rankingService.getRankingPage(criteria, pageable);
+
+            // then
+            assertThat(result.rankings()).hasSize(1);
+            assertThat(result.rankings().get(0).ranking()).isEqualTo(5L);
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("랭킹 페이지 캐시 테스트")
+    class GetRankingPageFromCacheTest {
+
+        @Test
+        @DisplayName("캐시 가능한 상위 페이지는 캐시에서 반환한다")
+        void shouldGetTopPageFromCache() {
+            // given
+            CriteriaType criteria = CriteriaType.RATING;
+            Pageable pageable = PageRequest.of(0, 2);
+            RankingSnapshot first = RankingSnapshot.builder()
+                .userId(1L)
+                .nickname("alice")
+                .rating(2000)
+                .build();
+
+            given(rankingPageCache.isCacheable(pageable)).willReturn(true);
+            given(rankingPageCache.get(eq(criteria), eq(pageable), any(Supplier.class)))
+                .willReturn(new RankingSlice(0L, List.of(first), 1L));
+
+            // when
+            RankingResponseDto result = rankingService.getRankingPage(criteria, pageable);
+
+            // then
+            assertThat(result.rankings()).hasSize(1);
+            assertThat(result.rankings().get(0).nickname()).isEqualTo("alice");
+            assertThat(result.rankings().get(0).ranking()).isEqualTo(1L);
+            assertThat(result.totalCount()).isEqualTo(1L);
+            assertThat(result.hasNext()).isFalse();
+
+            then(rankingIndex).shouldHaveNoInteractions();
+            then(rankingRepository).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("keyset 커서 랭킹 조회 테스트")
+    class GetRankingPageByCursorTest {
+
+        @Test
+        @DisplayName("인코딩한 커서를 다시 디코딩하면 같은 정렬 키를 얻는다")
+        void shouldRoundTripCursor() {
+            // given
+            RankingCursor cursor = RankingCursor.builder()
+                .criteria(CriteriaType.RATING)
+                .value(1500)
+                .updatedAt(LocalDateTime.of(2025, 1, 1, 10, 0))
+                .userId(7L)
+                .rank(20L)
+                .build();
+
+            // when
+            RankingCursor decoded = RankingCursor.decode(cursor.encode(), CriteriaType.RATING);
+
+            // then
+            assertThat(decoded).isEqualTo(cursor);
+        }
+
+        @Test
+        @DisplayName("다른 랭킹 기준의 커서나 잘못된 커서는 예외가 발생한다")
+        void shouldThrowWhenCursorIsInvalid() {
+            // given
+            String ratingCursor = RankingCursor.builder()
+                .criteria(CriteriaType.RATING)
+                .value(1500)
+                .userId(7L)
+                .rank(20L)
+                .build()
+                .encode();
+
+            // when & then
+            assertThatThrownBy(() -> rankingService.getRankingPage(CriteriaType.SOLVED_COUNT,
+                PageRequest.of(0, 20), ratingCursor, true))
+                .isInstanceOf(InvalidRankingCursorException.class);
+            assertThatThrownBy(() -> rankingService.getRankingPage(CriteriaType.RATING,
+                PageRequest.of(0, 20), "not-a-cursor", true))
+                .isInstanceOf(InvalidRankingCursorException.class);
+        }
+
+        @Test
+        @DisplayName("인덱스가 준비되어 있으면 커서 다음 위치부터 조회하고 keyset 커서를 반환한다")
+        void shouldGetRankingPageAfterCursorFromIndex() {
+            // given
+            RankingCursor cursor = RankingCursor.builder()
+                .criteria(CriteriaType.RATING)
+                .value(1200)
+                .userId(2L)
+                .rank(2L)
+                .build();
+            RankingSnapshot carol = RankingSnapshot.builder()
+                .userId(3L).nickname("carol").rating(1000)
+                .currentStreak(0).longestStreak(0).solvedCount(0)
+                .build();
+
+            given(rankingIndex.isReady()).willReturn(true);
+            given(rankingIndex.getRangeAfter(CriteriaType.RATING, cursor.toSnapshotKey(), 1))
+                .willReturn(new RankingSlice(2L, List.of(carol), 5L));
+
+            // when
+            RankingResponseDto result = rankingService.getRankingPage(CriteriaType.RATING,
+                PageRequest.of(0, 1), cursor.encode(), false);
+
+            // then
+            assertThat(result.rankings()).hasSize(1);
+            assertThat(result.rankings().get(0).ranking()).isEqualTo(3L);
+            assertThat(result.totalCount()).isNull();
+            assertThat(result.hasNext()).isTrue();
+            assertThat(RankingCursor.decode(result.nextCursor(), CriteriaType.RATING))
+                .isEqualTo(RankingCursor.of(CriteriaType.RATING, carol, 3L));
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        @DisplayName("인덱스가 준비되지 않았으면 seek 조건으로 DB를 조회하고 전체 수는 캐시에서 가져온다")
+        void shouldGetRankingPageBySeekQuery() {
+            // given
+            RankingCursor cursor = RankingCursor.builder()
+                .criteria(CriteriaType.RATING)
+                .value(1500)
+                .userId(1L)
+                .rank(10L)
+                .build();
+
+            UserStatEntity userStat1 = UserStatEntity.builder()
+                .userId(2L)
+                .userAccountEntity(UserFixture.createUserAccountEntity(2L, "bob"))
+                .rating(1200)
+                .build();
+            UserStatEntity userStat2 = UserStatEntity.builder()
+                .userId(3L)
+                .userAccountEntity(UserFixture.createUserAccountEntity(3L, "carol"))
+                .rating(1000)
+                .build();
+
+            given(rankingRepository.findBy(any(Specification.class), any(Function.class)))
+                .willReturn(List.of(userStat1, userStat2));
+            given(rankingTotalCountCache.get(any(RoleType.class), any(Function.class)))
+                .willReturn(30L);
+
+            // when
+            RankingResponseDto result = rankingService.getRankingPage(CriteriaType.RATING,
+                PageRequest.of(0, 1), cursor.encode(), true);
+
+            // then
+            assertThat(result.rankings()).hasSize(1);
+            assertThat(result.rankings().get(0).nickname()).isEqualTo("bob");
+            assertThat(result.rankings().get(0).ranking()).isEqualTo(11L);
+            assertThat(result.totalCount()).isEqualTo(30L);
+            assertThat(result.hasNext()).isTrue();
+            assertThat(RankingCursor.decode(result.nextCursor(), CriteriaType.RATING).userId())
+                .isEqualTo(2L);
+
+            then(rankingRepository).should().findBy(any(Specification.class), any(Function.class));
+        }
+
+        @Test
+        @DisplayName("숫자 커서는 페이지 번호로 해석한다")
+        void shouldTreatNumericCursorAsPageNumber() {
+            // given
+            given(rankingIndex.isReady()).willReturn(true);
+            given(rankingIndex.getRange(CriteriaType.RATING, 40L, 20))
+                .willReturn(new RankingSlice(40L, List.of(), 40L));
+
+            // when
+            RankingResponseDto result = rankingService.getRankingPage(CriteriaType.RATING,
+                PageRequest.of(0, 20), "2", true);
+
+            // then
+            assertThat(result.rankings()).isEmpty();
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("int 범위를 넘는 숫자 커서는 예외가 발생한다")
+        void shouldRejectOverflowingPageNumberCursor() {
+            // when & then
+            assertThatThrownBy(() -> rankingService.getRankingPage(CriteriaType.RATING,
+                PageRequest.of(0, 20), "99999999999", true))
+                .isInstanceOf(InvalidRankingCursorException.class);
+            then(rankingIndex).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("주변 랭킹 조회 테스트")
+    class GetRankingAroundTest {
+
+        private UserStatEntity userStat(Long userId, String nickname, Integer rating) {
+            return UserStatEntity.builder()
+                .userId(userId)
+                .userAccountEntity(UserFixture.createUserAccountEntity(userId, nickname))
+                .rating(rating)
+                .build();
+        }
+
+        @Test
+        @DisplayName("인덱스가 준비되어 있으면 인덱스에서 사용자 위아래 구간을 조회한다")
+        void shouldGetRankingAroundFromIndex() {
+            // given
+            UserAccountEntity bob = UserFixture.createUserAccountEntity(2L, "bob");
+            List<RankingSnapshot> snapshots = List.of(
+                RankingSnapshot.builder().userId(1L).nickname("alice").rating(1600).build(),
+                RankingSnapshot.builder().userId(2L).nickname("bob").rating(1500).build(),
+                RankingSnapshot.builder().userId(3L).nickname("carol").rating(1400).build()
+            );
+
+            given(userAccountRepository.findByNickname("bob")).willReturn(Optional.of(bob));
+            given(rankingIndex.isReady()).willReturn(true);
+            given(rankingIndex.getRangeAround(CriteriaType.RATING, 2L, 1))
+                .willReturn(Optional.of(new RankingSlice(9L, snapshots, 30L)));
+
+            // when
+            RankingAroundResponseDto result = rankingService.getRankingAround(
+                CriteriaType.RATING, "bob", 1);
+
+            // then
+            assertThat(result.myRanking()).isEqualTo(11L);
+            assertThat(result.totalCount()).isEqualTo(30L);
+            assertThat(result.rankings())
+                .extracting(UserRankingResponseDto::nickname, UserRankingResponseDto::ranking)
+                .containsExactly(
+                    tuple("alice", 10L),
+                    tuple("bob", 11L),
+                    tuple("carol", 12L)
+                );
+
+            then(rankingRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        @DisplayName("인덱스가 준비되지 않았으면 위/아래 방향으로 한 번씩 seek 조회한다")
+        void shouldGetRankingAroundBySeekQuery() {
+            // given
+            UserAccountEntity bob = UserFixture.createUserAccountEntity(2L, "bob");
+            UserStatEntity bobStat = userStat(2L, "bob", 1500);
+
+            given(userAccountRepository.findByNickname("bob")).willReturn(Optional.of(bob));
+            given(rankingRepository.findById(2L)).willReturn(Optional.of(bobStat));
+            // 위쪽은 가까운 순(역순)으로 조회됨
+            given(rankingRepository.findBy(any(Specification.class), any(Function.class)))
+                .willReturn(
+                    List.of(userStat(4L, "dave", 1550), userStat(1L, "alice", 1600)),
+                    List.of(userStat(3L, "carol", 1400))
+                );
+            given(rankingRepository.count(any(Specification.class))).willReturn(4L);
+            given(rankingTotalCountCache.get(any(RoleType.class), any(Function.class)))
+                .willReturn(30L);
+
+            // when
+            RankingAroundResponseDto result = rankingService.getRankingAround(
+                CriteriaType.RATING, "bob", 2);
+
+            // then
+            assertThat(result.myRanking()).isEqualTo(5L);
+            assertThat(result.totalCount()).isEqualTo(30L);
+            assertThat(result.rankings())
+                .extracting(UserRankingResponseDto::nickname, UserRankingResponseDto::ranking)
+                .containsExactly(
+                    tuple("alice", 3L),
+                    tuple("dave", 4L),
+                    tuple("bob", 5L),
+                    tuple("carol", 6L)
+                );
+
+            then(rankingRepository).should(times(2))
+                .findBy(any(Specification.class), any(Function.class));
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 사용자는 예외가 발생한다")
+        void shouldThrowWhenUserNotFound() {
+            // given
+            given(userAccountRepository.findByNickname("unknown")).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(
+                () -> rankingService.getRankingAround(CriteriaType.RATING, "unknown", 5))
+                .isInstanceOf(UserNotFoundException.class);
+
+            then(rankingIndex).shouldHaveNoInteractions();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.climbx.climbx.ranking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.climbx.climbx.common.enums.PeriodType;
+import com.climbx.climbx.common.enums.RoleType;
+import com.climbx.climbx.common.enums.SeasonCriteriaType;
+import com.climbx.climbx.common.util.KstDateUtil;
+import com.climbx.climbx.ranking.dto.SeasonRankingCursor;
+import com.climbx.climbx.ranking.dto.SeasonRankingResponseDto;
+import com.climbx.climbx.ranking.dto.SeasonRankingRowDto;
+import com.climbx.climbx.ranking.dto.SeasonUserRankingResponseDto;
+import com.climbx.climbx.ranking.exception.InvalidRankingCursorException;
+import com.climbx.climbx.submission.event.SubmissionAcceptedEvent;
+import com.climbx.climbx.user.repository.UserPeriodStatRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SeasonRankingService 테스트")
+class SeasonRankingServiceTest {
+
+    @Mock
+    private UserPeriodStatRepository userPeriodStatRepository;
+
+    @InjectMocks
+    private SeasonRankingService seasonRankingService;
+
+    private static final LocalDate DATE = LocalDate.of(2026, 10, 18);
+    private static final LocalDate MONTH_START = LocalDate.of(2026, 10, 1);
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 10, 17, 21, 10);
+
+    private SeasonRankingRowDto row(Long userId, String nickname, int solved, int gained) {
+        return new SeasonRankingRowDto(userId, nickname, null, solved, gained, UPDATED_AT);
+    }
+
+    @Nested
+    @DisplayName("시즌 랭킹 조회")
+    class GetSeasonRanking {
+
+        @Test
+        @DisplayName("첫 페이지는 기간 시작일로 조회하고 다음 페이지가 있으면 커서를 반환한다")
+        void shouldReturnFirstPageWithCursor() {
+            // given
+            given(userPeriodStatRepository.findSolvedCountRanking(PeriodType.MONTHLY, MONTH_START,
+                RoleType.USER, PageRequest.of(0, 3)))
+                .willReturn(List.of(row(1L, "alice", 10, 50), row(2L, "bob", 8, 70),
+                    row(3L, "carol", 5, 20)));
+            given(userPeriodStatRepository.countByPeriodAndUserRole(PeriodType.MONTHLY,
+                MONTH_START, RoleType.USER))
+                .willReturn(3L);
+
+            // when
+            SeasonRankingResponseDto result = seasonRankingService.getSeasonRanking(
+                PeriodType.MONTHLY, DATE, SeasonCriteriaType.SOLVED_COUNT, null, 2);
+
+            // then
+            assertThat(result.periodStart()).isEqualTo(MONTH_START);
+            assertThat(result.periodEnd()).isEqualTo(LocalDate.of(2026, 10, 31));
+            assertThat(result.rankings())
+                .extracting(SeasonUserRankingResponseDto::nickname,
+                    SeasonUserRankingResponseDto::ranking)
+                .containsExactly(tuple("alice", 1L), tuple("bob", 2L));
+            assertThat(result.hasNext()).isTrue();
+            assertThat(result.totalCount()).isEqualTo(3L);
+
+            SeasonRankingCursor cursor = SeasonRankingCursor.decode(result.nextCursor(),
+                PeriodType.MONTHLY, MONTH_START, SeasonCriteriaType.SOLVED_COUNT);
+            assertThat(cursor.value()).isEqualTo(8);
+            assertThat(cursor.userId()).isEqualTo(2L);
+            assertThat(cursor.rank()).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("커서가 있으면 seek 조회하고 커서 순위 다음부터 순위를 매긴다")
+        void shouldSeekAfterCursor() {
+            // given
+            LocalDate weekStart = LocalDate.of(2026, 10, 12);
+            String cursor = SeasonRankingCursor.builder()
+                .periodType(PeriodType.WEEKLY)
+                .periodStart(weekStart)
+                .criteria(SeasonCriteriaType.RATING_GAINED)
+                .value(70)
+                .updatedAt(UPDATED_AT)
+                .userId(2L)
+                .rank(20L)
+                .build()
+                .encode();
+            given(userPeriodStatRepository.findRatingGainedRankingAfter(PeriodType.WEEKLY,
+                weekStart, RoleType.USER, 70, UPDATED_AT, 2L, PageRequest.of(0, 21)))
+                .willReturn(List.of(row(3L, "carol", 5, 60)));
+            given(userPeriodStatRepository.countByPeriodAndUserRole(PeriodType.WEEKLY, weekStart,
+                RoleType.USER))
+                .willReturn(21L);
+
+            // when
+            SeasonRankingResponseDto result = seasonRankingService.getSeasonRanking(
+                PeriodType.WEEKLY, DATE, SeasonCriteriaType.RATING_GAINED, cursor, 20);
+
+            // then
+            assertThat(result.rankings())
+                .extracting(SeasonUserRankingResponseDto::nickname,
+                    SeasonUserRankingResponseDto::ranking)
+                .containsExactly(tuple("carol", 21L));
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("다른 기간의 커서는 거부한다")
+        void shouldRejectCursorOfAnotherPeriod() {
+            // given
+            String cursor = SeasonRankingCursor.builder()
+                .periodType(PeriodType.MONTHLY)
+                .periodStart(LocalDate.of(2026, 9, 1))
+                .criteria(SeasonCriteriaType.SOLVED_COUNT)
+                .value(3)
+                .updatedAt(UPDATED_AT)
+                .userId(1L)
+                .rank(20L)
+                .build()
+                .encode();
+
+            // when & then
+            assertThatThrownBy(() -> seasonRankingService.getSeasonRanking(PeriodType.MONTHLY,
+                DATE, SeasonCriteriaType.SOLVED_COUNT, cursor, 20))
+                .isInstanceOf(InvalidRankingCursorException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("제출 승인 시 기간 집계 누적")
+    class OnSubmissionAccepted {
+
+        @Test
+        @DisplayName("처음 해결한 문제면 주간/월간 행에 해결 수와 레이팅 변화량을 더한다")
+        void shouldAccumulateWeeklyAndMonthly() {
+            // given
+            LocalDate today = KstDateUtil.today();
+            SubmissionAcceptedEvent event = new SubmissionAcceptedEvent(UUID.randomUUID(), 1L,
+                UUID.randomUUID(), true, true, 15);
+
+            // when
+            seasonRankingService.onSubmissionAccepted(event);
+
+            // then
+            then(userPeriodStatRepository).should().accumulate(eq("WEEKLY"),
+                eq(PeriodType.WEEKLY.startOf(today)), eq(1L), eq(1), eq(15), any());
+            then(userPeriodStatRepository).should().accumulate(eq("MONTHLY"),
+                eq(PeriodType.MONTHLY.startOf(today)), eq(1L), eq(1), eq(15), any());
+        }
+
+        @Test
+        @DisplayName("이미 해결한 문제이고 레이팅 변화가 없으면 기록하지 않는다")
+        void shouldSkipWhenNothingChanged() {
+            // given
+            SubmissionAcceptedEvent event = new SubmissionAcceptedEvent(UUID.randomUUID(), 1L,
+                UUID.randomUUID(), false, false, 0);
+
+            // when
+            seasonRankingService.onSubmissionAccepted(event);
+
+            // then
+            then(userPeriodStatRepository).should(never()).accumulate(anyString(), any(),
+                anyLong(), anyInt(), anyInt(), any());
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.climbx.climbx.submission.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+
+import com.climbx.climbx.problem.entity.ContributionEntity;
+import com.climbx.climbx.problem.entity.ProblemEntity;
+import com.climbx.climbx.problem.repository.ContributionRepository;
+import com.climbx.climbx.problem.service.ProblemService;
+import com.climbx.climbx.submission.entity.SubmissionEntity;
+import com.climbx.climbx.submission.event.SubmissionAcceptedEvent;
+import com.climbx.climbx.submission.event.SubmissionAcceptedPayload;
+import com.climbx.climbx.submission.repository.SubmissionRepository;
+import com.climbx.climbx.user.dto.UserSolvedProblemDto;
+import com.climbx.climbx.user.entity.UserAccountEntity;
+import com.climbx.climbx.user.entity.UserStatEntity;
+import com.climbx.climbx.user.repository.UserStatRepository;
+import com.climbx.climbx.user.service.UserTopProblemService;
+import com.climbx.climbx.user.util.UserRatingUtil;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SubmissionAcceptedOutboxHandler 테스트")
+class SubmissionAcceptedOutboxHandlerTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private SubmissionRepository submissionRepository;
+
+    @Mock
+    private UserStatRepository userStatRepository;
+
+    @Mock
+    private ContributionRepository contributionRepository;
+
+    @Mock
+    private ProblemService problemService;
+
+    @Mock
+    private UserTopProblemService userTopProblemService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private SubmissionAcceptedOutboxHandler handler;
+
+    private SubmissionEntity submission(UUID videoId) {
+        SubmissionEntity submission = mock(SubmissionEntity.class);
+        given(submission.videoId()).willReturn(videoId);
+        return submission;
+    }
+
+    private UserStatEntity userStat() {
+        return UserStatEntity.builder()
+            .userId(USER_ID)
+            .rating(1000)
+            .topProblemRating(40)
+            .submissionCount(10)
+            .solvedCount(5)
+            .contributionCount(3)
+            .build();
+    }
+
+    @Test
+    @DisplayName("사용자마다 해결 수를 반영하고 레이팅을 한 번만 계산해 첫 이벤트에 변화량을 싣는다")
+    void shouldRecalculateRatingOncePerUser() {
+        // given
+        UUID problemId = UUID.randomUUID();
+        UUID solvedProblemId = UUID.randomUUID();
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        SubmissionAcceptedPayload first = new SubmissionAcceptedPayload(firstId, USER_ID,
+            problemId, true, true);
+        SubmissionAcceptedPayload second = new SubmissionAcceptedPayload(secondId, USER_ID,
+            solvedProblemId, false, true);
+        UserStatEntity userStat = userStat();
+
+        ProblemEntity problem = ProblemEntity.builder()
+            .problemId(problemId)
+            .build();
+        ContributionEntity contribution = mock(ContributionEntity.class);
+        given(contribution.userAccountEntity()).willReturn(UserAccountEntity.builder()
+            .userId(USER_ID)
+            .build());
+        given(contribution.problemEntity()).willReturn(problem);
+
+        SubmissionEntity firstSubmission = submission(firstId);
+        given(firstSubmission.problemRating()).willReturn(800);
+        given(submissionRepository.findAllById(List.of(firstId, secondId)))
+            .willReturn(List.of(firstSubmission, submission(secondId)));
+        given(userStatRepository.findAllByUserIdInForUpdate(Set.of(USER_ID)))
+            .willReturn(List.of(userStat));
+        given(userTopProblemService.addSolvedProblems(USER_ID,
+            List.of(new UserSolvedProblemDto(USER_ID, problemId, 800)))).willReturn(840);
+        given(contributionRepository.findAllByUserIdInAndProblemIdIn(Set.of(USER_ID),
+            Set.of(problemId, solvedProblemId))).willReturn(List.of(contribution));
+
+        // when
+        handler.handle(List.of(first, second));
+
+        // then
+        int expectedRating = UserRatingUtil.calculateUserRating(840, 10, 7, 3).totalRating();
+        assertThat(userStat.solvedCount()).isEqualTo(7);
+        assertThat(userStat.rating()).isEqualTo(expectedRating);
+
+        then(problemService).should().applyVotesToProblem(problem, List.of(contribution));
+        InOrder inOrder = inOrder(eventPublisher);
+        inOrder.verify(eventPublisher).publishEvent(new SubmissionAcceptedEvent(firstId,
+            USER_ID, problemId, true, true, expectedRating - 1000));
+        inOrder.verify(eventPublisher).publishEvent(new SubmissionAcceptedEvent(secondId,
+            USER_ID, solvedProblemId, false, true, 0));
+    }
+
+    @Test
+    @DisplayName("처음 해결한 문제가 없으면 상위 문제 목록을 건드리지 않는다")
+    void shouldKeepTopProblemRatingWithoutFirstSolve() {
+        // given
+        UUID problemId = UUID.randomUUID();
+        UUID videoId = UUID.randomUUID();
+        UserStatEntity userStat = userStat();
+
+        given(submissionRepository.findAllById(List.of(videoId)))
+            .willReturn(List.of(submission(videoId)));
+        given(userStatRepository.findAllByUserIdInForUpdate(Set.of(USER_ID)))
+            .willReturn(List.of(userStat));
+        given(contributionRepository.findAllByUserIdInAndProblemIdIn(Set.of(USER_ID),
+            Set.of(problemId))).willReturn(List.of());
+
+        // when
+        handler.handle(List.of(
+            new SubmissionAcceptedPayload(videoId, USER_ID, problemId, false, false)));
+
+        // then
+        assertThat(userStat.solvedCount()).isEqualTo(6);
+        assertThat(userStat.rating()).isEqualTo(
+            UserRatingUtil.calculateUserRating(40, 10, 6, 3).totalRating());
+        then(userTopProblemService).shouldHaveNoInteractions();
+        then(problemService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("처리 전에 삭제된 제출은 건너뛰고 이벤트를 발행하지 않는다")
+    void shouldSkipDeletedSubmission() {
+        // given
+        UUID videoId = UUID.randomUUID();
+        UserStatEntity userStat = userStat();
+
+        given(submissionRepository.findAllById(List.of(videoId))).willReturn(List.of());
+        given(userStatRepository.findAllByUserIdInForUpdate(Set.of(USER_ID)))
+            .willReturn(List.of(userStat));
+
+        // when
+        handler.handle(List.of(
+            new SubmissionAcceptedPayload(videoId, USER_ID, UUID.randomUUID(), true, true)));
+
+        // then
+        assertThat(userStat.solvedCount()).isEqualTo(5);
+        then(contributionRepository).shouldHaveNoInteractions();
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+}
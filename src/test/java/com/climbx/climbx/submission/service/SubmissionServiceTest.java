@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 import com.climbx.climbx.common.enums.StatusType;
 import com.climbx.climbx.fixture.GymAreaFixture;
@@ -15,38 +16,50 @@ import com.climbx.climbx.fixture.UserFixture;
 import com.climbx.climbx.gym.entity.GymAreaEntity;
 import com.climbx.climbx.gym.entity.GymEntity;
 import com.climbx.climbx.problem.entity.ProblemEntity;
+import com.climbx.climbx.problem.enums.HoldColorType;
+import com.climbx.climbx.problem.event.ProblemRatingChangedEvent;
 import com.climbx.climbx.problem.exception.ProblemNotFoundException;
 import com.climbx.climbx.problem.repository.ProblemRepository;
+import com.climbx.climbx.submission.cache.SubmissionFilterKey;
 import com.climbx.climbx.submission.dto.SubmissionAppealRequestDto;
 import com.climbx.climbx.submission.dto.SubmissionAppealResponseDto;
 import com.climbx.climbx.submission.dto.SubmissionCancelResponseDto;
 import com.climbx.climbx.submission.dto.SubmissionCreateRequestDto;
+import com.climbx.climbx.submission.dto.SubmissionCursor;
 import com.climbx.climbx.submission.dto.SubmissionListResponseDto;
 import com.climbx.climbx.submission.dto.SubmissionResponseDto;
 import com.climbx.climbx.submission.entity.SubmissionEntity;
+import com.climbx.climbx.submission.event.SubmissionCreatedEvent;
 import com.climbx.climbx.submission.exception.DuplicateAppealException;
 import com.climbx.climbx.submission.exception.DuplicateSubmissionException;
 import com.climbx.climbx.submission.exception.ForbiddenSubmissionException;
+import com.climbx.climbx.submission.exception.InvalidSubmissionCursorException;
 import com.climbx.climbx.submission.repository.SubmissionRepository;
 import com.climbx.climbx.user.entity.UserAccountEntity;
 import com.climbx.climbx.user.repository.UserAccountRepository;
+import com.climbx.climbx.user.service.UserStatCounterService;
 import com.climbx.climbx.video.entity.VideoEntity;
 import com.climbx.climbx.video.exception.VideoNotFoundException;
 import com.climbx.climbx.video.repository.VideoRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("SubmissionService 테스트")
@@ -64,6 +77,15 @@ class SubmissionServiceTest {
     @Mock
     private UserAccountRepository userAccountRepository;
 
+    @Mock
+    private UserStatCounterService userStatCounterService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private Cache<SubmissionFilterKey, Long> submissionTotalCountCache;
+
     @InjectMocks
     private SubmissionService submissionService;
 
@@ -115,18 +137,22 @@ class SubmissionServiceTest {
             Long userId = 1L;
             UserAccountEntity user = createUser(userId, nickname);
             SubmissionEntity submission = createSubmission();
-            Page<SubmissionEntity> submissionPage = new PageImpl<>(List.of(submission));
             Pageable pageable = PageRequest.of(0, 10);
+            Slice<SubmissionEntity> submissionSlice = new SliceImpl<>(List.of(submission), pageable,
+                false);
 
             given(userAccountRepository.findByNickname(nickname))
                 .willReturn(Optional.of(user));
             given(submissionRepository.findSubmissionsWithFilters(
                 eq(userId), eq(null), eq(null), eq(null), eq(null), any(Pageable.class)
-            )).willReturn(submissionPage);
+            )).willReturn(submissionSlice);
+            given(submissionTotalCountCache.get(
+                eq(new SubmissionFilterKey(userId, null, null, null, null)), any(Function.class)
+            )).willReturn(1L);
 
             // when
             SubmissionListResponseDto result = submissionService.getSubmissions(
-                nickname, null, null, null, null, pageable
+                nickname, null, null, null, null, pageable, null, true
             );
 
             // then
@@ -139,6 +165,129 @@ class SubmissionServiceTest {
                 eq(userId), eq(null), eq(null), eq(null), eq(null), any(Pageable.class)
             );
         }
+
+        @Test
+        @DisplayName("includeTotalCount가 false이면 전체 개수를 계산하지 않는다")
+        void shouldSkipTotalCountByDefault() {
+            // given
+            Pageable pageable = PageRequest.of(0, 10);
+            given(userAccountRepository.findByNickname(null)).willReturn(Optional.empty());
+            given(submissionRepository.findSubmissionsWithFilters(
+                eq(null), eq(null), eq(null), eq(null), eq(null), any(Pageable.class)
+            )).willReturn(new SliceImpl<>(List.of(createSubmission()), pageable, true));
+
+            // when
+            SubmissionListResponseDto result = submissionService.getSubmissions(
+                null, null, null, null, null, pageable, null, false
+            );
+
+            // then
+            assertThat(result.totalCount()).isNull();
+            assertThat(result.hasNext()).isTrue();
+            assertThat(result.nextCursor()).isEqualTo("1");
+            then(submissionTotalCountCache).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("숫자 커서는 페이지 번호로 해석한다")
+        void shouldTreatNumericCursorAsPageNumber() {
+            // given
+            Pageable pageable = PageRequest.of(0, 10);
+            given(userAccountRepository.findByNickname(null)).willReturn(Optional.empty());
+            given(submissionRepository.findSubmissionsWithFilters(
+                eq(null), eq(null), eq(null), eq(null), eq(null), eq(PageRequest.of(2, 10))
+            )).willReturn(new SliceImpl<>(List.of(createSubmission()), PageRequest.of(2, 10),
+                true));
+
+            // when
+            SubmissionListResponseDto result = submissionService.getSubmissions(
+                null, null, null, null, null, pageable, "2", false
+            );
+
+            // then
+            assertThat(result.nextCursor()).isEqualTo("3");
+            then(submissionRepository).should(never()).findSubmissionsFirst(
+                any(), any(), any(), any(), any(), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("빈 커서는 keyset 모드의 첫 페이지를 size + 1개로 조회한다")
+        void shouldFetchFirstKeysetPage() {
+            // given
+            Pageable pageable = PageRequest.of(0, 10);
+            given(userAccountRepository.findByNickname(null)).willReturn(Optional.empty());
+            given(submissionRepository.findSubmissionsFirst(
+                eq(null), eq(null), eq(HoldColorType.RED), eq(null), eq(null),
+                eq(PageRequest.of(0, 11))
+            )).willReturn(List.of(createSubmission()));
+
+            // when
+            SubmissionListResponseDto result = submissionService.getSubmissions(
+                null, null, HoldColorType.RED, null, null, pageable, "", false
+            );
+
+            // then
+            assertThat(result.submissions()).hasSize(1);
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+            then(submissionRepository).should(never()).findSubmissionsWithFilters(
+                any(), any(), any(), any(), any(), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("커서 이후의 제출을 seek 조건으로 조회한다")
+        void shouldFetchSubmissionsAfterCursor() {
+            // given
+            LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 9, 0);
+            UUID videoId = UUID.randomUUID();
+            String cursor = SubmissionCursor.builder()
+                .createdAt(createdAt)
+                .videoId(videoId)
+                .build()
+                .encode();
+            Pageable pageable = PageRequest.of(0, 1);
+
+            given(userAccountRepository.findByNickname(null)).willReturn(Optional.empty());
+            given(submissionRepository.findSubmissionsAfter(
+                eq(null), eq(null), eq(null), eq(null), eq(null), eq(createdAt), eq(videoId),
+                eq(PageRequest.of(0, 2))
+            )).willReturn(List.of(createSubmission()));
+
+            // when
+            SubmissionListResponseDto result = submissionService.getSubmissions(
+                null, null, null, null, null, pageable, cursor, false
+            );
+
+            // then
+            assertThat(result.submissions()).hasSize(1);
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.totalCount()).isNull();
+        }
+
+        @Test
+        @DisplayName("잘못된 커서는 예외를 던진다")
+        void shouldRejectInvalidCursor() {
+            // given
+            given(userAccountRepository.findByNickname(null)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> submissionService.getSubmissions(
+                null, null, null, null, null, PageRequest.of(0, 10), "not-a-cursor", false
+            )).isInstanceOf(InvalidSubmissionCursorException.class);
+        }
+
+        @Test
+        @DisplayName("int 범위를 넘는 숫자 커서는 예외를 던진다")
+        void shouldRejectOverflowingPageNumberCursor() {
+            // given
+            given(userAccountRepository.findByNickname(null)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> submissionService.getSubmissions(
+                null, null, null, null, null, PageRequest.of(0, 10), "99999999999999999999", false
+            )).isInstanceOf(InvalidSubmissionCursorException.class);
+            then(submissionRepository).shouldHaveNoInteractions();
+        }
     }
 
     @Nested
@@ -149,18 +298,14 @@ class SubmissionServiceTest {
         @DisplayName("유효한 요청으로 제출을 성공적으로 생성한다")
         void shouldCreateSubmissionSuccessfully() {
             // given
-            String nickname = "testUser";
             Long userId = 1L;
             UUID videoId = UUID.randomUUID();
             UUID problemId = UUID.randomUUID();
             SubmissionCreateRequestDto request = new SubmissionCreateRequestDto(videoId, problemId);
 
-            UserAccountEntity user = createUser(userId, nickname);
             VideoEntity video = createVideo(userId, videoId);
             ProblemEntity problem = createProblem(problemId);
 
-            given(userAccountRepository.findById(userId))
-                .willReturn(Optional.of(user));
             given(videoRepository.findByVideoIdAndStatus(videoId, StatusType.COMPLETED))
                 .willReturn(Optional.of(video));
             given(submissionRepository.findById(videoId))
@@ -178,7 +323,14 @@ class SubmissionServiceTest {
 
             then(videoRepository).should().findByVideoIdAndStatus(videoId, StatusType.COMPLETED);
             then(problemRepository).should().findById(problemId);
-            then(submissionRepository).should().save(any(SubmissionEntity.class));
+            ArgumentCaptor<SubmissionEntity> saved = ArgumentCaptor.forClass(SubmissionEntity.class);
+            then(submissionRepository).should().save(saved.capture());
+            assertThat(saved.getValue().userId()).isEqualTo(userId);
+            assertThat(saved.getValue().gymId()).isEqualTo(problem.gymEntity().gymId());
+            assertThat(saved.getValue().problemRating()).isEqualTo(problem.rating());
+            then(userStatCounterService).should().addSubmission(userId);
+            then(eventPublisher).should()
+                .publishEvent(new SubmissionCreatedEvent(videoId, userId, problemId));
         }
 
         @Test
@@ -272,6 +424,26 @@ class SubmissionServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("문제 레이팅 변경 반영 테스트")
+    class OnProblemRatingChangedTest {
+
+        @Test
+        @DisplayName("문제 레이팅이 바뀌면 제출에 비정규화한 레이팅을 갱신한다")
+        void shouldUpdateDenormalizedProblemRating() {
+            // given
+            UUID problemId = UUID.randomUUID();
+            given(submissionRepository.updateProblemRating(problemId, 1500)).willReturn(3);
+
+            // when
+            submissionService.onProblemRatingChanged(
+                new ProblemRatingChangedEvent(problemId, 1200, 1500));
+
+            // then
+            then(submissionRepository).should().updateProblemRating(problemId, 1500);
+        }
+    }
+
     @Nested
     @DisplayName("제출 조회 테스트")
     class GetSubmissionByVideoIdTest {
@@ -0,0 +1,175 @@
+package com.climbx.climbx.user.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.climbx.climbx.common.enums.RoleType;
+import com.climbx.climbx.ranking.index.RatingRankIndex;
+import com.climbx.climbx.user.dto.UserProfileResponseDto;
+import com.climbx.climbx.user.event.UserAccountChangedEvent;
+import com.climbx.climbx.user.event.UserStatChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("UserProfileCache 테스트")
+class UserProfileCacheTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String NICKNAME = "alice";
+
+    private RatingRankIndex ratingRankIndex;
+    private Cache<String, Long> userIdByNicknameCache;
+    private UserProfileCache userProfileCache;
+
+    @BeforeEach
+    void setUp() {
+        ratingRankIndex = mock(RatingRankIndex.class);
+        userIdByNicknameCache = Caffeine.newBuilder().build();
+        userProfileCache = new UserProfileCache(Caffeine.newBuilder().build(),
+            userIdByNicknameCache, ratingRankIndex);
+    }
+
+    private UserAccountChangedEvent renamedTo(String nickname) {
+        return UserAccountChangedEvent.builder()
+            .userId(USER_ID)
+            .role(RoleType.USER)
+            .nickname(nickname)
+            .build();
+    }
+
+    private CachedUserProfile load(int ranking) {
+        long version = userProfileCache.currentVersion(USER_ID);
+        UserProfileResponseDto profile = UserProfileResponseDto.builder()
+            .nickname(NICKNAME)
+            .ranking(ranking)
+            .build();
+        return userProfileCache.put(USER_ID, NICKNAME, version, profile);
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 닉네임으로 같은 ETag의 항목을 조회한다")
+    void shouldFindCachedProfile() {
+        // given
+        CachedUserProfile cached = load(3);
+
+        // when
+        Optional<CachedUserProfile> found = userProfileCache.find(NICKNAME);
+
+        // then
+        assertThat(found).contains(cached);
+    }
+
+    @Test
+    @DisplayName("사용자 통계가 바뀌면 무효화되고 다시 만든 항목의 ETag가 달라진다")
+    void shouldBumpVersionOnStatChange() {
+        // given
+        CachedUserProfile before = load(3);
+
+        // when
+        userProfileCache.onUserStatChanged(UserStatChangedEvent.builder().userId(USER_ID).build());
+
+        // then
+        assertThat(userProfileCache.find(NICKNAME)).isEmpty();
+        assertThat(load(3).etag()).isNotEqualTo(before.etag());
+    }
+
+    @Test
+    @DisplayName("만드는 도중 변경이 커밋되면 저장한 항목은 무효다")
+    void shouldRejectEntryBuiltBeforeChange() {
+        // given
+        long version = userProfileCache.currentVersion(USER_ID);
+        userProfileCache.invalidate(USER_ID);
+
+        // when
+        userProfileCache.put(USER_ID, NICKNAME, version,
+            UserProfileResponseDto.builder().nickname(NICKNAME).ranking(3).build());
+
+        // then
+        assertThat(userProfileCache.find(NICKNAME)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("닉네임이 바뀌면 이전 닉네임으로는 조회되지 않는다")
+    void shouldForgetOldNicknameOnAccountChange() {
+        // given
+        load(3);
+
+        // when
+        userProfileCache.onUserAccountChanged(renamedTo("bob"));
+        CachedUserProfile renamed = userProfileCache.put(USER_ID, "bob",
+            userProfileCache.currentVersion(USER_ID),
+            UserProfileResponseDto.builder().nickname("bob").ranking(3).build());
+
+        // then
+        assertThat(userProfileCache.find(NICKNAME)).isEmpty();
+        assertThat(userProfileCache.find("bob")).contains(renamed);
+    }
+
+    @Test
+    @DisplayName("이름 변경 전에 시작한 조회는 이전 닉네임 매핑을 다시 저장하지 않는다")
+    void shouldNotRestoreOldNicknameFromLoadInFlight() {
+        // given
+        long version = userProfileCache.currentVersion(USER_ID);
+        UserProfileResponseDto before = UserProfileResponseDto.builder()
+            .nickname(NICKNAME)
+            .ranking(3)
+            .build();
+
+        // when
+        userProfileCache.onUserAccountChanged(renamedTo("bob"));
+        userProfileCache.put(USER_ID, NICKNAME, version, before);
+        CachedUserProfile renamed = userProfileCache.put(USER_ID, "bob",
+            userProfileCache.currentVersion(USER_ID),
+            UserProfileResponseDto.builder().nickname("bob").ranking(3).build());
+
+        // then
+        assertThat(userIdByNicknameCache.getIfPresent(NICKNAME)).isNull();
+        assertThat(userProfileCache.find(NICKNAME)).isEmpty();
+        assertThat(userProfileCache.find("bob")).contains(renamed);
+    }
+
+    @Test
+    @DisplayName("이전 닉네임 매핑이 남아 있어도 프로필 닉네임이 다르면 조회되지 않는다")
+    void shouldRejectMappingToRenamedProfile() {
+        // given
+        userProfileCache.put(USER_ID, "bob", userProfileCache.currentVersion(USER_ID),
+            UserProfileResponseDto.builder().nickname("bob").ranking(3).build());
+        userIdByNicknameCache.put(NICKNAME, USER_ID);
+
+        // when & then
+        assertThat(userProfileCache.find(NICKNAME)).isEmpty();
+        assertThat(userProfileCache.find("bob")).isPresent();
+    }
+
+    @Test
+    @DisplayName("순위 인덱스의 순위가 달라지면 항목을 다시 만든다")
+    void shouldRejectStaleRanking() {
+        // given
+        load(3);
+        given(ratingRankIndex.isReady()).willReturn(true);
+        given(ratingRankIndex.getRank(USER_ID)).willReturn(Optional.of(4));
+
+        // when & then
+        assertThat(userProfileCache.find(NICKNAME)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전체 무효화 이후에는 이전 버전으로 만든 항목이 유효하지 않다")
+    void shouldInvalidateAll() {
+        // given
+        long version = userProfileCache.currentVersion(USER_ID);
+
+        // when
+        userProfileCache.invalidateAll();
+        userProfileCache.put(USER_ID, NICKNAME, version,
+            UserProfileResponseDto.builder().nickname(NICKNAME).ranking(3).build());
+
+        // then
+        assertThat(userProfileCache.find(NICKNAME)).isEmpty();
+    }
+}
@@ -0,0 +1,156 @@
+package com.climbx.climbx.user.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.climbx.climbx.common.enums.RoleType;
+import com.climbx.climbx.user.entity.UserAccountEntity;
+import com.climbx.climbx.user.event.UserAccountChangedEvent;
+import com.climbx.climbx.user.repository.UserAccountRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NicknameSearchIndex 테스트")
+class NicknameSearchIndexTest {
+
+    @Mock
+    private UserAccountRepository userAccountRepository;
+
+    @InjectMocks
+    private NicknameSearchIndex nicknameSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        given(userAccountRepository.findAll()).willReturn(List.of(
+            account(1L, "클라이머"),
+            account(2L, "클라이머123"),
+            account(3L, "볼더러"),
+            account(4L, "Alice"),
+            account(5L, "malice"),
+            account(6L, "클라")
+        ));
+        nicknameSearchIndex.load();
+    }
+
+    private UserAccountEntity account(Long userId, String nickname) {
+        return UserAccountEntity.builder()
+            .userId(userId)
+            .nickname(nickname)
+            .role(RoleType.USER)
+            .build();
+    }
+
+    private UserAccountChangedEvent event(Long userId, String nickname, boolean deleted) {
+        return UserAccountChangedEvent.builder()
+            .userId(userId)
+            .role(RoleType.USER)
+            .nickname(nickname)
+            .deleted(deleted)
+            .build();
+    }
+
+    @Nested
+    @DisplayName("포함 검색")
+    class SearchAfter {
+
+        @Test
+        @DisplayName("짧은 검색어는 대소문자 구분 없이 userId 순으로 반환한다")
+        void shouldSearchShortKeyword() {
+            // when
+            List<Long> result = nicknameSearchIndex.searchAfter("LIC", 0L, 10);
+
+            // then
+            assertThat(nicknameSearchIndex.isReady()).isTrue();
+            assertThat(result).containsExactly(4L, 5L);
+        }
+
+        @Test
+        @DisplayName("trigram보다 긴 검색어는 거짓 양성을 걸러낸다")
+        void shouldVerifyLongKeyword() {
+            // when
+            List<Long> result = nicknameSearchIndex.searchAfter("라이머1", 0L, 10);
+
+            // then
+            assertThat(result).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("afterUserId 이후부터 limit개만 반환한다")
+        void shouldPageByUserId() {
+            // when
+            List<Long> result = nicknameSearchIndex.searchAfter("클라", 1L, 1);
+
+            // then
+            assertThat(result).containsExactly(2L);
+        }
+    }
+
+    @Nested
+    @DisplayName("자동완성")
+    class Autocomplete {
+
+        @Test
+        @DisplayName("정확히 일치하는 닉네임이 먼저 오고 limit개까지 반환한다")
+        void shouldRankExactMatchFirst() {
+            // when
+            List<NicknameEntry> result = nicknameSearchIndex.autocomplete("클라", 2);
+
+            // then
+            assertThat(result).extracting(NicknameEntry::nickname)
+                .containsExactly("클라", "클라이머");
+        }
+
+        @Test
+        @DisplayName("입력 중인 자모도 완성된 닉네임과 일치한다")
+        void shouldMatchPartialJamo() {
+            // when
+            List<NicknameEntry> typing = nicknameSearchIndex.autocomplete("클라임", 10);
+            List<NicknameEntry> consonant = nicknameSearchIndex.autocomplete("볼ㄷ", 10);
+
+            // then
+            assertThat(typing).extracting(NicknameEntry::nickname)
+                .containsExactly("클라이머", "클라이머123");
+            assertThat(consonant).extracting(NicknameEntry::nickname)
+                .containsExactly("볼더러");
+        }
+    }
+
+    @Nested
+    @DisplayName("계정 변경 이벤트 반영")
+    class OnUserAccountChanged {
+
+        @Test
+        @DisplayName("닉네임 변경 시 이전 닉네임으로는 더 이상 검색되지 않는다")
+        void shouldReindexModifiedNickname() {
+            // when
+            nicknameSearchIndex.onUserAccountChanged(event(3L, "리드클라이머", false));
+
+            // then
+            assertThat(nicknameSearchIndex.searchAfter("볼더", 0L, 10)).isEmpty();
+            assertThat(nicknameSearchIndex.searchAfter("리드", 0L, 10)).containsExactly(3L);
+        }
+
+        @Test
+        @DisplayName("신규 가입자는 추가되고 탈퇴한 사용자는 제거된다")
+        void shouldAddCreatedAndRemoveDeleted() {
+            // when
+            nicknameSearchIndex.onUserAccountChanged(event(7L, "클라이머_777", false));
+            nicknameSearchIndex.onUserAccountChanged(event(1L, "클라이머", true));
+
+            // then
+            assertThat(nicknameSearchIndex.searchAfter("클라이머", 0L, 10))
+                .containsExactly(2L, 7L);
+            assertThat(nicknameSearchIndex.autocomplete("클라이", 10))
+                .extracting(NicknameEntry::userId)
+                .containsExactly(2L, 7L);
+        }
+    }
+}
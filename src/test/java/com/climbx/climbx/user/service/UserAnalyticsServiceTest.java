@@ -17,11 +17,17 @@ import com.climbx.climbx.problem.enums.HoldColorType;
 import com.climbx.climbx.problem.enums.ProblemTierType;
 import com.climbx.climbx.submission.repository.SubmissionRepository;
 import com.climbx.climbx.user.dto.DailyHistoryResponseDto;
+import com.climbx.climbx.user.dto.UserActivityHeatmapResponseDto;
 import com.climbx.climbx.user.entity.UserAccountEntity;
+import com.climbx.climbx.user.entity.UserDailyActivityEntity;
 import com.climbx.climbx.user.exception.UserNotFoundException;
-import com.climbx.climbx.user.repository.UserRankingHistoryRepository;
+import com.climbx.climbx.user.entity.UserRankingDailyEntity;
+import com.climbx.climbx.user.repository.UserDailyActivityRepository;
+import com.climbx.climbx.user.repository.UserRankingDailyRepository;
+import com.climbx.climbx.user.repository.UserTopProblemRepository;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
@@ -45,7 +51,13 @@ class UserAnalyticsServiceTest {
     private SubmissionRepository submissionRepository;
 
     @Mock
-    private UserRankingHistoryRepository userRankingHistoryRepository;
+    private UserRankingDailyRepository userRankingDailyRepository;
+
+    @Mock
+    private UserTopProblemRepository userTopProblemRepository;
+
+    @Mock
+    private UserDailyActivityRepository userDailyActivityRepository;
 
     @InjectMocks
     private UserAnalyticsService userAnalyticsService;
@@ -61,6 +73,16 @@ class UserAnalyticsServiceTest {
             .build();
     }
 
+    private UserRankingDailyEntity createDailyEntity(Long userId, CriteriaType criteria,
+        LocalDate date, Integer value) {
+        return UserRankingDailyEntity.builder()
+            .userId(userId)
+            .criteria(criteria)
+            .snapshotDate(date)
+            .value(value)
+            .build();
+    }
+
     private ProblemInfoResponseDto createMockProblemInfoResponseDto(String gymName,
         Integer rating) {
         return ProblemInfoResponseDto.builder()
@@ -98,8 +120,7 @@ class UserAnalyticsServiceTest {
             );
 
             given(userLookupService.findUserByNickname(nickname)).willReturn(user);
-            given(submissionRepository.getUserTopProblems(eq(userId), eq(StatusType.ACCEPTED),
-                any(Pageable.class)))
+            given(userTopProblemRepository.findTopProblems(eq(userId), any(Pageable.class)))
                 .willReturn(expectedProblems);
 
             // when
@@ -112,8 +133,9 @@ class UserAnalyticsServiceTest {
             assertThat(result.get(1).gymName()).isEqualTo("Problem 2");
 
             then(userLookupService).should().findUserByNickname(nickname);
-            then(submissionRepository).should()
-                .getUserTopProblems(eq(userId), eq(StatusType.ACCEPTED), pageableCaptor.capture());
+            then(userTopProblemRepository).should()
+                .findTopProblems(eq(userId), pageableCaptor.capture());
+            then(submissionRepository).shouldHaveNoInteractions();
 
             Pageable pageable = pageableCaptor.getValue();
             assertThat(pageable.getPageSize()).isEqualTo(limit);
@@ -143,6 +165,32 @@ class UserAnalyticsServiceTest {
             Integer limit = 1;
             Long userId = 1L;
 
+            UserAccountEntity user = createMockUserAccountEntity(userId, nickname);
+            given(userLookupService.findUserByNickname(nickname)).willReturn(user);
+            given(userTopProblemRepository.findTopProblems(eq(userId), any(Pageable.class)))
+                .willReturn(List.of());
+
+            // when
+            List<ProblemInfoResponseDto> result = userAnalyticsService.getUserTopProblems(nickname,
+                limit);
+
+            // then
+            assertThat(result).isEmpty();
+            then(userTopProblemRepository).should()
+                .findTopProblems(eq(userId), pageableCaptor.capture());
+
+            Pageable pageable = pageableCaptor.getValue();
+            assertThat(pageable.getPageSize()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("limit이 상위 문제 보관 개수보다 크면 제출 기록에서 조회")
+        void getUserTopProblems_LimitOverTopProblemLimit() {
+            // given
+            String nickname = "alice";
+            Integer limit = 100;
+            Long userId = 1L;
+
             UserAccountEntity user = createMockUserAccountEntity(userId, nickname);
             given(userLookupService.findUserByNickname(nickname)).willReturn(user);
             given(submissionRepository.getUserTopProblems(eq(userId), eq(StatusType.ACCEPTED),
@@ -157,9 +205,10 @@ class UserAnalyticsServiceTest {
             assertThat(result).isEmpty();
             then(submissionRepository).should()
                 .getUserTopProblems(eq(userId), eq(StatusType.ACCEPTED), pageableCaptor.capture());
+            then(userTopProblemRepository).shouldHaveNoInteractions();
 
             Pageable pageable = pageableCaptor.getValue();
-            assertThat(pageable.getPageSize()).isEqualTo(1);
+            assertThat(pageable.getPageSize()).isEqualTo(limit);
         }
     }
 
@@ -184,8 +233,7 @@ class UserAnalyticsServiceTest {
             );
 
             given(userLookupService.findUserByNickname(nickname)).willReturn(user);
-            given(
-                submissionRepository.getUserDateSolvedCount(userId, StatusType.ACCEPTED, from, to))
+            given(userDailyActivityRepository.findSolvedHistory(userId, from, to))
                 .willReturn(expectedHistory);
 
             // when
@@ -200,8 +248,7 @@ class UserAnalyticsServiceTest {
             assertThat(result.get(2).value()).isEqualTo(5);
 
             then(userLookupService).should().findUserByNickname(nickname);
-            then(submissionRepository).should()
-                .getUserDateSolvedCount(userId, StatusType.ACCEPTED, from, to);
+            then(userDailyActivityRepository).should().findSolvedHistory(userId, from, to);
         }
 
         @Test
@@ -215,8 +262,7 @@ class UserAnalyticsServiceTest {
 
             UserAccountEntity user = createMockUserAccountEntity(userId, nickname);
             given(userLookupService.findUserByNickname(nickname)).willReturn(user);
-            given(
-                submissionRepository.getUserDateSolvedCount(userId, StatusType.ACCEPTED, from, to))
+            given(userDailyActivityRepository.findSolvedHistory(userId, from, to))
                 .willReturn(List.of());
 
             // when
@@ -241,8 +287,7 @@ class UserAnalyticsServiceTest {
             );
 
             given(userLookupService.findUserByNickname(nickname)).willReturn(user);
-            given(submissionRepository.getUserDateSolvedCount(userId, StatusType.ACCEPTED, date,
-                date))
+            given(userDailyActivityRepository.findSolvedHistory(userId, date, date))
                 .willReturn(expectedHistory);
 
             // when
@@ -271,15 +316,17 @@ class UserAnalyticsServiceTest {
             Long userId = 1L;
 
             UserAccountEntity user = createMockUserAccountEntity(userId, nickname);
-            List<DailyHistoryResponseDto> expectedHistory = List.of(
-                new DailyHistoryResponseDto(LocalDate.of(2024, 1, 1), 1200),
-                new DailyHistoryResponseDto(LocalDate.of(2024, 1, 2), 1250),
-                new DailyHistoryResponseDto(LocalDate.of(2024, 1, 3), 1300)
+            List<UserRankingDailyEntity> dailyRows = List.of(
+                createDailyEntity(userId, criteria, LocalDate.of(2024, 1, 1), 1200),
+                createDailyEntity(userId, criteria, LocalDate.of(2024, 1, 2), 1250),
+                createDailyEntity(userId, criteria, LocalDate.of(2024, 1, 3), 1300)
             );
 
             given(userLookupService.findUserByNickname(nickname)).willReturn(user);
-            given(userRankingHistoryRepository.getUserDailyHistory(userId, criteria, from, to))
-                .willReturn(expectedHistory);
+            given(userRankingDailyRepository
+                .findByUserIdAndCriteriaAndSnapshotDateBetweenOrderBySnapshotDateAsc(
+                    userId, criteria, from, to))
+                .willReturn(dailyRows);
 
             // when
             List<DailyHistoryResponseDto> result = userAnalyticsService.getUserDailyHistory(
@@ -292,9 +339,12 @@ class UserAnalyticsServiceTest {
             assertThat(result.get(1).value()).isEqualTo(1250);
             assertThat(result.get(2).value()).isEqualTo(1300);
 
+            assertThat(result.get(0).date()).isEqualTo(LocalDate.of(2024, 1, 1));
+
             then(userLookupService).should().findUserByNickname(nickname);
-            then(userRankingHistoryRepository).should()
-                .getUserDailyHistory(userId, criteria, from, to);
+            then(userRankingDailyRepository).should()
+                .findByUserIdAndCriteriaAndSnapshotDateBetweenOrderBySnapshotDateAsc(
+                    userId, criteria, from, to);
         }
 
         @Test
@@ -308,15 +358,17 @@ class UserAnalyticsServiceTest {
             Long userId = 1L;
 
             UserAccountEntity user = createMockUserAccountEntity(userId, nickname);
-            List<DailyHistoryResponseDto> expectedHistory = List.of(
-                new DailyHistoryResponseDto(LocalDate.of(2024, 1, 1), 10),
-                new DailyHistoryResponseDto(LocalDate.of(2024, 1, 2), 12),
-                new DailyHistoryResponseDto(LocalDate.of(2024, 1, 3), 15)
+            List<UserRankingDailyEntity> dailyRows = List.of(
+                createDailyEntity(userId, criteria, LocalDate.of(2024, 1, 1), 10),
+                createDailyEntity(userId, criteria, LocalDate.of(2024, 1, 2), 12),
+                createDailyEntity(userId, criteria, LocalDate.of(2024, 1, 3), 15)
             );
 
             given(userLookupService.findUserByNickname(nickname)).willReturn(user);
-            given(userRankingHistoryRepository.getUserDailyHistory(userId, criteria, from, to))
-                .willReturn(expectedHistory);
+            given(userRankingDailyRepository
+                .findByUserIdAndCriteriaAndSnapshotDateBetweenOrderBySnapshotDateAsc(
+                    userId, criteria, from, to))
+                .willReturn(dailyRows);
 
             // when
             List<DailyHistoryResponseDto> result = userAnalyticsService.getUserDailyHistory(
@@ -329,8 +381,9 @@ class UserAnalyticsServiceTest {
             assertThat(result.get(1).value()).isEqualTo(12);
             assertThat(result.get(2).value()).isEqualTo(15);
 
-            then(userRankingHistoryRepository).should()
-                .getUserDailyHistory(userId, criteria, from, to);
+            then(userRankingDailyRepository).should()
+                .findByUserIdAndCriteriaAndSnapshotDateBetweenOrderBySnapshotDateAsc(
+                    userId, criteria, from, to);
         }
 
         @Test
@@ -345,7 +398,9 @@ class UserAnalyticsServiceTest {
 
             UserAccountEntity user = createMockUserAccountEntity(userId, nickname);
             given(userLookupService.findUserByNickname(nickname)).willReturn(user);
-            given(userRankingHistoryRepository.getUserDailyHistory(userId, criteria, from, to))
+            given(userRankingDailyRepository
+                .findByUserIdAndCriteriaAndSnapshotDateBetweenOrderBySnapshotDateAsc(
+                    userId, criteria, from, to))
                 .willReturn(List.of());
 
             // when
@@ -374,5 +429,81 @@ class UserAnalyticsServiceTest {
                 nickname, criteria, from, to
             )).isInstanceOf(UserNotFoundException.class);
         }
+
+        @Test
+        @DisplayName("기간을 지정하지 않으면 전체 기간으로 조회한다")
+        void getUserDailyHistory_WithoutRange() {
+            // given
+            String nickname = "alice";
+            Long userId = 1L;
+            UserAccountEntity user = createMockUserAccountEntity(userId, nickname);
+
+            given(userLookupService.findUserByNickname(nickname)).willReturn(user);
+            given(userRankingDailyRepository
+                .findByUserIdAndCriteriaAndSnapshotDateBetweenOrderBySnapshotDateAsc(
+                    eq(userId), eq(CriteriaType.RATING), any(LocalDate.class),
+                    any(LocalDate.class)))
+                .willReturn(List.of(
+                    createDailyEntity(userId, CriteriaType.RATING, LocalDate.of(2024, 1, 1), 100)
+                ));
+
+            // when
+            List<DailyHistoryResponseDto> result = userAnalyticsService.getUserDailyHistory(
+                nickname, CriteriaType.RATING, null, null
+            );
+
+            // then
+            assertThat(result).hasSize(1);
+            assertThat(result.get(0).value()).isEqualTo(100);
+        }
+    }
+
+    @Nested
+    @DisplayName("사용자 활동 히트맵 조회")
+    class GetUserActivityHeatmap {
+
+        @Test
+        @DisplayName("활동한 날을 비트맵으로, 값은 활동한 날 순서대로 반환한다")
+        void getUserActivityHeatmap_Success() {
+            // given
+            String nickname = "alice";
+            Long userId = 1L;
+            int year = 2024;
+
+            UserAccountEntity user = createMockUserAccountEntity(userId, nickname);
+            given(userLookupService.findUserByNickname(nickname)).willReturn(user);
+            given(userDailyActivityRepository
+                .findByUserIdAndActivityDateBetweenOrderByActivityDateAsc(userId,
+                    LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)))
+                .willReturn(List.of(
+                    activity(userId, LocalDate.of(2024, 1, 1), 2, 3),
+                    activity(userId, LocalDate.of(2024, 1, 3), 0, 1),
+                    activity(userId, LocalDate.of(2024, 12, 31), 1, 1)
+                ));
+
+            // when
+            UserActivityHeatmapResponseDto result = userAnalyticsService
+                .getUserActivityHeatmap(nickname, year);
+
+            // then
+            byte[] bitmap = Base64.getUrlDecoder().decode(result.activeDays());
+            assertThat(result.days()).isEqualTo(366);
+            assertThat(result.startDate()).isEqualTo(LocalDate.of(2024, 1, 1));
+            assertThat(bitmap).hasSize(46);
+            assertThat(bitmap[0]).isEqualTo((byte) 0b101);
+            assertThat(bitmap[45]).isEqualTo((byte) 0b100000); // 365번째(0-based) 날
+            assertThat(result.solvedCounts()).containsExactly(2, 0, 1);
+            assertThat(result.submittedCounts()).containsExactly(3, 1, 1);
+        }
+    }
+
+    private UserDailyActivityEntity activity(Long userId, LocalDate date, int solved,
+        int submitted) {
+        return UserDailyActivityEntity.builder()
+            .userId(userId)
+            .activityDate(date)
+            .solvedCount(solved)
+            .submittedCount(submitted)
+            .build();
     }
-}
\ No newline at end of file
+}
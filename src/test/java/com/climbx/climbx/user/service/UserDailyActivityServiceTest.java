@@ -0,0 +1,155 @@
+package com.climbx.climbx.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+import com.climbx.climbx.common.util.KstDateUtil;
+import com.climbx.climbx.submission.entity.SubmissionEntity;
+import com.climbx.climbx.submission.event.SubmissionAcceptedEvent;
+import com.climbx.climbx.submission.event.SubmissionCreatedEvent;
+import com.climbx.climbx.submission.repository.SubmissionRepository;
+import com.climbx.climbx.user.dto.UserDailyActivityDto;
+import com.climbx.climbx.user.entity.UserDailyActivityEntity;
+import com.climbx.climbx.user.repository.UserDailyActivityRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.repository.Query;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserDailyActivityService 테스트")
+class UserDailyActivityServiceTest {
+
+    @Mock
+    private UserDailyActivityRepository userDailyActivityRepository;
+
+    @Mock
+    private SubmissionRepository submissionRepository;
+
+    @InjectMocks
+    private UserDailyActivityService userDailyActivityService;
+
+    private static final Long USER_ID = 1L;
+    private static final UUID VIDEO_ID = UUID.randomUUID();
+    private static final UUID PROBLEM_ID = UUID.randomUUID();
+    private static final LocalDate ACTIVITY_DATE = LocalDate.of(2026, 10, 15);
+
+    private void givenSubmissionCreatedOn(LocalDate date) {
+        givenSubmissionCreatedAt(KstDateUtil.startOfDay(date).plusHours(20));
+    }
+
+    private void givenSubmissionCreatedAt(LocalDateTime createdAt) {
+        SubmissionEntity submission = mock(SubmissionEntity.class);
+        given(submission.createdAt()).willReturn(createdAt);
+        given(submissionRepository.findById(VIDEO_ID)).willReturn(Optional.of(submission));
+    }
+
+    private SubmissionAcceptedEvent accepted(boolean firstSolve, boolean dailyFirstSolve) {
+        return new SubmissionAcceptedEvent(VIDEO_ID, USER_ID, PROBLEM_ID, firstSolve,
+            dailyFirstSolve, 10);
+    }
+
+    @Nested
+    @DisplayName("이벤트 반영")
+    class OnSubmissionEvents {
+
+        @Test
+        @DisplayName("제출이 생성되면 오늘의 제출 수를 늘린다")
+        void shouldCountSubmissionToday() {
+            // when
+            userDailyActivityService.onSubmissionCreated(
+                new SubmissionCreatedEvent(VIDEO_ID, USER_ID, PROBLEM_ID));
+
+            // then
+            then(userDailyActivityRepository).should()
+                .accumulate(USER_ID, KstDateUtil.today(), 0, 1);
+        }
+
+        @Test
+        @DisplayName("그날 처음 해결한 문제는 제출 생성일의 해결 수를 늘린다")
+        void shouldCountDailyFirstSolveOnCreatedDate() {
+            // given
+            givenSubmissionCreatedOn(ACTIVITY_DATE);
+
+            // when
+            userDailyActivityService.onSubmissionAccepted(accepted(false, true));
+
+            // then
+            then(userDailyActivityRepository).should().accumulate(USER_ID, ACTIVITY_DATE, 1, 0);
+        }
+
+        @Test
+        @DisplayName("같은 날 같은 문제가 이미 승인됐으면 제출을 조회하지 않고 해결 수도 늘리지 않는다")
+        void shouldNotCountSameProblemTwiceOnSameDay() {
+            // when
+            userDailyActivityService.onSubmissionAccepted(accepted(false, false));
+
+            // then
+            then(submissionRepository).shouldHaveNoInteractions();
+            then(userDailyActivityRepository).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("재집계")
+    class Rebuild {
+
+        @Test
+        @DisplayName("KST 08:59 제출은 증분 갱신과 재집계 모두 KST 날짜로 집계한다")
+        void shouldAgreeWithIncrementalPathOnKstDate() throws NoSuchMethodException {
+            // given
+            LocalDateTime createdAt = ACTIVITY_DATE.atTime(8, 59)
+                .atZone(KstDateUtil.ZONE)
+                .withZoneSameInstant(ZoneId.systemDefault())
+                .toLocalDateTime();
+            givenSubmissionCreatedAt(createdAt);
+            given(submissionRepository.summarizeDailyActivity(List.of(USER_ID)))
+                .willReturn(List.of(new UserDailyActivityDto(USER_ID, ACTIVITY_DATE, 1, 1)));
+
+            // when
+            userDailyActivityService.onSubmissionAccepted(accepted(true, true));
+            userDailyActivityService.rebuild(List.of(USER_ID));
+
+            // then
+            then(userDailyActivityRepository).should().accumulate(USER_ID, ACTIVITY_DATE, 1, 0);
+            assertThat(rebuiltActivities())
+                .extracting(UserDailyActivityEntity::activityDate)
+                .containsExactly(ACTIVITY_DATE);
+
+            // 재집계 쿼리는 UTC 서버 날짜가 아니라 KST 날짜로 묶어야 08:59 제출이 전날로 밀리지 않음
+            String sql = SubmissionRepository.class
+                .getMethod("summarizeDailyActivityBatch", Collection.class)
+                .getAnnotation(Query.class)
+                .value();
+            assertThat(sql)
+                .contains("GROUP BY s.user_id, "
+                    + "DATE(CONVERT_TZ(s.created_at, @@session.time_zone, '+09:00'))")
+                .doesNotContain("DATE(s.created_at)");
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<UserDailyActivityEntity> rebuiltActivities() {
+            ArgumentCaptor<Iterable<UserDailyActivityEntity>> captor =
+                ArgumentCaptor.forClass(Iterable.class);
+            then(userDailyActivityRepository).should().saveAll(captor.capture());
+            List<UserDailyActivityEntity> activities = new ArrayList<>();
+            captor.getValue().forEach(activities::add);
+            return activities;
+        }
+    }
+}
@@ -4,13 +4,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 
+import com.climbx.climbx.common.concurrent.ParallelReadExecutor;
 import com.climbx.climbx.common.enums.RoleType;
-import com.climbx.climbx.common.enums.StatusType;
-import com.climbx.climbx.problem.dto.TagRatingPairDto;
-import com.climbx.climbx.submission.repository.SubmissionRepository;
+import com.climbx.climbx.ranking.index.RatingRankIndex;
 import com.climbx.climbx.user.dto.TagRatingResponseDto;
 import com.climbx.climbx.user.dto.UserProfileResponseDto;
 import com.climbx.climbx.user.dto.UserRankingDto;
@@ -20,10 +23,12 @@ import com.climbx.climbx.user.entity.UserStatEntity;
 import com.climbx.climbx.user.enums.UserTierType;
 import com.climbx.climbx.user.exception.UserStatNotFoundException;
 import com.climbx.climbx.user.repository.UserStatRepository;
+import com.climbx.climbx.user.repository.UserTagStatRepository;
 import com.climbx.climbx.user.util.UserRatingUtil;
 import com.climbx.climbx.problem.enums.ProblemTagType;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -31,6 +36,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,11 +46,17 @@ class UserDataAggregationServiceTest {
     private UserStatRepository userStatRepository;
 
     @Mock
-    private SubmissionRepository submissionRepository;
+    private UserTagStatRepository userTagStatRepository;
 
     @Mock
     private UserRatingUtil userRatingUtil;
 
+    @Mock
+    private RatingRankIndex ratingRankIndex;
+
+    @Spy
+    private ParallelReadExecutor parallelReadExecutor = ParallelReadExecutor.sequential();
+
     @InjectMocks
     private UserDataAggregationService userDataAggregationService;
 
@@ -100,8 +112,6 @@ class UserDataAggregationServiceTest {
             UserAccountEntity user = createMockUserAccountEntity(userId, nickname);
             UserStatEntity userStat = createMockUserStatEntity(userId, 1500, 800, true);
 
-            List<TagRatingPairDto> acceptedTags = List.of();
-            List<TagRatingPairDto> allTags = List.of();
             List<TagRatingResponseDto> categoryRatings = List.of(
                 TagRatingResponseDto.builder()
                     .category("Bouldering")
@@ -113,12 +123,9 @@ class UserDataAggregationServiceTest {
             given(userStatRepository.findRankByRatingAndUpdatedAtAndUserId(eq(1500),
                 any(LocalDateTime.class), eq(userId)))
                 .willReturn(42);
-            given(submissionRepository.getUserAcceptedSubmissionTagSummary(userId,
-                StatusType.ACCEPTED))
-                .willReturn(acceptedTags);
-            given(submissionRepository.getUserAcceptedSubmissionTagSummary(userId, null))
-                .willReturn(allTags);
-            given(userRatingUtil.calculateCategoryRating(acceptedTags, allTags))
+            given(userTagStatRepository.findTagRatingsByUserIdIn(List.of(userId)))
+                .willReturn(List.of());
+            given(userRatingUtil.toCategoryRatings(List.of()))
                 .willReturn(categoryRatings);
 
             // when
@@ -167,12 +174,9 @@ class UserDataAggregationServiceTest {
             given(userStatRepository.findRankByRatingAndUpdatedAtAndUserId(eq(2500),
                 any(LocalDateTime.class), eq(userId)))
                 .willReturn(1);
-            given(submissionRepository.getUserAcceptedSubmissionTagSummary(userId,
-                StatusType.ACCEPTED))
+            given(userTagStatRepository.findTagRatingsByUserIdIn(List.of(userId)))
                 .willReturn(List.of());
-            given(submissionRepository.getUserAcceptedSubmissionTagSummary(userId, null))
-                .willReturn(List.of());
-            given(userRatingUtil.calculateCategoryRating(List.of(), List.of()))
+            given(userRatingUtil.toCategoryRatings(List.of()))
                 .willReturn(List.of());
 
             // when
@@ -210,12 +214,9 @@ class UserDataAggregationServiceTest {
             given(userStatRepository.findRankByRatingAndUpdatedAtAndUserId(eq(1800),
                 any(LocalDateTime.class), eq(userId)))
                 .willReturn(15);
-            given(submissionRepository.getUserAcceptedSubmissionTagSummary(userId,
-                StatusType.ACCEPTED))
-                .willReturn(List.of());
-            given(submissionRepository.getUserAcceptedSubmissionTagSummary(userId, null))
+            given(userTagStatRepository.findTagRatingsByUserIdIn(List.of(userId)))
                 .willReturn(List.of());
-            given(userRatingUtil.calculateCategoryRating(List.of(), List.of()))
+            given(userRatingUtil.toCategoryRatings(List.of()))
                 .willReturn(categoryRatings);
 
             // when
@@ -256,17 +257,8 @@ class UserDataAggregationServiceTest {
                 UserRankingDto.builder().userId(2L).ranking(35).build()
             );
 
-            List<UserTagRatingDto> acceptedPrimaryTags = List.of(
-                new UserTagRatingDto(1L, ProblemTagType.BALANCE, 1200),
-                new UserTagRatingDto(2L, ProblemTagType.CRIMP_HOLD, 1300)
-            );
-
-            List<UserTagRatingDto> acceptedSecondaryTags = List.of();
-            List<UserTagRatingDto> allPrimaryTags = List.of(
-                new UserTagRatingDto(1L, ProblemTagType.BALANCE, 1200),
-                new UserTagRatingDto(2L, ProblemTagType.CRIMP_HOLD, 1300)
-            );
-            List<UserTagRatingDto> allSecondaryTags = List.of();
+            UserTagRatingDto user1Tag = new UserTagRatingDto(1L, ProblemTagType.BALANCE, 1200);
+            UserTagRatingDto user2Tag = new UserTagRatingDto(2L, ProblemTagType.CRIMP_HOLD, 1300);
 
             List<TagRatingResponseDto> categoryRatings = List.of(
                 TagRatingResponseDto.builder().category("balance").rating(1200).build()
@@ -275,15 +267,11 @@ class UserDataAggregationServiceTest {
             // Mock repository calls
             given(userStatRepository.findByUserIdIn(userIds)).willReturn(userStats);
             given(userStatRepository.findRanksByUserIds(userIds)).willReturn(rankingData);
-            given(submissionRepository.summarizeByPrimaryBatch(userIds, StatusType.ACCEPTED))
-                .willReturn(acceptedPrimaryTags);
-            given(submissionRepository.summarizeBySecondaryBatch(userIds, StatusType.ACCEPTED))
-                .willReturn(acceptedSecondaryTags);
-            given(submissionRepository.summarizeByPrimaryBatch(userIds, null))
-                .willReturn(allPrimaryTags);
-            given(submissionRepository.summarizeBySecondaryBatch(userIds, null))
-                .willReturn(allSecondaryTags);
-            given(userRatingUtil.calculateCategoryRating(any(), any()))
+            given(userTagStatRepository.findTagRatingsByUserIdIn(userIds))
+                .willReturn(List.of(user1Tag, user2Tag));
+            given(userRatingUtil.toCategoryRatings(List.of(user1Tag)))
+                .willReturn(categoryRatings);
+            given(userRatingUtil.toCategoryRatings(List.of(user2Tag)))
                 .willReturn(categoryRatings);
 
             // when
@@ -323,13 +311,7 @@ class UserDataAggregationServiceTest {
 
             given(userStatRepository.findByUserIdIn(userIds)).willReturn(List.of());
             given(userStatRepository.findRanksByUserIds(userIds)).willReturn(List.of());
-            given(submissionRepository.summarizeByPrimaryBatch(userIds, StatusType.ACCEPTED))
-                .willReturn(List.of());
-            given(submissionRepository.summarizeBySecondaryBatch(userIds, StatusType.ACCEPTED))
-                .willReturn(List.of());
-            given(submissionRepository.summarizeByPrimaryBatch(userIds, null))
-                .willReturn(List.of());
-            given(submissionRepository.summarizeBySecondaryBatch(userIds, null))
+            given(userTagStatRepository.findTagRatingsByUserIdIn(userIds))
                 .willReturn(List.of());
 
             // when & then
@@ -337,4 +319,70 @@ class UserDataAggregationServiceTest {
                 .isInstanceOf(UserStatNotFoundException.class);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("레이팅 순위 인덱스 사용 테스트")
+    class RatingRankIndexTest {
+
+        @Test
+        @DisplayName("인덱스가 준비되어 있으면 COUNT 쿼리 없이 순위를 계산한다")
+        void buildProfile_UsesRatingRankIndex() {
+            // given
+            Long userId = 1L;
+            UserAccountEntity user = createMockUserAccountEntity(userId, "alice");
+            UserStatEntity userStat = createMockUserStatEntity(userId, 1500, 800);
+
+            given(userStatRepository.findByUserId(userId)).willReturn(Optional.of(userStat));
+            given(ratingRankIndex.isReady()).willReturn(true);
+            given(ratingRankIndex.getRank(userId)).willReturn(Optional.of(7));
+            given(userTagStatRepository.findTagRatingsByUserIdIn(List.of(userId)))
+                .willReturn(List.of());
+            given(userRatingUtil.toCategoryRatings(List.of()))
+                .willReturn(List.of());
+
+            // when
+            UserProfileResponseDto result = userDataAggregationService.buildProfile(user);
+
+            // then
+            assertThat(result.ranking()).isEqualTo(7);
+            then(userStatRepository).should(never())
+                .findRankByRatingAndUpdatedAtAndUserId(anyInt(), any(), anyLong());
+        }
+
+        @Test
+        @DisplayName("배치 조회 시 인덱스에 없는 사용자만 DB에서 순위를 조회한다")
+        void buildProfilesBatch_FallsBackOnlyForMissingUsers() {
+            // given
+            List<UserAccountEntity> users = List.of(
+                createMockUserAccountEntity(1L, "user1"),
+                createMockUserAccountEntity(2L, "user2")
+            );
+            List<Long> userIds = List.of(1L, 2L);
+
+            UserStatEntity userStat1 = createMockUserStatEntity(1L, 1500, 800);
+            given(userStat1.userId()).willReturn(1L);
+            UserStatEntity userStat2 = createMockUserStatEntity(2L, 1600, 900);
+            given(userStat2.userId()).willReturn(2L);
+
+            given(userStatRepository.findByUserIdIn(userIds))
+                .willReturn(List.of(userStat1, userStat2));
+            given(ratingRankIndex.isReady()).willReturn(true);
+            given(ratingRankIndex.getRanks(userIds)).willReturn(Map.of(1L, 3));
+            given(userStatRepository.findRanksByUserIds(List.of(2L)))
+                .willReturn(List.of(UserRankingDto.builder().userId(2L).ranking(2).build()));
+            given(userTagStatRepository.findTagRatingsByUserIdIn(userIds))
+                .willReturn(List.of());
+            given(userRatingUtil.toCategoryRatings(List.of()))
+                .willReturn(List.of());
+
+            // when
+            List<UserProfileResponseDto> results = userDataAggregationService.buildProfilesBatch(
+                users);
+
+            // then
+            assertThat(results).hasSize(2);
+            assertThat(results.get(0).ranking()).isEqualTo(3);
+            assertThat(results.get(1).ranking()).isEqualTo(2);
+        }
+    }
+}
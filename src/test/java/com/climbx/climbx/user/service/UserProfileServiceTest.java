@@ -3,22 +3,29 @@ package com.climbx.climbx.user.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.never;
 
 import com.climbx.climbx.common.enums.RoleType;
 import com.climbx.climbx.common.service.S3Service;
+import com.climbx.climbx.user.cache.CachedUserProfile;
+import com.climbx.climbx.user.cache.UserProfileCache;
+import com.climbx.climbx.user.dto.UserCursor;
 import com.climbx.climbx.user.dto.UserProfileInfoModifyRequestDto;
+import com.climbx.climbx.user.dto.UserProfilePageResponseDto;
 import com.climbx.climbx.user.dto.UserProfileResponseDto;
 import com.climbx.climbx.user.entity.UserAccountEntity;
 import com.climbx.climbx.user.enums.UserTierType;
 import com.climbx.climbx.user.exception.DuplicateNicknameException;
+import com.climbx.climbx.user.exception.InvalidUserCursorException;
 import com.climbx.climbx.user.exception.NicknameMismatchException;
 import com.climbx.climbx.user.exception.UserNotFoundException;
+import com.climbx.climbx.user.index.NicknameSearchIndex;
 import com.climbx.climbx.user.repository.UserAccountRepository;
+import com.climbx.climbx.user.service.UserDataAggregationService.ProfileResult;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -44,6 +51,12 @@ class UserProfileServiceTest {
     @Mock
     private UserDataAggregationService userDataAggregationService;
 
+    @Mock
+    private UserProfileCache userProfileCache;
+
+    @Mock
+    private NicknameSearchIndex nicknameSearchIndex;
+
     @InjectMocks
     private UserProfileService userProfileService;
 
@@ -75,7 +88,7 @@ class UserProfileServiceTest {
     class GetUsers {
 
         @Test
-        @DisplayName("검색어 없이 전체 사용자 목록 조회")
+        @DisplayName("검색어 없이 첫 페이지 조회")
         void getUsers_Success_AllUsers() {
             // given
             List<UserAccountEntity> users = List.of(
@@ -87,45 +100,84 @@ class UserProfileServiceTest {
                 createMockUserProfileResponseDto("bob")
             );
 
-            given(userLookupService.findAllUsers()).willReturn(users);
+            given(userLookupService.findUsersAfter(0L, null, 21)).willReturn(users);
             given(userDataAggregationService.buildProfilesBatch(users)).willReturn(
                 expectedProfiles);
 
             // when
-            List<UserProfileResponseDto> result = userProfileService.getUsers(null);
+            UserProfilePageResponseDto result = userProfileService.getUsers(null, null, 20);
 
             // then
-            assertThat(result).hasSize(2);
-            assertThat(result.get(0).nickname()).isEqualTo("alice");
-            assertThat(result.get(1).nickname()).isEqualTo("bob");
-
-            then(userLookupService).should().findAllUsers();
-            then(userLookupService).should(never()).findUsersByNicknameContaining(anyString());
+            assertThat(result.users()).hasSize(2);
+            assertThat(result.users().get(0).nickname()).isEqualTo("alice");
+            assertThat(result.users().get(1).nickname()).isEqualTo("bob");
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
         }
 
         @Test
-        @DisplayName("검색어로 사용자 검색")
+        @DisplayName("검색어로 사용자 검색 시 LIKE 특수문자를 이스케이프한다")
         void getUsers_Success_WithSearch() {
             // given
-            String searchTerm = "alice";
-            List<UserAccountEntity> users = List.of(
-                createMockUserEntity(1L, "alice")
-            );
-            UserProfileResponseDto expectedProfile = createMockUserProfileResponseDto("alice");
+            List<UserAccountEntity> users = List.of(createMockUserEntity(1L, "al_ice"));
+            UserProfileResponseDto expectedProfile = createMockUserProfileResponseDto("al_ice");
 
-            given(userLookupService.findUsersByNicknameContaining(searchTerm)).willReturn(users);
+            given(userLookupService.findUsersAfter(0L, "al!_ice", 21)).willReturn(users);
             given(userDataAggregationService.buildProfilesBatch(users)).willReturn(
                 List.of(expectedProfile));
 
             // when
-            List<UserProfileResponseDto> result = userProfileService.getUsers(searchTerm);
+            UserProfilePageResponseDto result = userProfileService.getUsers(" al_ice ", null, 20);
 
             // then
-            assertThat(result).hasSize(1);
-            assertThat(result.get(0).nickname()).isEqualTo("alice");
+            assertThat(result.users()).hasSize(1);
+            assertThat(result.users().get(0).nickname()).isEqualTo("al_ice");
+        }
 
-            then(userLookupService).should().findUsersByNicknameContaining(searchTerm);
-            then(userLookupService).should(never()).findAllUsers();
+        @Test
+        @DisplayName("닉네임 인덱스가 준비되어 있으면 LIKE 조회 없이 인덱스로 검색한다")
+        void getUsers_Success_WithSearchIndex() {
+            // given
+            List<UserAccountEntity> users = List.of(
+                createMockUserEntity(5L, "alice"),
+                createMockUserEntity(9L, "malice")
+            );
+
+            given(nicknameSearchIndex.isReady()).willReturn(true);
+            given(nicknameSearchIndex.searchAfter("lic", 0L, 21)).willReturn(List.of(5L, 9L));
+            given(userLookupService.findUsersByIds(List.of(5L, 9L))).willReturn(users);
+            given(userDataAggregationService.buildProfilesBatch(users)).willReturn(List.of(
+                createMockUserProfileResponseDto("alice"),
+                createMockUserProfileResponseDto("malice")));
+
+            // when
+            UserProfilePageResponseDto result = userProfileService.getUsers("lic", null, 20);
+
+            // then
+            assertThat(result.users()).hasSize(2);
+            assertThat(result.hasNext()).isFalse();
+            then(userLookupService).should(never()).findUsersAfter(anyLong(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("색인 이후 탈퇴한 사용자가 빠져도 다음 페이지 여부와 커서는 색인 결과로 정한다")
+        void getUsers_Success_WithSearchIndexSkippingDeletedUser() {
+            // given
+            List<UserAccountEntity> users = List.of(createMockUserEntity(5L, "alice"));
+
+            given(nicknameSearchIndex.isReady()).willReturn(true);
+            given(nicknameSearchIndex.searchAfter("lic", 0L, 3)).willReturn(List.of(5L, 7L, 9L));
+            given(userLookupService.findUsersByIds(List.of(5L, 7L))).willReturn(users);
+            given(userDataAggregationService.buildProfilesBatch(users)).willReturn(
+                List.of(createMockUserProfileResponseDto("alice")));
+
+            // when
+            UserProfilePageResponseDto result = userProfileService.getUsers("lic", null, 2);
+
+            // then
+            assertThat(result.users()).hasSize(1);
+            assertThat(result.hasNext()).isTrue();
+            assertThat(UserCursor.decode(result.nextCursor()).userId()).isEqualTo(7L);
         }
 
         @Test
@@ -133,18 +185,102 @@ class UserProfileServiceTest {
         void getUsers_Success_BlankSearch() {
             // given
             List<UserAccountEntity> users = List.of(createMockUserEntity(1L, "alice"));
-            UserProfileResponseDto expectedProfile = createMockUserProfileResponseDto("alice");
 
-            given(userLookupService.findAllUsers()).willReturn(users);
+            given(userLookupService.findUsersAfter(0L, null, 21)).willReturn(users);
             given(userDataAggregationService.buildProfilesBatch(users)).willReturn(
-                List.of(expectedProfile));
+                List.of(createMockUserProfileResponseDto("alice")));
+
+            // when
+            UserProfilePageResponseDto result = userProfileService.getUsers("   ", null, 20);
+
+            // then
+            assertThat(result.users()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("size보다 많으면 다음 페이지 커서를 반환하고, 커서로 이어서 조회한다")
+        void getUsers_Success_NextCursor() {
+            // given
+            List<UserAccountEntity> firstPage = List.of(
+                createMockUserEntity(1L, "alice"),
+                createMockUserEntity(2L, "bob"),
+                createMockUserEntity(3L, "carol")
+            );
+            given(userLookupService.findUsersAfter(0L, null, 3)).willReturn(firstPage);
+            given(userDataAggregationService.buildProfilesBatch(firstPage.subList(0, 2)))
+                .willReturn(List.of(
+                    createMockUserProfileResponseDto("alice"),
+                    createMockUserProfileResponseDto("bob")));
+
+            // when
+            UserProfilePageResponseDto result = userProfileService.getUsers(null, null, 2);
+
+            // then
+            assertThat(result.users()).hasSize(2);
+            assertThat(result.hasNext()).isTrue();
+            assertThat(UserCursor.decode(result.nextCursor()).userId()).isEqualTo(2L);
+
+            // 다음 페이지
+            given(userLookupService.findUsersAfter(2L, null, 3)).willReturn(List.of());
+            given(userDataAggregationService.buildProfilesBatch(List.of())).willReturn(List.of());
+            assertThat(userProfileService.getUsers(null, result.nextCursor(), 2).hasNext())
+                .isFalse();
+        }
+
+        @Test
+        @DisplayName("잘못된 커서는 예외 발생")
+        void getUsers_InvalidCursor() {
+            // when & then
+            assertThatThrownBy(() -> userProfileService.getUsers(null, "not-a-cursor", 20))
+                .isInstanceOf(InvalidUserCursorException.class);
+            then(userLookupService).should(never()).findUsersAfter(anyLong(), any(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("캐시 프로필 조회")
+    class LoadCachedUser {
+
+        @Test
+        @DisplayName("완전한 프로필은 호출자가 먼저 읽은 버전으로 캐시에 저장한다")
+        void shouldCacheCompleteProfile() {
+            // given
+            UserAccountEntity user = createMockUserAccountEntity(1L, "alice");
+            UserProfileResponseDto profile = createMockUserProfileResponseDto("alice");
+            CachedUserProfile cached = new CachedUserProfile(1L, 7L, "W/\"etag\"", profile);
+
+            given(userLookupService.findUserById(1L)).willReturn(user);
+            given(userDataAggregationService.buildProfileResult(user))
+                .willReturn(new ProfileResult(profile, false));
+            given(userProfileCache.put(1L, "alice", 7L, profile)).willReturn(cached);
+
+            // when
+            CachedUserProfile result = userProfileService.loadCachedUser(1L, 7L);
+
+            // then
+            assertThat(result).isSameAs(cached);
+            assertThat(result.cacheable()).isTrue();
+        }
+
+        @Test
+        @DisplayName("태그 레이팅이 빠진 프로필은 캐시하지 않고 ETag 없이 반환한다")
+        void shouldNotCacheDegradedProfile() {
+            // given
+            UserAccountEntity user = createMockUserAccountEntity(1L, "alice");
+            UserProfileResponseDto profile = createMockUserProfileResponseDto("alice");
+
+            given(userLookupService.findUserById(1L)).willReturn(user);
+            given(userDataAggregationService.buildProfileResult(user))
+                .willReturn(new ProfileResult(profile, true));
 
             // when
-            List<UserProfileResponseDto> result = userProfileService.getUsers("   ");
+            CachedUserProfile result = userProfileService.loadCachedUser(1L, 7L);
 
             // then
-            assertThat(result).hasSize(1);
-            then(userLookupService).should().findAllUsers();
+            assertThat(result.profile()).isSameAs(profile);
+            assertThat(result.etag()).isNull();
+            assertThat(result.cacheable()).isFalse();
+            then(userProfileCache).should(never()).put(any(), any(), anyLong(), any());
         }
     }
 
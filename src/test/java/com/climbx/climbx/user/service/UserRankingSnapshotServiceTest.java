@@ -0,0 +1,213 @@
+package com.climbx.climbx.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.climbx.climbx.common.enums.CriteriaType;
+import com.climbx.climbx.common.enums.RoleType;
+import com.climbx.climbx.common.util.KstDateUtil;
+import com.climbx.climbx.user.service.UserRankingSnapshotService.StatRow;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionOperations;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserRankingSnapshotService 테스트")
+class UserRankingSnapshotServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 10, 18);
+    private static final int CHUNK_SIZE = UserRankingSnapshotService.CHUNK_SIZE;
+    private static final int CRITERIA_COUNT = CriteriaType.values().length;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private UserRankingSnapshotService snapshotService;
+
+    @BeforeEach
+    void setUp() {
+        snapshotService = new UserRankingSnapshotService(jdbcTemplate,
+            TransactionOperations.withoutTransaction());
+    }
+
+    private List<StatRow> rows(long fromUserId, long toUserId) {
+        return LongStream.rangeClosed(fromUserId, toUserId)
+            .mapToObj(userId -> new StatRow(userId, 1000, 2, 5, 30))
+            .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenChunk(long afterUserId, List<StatRow> rows) {
+        given(jdbcTemplate.query(anyString(), any(RowMapper.class),
+            eq(RoleType.USER.name()), eq(afterUserId), eq(CHUNK_SIZE)))
+            .willReturn(rows);
+    }
+
+    private List<BatchPreparedStatementSetter> capturedBatches(int count) {
+        ArgumentCaptor<BatchPreparedStatementSetter> captor =
+            ArgumentCaptor.forClass(BatchPreparedStatementSetter.class);
+        then(jdbcTemplate).should(times(count))
+            .batchUpdate(contains("ON DUPLICATE KEY UPDATE"), captor.capture());
+        return captor.getAllValues();
+    }
+
+    @Nested
+    @DisplayName("스냅샷 청크 경계")
+    class SnapshotChunk {
+
+        @Test
+        @DisplayName("정확히 한 청크면 한 번 upsert 하고 다음 청크가 비어 있는지 확인한 뒤 끝낸다")
+        void shouldWriteExactlyOneChunk() {
+            // given
+            givenChunk(0L, rows(1, CHUNK_SIZE));
+            givenChunk(CHUNK_SIZE, List.of());
+
+            // when
+            int written = snapshotService.snapshot(DATE);
+
+            // then
+            assertThat(written).isEqualTo(CHUNK_SIZE * CRITERIA_COUNT);
+            List<BatchPreparedStatementSetter> batches = capturedBatches(1);
+            assertThat(batches.getFirst().getBatchSize()).isEqualTo(CHUNK_SIZE * CRITERIA_COUNT);
+        }
+
+        @Test
+        @DisplayName("한 청크보다 한 명 많으면 두 번째 청크에 나머지 한 명만 upsert 한다")
+        void shouldWriteRemainderInSecondChunk() {
+            // given
+            givenChunk(0L, rows(1, CHUNK_SIZE));
+            givenChunk(CHUNK_SIZE, rows(CHUNK_SIZE + 1, CHUNK_SIZE + 1));
+
+            // when
+            int written = snapshotService.snapshot(DATE);
+
+            // then
+            assertThat(written).isEqualTo((CHUNK_SIZE + 1) * CRITERIA_COUNT);
+            List<BatchPreparedStatementSetter> batches = capturedBatches(2);
+            assertThat(batches.get(0).getBatchSize()).isEqualTo(CHUNK_SIZE * CRITERIA_COUNT);
+            assertThat(batches.get(1).getBatchSize()).isEqualTo(CRITERIA_COUNT);
+            then(jdbcTemplate).should(never()).query(anyString(), any(RowMapper.class),
+                eq(RoleType.USER.name()), eq((long) CHUNK_SIZE + 1), eq(CHUNK_SIZE));
+        }
+
+        @Test
+        @DisplayName("대상 사용자가 없으면 아무것도 기록하지 않는다")
+        void shouldWriteNothingWhenEmpty() {
+            // given
+            givenChunk(0L, List.of());
+
+            // when
+            int written = snapshotService.snapshot(DATE);
+
+            // then
+            assertThat(written).isZero();
+            then(jdbcTemplate).should(never())
+                .batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("같은 날짜 재실행")
+    class Rerun {
+
+        @Test
+        @DisplayName("같은 날짜로 다시 실행하면 같은 키와 값으로 upsert 해 기존 행을 덮어쓴다")
+        void shouldUpsertSameKeysOnRerun() throws SQLException {
+            // given
+            List<StatRow> rows = List.of(new StatRow(7L, 1200, 3, 9, 42));
+            givenChunk(0L, rows);
+
+            // when
+            int first = snapshotService.snapshot(DATE);
+            int second = snapshotService.snapshot(DATE);
+
+            // then
+            assertThat(first).isEqualTo(second).isEqualTo(CRITERIA_COUNT);
+            for (BatchPreparedStatementSetter batch : capturedBatches(2)) {
+                PreparedStatement ps = mock(PreparedStatement.class);
+                for (int i = 0; i < batch.getBatchSize(); i++) {
+                    batch.setValues(ps, i);
+                }
+                then(ps).should(times(CRITERIA_COUNT)).setLong(1, 7L);
+                then(ps).should(times(CRITERIA_COUNT)).setDate(3, Date.valueOf(DATE));
+                then(ps).should().setString(2, CriteriaType.RATING.name());
+                then(ps).should().setInt(4, 1200);
+                then(ps).should().setString(2, CriteriaType.CURRENT_STREAK.name());
+                then(ps).should().setInt(4, 3);
+                then(ps).should().setString(2, CriteriaType.LONGEST_STREAK.name());
+                then(ps).should().setInt(4, 9);
+                then(ps).should().setString(2, CriteriaType.SOLVED_COUNT.name());
+                then(ps).should().setInt(4, 42);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("히스토리 백필")
+    class Backfill {
+
+        private Timestamp kstStartOf(LocalDate date) {
+            return Timestamp.valueOf(KstDateUtil.startOfDay(date));
+        }
+
+        @Test
+        @DisplayName("KST 기준 [from, to] 기간을 to 다음 날 0시 미만 조건으로 롤업에 채운다")
+        void shouldBackfillMissingDates() {
+            // given
+            LocalDate from = LocalDate.of(2026, 10, 1);
+            LocalDate to = LocalDate.of(2026, 10, 3);
+            given(jdbcTemplate.update(contains("user_ranking_histories"),
+                eq(kstStartOf(from)), eq(kstStartOf(LocalDate.of(2026, 10, 4)))))
+                .willReturn(12);
+
+            // when
+            int affected = snapshotService.backfillFromHistory(from, to);
+
+            // then
+            assertThat(affected).isEqualTo(12);
+        }
+
+        @Test
+        @DisplayName("백필은 스케줄 스냅샷과 같은 KST 날짜로 묶어 이미 있는 날짜를 덮어쓴다")
+        void shouldUpsertOnKstDate() {
+            // given
+            LocalDate date = LocalDate.of(2026, 10, 1);
+
+            // when
+            snapshotService.backfillFromHistory(date, date);
+
+            // then
+            ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+            then(jdbcTemplate).should().update(sql.capture(),
+                eq(kstStartOf(date)), eq(kstStartOf(date.plusDays(1))));
+            assertThat(sql.getValue())
+                .contains("ON DUPLICATE KEY UPDATE")
+                .contains("DATE(CONVERT_TZ(h.created_at, @@session.time_zone, '+09:00'))")
+                .doesNotContain("DATE(created_at)");
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.climbx.climbx.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+
+import com.climbx.climbx.ranking.index.RatingRankIndex;
+import com.climbx.climbx.user.cache.CachedUserProfile;
+import com.climbx.climbx.user.cache.UserProfileCache;
+import com.climbx.climbx.user.dto.UserProfileResponseDto;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserService 테스트")
+class UserServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String NICKNAME = "alice";
+
+    @Mock
+    private UserProfileService userProfileService;
+
+    @Mock
+    private UserAnalyticsService userAnalyticsService;
+
+    @Mock
+    private RatingRankIndex ratingRankIndex;
+
+    private UserProfileCache userProfileCache;
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        userProfileCache = new UserProfileCache(Caffeine.newBuilder().build(),
+            Caffeine.newBuilder().build(), ratingRankIndex);
+        userService = new UserService(userProfileService, userAnalyticsService,
+            userProfileCache);
+    }
+
+    private CachedUserProfile putProfile(long version) {
+        UserProfileResponseDto profile = UserProfileResponseDto.builder()
+            .nickname(NICKNAME)
+            .build();
+        return userProfileCache.put(USER_ID, NICKNAME, version, profile);
+    }
+
+    @Nested
+    @DisplayName("ETag 프로필 조회")
+    class GetCachedUserByNickname {
+
+        @Test
+        @DisplayName("프로필을 만드는 트랜잭션보다 먼저 버전을 읽어 넘긴다")
+        void shouldReadVersionBeforeLoading() {
+            // given
+            userProfileCache.invalidate(USER_ID);
+            long version = userProfileCache.currentVersion(USER_ID);
+            given(userProfileService.findUserIdByNickname(NICKNAME)).willReturn(USER_ID);
+            given(userProfileService.loadCachedUser(USER_ID, version))
+                .willAnswer(invocation -> putProfile(invocation.getArgument(1)));
+
+            // when
+            CachedUserProfile result = userService.getCachedUserByNickname(NICKNAME);
+
+            // then
+            assertThat(result.version()).isEqualTo(version);
+            InOrder inOrder = inOrder(userProfileService);
+            inOrder.verify(userProfileService).findUserIdByNickname(NICKNAME);
+            inOrder.verify(userProfileService).loadCachedUser(USER_ID, version);
+        }
+
+        @Test
+        @DisplayName("프로필을 만드는 도중 무효화가 커밋되면 저장한 항목은 다음 조회에서 쓰이지 않는다")
+        void shouldDiscardProfileInvalidatedWhileLoading() {
+            // given
+            long version = userProfileCache.currentVersion(USER_ID);
+            given(userProfileService.findUserIdByNickname(NICKNAME)).willReturn(USER_ID);
+            given(userProfileService.loadCachedUser(USER_ID, version)).willAnswer(invocation -> {
+                // 프로필 스냅샷을 읽은 뒤, 저장하기 전에 다른 트랜잭션의 변경이 커밋됨
+                userProfileCache.invalidate(USER_ID);
+                return putProfile(invocation.getArgument(1));
+            });
+
+            // when
+            CachedUserProfile loaded = userService.getCachedUserByNickname(NICKNAME);
+
+            // then
+            assertThat(loaded.version()).isEqualTo(version);
+            assertThat(userProfileCache.find(NICKNAME)).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.climbx.climbx.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+
+import com.climbx.climbx.user.entity.UserStatEntity;
+import com.climbx.climbx.user.event.UserStatChangedEvent;
+import com.climbx.climbx.user.event.UserStatDeltaEvent;
+import com.climbx.climbx.user.exception.UserNotFoundException;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserStatCounterService 테스트")
+class UserStatCounterServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private UserStatCounterService counterService(boolean coalesce) {
+        return new UserStatCounterService(jdbcTemplate, entityManager, eventPublisher, coalesce);
+    }
+
+    private UserStatChangedEvent changed(int rating) {
+        return UserStatChangedEvent.builder()
+            .userId(USER_ID)
+            .rating(rating)
+            .currentStreak(0)
+            .longestStreak(0)
+            .solvedCount(0)
+            .updatedAt(LocalDateTime.now())
+            .build();
+    }
+
+    @Nested
+    @DisplayName("즉시 반영")
+    class Immediate {
+
+        @Test
+        @DisplayName("증분 UPDATE 후 반영된 행을 다시 읽어 통계 변경 이벤트를 발행한다")
+        void shouldApplyDeltaAndPublishChangedEvent() {
+            // given
+            UserStatChangedEvent changed = changed(510);
+            given(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(USER_ID)))
+                .willReturn(List.of(changed));
+
+            // when
+            counterService(false).addSubmission(USER_ID);
+
+            // then
+            then(jdbcTemplate).should().batchUpdate(anyString(), argThat((List<Object[]> rows) ->
+                rows.size() == 1
+                    && rows.get(0)[0].equals(1) && rows.get(0)[1].equals(0)
+                    && rows.get(0)[2].equals(1) && rows.get(0)[3].equals(0)
+                    && rows.get(0)[5].equals(USER_ID)));
+            then(eventPublisher).should().publishEvent(changed);
+        }
+
+        @Test
+        @DisplayName("같은 트랜잭션에서 고친 엔티티는 UPDATE 전에 flush 하고 UPDATE 뒤에 다시 읽는다")
+        void shouldFlushAndRefreshLoadedEntity() {
+            // given
+            // 문제 레이팅 변경으로 같은 트랜잭션에서 top_problem_rating 을 먼저 고친 상태
+            UserStatEntity stat = UserStatEntity.builder()
+                .userId(USER_ID)
+                .rating(300)
+                .topProblemRating(200)
+                .build();
+            stat.updateTopProblemRating(150);
+            given(entityManager.getReference(UserStatEntity.class, USER_ID)).willReturn(stat);
+            given(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(USER_ID)))
+                .willReturn(List.of(changed(260)));
+
+            // when
+            counterService(false).addContribution(USER_ID);
+
+            // then
+            InOrder inOrder = inOrder(entityManager, jdbcTemplate);
+            inOrder.verify(entityManager).flush();
+            inOrder.verify(jdbcTemplate).batchUpdate(anyString(), anyList());
+            inOrder.verify(entityManager).refresh(stat);
+        }
+
+        @Test
+        @DisplayName("반영된 행이 없으면 예외를 던진다")
+        void shouldThrowWhenUserStatMissing() {
+            // when & then
+            assertThatThrownBy(() -> counterService(false).addContribution(USER_ID))
+                .isInstanceOf(UserNotFoundException.class);
+            then(eventPublisher).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("묶음 반영")
+    class Coalesced {
+
+        @Test
+        @DisplayName("사용자가 있으면 DB에 쓰지 않고 증가분 이벤트만 발행한다")
+        void shouldPublishDeltaWhenCoalescing() {
+            // given
+            given(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), eq(USER_ID)))
+                .willReturn(true);
+
+            // when
+            counterService(true).addContribution(USER_ID);
+
+            // then
+            then(jdbcTemplate).should(never()).batchUpdate(anyString(), anyList());
+            then(eventPublisher).should().publishEvent(new UserStatDeltaEvent(USER_ID, 0, 1));
+        }
+
+        @Test
+        @DisplayName("사용자가 없으면 즉시 반영과 같이 예외를 던지고 증가분을 모으지 않는다")
+        void shouldThrowWhenUserStatMissing() {
+            // given
+            given(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), eq(USER_ID)))
+                .willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> counterService(true).addSubmission(USER_ID))
+                .isInstanceOf(UserNotFoundException.class);
+            then(eventPublisher).shouldHaveNoInteractions();
+        }
+    }
+
+    @Test
+    @DisplayName("점수 SQL은 점수 표를 그대로 옮기고 개수를 표의 마지막 인덱스로 자른다")
+    void shouldRenderScoreTableAsSql() {
+        // when
+        String sql = UserStatCounterService.scoreSql("contribution_count", new int[]{0, 10, 19});
+
+        // then
+        assertThat(sql)
+            .isEqualTo("CAST(ELT(LEAST(contribution_count, 2) + 1, 0, 10, 19) AS SIGNED)");
+    }
+}
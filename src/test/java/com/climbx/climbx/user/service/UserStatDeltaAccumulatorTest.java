@@ -0,0 +1,103 @@
+package com.climbx.climbx.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+import com.climbx.climbx.user.event.UserStatDeltaEvent;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserStatDeltaAccumulator 테스트")
+class UserStatDeltaAccumulatorTest {
+
+    @Mock
+    private UserStatCounterService userStatCounterService;
+
+    private final List<List<UserStatDeltaEvent>> applied = new ArrayList<>();
+    private UserStatDeltaAccumulator accumulator;
+
+    @BeforeEach
+    void setUp() {
+        accumulator = new UserStatDeltaAccumulator(userStatCounterService,
+            TransactionOperations.withoutTransaction(), 4, 2);
+    }
+
+    private int record(Collection<UserStatDeltaEvent> batch) {
+        applied.add(List.copyOf(batch));
+        return batch.size();
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 증가분을 합쳐 batchSize명씩 반영한다")
+    void shouldCoalescePerUserAndFlushInBatches() {
+        // given
+        given(userStatCounterService.apply(any()))
+            .willAnswer(invocation -> record(invocation.getArgument(0)));
+        accumulator.onUserStatDelta(new UserStatDeltaEvent(1L, 1, 0));
+        accumulator.onUserStatDelta(new UserStatDeltaEvent(1L, 0, 1));
+        accumulator.onUserStatDelta(new UserStatDeltaEvent(1L, 1, 0));
+        accumulator.onUserStatDelta(new UserStatDeltaEvent(2L, 1, 0));
+        accumulator.onUserStatDelta(new UserStatDeltaEvent(3L, 0, 1));
+
+        // when
+        int flushed = accumulator.flush();
+
+        // then
+        assertThat(flushed).isEqualTo(3);
+        assertThat(accumulator.pendingCount()).isZero();
+        assertThat(applied).hasSize(2);
+        assertThat(applied.stream().flatMap(List::stream)).containsExactlyInAnyOrder(
+            new UserStatDeltaEvent(1L, 2, 1),
+            new UserStatDeltaEvent(2L, 1, 0),
+            new UserStatDeltaEvent(3L, 0, 1));
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증가분은 다시 모아 두었다가 다음 flush에 새 증가분과 합쳐 반영한다")
+    void shouldRetainDeltasWhenFlushFails() {
+        // given
+        given(userStatCounterService.apply(any()))
+            .willThrow(new IllegalStateException("db down"))
+            .willAnswer(invocation -> record(invocation.getArgument(0)));
+        accumulator.onUserStatDelta(new UserStatDeltaEvent(1L, 1, 0));
+
+        // when
+        int failed = accumulator.flush();
+        accumulator.onUserStatDelta(new UserStatDeltaEvent(1L, 1, 1));
+        int retried = accumulator.flush();
+
+        // then
+        assertThat(failed).isZero();
+        assertThat(retried).isEqualTo(1);
+        assertThat(applied).containsExactly(List.of(new UserStatDeltaEvent(1L, 2, 1)));
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 증가분을 반영하고 이후 들어온 증가분은 바로 반영한다")
+    void shouldFlushOnDestroy() {
+        // given
+        given(userStatCounterService.apply(any()))
+            .willAnswer(invocation -> record(invocation.getArgument(0)));
+        accumulator.onUserStatDelta(new UserStatDeltaEvent(1L, 1, 0));
+
+        // when
+        accumulator.destroy();
+        accumulator.onUserStatDelta(new UserStatDeltaEvent(2L, 0, 1));
+
+        // then
+        assertThat(accumulator.pendingCount()).isZero();
+        assertThat(applied).containsExactly(
+            List.of(new UserStatDeltaEvent(1L, 1, 0)),
+            List.of(new UserStatDeltaEvent(2L, 0, 1)));
+    }
+}
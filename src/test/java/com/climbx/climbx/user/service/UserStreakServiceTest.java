@@ -0,0 +1,205 @@
+package com.climbx.climbx.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.climbx.climbx.common.util.KstDateUtil;
+import com.climbx.climbx.submission.entity.SubmissionEntity;
+import com.climbx.climbx.submission.event.SubmissionAcceptedEvent;
+import com.climbx.climbx.submission.repository.SubmissionRepository;
+import com.climbx.climbx.user.dto.DailyHistoryResponseDto;
+import com.climbx.climbx.user.entity.UserStatEntity;
+import com.climbx.climbx.user.repository.UserDailyActivityRepository;
+import com.climbx.climbx.user.repository.UserStatRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserStreakService 테스트")
+class UserStreakServiceTest {
+
+    @Mock
+    private UserStatRepository userStatRepository;
+
+    @Mock
+    private SubmissionRepository submissionRepository;
+
+    @Mock
+    private UserDailyActivityRepository userDailyActivityRepository;
+
+    @InjectMocks
+    private UserStreakService userStreakService;
+
+    private static final Long USER_ID = 1L;
+    private static final UUID VIDEO_ID = UUID.randomUUID();
+
+    private UserStatEntity userStat(int currentStreak, int longestStreak, LocalDate lastActive) {
+        return UserStatEntity.builder()
+            .userId(USER_ID)
+            .currentStreak(currentStreak)
+            .longestStreak(longestStreak)
+            .lastActiveDate(lastActive)
+            .build();
+    }
+
+    private void givenAcceptedToday(UserStatEntity userStat) {
+        givenAccepted(userStat, LocalDateTime.now());
+    }
+
+    private void givenAccepted(UserStatEntity userStat, LocalDateTime createdAt) {
+        SubmissionEntity submission = mock(SubmissionEntity.class);
+        given(submission.createdAt()).willReturn(createdAt);
+        given(submissionRepository.findById(VIDEO_ID)).willReturn(Optional.of(submission));
+        given(userStatRepository.findById(USER_ID)).willReturn(Optional.of(userStat));
+    }
+
+    private SubmissionAcceptedEvent event() {
+        return new SubmissionAcceptedEvent(VIDEO_ID, USER_ID, UUID.randomUUID(), true, true, 10);
+    }
+
+    @Nested
+    @DisplayName("제출 승인 시 연속 출석일 갱신")
+    class OnSubmissionAccepted {
+
+        @Test
+        @DisplayName("어제 활동한 사용자는 연속 출석일이 1 증가한다")
+        void shouldContinueStreak() {
+            // given
+            LocalDate today = KstDateUtil.today();
+            UserStatEntity userStat = userStat(3, 3, today.minusDays(1));
+            givenAcceptedToday(userStat);
+
+            // when
+            userStreakService.onSubmissionAccepted(event());
+
+            // then
+            assertThat(userStat.currentStreak()).isEqualTo(4);
+            assertThat(userStat.longestStreak()).isEqualTo(4);
+            assertThat(userStat.lastActiveDate()).isEqualTo(today);
+            then(userDailyActivityRepository).should(never()).findSolvedHistory(any());
+        }
+
+        @Test
+        @DisplayName("같은 날 다시 해결하면 값이 바뀌지 않는다")
+        void shouldIgnoreSameDay() {
+            // given
+            LocalDate today = KstDateUtil.today();
+            UserStatEntity userStat = userStat(2, 5, today);
+            givenAcceptedToday(userStat);
+
+            // when
+            userStreakService.onSubmissionAccepted(event());
+
+            // then
+            assertThat(userStat.currentStreak()).isEqualTo(2);
+            assertThat(userStat.longestStreak()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("활동이 끊겼던 사용자는 연속 출석일이 1부터 다시 시작한다")
+        void shouldRestartBrokenStreak() {
+            // given
+            LocalDate today = KstDateUtil.today();
+            UserStatEntity userStat = userStat(0, 7, today.minusDays(3));
+            givenAcceptedToday(userStat);
+
+            // when
+            userStreakService.onSubmissionAccepted(event());
+
+            // then
+            assertThat(userStat.currentStreak()).isEqualTo(1);
+            assertThat(userStat.longestStreak()).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("자정 초기화 이후 늦게 승인된 연속 활동은 전체 기록으로 다시 계산한다")
+        void shouldRecalculateWhenStreakWasAlreadyReset() {
+            // given
+            LocalDate today = KstDateUtil.today();
+            UserStatEntity userStat = userStat(0, 2, today.minusDays(1));
+            givenAcceptedToday(userStat);
+            given(userDailyActivityRepository.findSolvedHistory(USER_ID))
+                .willReturn(List.of(
+                    new DailyHistoryResponseDto(today.minusDays(3), 1),
+                    new DailyHistoryResponseDto(today.minusDays(2), 2),
+                    new DailyHistoryResponseDto(today.minusDays(1), 1),
+                    new DailyHistoryResponseDto(today, 1)
+                ));
+
+            // when
+            userStreakService.onSubmissionAccepted(event());
+
+            // then
+            assertThat(userStat.currentStreak()).isEqualTo(4);
+            assertThat(userStat.longestStreak()).isEqualTo(4);
+            assertThat(userStat.lastActiveDate()).isEqualTo(today);
+        }
+
+        @Test
+        @DisplayName("어제보다 이전에 제출되어 늦게 승인되면 전체 기록으로 다시 계산한다")
+        void shouldRecalculateWhenActiveDateIsBeforeYesterday() {
+            // given
+            LocalDate today = KstDateUtil.today();
+            UserStatEntity userStat = userStat(0, 4, today.minusDays(6));
+            givenAccepted(userStat, LocalDateTime.now().minusDays(3));
+            given(userDailyActivityRepository.findSolvedHistory(USER_ID))
+                .willReturn(List.of(
+                    new DailyHistoryResponseDto(today.minusDays(9), 1),
+                    new DailyHistoryResponseDto(today.minusDays(8), 1),
+                    new DailyHistoryResponseDto(today.minusDays(7), 1),
+                    new DailyHistoryResponseDto(today.minusDays(6), 1),
+                    new DailyHistoryResponseDto(today.minusDays(3), 1)
+                ));
+
+            // when
+            userStreakService.onSubmissionAccepted(event());
+
+            // then
+            assertThat(userStat.currentStreak()).isZero();
+            assertThat(userStat.longestStreak()).isEqualTo(4);
+            assertThat(userStat.lastActiveDate()).isEqualTo(today.minusDays(3));
+        }
+    }
+
+    @Nested
+    @DisplayName("전체 기록으로 재계산")
+    class Recalculate {
+
+        @Test
+        @DisplayName("마지막 활동이 그저께 이전이면 현재 연속 출석일은 0이고 최장 기록은 유지된다")
+        void shouldResetCurrentStreakWhenInactive() {
+            // given
+            LocalDate today = LocalDate.of(2026, 10, 18);
+            UserStatEntity userStat = userStat(5, 5, null);
+            given(userDailyActivityRepository.findSolvedHistory(USER_ID))
+                .willReturn(List.of(
+                    new DailyHistoryResponseDto(LocalDate.of(2026, 10, 1), 1),
+                    new DailyHistoryResponseDto(LocalDate.of(2026, 10, 2), 1),
+                    new DailyHistoryResponseDto(LocalDate.of(2026, 10, 3), 1),
+                    new DailyHistoryResponseDto(LocalDate.of(2026, 10, 10), 1)
+                ));
+
+            // when
+            userStreakService.recalculate(userStat, today);
+
+            // then
+            assertThat(userStat.currentStreak()).isZero();
+            assertThat(userStat.longestStreak()).isEqualTo(3);
+            assertThat(userStat.lastActiveDate()).isEqualTo(LocalDate.of(2026, 10, 10));
+        }
+    }
+}
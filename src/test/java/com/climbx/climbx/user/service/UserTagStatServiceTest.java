@@ -0,0 +1,209 @@
+package com.climbx.climbx.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+
+import com.climbx.climbx.problem.entity.ProblemEntity;
+import com.climbx.climbx.problem.enums.ProblemTagType;
+import com.climbx.climbx.problem.repository.ProblemRepository;
+import com.climbx.climbx.submission.event.SubmissionAcceptedEvent;
+import com.climbx.climbx.submission.event.SubmissionCreatedEvent;
+import com.climbx.climbx.submission.repository.SubmissionRepository;
+import com.climbx.climbx.user.dto.UserTagSummaryDto;
+import com.climbx.climbx.user.entity.UserTagStatEntity;
+import com.climbx.climbx.user.repository.UserTagStatRepository;
+import com.climbx.climbx.user.util.UserRatingUtil;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserTagStatService 테스트")
+class UserTagStatServiceTest {
+
+    @Mock
+    private UserTagStatRepository userTagStatRepository;
+
+    @Mock
+    private SubmissionRepository submissionRepository;
+
+    @Mock
+    private ProblemRepository problemRepository;
+
+    @InjectMocks
+    private UserTagStatService userTagStatService;
+
+    @Captor
+    private ArgumentCaptor<Iterable<UserTagStatEntity>> statsCaptor;
+
+    private static final Long USER_ID = 1L;
+    private static final UUID VIDEO_ID = UUID.randomUUID();
+    private static final UUID PROBLEM_ID = UUID.randomUUID();
+
+    private void givenProblem(int rating, ProblemTagType primary, ProblemTagType secondary) {
+        ProblemEntity problem = ProblemEntity.builder()
+            .problemId(PROBLEM_ID)
+            .rating(rating)
+            .primaryTag(primary)
+            .secondaryTag(secondary)
+            .build();
+        given(problemRepository.findById(PROBLEM_ID)).willReturn(Optional.of(problem));
+    }
+
+    private List<UserTagStatEntity> savedStats() {
+        then(userTagStatRepository).should().saveAll(statsCaptor.capture());
+        List<UserTagStatEntity> stats = new ArrayList<>();
+        statsCaptor.getValue().forEach(stats::add);
+        return stats;
+    }
+
+    @Nested
+    @DisplayName("증분 갱신")
+    class IncrementalUpdate {
+
+        @Test
+        @DisplayName("제출 생성 시 없는 태그 행을 먼저 upsert 로 만든 뒤 잠가서 주/보조 태그 행의 제출 수를 늘린다")
+        void onSubmissionCreated_InsertsMissingRowsBeforeLocking() {
+            // given
+            givenProblem(12, ProblemTagType.BALANCE, ProblemTagType.CRIMP_HOLD);
+            UserTagStatEntity balance = UserTagStatEntity.of(USER_ID, ProblemTagType.BALANCE,
+                List.of(10), 1, 3, LocalDateTime.now());
+            UserTagStatEntity crimp = UserTagStatEntity.of(USER_ID, ProblemTagType.CRIMP_HOLD,
+                List.of(), 0, 0, LocalDateTime.now());
+            given(userTagStatRepository.findForUpdate(USER_ID,
+                List.of(ProblemTagType.BALANCE, ProblemTagType.CRIMP_HOLD)))
+                .willReturn(List.of(balance, crimp));
+
+            // when
+            userTagStatService.onSubmissionCreated(
+                new SubmissionCreatedEvent(VIDEO_ID, USER_ID, PROBLEM_ID));
+
+            // then
+            InOrder inOrder = inOrder(userTagStatRepository);
+            inOrder.verify(userTagStatRepository).insertIfAbsent(eq(USER_ID),
+                eq(ProblemTagType.BALANCE.name()), any(LocalDateTime.class));
+            inOrder.verify(userTagStatRepository).insertIfAbsent(eq(USER_ID),
+                eq(ProblemTagType.CRIMP_HOLD.name()), any(LocalDateTime.class));
+            inOrder.verify(userTagStatRepository).findForUpdate(USER_ID,
+                List.of(ProblemTagType.BALANCE, ProblemTagType.CRIMP_HOLD));
+
+            assertThat(savedStats()).containsExactlyInAnyOrder(balance, crimp);
+            assertThat(balance.submissionCount()).isEqualTo(4);
+            assertThat(crimp.submissionCount()).isEqualTo(1);
+            assertThat(crimp.solvedCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("주/보조 태그가 같으면 행은 한 번만 만들고 두 번 반영한다")
+        void onSubmissionCreated_SameTagTwice() {
+            // given
+            givenProblem(12, ProblemTagType.BALANCE, ProblemTagType.BALANCE);
+            UserTagStatEntity balance = UserTagStatEntity.of(USER_ID, ProblemTagType.BALANCE,
+                List.of(), 0, 0, LocalDateTime.now());
+            given(userTagStatRepository.findForUpdate(USER_ID,
+                List.of(ProblemTagType.BALANCE, ProblemTagType.BALANCE)))
+                .willReturn(List.of(balance));
+
+            // when
+            userTagStatService.onSubmissionCreated(
+                new SubmissionCreatedEvent(VIDEO_ID, USER_ID, PROBLEM_ID));
+
+            // then
+            then(userTagStatRepository).should().insertIfAbsent(eq(USER_ID),
+                eq(ProblemTagType.BALANCE.name()), any(LocalDateTime.class));
+            assertThat(balance.submissionCount()).isEqualTo(2);
+            assertThat(savedStats()).containsExactly(balance);
+        }
+
+        @Test
+        @DisplayName("승인 시 해결 레이팅을 상위 목록에 넣고 카테고리 레이팅을 다시 계산한다")
+        void onSubmissionAccepted_RecalculatesRating() {
+            // given
+            givenProblem(20, ProblemTagType.BALANCE, null);
+            UserTagStatEntity balance = UserTagStatEntity.of(USER_ID, ProblemTagType.BALANCE,
+                List.of(10), 1, 2, LocalDateTime.now());
+            given(userTagStatRepository.findForUpdate(USER_ID, List.of(ProblemTagType.BALANCE)))
+                .willReturn(List.of(balance));
+
+            // when
+            userTagStatService.onSubmissionAccepted(
+                new SubmissionAcceptedEvent(VIDEO_ID, USER_ID, PROBLEM_ID, true, true, 10));
+
+            // then
+            assertThat(balance.solvedCount()).isEqualTo(2);
+            assertThat(balance.parseTopRatings()).containsExactly(20, 10);
+            assertThat(balance.rating()).isEqualTo(
+                UserRatingUtil.calculateTagRating(List.of(20, 10), 2, 2));
+            assertThat(savedStats()).containsExactly(balance);
+        }
+
+        @Test
+        @DisplayName("문제에 태그가 없으면 아무것도 저장하지 않는다")
+        void onSubmissionCreated_NoTags() {
+            // given
+            givenProblem(12, null, null);
+
+            // when
+            userTagStatService.onSubmissionCreated(
+                new SubmissionCreatedEvent(VIDEO_ID, USER_ID, PROBLEM_ID));
+
+            // then
+            then(userTagStatRepository).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("재집계")
+    class Rebuild {
+
+        @Test
+        @DisplayName("태그 요약 쿼리 결과로 사용자의 행을 교체한다")
+        void rebuild_ReplacesRows() {
+            // given
+            List<Long> userIds = List.of(USER_ID);
+            given(submissionRepository.summarizeTags(userIds)).willReturn(List.of(
+                new UserTagSummaryDto(USER_ID, ProblemTagType.BALANCE, 80, 60,
+                    Collections.nCopies(UserRatingUtil.TOP_PROBLEM_LIMIT, 15)),
+                new UserTagSummaryDto(USER_ID, ProblemTagType.TOE_HOOK, 1, 0, List.of())
+            ));
+
+            // when
+            int rows = userTagStatService.rebuild(userIds);
+
+            // then
+            assertThat(rows).isEqualTo(2);
+            then(userTagStatRepository).should().deleteByUserIdIn(userIds);
+            List<UserTagStatEntity> stats = savedStats();
+            assertThat(stats).filteredOn(s -> s.tag() == ProblemTagType.BALANCE)
+                .singleElement()
+                .satisfies(s -> {
+                    // 상위 목록은 50개로 잘려 있어도 해결 수는 요약 값을 그대로 사용
+                    assertThat(s.submissionCount()).isEqualTo(80);
+                    assertThat(s.solvedCount()).isEqualTo(60);
+                    assertThat(s.parseTopRatings()).hasSize(UserRatingUtil.TOP_PROBLEM_LIMIT);
+                    assertThat(s.rating()).isEqualTo(UserRatingUtil.calculateTagRating(
+                        Collections.nCopies(UserRatingUtil.TOP_PROBLEM_LIMIT, 15), 60, 80));
+                });
+            assertThat(stats).filteredOn(s -> s.tag() == ProblemTagType.TOE_HOOK)
+                .singleElement()
+                .satisfies(s -> assertThat(s.solvedCount()).isZero());
+        }
+    }
+}
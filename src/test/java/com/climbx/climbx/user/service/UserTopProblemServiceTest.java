@@ -0,0 +1,251 @@
+package com.climbx.climbx.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.climbx.climbx.common.enums.StatusType;
+import com.climbx.climbx.problem.event.ProblemRatingChangedEvent;
+import com.climbx.climbx.submission.repository.SubmissionRepository;
+import com.climbx.climbx.user.dto.UserSolvedProblemDto;
+import com.climbx.climbx.user.entity.UserStatEntity;
+import com.climbx.climbx.user.entity.UserTopProblemEntity;
+import com.climbx.climbx.user.repository.UserStatRepository;
+import com.climbx.climbx.user.repository.UserTopProblemRepository;
+import com.climbx.climbx.user.util.UserRatingUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserTopProblemService 테스트")
+class UserTopProblemServiceTest {
+
+    @Mock
+    private UserTopProblemRepository userTopProblemRepository;
+
+    @Mock
+    private SubmissionRepository submissionRepository;
+
+    @Mock
+    private UserStatRepository userStatRepository;
+
+    @InjectMocks
+    private UserTopProblemService userTopProblemService;
+
+    @Captor
+    private ArgumentCaptor<Iterable<UserTopProblemEntity>> rowsCaptor;
+
+    private static final Long USER_ID = 1L;
+    private static final UUID PROBLEM_ID = UUID.randomUUID();
+
+    /**
+     * 레이팅이 base, base+1, ... 인 count개의 상위 문제 행
+     */
+    private List<UserTopProblemEntity> rows(Long userId, int count, int base) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> UserTopProblemEntity.of(userId, UUID.randomUUID(), base + i))
+            .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private UserStatEntity stat(Long userId, int rating, int topProblemRating) {
+        return UserStatEntity.builder()
+            .userId(userId)
+            .rating(rating)
+            .topProblemRating(topProblemRating)
+            .build();
+    }
+
+    private List<UserTopProblemEntity> captured(Iterable<UserTopProblemEntity> rows) {
+        List<UserTopProblemEntity> result = new ArrayList<>();
+        rows.forEach(result::add);
+        return result;
+    }
+
+    @Nested
+    @DisplayName("첫 해결 반영")
+    class AddSolvedProblem {
+
+        @Test
+        @DisplayName("목록이 덜 찼으면 새 문제를 추가하고 합을 늘린다")
+        void shouldAppendWhenNotFull() {
+            // given
+            given(userTopProblemRepository.findByUserIdForUpdate(USER_ID))
+                .willReturn(rows(USER_ID, 3, 10)); // 10 + 11 + 12
+
+            // when
+            int sum = userTopProblemService.addSolvedProblem(USER_ID, PROBLEM_ID, 5);
+
+            // then
+            assertThat(sum).isEqualTo(38);
+            then(userTopProblemRepository).should().save(any(UserTopProblemEntity.class));
+            then(userTopProblemRepository).should(never()).delete(any());
+        }
+
+        @Test
+        @DisplayName("가득 찬 목록의 최솟값보다 높으면 최솟값을 밀어낸다")
+        void shouldEvictMinimumWhenFull() {
+            // given
+            List<UserTopProblemEntity> existing = rows(USER_ID, UserRatingUtil.TOP_PROBLEM_LIMIT,
+                1); // 1..50, 합 1275
+            UserTopProblemEntity min = existing.getFirst();
+            given(userTopProblemRepository.findByUserIdForUpdate(USER_ID)).willReturn(existing);
+
+            // when
+            int sum = userTopProblemService.addSolvedProblem(USER_ID, PROBLEM_ID, 30);
+
+            // then
+            assertThat(sum).isEqualTo(1275 - 1 + 30);
+            then(userTopProblemRepository).should().delete(min);
+            then(userTopProblemRepository).should().save(any(UserTopProblemEntity.class));
+        }
+
+        @Test
+        @DisplayName("가득 찬 목록의 최솟값 이하이면 아무것도 바꾸지 않는다")
+        void shouldIgnoreLowerRatingWhenFull() {
+            // given
+            given(userTopProblemRepository.findByUserIdForUpdate(USER_ID))
+                .willReturn(rows(USER_ID, UserRatingUtil.TOP_PROBLEM_LIMIT, 1));
+
+            // when
+            int sum = userTopProblemService.addSolvedProblem(USER_ID, PROBLEM_ID, 1);
+
+            // then
+            assertThat(sum).isEqualTo(1275);
+            then(userTopProblemRepository).should(never()).save(any());
+        }
+
+        @Test
+        @DisplayName("이미 목록에 있는 문제는 다시 넣지 않는다")
+        void shouldIgnoreDuplicate() {
+            // given
+            given(userTopProblemRepository.findByUserIdForUpdate(USER_ID))
+                .willReturn(List.of(UserTopProblemEntity.of(USER_ID, PROBLEM_ID, 20)));
+
+            // when
+            int sum = userTopProblemService.addSolvedProblem(USER_ID, PROBLEM_ID, 20);
+
+            // then
+            assertThat(sum).isEqualTo(20);
+            then(userTopProblemRepository).should(never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("문제 레이팅 변경 반영")
+    class OnProblemRatingChanged {
+
+        @Test
+        @DisplayName("레이팅이 내려가면 덜 찬 목록은 행만 고치고 사용자 레이팅을 차이만큼 줄인다")
+        void shouldUpdateHoldersOnDecrease() {
+            // given
+            UserTopProblemEntity holder = UserTopProblemEntity.of(USER_ID, PROBLEM_ID, 20);
+            UserTopProblemEntity other = UserTopProblemEntity.of(USER_ID, UUID.randomUUID(), 10);
+            UserStatEntity stat = stat(USER_ID, 100, 30);
+
+            given(userTopProblemRepository.findByProblemIdForUpdate(PROBLEM_ID))
+                .willReturn(List.of(holder));
+            given(userTopProblemRepository.findByUserIdIn(Set.of(USER_ID)))
+                .willReturn(List.of(holder, other));
+            given(userStatRepository.findAllByUserIdInForUpdate(Set.of(USER_ID)))
+                .willReturn(List.of(stat));
+
+            // when
+            userTopProblemService.onProblemRatingChanged(
+                new ProblemRatingChangedEvent(PROBLEM_ID, 20, 15));
+
+            // then
+            assertThat(holder.rating()).isEqualTo(15);
+            assertThat(stat.topProblemRating()).isEqualTo(25);
+            assertThat(stat.rating()).isEqualTo(95);
+        }
+
+        @Test
+        @DisplayName("레이팅이 오르면 목록에 새로 들어갈 사용자에게 추가한다")
+        void shouldOfferToCandidatesOnIncrease() {
+            // given
+            Long candidateId = 2L;
+            List<UserTopProblemEntity> candidateRows = rows(candidateId, 2, 5); // 5 + 6
+            UserStatEntity stat = stat(candidateId, 50, 11);
+
+            given(userTopProblemRepository.findByProblemIdForUpdate(PROBLEM_ID))
+                .willReturn(List.of());
+            given(submissionRepository.findTopProblemCandidates(PROBLEM_ID, StatusType.ACCEPTED,
+                20, UserRatingUtil.TOP_PROBLEM_LIMIT))
+                .willReturn(List.of(candidateId));
+            given(userTopProblemRepository.findByUserIdForUpdate(candidateId))
+                .willReturn(candidateRows);
+            given(userTopProblemRepository.findByUserIdIn(Set.of(candidateId)))
+                .willReturn(List.of(candidateRows.get(0), candidateRows.get(1),
+                    UserTopProblemEntity.of(candidateId, PROBLEM_ID, 20)));
+            given(userStatRepository.findAllByUserIdInForUpdate(Set.of(candidateId)))
+                .willReturn(List.of(stat));
+
+            // when
+            userTopProblemService.onProblemRatingChanged(
+                new ProblemRatingChangedEvent(PROBLEM_ID, 12, 20));
+
+            // then
+            then(userTopProblemRepository).should().save(any(UserTopProblemEntity.class));
+            assertThat(stat.topProblemRating()).isEqualTo(31);
+            assertThat(stat.rating()).isEqualTo(70);
+        }
+    }
+
+    @Nested
+    @DisplayName("재계산")
+    class Rebuild {
+
+        @Test
+        @DisplayName("상위 50개만 남기고 달라진 행만 추가/수정/삭제한 뒤 사용자 레이팅에 반영한다")
+        void shouldKeepTopFiftyAndDiffRows() {
+            // given
+            List<UserSolvedProblemDto> solved = IntStream.rangeClosed(1, 52)
+                .mapToObj(rating -> new UserSolvedProblemDto(USER_ID, UUID.randomUUID(), rating))
+                .toList();
+            // 목록에 남을 문제(레이팅 52)는 예전 레이팅 40으로, 밀려날 문제(레이팅 1)는 그대로 저장돼 있음
+            UserTopProblemEntity stale = UserTopProblemEntity.of(USER_ID,
+                solved.getLast().problemId(), 40);
+            UserTopProblemEntity evicted = UserTopProblemEntity.of(USER_ID,
+                solved.getFirst().problemId(), 1);
+            UserStatEntity stat = stat(USER_ID, 100, 0);
+
+            given(submissionRepository.findSolvedProblems(List.of(USER_ID), StatusType.ACCEPTED))
+                .willReturn(solved);
+            given(userTopProblemRepository.findByUserIdIn(List.of(USER_ID)))
+                .willReturn(List.of(stale, evicted));
+            given(userStatRepository.findAllByUserIdInForUpdate(List.of(USER_ID)))
+                .willReturn(List.of(stat));
+
+            // when
+            int rows = userTopProblemService.rebuild(List.of(USER_ID));
+
+            // then
+            int expectedSum = IntStream.rangeClosed(3, 52).sum();
+            assertThat(rows).isEqualTo(UserRatingUtil.TOP_PROBLEM_LIMIT);
+            assertThat(stale.rating()).isEqualTo(52);
+            then(userTopProblemRepository).should().deleteAll(List.of(evicted));
+            then(userTopProblemRepository).should().saveAll(rowsCaptor.capture());
+            assertThat(captured(rowsCaptor.getValue()))
+                .hasSize(UserRatingUtil.TOP_PROBLEM_LIMIT - 1)
+                .extracting(UserTopProblemEntity::rating)
+                .allMatch(rating -> rating >= 3 && rating < 52);
+            assertThat(stat.topProblemRating()).isEqualTo(expectedSum);
+            assertThat(stat.rating()).isEqualTo(100 + expectedSum);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.climbx.climbx.user.util;
+
+import com.climbx.climbx.common.exception.InvalidRatingValueException;
+import com.climbx.climbx.problem.enums.ProblemTierType;
+import com.climbx.climbx.user.enums.UserTierType;
+import java.util.stream.Stream;
+
+/**
+ * 점수 표와 티어 조회 표 도입 전의 계산식. 동등성 테스트와 JMH 벤치마크의 기준 구현으로만 사용합니다.
+ */
+final class LegacyRatingFormulas {
+
+    private LegacyRatingFormulas() {
+    }
+
+    static int solvedScore(int solvedCount) {
+        return (int) Math.round(1000 * (1 - Math.pow(0.98, solvedCount)));
+    }
+
+    static int contributionScore(int contributionCount) {
+        return (int) Math.round(100 * (1 - Math.pow(0.9, contributionCount)));
+    }
+
+    static UserTierType userTier(Integer value) {
+        return Stream.of(UserTierType.values())
+            .filter(t -> t.inclusiveMinValue() <= value && value < t.exclusiveMaxValue())
+            .findFirst()
+            .orElseThrow(() -> new InvalidRatingValueException(value));
+    }
+
+    static ProblemTierType problemTier(Integer value) {
+        return Stream.of(ProblemTierType.values())
+            .filter(t -> t.inclusiveMinValue() <= value && value < t.exclusiveMaxValue())
+            .findFirst()
+            .orElseThrow(() -> new InvalidRatingValueException(value));
+    }
+}
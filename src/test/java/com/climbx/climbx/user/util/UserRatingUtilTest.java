@@ -0,0 +1,133 @@
+package com.climbx.climbx.user.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.climbx.climbx.common.exception.InvalidRatingValueException;
+import com.climbx.climbx.problem.enums.ProblemTierType;
+import com.climbx.climbx.user.enums.UserTierType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("UserRatingUtil 테스트")
+class UserRatingUtilTest {
+
+    @Nested
+    @DisplayName("태그 레이팅")
+    class CalculateTagRating {
+
+        @Test
+        @DisplayName("한 태그에 50개를 넘게 해결해도 상위 50개만 반영한다")
+        void selectsTopFiftyOnly() {
+            // given
+            List<Integer> solved = new ArrayList<>(IntStream.rangeClosed(0, 30)
+                .boxed()
+                .flatMap(rating -> IntStream.range(0, 3).mapToObj(i -> rating))
+                .toList());
+            Collections.shuffle(solved, new Random(7));
+            int expectedTierSum = solved.stream()
+                .sorted(Comparator.reverseOrder())
+                .limit(UserRatingUtil.TOP_PROBLEM_LIMIT)
+                .mapToInt(rating -> ProblemTierType.fromValue(rating).value())
+                .sum();
+
+            // when
+            int actual = UserRatingUtil.calculateTagRating(solved, solved.size(), solved.size());
+
+            // then
+            assertThat(actual).isEqualTo(2 * expectedTierSum
+                + UserRatingUtil.calculateSubmissionScore(solved.size())
+                + UserRatingUtil.calculateSolvedScore(solved.size()));
+        }
+
+        @Test
+        @DisplayName("상위 50개에 유효 범위를 벗어난 레이팅이 있으면 예외가 발생한다")
+        void invalidRatingThrows() {
+            // when & then
+            assertThatThrownBy(() -> UserRatingUtil.calculateTagRating(List.of(12, 31), 2, 2))
+                .isInstanceOf(InvalidRatingValueException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("점수 표")
+    class ScoreTables {
+
+        @Test
+        @DisplayName("해결/기여 점수 표는 포화 이후 개수까지 기존 공식과 같은 값을 반환한다")
+        void matchesFormula() {
+            for (int count = -3; count <= 5000; count++) {
+                assertThat(UserRatingUtil.calculateSolvedScore(count))
+                    .as("solvedCount=%d", count)
+                    .isEqualTo(LegacyRatingFormulas.solvedScore(count));
+                assertThat(UserRatingUtil.calculateContributionScore(count))
+                    .as("contributionCount=%d", count)
+                    .isEqualTo(LegacyRatingFormulas.contributionScore(count));
+            }
+            assertThat(UserRatingUtil.calculateSolvedScore(Integer.MAX_VALUE)).isEqualTo(1000);
+            assertThat(UserRatingUtil.calculateContributionScore(Integer.MAX_VALUE)).isEqualTo(100);
+        }
+
+        @Test
+        @DisplayName("공개한 제출/기여 점수 표는 마지막 값에서 포화하고 점수 계산과 같은 값을 담는다")
+        void exposedTablesMatchScores() {
+            int[] submission = UserRatingUtil.submissionScoreTable();
+            int[] contribution = UserRatingUtil.contributionScoreTable();
+
+            for (int count = 0; count <= 5000; count++) {
+                assertThat(submission[Math.min(count, submission.length - 1)])
+                    .as("submissionCount=%d", count)
+                    .isEqualTo(UserRatingUtil.calculateSubmissionScore(count));
+                assertThat(contribution[Math.min(count, contribution.length - 1)])
+                    .as("contributionCount=%d", count)
+                    .isEqualTo(UserRatingUtil.calculateContributionScore(count));
+            }
+            assertThat(submission).hasSize(51);
+        }
+    }
+
+    @Nested
+    @DisplayName("티어 조회 표")
+    class TierLookup {
+
+        @Test
+        @DisplayName("유효 범위 전체에서 기존 스트림 조회와 같은 티어를 반환한다")
+        void matchesLegacyLookup() {
+            for (int rating = 0; rating < UserTierType.M.exclusiveMaxValue(); rating++) {
+                assertThat(UserTierType.fromValue(rating))
+                    .as("user rating=%d", rating)
+                    .isEqualTo(LegacyRatingFormulas.userTier(rating));
+            }
+            for (int rating = 0; rating < ProblemTierType.M.exclusiveMaxValue(); rating++) {
+                assertThat(ProblemTierType.fromValue(rating))
+                    .as("problem rating=%d", rating)
+                    .isEqualTo(LegacyRatingFormulas.problemTier(rating));
+            }
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {-1, 3101, Integer.MAX_VALUE})
+        @DisplayName("범위를 벗어난 사용자 레이팅은 예외가 발생한다")
+        void userTierOutOfRangeThrows(int rating) {
+            assertThatThrownBy(() -> UserTierType.fromValue(rating))
+                .isInstanceOf(InvalidRatingValueException.class);
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {-1, 31, Integer.MIN_VALUE})
+        @DisplayName("범위를 벗어난 문제 레이팅은 예외가 발생한다")
+        void problemTierOutOfRangeThrows(int rating) {
+            assertThatThrownBy(() -> ProblemTierType.fromValue(rating))
+                .isInstanceOf(InvalidRatingValueException.class);
+        }
+    }
+}